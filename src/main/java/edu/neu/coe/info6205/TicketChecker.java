@@ -1,10 +1,11 @@
 package edu.neu.coe.info6205;
 
+import edu.neu.coe.info6205.hashtable.IntIntMap;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Scanner;
 
@@ -34,7 +35,7 @@ class Checker {
     public void checkValid(int[] nums) {
         Scanner input = new Scanner(System.in);
         System.out.println("Total tickets: " + nums.length);
-        HashMap<Integer, Integer> ticketCounter = new HashMap<>();
+        IntIntMap ticketCounter = new IntIntMap(nums.length);
 
         for (int num : nums) {
             ticketCounter.put(num, 0);
@@ -47,12 +48,10 @@ class Checker {
             if (!ticketCounter.containsKey(ticket)) {
                 System.out.println("Invalid Ticket: " + ticket);
             } else {
-                int value = ticketCounter.get(ticket);
-                if (value == 0) {
-                    ticketCounter.put(ticket, value + 1);
+                int value = ticketCounter.increment(ticket);
+                if (value == 1) {
                     System.out.println("Valid Ticket: " + ticket);
                 } else {
-                    ticketCounter.put(ticket, value + 1);
                     System.out.println("Ticket already used by another User");
                     System.out.println("Number of user: " + ticketCounter.get(ticket));
                 }
@@ -93,8 +93,7 @@ public class Bag_Array<Item> implements Bag<Item> {
      * @param size the size of the new array
      */
     private static <T> T[] growFrom(T[] from, int size) {
-        // TO BE IMPLEMENTED
-        return null;
+        return Arrays.copyOf(from, size);
     }
 
     private Item[] items = null;
@@ -0,0 +1,144 @@
+package edu.neu.coe.info6205.bqs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable ring buffer of primitive int values (with no boxing) which serves as a queue (enqueue/dequeue),
+ * for example the frontier of a breadth-first search, or as a stack (push/pop), for example a depth-first post-order.
+ * Both enqueue and push add a value at the newest end; dequeue takes the oldest value and pop takes the newest.
+ * <p>
+ * NOTE: since there is no null value for a primitive, dequeue, pop and peek throw NoSuchElementException if this buffer is empty.
+ */
+public class IntRingBuffer {
+
+    /**
+     * Construct a new (empty) buffer with the given initial capacity.
+     *
+     * @param capacity the initial capacity (which will be rounded up to a power of two).
+     */
+    public IntRingBuffer(int capacity) {
+        xs = new int[Queue_Array.ceilingPowerOfTwo(capacity)];
+    }
+
+    /**
+     * Construct a new (empty) buffer.
+     */
+    public IntRingBuffer() {
+        this(16);
+    }
+
+    /**
+     * Add x at the newest end of this buffer.
+     *
+     * @param x the value to add.
+     */
+    public void enqueue(int x) {
+        if (count == xs.length) grow();
+        xs[(head + count++) & (xs.length - 1)] = x;
+    }
+
+    /**
+     * Take the oldest value from this buffer.
+     *
+     * @return the oldest value.
+     */
+    public int dequeue() {
+        if (isEmpty()) throw new NoSuchElementException("collection is empty");
+        int result = xs[head];
+        head = (head + 1) & (xs.length - 1);
+        count--;
+        return result;
+    }
+
+    /**
+     * Add x at the newest end of this buffer (a synonym of enqueue).
+     *
+     * @param x the value to add.
+     */
+    public void push(int x) {
+        enqueue(x);
+    }
+
+    /**
+     * Take the newest value from this buffer.
+     *
+     * @return the newest value.
+     */
+    public int pop() {
+        if (isEmpty()) throw new NoSuchElementException("collection is empty");
+        return xs[(head + --count) & (xs.length - 1)];
+    }
+
+    /**
+     * Take a peek at the newest value.
+     *
+     * @return the newest value.
+     */
+    public int peek() {
+        if (isEmpty()) throw new NoSuchElementException("collection is empty");
+        return xs[(head + count - 1) & (xs.length - 1)];
+    }
+
+    /**
+     * Get the value at the given position, counting from the oldest.
+     *
+     * @param i the position (0 for the oldest).
+     * @return the value.
+     */
+    public int get(int i) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException("index " + i + " for size " + count);
+        return xs[(head + i) & (xs.length - 1)];
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Call f on each value, from the oldest to the newest.
+     *
+     * @param f the function.
+     */
+    public void forEach(IntConsumer f) {
+        for (int i = 0; i < count; i++) f.accept(xs[(head + i) & (xs.length - 1)]);
+    }
+
+    /**
+     * @return the values, from the oldest to the newest.
+     */
+    public int[] toArray() {
+        int[] result = new int[count];
+        int n = Math.min(count, xs.length - head);
+        System.arraycopy(xs, head, result, 0, n);
+        System.arraycopy(xs, 0, result, n, count - n);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IntRingBuffer{" +
+                "values=" + Arrays.toString(toArray()) +
+                '}';
+    }
+
+    private void grow() {
+        int[] result = toArray();
+        xs = Arrays.copyOf(result, 2 * xs.length);
+        head = 0;
+    }
+
+    private int[] xs;
+    private int head = 0;
+    private int count = 0;
+}
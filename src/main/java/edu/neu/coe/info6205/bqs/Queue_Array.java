@@ -0,0 +1,126 @@
+package edu.neu.coe.info6205.bqs;
+
+import edu.neu.coe.info6205.SizedIterable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of Queue which is backed by a growable ring buffer (an array whose length is a power of two).
+ * Unlike Queue_Elements, size is O(1), there is no allocation per item, and iteration is through contiguous memory.
+ *
+ * @param <Item> the type of the items.
+ */
+public class Queue_Array<Item> implements Queue<Item>, SizedIterable<Item> {
+
+    /**
+     * Construct a new (empty) queue with the given initial capacity.
+     *
+     * @param capacity the initial capacity (which will be rounded up to a power of two).
+     */
+    public Queue_Array(int capacity) {
+        //noinspection unchecked
+        items = (Item[]) new Object[ceilingPowerOfTwo(capacity)];
+    }
+
+    /**
+     * Construct a new (empty) queue.
+     */
+    public Queue_Array() {
+        this(16);
+    }
+
+    /**
+     * Enqueue the given item on the newest end of this queue.
+     *
+     * @param item the item to add
+     */
+    public void enqueue(Item item) {
+        if (count == items.length) grow();
+        items[(head + count++) & (items.length - 1)] = item;
+    }
+
+    /**
+     * Dequeue the oldest item.
+     *
+     * @return the value of the oldest item (or null if this queue is empty).
+     */
+    public Item dequeue() {
+        if (isEmpty()) return null;
+        Item result = items[head];
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        count--;
+        return result;
+    }
+
+    /**
+     * Take a peek at the oldest item.
+     *
+     * @return the oldest item (or null if this queue is empty).
+     */
+    public Item peek() {
+        return isEmpty() ? null : items[head];
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    public void clear() {
+        Arrays.fill(items, null);
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * @return an iterator over the items, from oldest to newest.
+     */
+    @Override
+    public Iterator<Item> iterator() {
+        return new Iterator<Item>() {
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            public Item next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return items[(head + i++) & (items.length - 1)];
+            }
+
+            private int i = 0;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return (isEmpty() ? "empty" : "Queue: next: " + peek() + (count > 1 ? " and " + (count - 1) + " others..." : ""));
+    }
+
+    /**
+     * Double the capacity, unwrapping the items so that the oldest is at index 0.
+     */
+    private void grow() {
+        //noinspection unchecked
+        Item[] result = (Item[]) new Object[2 * items.length];
+        int n = items.length - head;
+        System.arraycopy(items, head, result, 0, n);
+        System.arraycopy(items, 0, result, n, head);
+        items = result;
+        head = 0;
+    }
+
+    static int ceilingPowerOfTwo(int capacity) {
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private Item[] items;
+    private int head = 0;
+    private int count = 0;
+}
@@ -5,7 +5,6 @@
 package edu.neu.coe.info6205.bqs;
 
 import edu.neu.coe.info6205.SizedIterable;
-import edu.neu.coe.info6205.SizedIterableImpl;
 
 import java.util.Iterator;
 
@@ -25,7 +24,11 @@ public class Queue_Elements<Item> implements SizedIterable<Item>, Queue<Item> {
      * @param item the item to add
      */
     public void enqueue(Item item) {
-        // TO BE IMPLEMENTED
+        Element<Item> element = new Element<>(item);
+        if (isEmpty()) oldest = element;
+        else newest.next = element;
+        newest = element;
+        count++;
     }
 
 
@@ -37,9 +40,12 @@ public class Queue_Elements<Item> implements SizedIterable<Item>, Queue<Item> {
     public Item dequeue() {
         if (isEmpty()) return null;
         else {
-            // TO BE IMPLEMENTED
+            Item result = oldest.item;
+            oldest = oldest.next;
+            if (oldest == null) newest = null;
+            count--;
+            return result;
         }
-        return null;
     }
 
     public boolean isEmpty() {
@@ -54,6 +60,9 @@ public class Queue_Elements<Item> implements SizedIterable<Item>, Queue<Item> {
     // This Element always points to the newest (tail-most) element in the LinkedList referenced by oldest.
     private Element<Item> newest;
 
+    // The number of elements in the LinkedList referenced by oldest (so that size need not walk the list).
+    private int count = 0;
+
     @Override
     public String toString() {
         return (oldest != null ? "Queue: next: " + oldest + (oldest.next != null ? " and others..." : "") : "empty");
@@ -66,7 +75,7 @@ public class Queue_Elements<Item> implements SizedIterable<Item>, Queue<Item> {
 
     @Override
     public int size() {
-        return SizedIterableImpl.create(this).size();
+        return count;
     }
 
     public void clear() {
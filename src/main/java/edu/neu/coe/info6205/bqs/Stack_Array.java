@@ -0,0 +1,109 @@
+package edu.neu.coe.info6205.bqs;
+
+import edu.neu.coe.info6205.SizedIterable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of Stack which is backed by a growable array.
+ * Unlike Stack_LinkedList, size is O(1) and there is no allocation per item.
+ *
+ * @param <Item> the type of the items.
+ */
+public class Stack_Array<Item> implements Stack<Item>, SizedIterable<Item> {
+
+    /**
+     * Construct a new (empty) stack with the given initial capacity.
+     *
+     * @param capacity the initial capacity.
+     */
+    public Stack_Array(int capacity) {
+        //noinspection unchecked
+        items = (Item[]) new Object[Math.max(1, capacity)];
+    }
+
+    /**
+     * Construct a new (empty) stack.
+     */
+    public Stack_Array() {
+        this(16);
+    }
+
+    /**
+     * Update this Stack by adding an item on the top.
+     *
+     * @param item the item to add
+     */
+    public void push(Item item) {
+        if (count == items.length) items = Arrays.copyOf(items, 2 * count);
+        items[count++] = item;
+    }
+
+    /**
+     * Update this Stack by taking the top item of this Stack.
+     *
+     * @return the item.
+     * @throws BQSException if this Stack is empty.
+     */
+    public Item pop() throws BQSException {
+        if (isEmpty()) throw new BQSException("collection is empty");
+        Item result = items[--count];
+        items[count] = null;
+        return result;
+    }
+
+    /**
+     * Take a peek at the item on top of this Stack.
+     *
+     * @return the item (or null if this Stack is empty).
+     */
+    public Item peek() {
+        return isEmpty() ? null : items[count - 1];
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    public void clear() {
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * @return an iterator over the items, from the top down (as for Stack_LinkedList).
+     */
+    @Override
+    public Iterator<Item> iterator() {
+        return new Iterator<Item>() {
+            public boolean hasNext() {
+                return i > 0;
+            }
+
+            public Item next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return items[--i];
+            }
+
+            private int i = count;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Stack_Array{" +
+                "items=" + Arrays.toString(Arrays.copyOf(items, count)) +
+                ", count=" + count +
+                '}';
+    }
+
+    private Item[] items;
+    private int count = 0;
+}
@@ -1,5 +1,7 @@
 package edu.neu.coe.info6205.graphs.BFS_and_prims;
 
+import edu.neu.coe.info6205.bqs.IntRingBuffer;
+
 import java.util.*;
 
 public class BFS {
@@ -18,7 +20,20 @@ public class BFS {
     }
 
     public List<Integer> BFS(int s) {
-        // TO BE IMPLEMENTED
-        return null;
+        List<Integer> result = new LinkedList<>();
+        boolean[] visited = new boolean[V];
+        IntRingBuffer frontier = new IntRingBuffer(V);
+        visited[s] = true;
+        frontier.enqueue(s);
+        while (!frontier.isEmpty()) {
+            int v = frontier.dequeue();
+            result.add(v);
+            for (int w : adj[v])
+                if (!visited[w]) {
+                    visited[w] = true;
+                    frontier.enqueue(w);
+                }
+        }
+        return result;
     }
 }
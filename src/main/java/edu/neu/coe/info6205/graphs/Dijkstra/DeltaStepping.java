@@ -0,0 +1,374 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *  The {@code DeltaStepping} class represents a data type for solving the
+ *  single-source shortest paths problem in edge-weighted digraphs
+ *  where the edge weights are non-negative, using the delta-stepping
+ *  algorithm of Meyer and Sanders.
+ *  <p>
+ *  Vertices are kept in buckets of width {@code delta} according to their tentative distance.
+ *  The lowest non-empty bucket is emptied in a number of phases: in each phase, the light edges
+ *  (weight at most {@code delta}) of every vertex in the bucket are relaxed in parallel on a {@link ForkJoinPool}.
+ *  Once the bucket stays empty, the heavy edges of all vertices removed from it are relaxed in one further parallel phase.
+ *  Tentative distances are updated with a compare-and-set, so relaxations need no locks.
+ *  <p>
+ *  A {@code delta} close to the smallest edge weight makes the algorithm behave like {@link Dijkstra};
+ *  a {@code delta} of infinity makes it behave like Bellman-Ford.
+ *  A good value is usually the average edge weight divided by the average out-degree.
+ *  <p>
+ *  The API ({@link #distTo(int)}, {@link #hasPathTo(int)} and {@link #pathTo(int)}) is the same as that of {@link Dijkstra}.
+ */
+public class DeltaStepping {
+
+    /**
+     * Number of frontier vertices below which a phase is not split any further.
+     */
+    public static int cutoff = 1024;
+
+    private final double delta;          // bucket width
+    private final AtomicLongArray dist;  // dist[v] = raw bits of the tentative distance to v
+    private final double[] distTo;       // distTo[v] = distance of shortest s->v path
+    private final DirectedEdge[] edgeTo; // edgeTo[v] = last edge on shortest s->v path
+
+    // compressed adjacency lists: the light edges of v are first[v] .. split[v]-1, the heavy ones split[v] .. first[v+1]-1
+    private final int[] first;
+    private final int[] split;
+    private final int[] target;
+    private final double[] weight;
+    private final DirectedEdge[] edges;
+
+    private final int[] frontierStamp;   // frontierStamp[v] = last epoch in which v was put into the frontier
+    private final int[] removedStamp;    // removedStamp[v] = last bucket from which v was removed
+    private final int[] improvedStamp;   // improvedStamp[v] = last epoch in which v was bucketed after an improvement
+    private int epoch = 0;
+    private int bucketCount = 0;
+    private int phases = 0;
+    private final TreeMap<Long, IntBuffer> buckets = new TreeMap<>();
+
+    /**
+     * Computes a shortest-paths tree from the source vertex {@code s} to every other
+     * vertex in the edge-weighted digraph {@code G}, using the common ForkJoin pool.
+     *
+     * @param G     the edge-weighted digraph
+     * @param s     the source vertex
+     * @param delta the bucket width (must be positive)
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public DeltaStepping(EdgeWeightedDigraph G, int s, double delta) {
+        this(G, s, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes a shortest-paths tree from the source vertex {@code s} to every other
+     * vertex in the edge-weighted digraph {@code G}.
+     *
+     * @param G     the edge-weighted digraph
+     * @param s     the source vertex
+     * @param delta the bucket width (must be positive)
+     * @param pool  the ForkJoin pool on which the relaxation phases are run
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public DeltaStepping(EdgeWeightedDigraph G, int s, double delta, ForkJoinPool pool) {
+        if (!(delta > 0)) throw new IllegalArgumentException("delta must be positive: " + delta);
+        this.delta = delta;
+        int V = G.V();
+        distTo = new double[V];
+        edgeTo = new DirectedEdge[V];
+        validateVertex(s);
+
+        first = new int[V + 1];
+        split = new int[V];
+        target = new int[G.E()];
+        weight = new double[G.E()];
+        edges = new DirectedEdge[G.E()];
+        buildAdjacency(G);
+
+        dist = new AtomicLongArray(V);
+        long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < V; v++) dist.set(v, infinity);
+        dist.set(s, Double.doubleToRawLongBits(0.0));
+
+        frontierStamp = new int[V];
+        removedStamp = new int[V];
+        improvedStamp = new int[V];
+        bucketFor(0.0).add(s);
+
+        run(pool);
+
+        for (int v = 0; v < V; v++) distTo[v] = Double.longBitsToDouble(dist.get(v));
+        buildTree(s);
+    }
+
+    /**
+     * Returns the length of a shortest path from the source vertex {@code s} to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return the length of a shortest path from the source vertex {@code s} to vertex {@code v};
+     * {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public double distTo(int v) {
+        validateVertex(v);
+        return distTo[v];
+    }
+
+    /**
+     * Returns true if there is a path from the source vertex {@code s} to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return {@code true} if there is a path from the source vertex {@code s} to vertex {@code v};
+     * {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public boolean hasPathTo(int v) {
+        validateVertex(v);
+        return distTo[v] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a shortest path from the source vertex {@code s} to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return a shortest path from the source vertex {@code s} to vertex {@code v}
+     * as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public Iterable<DirectedEdge> pathTo(int v) {
+        validateVertex(v);
+        if (!hasPathTo(v)) return null;
+        Stack<DirectedEdge> path = new Stack<DirectedEdge>();
+        for (DirectedEdge e = edgeTo[v]; e != null; e = edgeTo[e.from()]) {
+            path.push(e);
+        }
+        return path;
+    }
+
+    /**
+     * @return the bucket width.
+     */
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return the number of relaxation phases which were run (including the heavy-edge phases).
+     */
+    public int getPhases() {
+        return phases;
+    }
+
+    private void buildAdjacency(EdgeWeightedDigraph G) {
+        int k = 0;
+        for (int v = 0; v < G.V(); v++) {
+            first[v] = k;
+            for (DirectedEdge e : G.adj(v)) {
+                if (e.weight() < 0)
+                    throw new IllegalArgumentException("edge " + e + " has negative weight");
+                if (e.weight() <= delta) add(k++, e);
+            }
+            split[v] = k;
+            for (DirectedEdge e : G.adj(v))
+                if (e.weight() > delta) add(k++, e);
+        }
+        first[G.V()] = k;
+    }
+
+    private void add(int k, DirectedEdge e) {
+        target[k] = e.to();
+        weight[k] = e.weight();
+        edges[k] = e;
+    }
+
+    private void run(ForkJoinPool pool) {
+        IntBuffer removed = new IntBuffer();
+        while (!buckets.isEmpty()) {
+            Map.Entry<Long, IntBuffer> entry = buckets.pollFirstEntry();
+            long i = entry.getKey();
+            bucketCount++;
+            removed.clear();
+            IntBuffer frontier = validate(entry.getValue(), i);
+            while (frontier.size() > 0) {
+                for (int j = 0; j < frontier.size(); j++) {
+                    int v = frontier.get(j);
+                    if (removedStamp[v] != bucketCount) {
+                        removedStamp[v] = bucketCount;
+                        removed.add(v);
+                    }
+                }
+                phases++;
+                distribute(pool.invoke(new Relaxation(frontier, 0, frontier.size(), true)));
+                IntBuffer current = buckets.remove(i);
+                frontier = current == null ? new IntBuffer() : validate(current, i);
+            }
+            if (removed.size() > 0) {
+                phases++;
+                distribute(pool.invoke(new Relaxation(removed, 0, removed.size(), false)));
+            }
+        }
+    }
+
+    /**
+     * Yield the vertices of bucket i which still belong there, without duplicates.
+     */
+    private IntBuffer validate(IntBuffer bucket, long i) {
+        epoch++;
+        IntBuffer result = new IntBuffer();
+        for (int j = 0; j < bucket.size(); j++) {
+            int v = bucket.get(j);
+            if (frontierStamp[v] != epoch && bucketOf(distance(v)) == i) {
+                frontierStamp[v] = epoch;
+                result.add(v);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Put each improved vertex into the bucket corresponding to its (final, for this phase) tentative distance.
+     */
+    private void distribute(IntBuffer improved) {
+        for (int j = 0; j < improved.size(); j++) {
+            int w = improved.get(j);
+            if (improvedStamp[w] != epoch) {
+                improvedStamp[w] = epoch;
+                bucketFor(distance(w)).add(w);
+            }
+        }
+    }
+
+    private IntBuffer bucketFor(double d) {
+        return buckets.computeIfAbsent(bucketOf(d), k -> new IntBuffer());
+    }
+
+    private long bucketOf(double d) {
+        return (long) (d / delta);
+    }
+
+    private double distance(int v) {
+        return Double.longBitsToDouble(dist.get(v));
+    }
+
+    /**
+     * Lower the tentative distance of w to d, if d is an improvement.
+     *
+     * @return true if this call improved the distance of w.
+     */
+    private boolean relax(int w, double d) {
+        long current = dist.get(w);
+        while (d < Double.longBitsToDouble(current)) {
+            if (dist.compareAndSet(w, current, Double.doubleToRawLongBits(d))) return true;
+            current = dist.get(w);
+        }
+        return false;
+    }
+
+    /**
+     * Choose, for each reachable vertex, a tight edge such that the edges form a tree rooted at s.
+     * Tight edges are followed breadth-first from s so that zero-weight cycles cannot give rise to cycles in edgeTo.
+     */
+    private void buildTree(int s) {
+        boolean[] marked = new boolean[distTo.length];
+        int[] queue = new int[distTo.length];
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+        marked[s] = true;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int k = first[v]; k < first[v + 1]; k++) {
+                int w = target[k];
+                if (!marked[w] && distTo[v] + weight[k] == distTo[w]) {
+                    marked[w] = true;
+                    edgeTo[w] = edges[k];
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    private void validateVertex(int v) {
+        int V = distTo.length;
+        if (v < 0 || v >= V)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (V - 1));
+    }
+
+    /**
+     * Relax either the light or the heavy edges of vertices[from..to) and yield the vertices whose distance improved.
+     */
+    private class Relaxation extends RecursiveTask<IntBuffer> {
+        Relaxation(IntBuffer vertices, int from, int to, boolean light) {
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+        }
+
+        @Override
+        protected IntBuffer compute() {
+            if (to - from > cutoff) {
+                int mid = from + (to - from) / 2;
+                Relaxation left = new Relaxation(vertices, from, mid, light);
+                left.fork();
+                IntBuffer right = new Relaxation(vertices, mid, to, light).compute();
+                IntBuffer result = left.join();
+                result.addAll(right);
+                return result;
+            }
+            IntBuffer result = new IntBuffer();
+            for (int j = from; j < to; j++) {
+                int v = vertices.get(j);
+                double d = distance(v);
+                int lo = light ? first[v] : split[v];
+                int hi = light ? split[v] : first[v + 1];
+                for (int k = lo; k < hi; k++)
+                    if (relax(target[k], d + weight[k])) result.add(target[k]);
+            }
+            return result;
+        }
+
+        private final IntBuffer vertices;
+        private final int from;
+        private final int to;
+        private final boolean light;
+    }
+
+    /**
+     * A growable buffer of ints.
+     */
+    private static class IntBuffer {
+        void add(int x) {
+            if (n == xs.length) xs = Arrays.copyOf(xs, 2 * n);
+            xs[n++] = x;
+        }
+
+        void addAll(IntBuffer other) {
+            if (n + other.n > xs.length) xs = Arrays.copyOf(xs, Math.max(2 * xs.length, n + other.n));
+            System.arraycopy(other.xs, 0, xs, n, other.n);
+            n += other.n;
+        }
+
+        int get(int i) {
+            return xs[i];
+        }
+
+        int size() {
+            return n;
+        }
+
+        void clear() {
+            n = 0;
+        }
+
+        private int[] xs = new int[16];
+        private int n = 0;
+    }
+}
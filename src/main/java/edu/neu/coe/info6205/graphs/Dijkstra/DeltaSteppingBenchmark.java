@@ -0,0 +1,61 @@
+package edu.neu.coe.info6205.graphs.Dijkstra;
+
+import edu.neu.coe.info6205.util.Benchmark;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of {@link DeltaStepping} against the sequential {@link Dijkstra} on random edge-weighted digraphs.
+ * <p>
+ * Usage: DeltaSteppingBenchmark [edges [edges ...]] where each edge count yields one random digraph
+ * with an average out-degree of 8.
+ * The default edge counts are 1M, 2M, 5M and 10M (the latter needs a heap of a few GB).
+ */
+public class DeltaSteppingBenchmark {
+
+    public static void main(String[] args) {
+        int[] edgeCounts = args.length > 0 ? new int[args.length] : new int[]{1_000_000, 2_000_000, 5_000_000, 10_000_000};
+        for (int i = 0; i < args.length; i++) edgeCounts[i] = Integer.parseInt(args[i]);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        System.out.println("Degree of parallelism: " + pool.getParallelism());
+        for (int E : edgeCounts) new DeltaSteppingBenchmark(E / DEGREE, E).run(pool, 5);
+    }
+
+    /**
+     * Constructor which generates a random digraph.
+     *
+     * @param V the number of vertices.
+     * @param E the number of edges.
+     */
+    public DeltaSteppingBenchmark(int V, int E) {
+        this.G = new EdgeWeightedDigraph(V, E);
+        // EdgeWeightedDigraph(V, E) yields weights uniform in 0.00 .. 0.99, so the mean weight is about 0.5.
+        this.delta = 0.5 * V / E;
+    }
+
+    /**
+     * Run both algorithms m times (after warmup) and print the mean times.
+     *
+     * @param pool the pool on which to run DeltaStepping.
+     * @param m    the number of timed runs.
+     */
+    public void run(ForkJoinPool pool, int m) {
+        logger.info("DeltaSteppingBenchmark: V=" + formatWhole(G.V()) + ", E=" + formatWhole(G.E()) + ", delta=" + delta);
+        Benchmark<Integer> dijkstra = new Benchmark_Timer<>("Dijkstra", s -> new Dijkstra(G, s));
+        Benchmark<Integer> deltaStepping = new Benchmark_Timer<>("DeltaStepping", s -> new DeltaStepping(G, s, delta, pool));
+        double t1 = dijkstra.run(0, m);
+        double t2 = deltaStepping.run(0, m);
+        System.out.println("E=" + formatWhole(G.E()) + ": Dijkstra " + t1 + " mSec; DeltaStepping " + t2 + " mSec; speedup " + t1 / t2);
+    }
+
+    private static final int DEGREE = 8;
+
+    private final EdgeWeightedDigraph G;
+    private final double delta;
+
+    final static LazyLogger logger = new LazyLogger(DeltaSteppingBenchmark.class);
+}
@@ -0,0 +1,191 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Bidirectional A* search for point-to-point shortest paths over an {@link IndexedDiGraph}.
+ * <p>
+ * A forward search from the source and a backward search from the target are interleaved
+ * (whichever frontier has the smaller key goes next), each guided by the same consistent potential
+ * p(v) = (toTarget(v) - fromSource(v)) / 2, where toTarget and fromSource are consistent lower bounds on the
+ * cost from v to the target and from the source to v respectively.
+ * The search stops as soon as the smallest keys of the two frontiers add up to at least the cost of the best path found so far.
+ * With both bounds identically zero, this is bidirectional Dijkstra.
+ * A vertex whose bound is infinite is known not to lie on any source-target path and is never labeled.
+ * <p>
+ * An instance reuses its working arrays from one search to the next, so it is cheap to run many searches,
+ * but an instance must not be shared between threads.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class BidirectionalSearch<V, E extends Number> {
+
+    /**
+     * Constructor.
+     *
+     * @param graph the graph to be searched.
+     */
+    public BidirectionalSearch(IndexedDiGraph<V, E> graph) {
+        this.graph = graph;
+        int n = graph.V();
+        distF = new double[n];
+        distR = new double[n];
+        edgeF = new int[n];
+        edgeR = new int[n];
+        labeledF = new int[n];
+        labeledR = new int[n];
+        settledF = new int[n];
+        settledR = new int[n];
+        potential = new double[n];
+        potentialStamp = new int[n];
+    }
+
+    /**
+     * Method to find a shortest path from source to target.
+     *
+     * @param source     the source vertex.
+     * @param target     the target vertex.
+     * @param toTarget   a consistent lower bound on the cost of getting from a vertex (index) to target.
+     * @param fromSource a consistent lower bound on the cost of getting from source to a vertex (index).
+     * @return the Route found.
+     */
+    public Route<V, E> search(V source, V target, IntToDoubleFunction toTarget, IntToDoubleFunction fromSource) {
+        int s = graph.index(source), t = graph.index(target);
+        this.toTarget = toTarget;
+        this.fromSource = fromSource;
+        if (++stamp == 0) reset();
+        heapF.clear();
+        heapR.clear();
+        mu = Double.POSITIVE_INFINITY;
+        meet = -1;
+        settled = 0;
+        if (s == t) return new Route<>(source, target, 0, new ArrayList<>(), 0);
+        if (Double.isNaN(potential(s)) || Double.isNaN(potential(t)))
+            return new Route<>(source, target, Double.POSITIVE_INFINITY, new ArrayList<>(), 0);
+        label(s, 0, -1, true);
+        label(t, 0, -1, false);
+        while (!heapF.isEmpty() && !heapR.isEmpty() && heapF.minKey() + heapR.minKey() < mu)
+            if (heapF.minKey() <= heapR.minKey()) stepForward();
+            else stepBackward();
+        return new Route<>(source, target, mu, meet < 0 ? new ArrayList<>() : path(), settled);
+    }
+
+    /**
+     * Method to find a shortest path from source to target using bidirectional Dijkstra (no potentials).
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return the Route found.
+     */
+    public Route<V, E> search(V source, V target) {
+        return search(source, target, v -> 0, v -> 0);
+    }
+
+    private void stepForward() {
+        int v = heapF.take();
+        if (settledF[v] == stamp) return;
+        settledF[v] = stamp;
+        settled++;
+        for (int j = graph.outStart[v]; j < graph.outStart[v + 1]; j++) {
+            int w = graph.outTarget[j];
+            double d = distF[v] + graph.outWeight[j];
+            if (labeledF[w] != stamp || d < distF[w]) {
+                if (Double.isNaN(potential(w))) continue;
+                label(w, d, j, true);
+                if (labeledR[w] == stamp && d + distR[w] < mu) {
+                    mu = d + distR[w];
+                    meet = w;
+                }
+            }
+        }
+    }
+
+    private void stepBackward() {
+        int v = heapR.take();
+        if (settledR[v] == stamp) return;
+        settledR[v] = stamp;
+        settled++;
+        for (int i = graph.inStart[v]; i < graph.inStart[v + 1]; i++) {
+            int w = graph.inSource[i];
+            int j = graph.inEdge[i];
+            double d = distR[v] + graph.outWeight[j];
+            if (labeledR[w] != stamp || d < distR[w]) {
+                if (Double.isNaN(potential(w))) continue;
+                label(w, d, j, false);
+                if (labeledF[w] == stamp && d + distF[w] < mu) {
+                    mu = d + distF[w];
+                    meet = w;
+                }
+            }
+        }
+    }
+
+    private void label(int v, double d, int edge, boolean forward) {
+        if (forward) {
+            distF[v] = d;
+            edgeF[v] = edge;
+            labeledF[v] = stamp;
+            heapF.add(d + potential(v), v);
+        } else {
+            distR[v] = d;
+            edgeR[v] = edge;
+            labeledR[v] = stamp;
+            heapR.add(d - potential(v), v);
+        }
+    }
+
+    /**
+     * Get the (cached) potential of v, which is NaN if v cannot lie on a path from source to target.
+     */
+    private double potential(int v) {
+        if (potentialStamp[v] != stamp) {
+            potentialStamp[v] = stamp;
+            double a = toTarget.applyAsDouble(v), b = fromSource.applyAsDouble(v);
+            potential[v] = a == Double.POSITIVE_INFINITY || b == Double.POSITIVE_INFINITY ? Double.NaN : (a - b) / 2;
+        }
+        return potential[v];
+    }
+
+    private List<Edge<V, E>> path() {
+        List<Edge<V, E>> result = new ArrayList<>();
+        for (int v = meet; edgeF[v] >= 0; v = graph.outSource[edgeF[v]]) result.add(graph.edge(edgeF[v]));
+        Collections.reverse(result);
+        for (int v = meet; edgeR[v] >= 0; v = graph.outTarget[edgeR[v]]) result.add(graph.edge(edgeR[v]));
+        return result;
+    }
+
+    private void reset() {
+        int[][] stamps = {labeledF, labeledR, settledF, settledR, potentialStamp};
+        for (int[] xs : stamps) Arrays.fill(xs, 0);
+        stamp = 1;
+    }
+
+    private final IndexedDiGraph<V, E> graph;
+    private final double[] distF;
+    private final double[] distR;
+    private final int[] edgeF;
+    private final int[] edgeR;
+    // The following arrays hold the stamp of the search in which a vertex was last labeled/settled,
+    // so that they need not be cleared between searches.
+    private final int[] labeledF;
+    private final int[] labeledR;
+    private final int[] settledF;
+    private final int[] settledR;
+    private final double[] potential;
+    private final int[] potentialStamp;
+    private final VertexHeap heapF = new VertexHeap();
+    private final VertexHeap heapR = new VertexHeap();
+    private IntToDoubleFunction toTarget;
+    private IntToDoubleFunction fromSource;
+    private int stamp = 0;
+    private double mu;
+    private int meet;
+    private int settled;
+}
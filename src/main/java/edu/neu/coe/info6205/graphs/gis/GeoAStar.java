@@ -0,0 +1,156 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Goal-directed point-to-point search over a directed graph whose vertices are {@link GeoPoint}s in spherical coordinates.
+ * <p>
+ * The heuristic is the great-circle (haversine) distance to the target, as given by {@link GeoGraphSpherical#getDistance},
+ * multiplied by scale (the number of weight units per meter).
+ * It is admissible and consistent provided that the weight of every edge is at least scale times the great-circle
+ * distance between its ends, as is the case for any physical route between them when weights are lengths in meters.
+ * <p>
+ * {@link #search} is unidirectional A*; {@link #searchBidirectional} is bidirectional A* (see {@link BidirectionalSearch})
+ * which stops when the two frontiers meet.
+ * Each yields a {@link Route} which reports the number of settled vertices for comparison with
+ * {@link ShortestPaths#getSettled()} (Dijkstra's algorithm settles every reachable vertex).
+ * <p>
+ * An instance reuses its working arrays from one search to the next, and must not be shared between threads.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class GeoAStar<V extends GeoPoint, E extends Number> {
+
+    /**
+     * Constructor.
+     *
+     * @param graph a graph whose edge weights are (at least) the lengths of the edges in meters.
+     */
+    public GeoAStar(DiGraph<V, E> graph) {
+        this(new IndexedDiGraph<>(graph), 1.0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param graph a graph whose edge weights are at least scale times the lengths of the edges in meters.
+     * @param scale the number of weight units per meter.
+     */
+    public GeoAStar(IndexedDiGraph<V, E> graph, double scale) {
+        this.graph = graph;
+        // A little slack so that rounding errors can never make the heuristic overestimate.
+        this.scale = scale * (1 - 1E-9);
+        int n = graph.V();
+        latitudes = new double[n];
+        longitudes = new double[n];
+        cosLatitudes = new double[n];
+        for (int v = 0; v < n; v++) {
+            Position_Spherical position = (Position_Spherical) graph.vertex(v).getPosition();
+            latitudes[v] = Math.toRadians(position.getLatitude());
+            longitudes[v] = Math.toRadians(position.getLongitude());
+            cosLatitudes[v] = Math.cos(latitudes[v]);
+        }
+        dist = new double[n];
+        edgeTo = new int[n];
+        labeled = new int[n];
+        settledStamp = new int[n];
+        bidirectional = new BidirectionalSearch<>(graph);
+    }
+
+    /**
+     * Find a shortest path from source to target by (unidirectional) A* search.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return the Route found.
+     */
+    public Route<V, E> search(V source, V target) {
+        int s = graph.index(source), t = graph.index(target);
+        if (++stamp == 0) {
+            Arrays.fill(labeled, 0);
+            Arrays.fill(settledStamp, 0);
+            stamp = 1;
+        }
+        heap.clear();
+        int settled = 0;
+        dist[s] = 0;
+        edgeTo[s] = -1;
+        labeled[s] = stamp;
+        heap.add(heuristic(s, t), s);
+        while (!heap.isEmpty()) {
+            int v = heap.take();
+            if (settledStamp[v] == stamp) continue;
+            settledStamp[v] = stamp;
+            settled++;
+            if (v == t) return new Route<>(source, target, dist[t], path(t), settled);
+            for (int j = graph.outStart[v]; j < graph.outStart[v + 1]; j++) {
+                int w = graph.outTarget[j];
+                double d = dist[v] + graph.outWeight[j];
+                if (labeled[w] != stamp || d < dist[w]) {
+                    dist[w] = d;
+                    edgeTo[w] = j;
+                    labeled[w] = stamp;
+                    heap.add(d + heuristic(w, t), w);
+                }
+            }
+        }
+        return new Route<>(source, target, Double.POSITIVE_INFINITY, new ArrayList<>(), settled);
+    }
+
+    /**
+     * Find a shortest path from source to target by bidirectional A* search.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return the Route found.
+     */
+    public Route<V, E> searchBidirectional(V source, V target) {
+        int s = graph.index(source), t = graph.index(target);
+        return bidirectional.search(source, target, v -> heuristic(v, t), v -> heuristic(s, v));
+    }
+
+    /**
+     * @return the indexed graph.
+     */
+    public IndexedDiGraph<V, E> getGraph() {
+        return graph;
+    }
+
+    /**
+     * The haversine formula of GeoGraphSpherical.distance, with the trigonometry of each vertex precomputed.
+     */
+    private double heuristic(int u, int v) {
+        double latArc = latitudes[v] - latitudes[u];
+        double lonArc = longitudes[v] - longitudes[u];
+        double sinLat = Math.sin(latArc / 2), sinLon = Math.sin(lonArc / 2);
+        double a = sinLat * sinLat + cosLatitudes[u] * cosLatitudes[v] * sinLon * sinLon;
+        return scale * GeoGraphSpherical.R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private List<Edge<V, E>> path(int t) {
+        List<Edge<V, E>> result = new ArrayList<>();
+        for (int v = t; edgeTo[v] >= 0; v = graph.outSource[edgeTo[v]]) result.add(graph.edge(edgeTo[v]));
+        Collections.reverse(result);
+        return result;
+    }
+
+    private final IndexedDiGraph<V, E> graph;
+    private final double scale;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] cosLatitudes;
+    private final double[] dist;
+    private final int[] edgeTo;
+    private final int[] labeled;
+    private final int[] settledStamp;
+    private final VertexHeap heap = new VertexHeap();
+    private final BidirectionalSearch<V, E> bidirectional;
+    private int stamp = 0;
+}
@@ -0,0 +1,125 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import edu.neu.coe.info6205.graphs.undirected.Position;
+import edu.neu.coe.info6205.util.Benchmark;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of single-pair queries on a synthetic street grid: Dijkstra ({@link ShortestPaths}) vs. A* and
+ * bidirectional A* ({@link GeoAStar}).
+ * Both the mean number of settled vertices and the mean time per query are reported.
+ * <p>
+ * Usage: GeoAStarBenchmark [side [queries]] where the grid has side x side intersections about 100 meters apart.
+ */
+public class GeoAStarBenchmark {
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        new GeoAStarBenchmark(side, 0L).run(queries);
+    }
+
+    /**
+     * Constructor which builds a grid of side x side intersections (near Boston) with a street between each pair of neighbors.
+     * The length of each street is its great-circle length inflated by up to 50%.
+     *
+     * @param side the number of intersections on each side of the grid.
+     * @param seed the random seed.
+     */
+    public GeoAStarBenchmark(int side, long seed) {
+        this.random = new Random(seed);
+        this.points = new Site[side * side];
+        for (int i = 0; i < side; i++)
+            for (int j = 0; j < side; j++)
+                points[i * side + j] = new Site(i + ":" + j, new Position_Spherical(
+                        42.3 + (i + 0.3 * random.nextDouble()) * 0.0009, -71.1 + (j + 0.3 * random.nextDouble()) * 0.0012));
+        GeoGraphSpherical<Site, Double> geo = new GeoGraphSpherical<>();
+        for (int i = 0; i < side; i++)
+            for (int j = 0; j < side; j++) {
+                if (i + 1 < side) addStreet(geo, points[i * side + j], points[(i + 1) * side + j]);
+                if (j + 1 < side) addStreet(geo, points[i * side + j], points[i * side + j + 1]);
+            }
+        this.aStar = new GeoAStar<>(graph);
+    }
+
+    /**
+     * Run the given number of random queries with each algorithm.
+     *
+     * @param queries the number of queries.
+     */
+    public void run(int queries) {
+        logger.info("GeoAStarBenchmark: " + formatWhole(points.length) + " vertices, " + formatWhole(queries) + " queries");
+        Site[][] pairs = new Site[queries][];
+        for (int i = 0; i < queries; i++)
+            pairs[i] = new Site[]{points[random.nextInt(points.length)], points[random.nextInt(points.length)]};
+        long[] settled = new long[3];
+        for (Site[] xs : pairs) {
+            settled[0] += new ShortestPaths<>(graph, xs[0]).getSettled();
+            settled[1] += aStar.search(xs[0], xs[1]).getSettled();
+            settled[2] += aStar.searchBidirectional(xs[0], xs[1]).getSettled();
+        }
+        report("Dijkstra (ShortestPaths)", settled[0], pairs, new Benchmark_Timer<>("Dijkstra", xss -> {
+            for (Site[] xs : xss) new ShortestPaths<>(graph, xs[0]);
+        }));
+        report("A*", settled[1], pairs, new Benchmark_Timer<>("A*", xss -> {
+            for (Site[] xs : xss) aStar.search(xs[0], xs[1]);
+        }));
+        report("bidirectional A*", settled[2], pairs, new Benchmark_Timer<>("bidirectional A*", xss -> {
+            for (Site[] xs : xss) aStar.searchBidirectional(xs[0], xs[1]);
+        }));
+    }
+
+    private static void report(String name, long settled, Site[][] pairs, Benchmark<Site[][]> benchmark) {
+        double time = benchmark.run(pairs, 3);
+        System.out.println(name + ": mean settled " + formatWhole((int) (settled / pairs.length)) +
+                ", mean time per query " + time / pairs.length + " mSec");
+    }
+
+    private void addStreet(GeoGraphSpherical<Site, Double> geo, Site a, Site b) {
+        double length = geo.getDistance(a, b) * (1 + 0.5 * random.nextDouble());
+        graph.addEdge(new Edge<>(a, b, length));
+        graph.addEdge(new Edge<>(b, a, length));
+    }
+
+    /**
+     * A named point.
+     */
+    static class Site implements GeoPoint {
+        Site(String name, Position position) {
+            this.name = name;
+            this.position = position;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Position getPosition() {
+            return position;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        private final String name;
+        private final Position position;
+    }
+
+    private final Random random;
+    private final Site[] points;
+    private final DiGraph<Site, Double> graph = new DiGraph<>();
+    private final GeoAStar<Site, Double> aStar;
+
+    final static LazyLogger logger = new LazyLogger(GeoAStarBenchmark.class);
+}
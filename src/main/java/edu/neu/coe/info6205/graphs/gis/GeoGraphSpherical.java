@@ -28,7 +28,7 @@ public class GeoGraphSpherical<V extends GeoPoint, E> extends BaseGeoGraph<V, E>
      * @param p2 The second point.
      * @return the distance between the points in meters.
      */
-    private static double distance(Position p1, Position p2) {
+    public static double distance(Position p1, Position p2) {
         Position_Spherical v1 = (Position_Spherical) p1;
         Position_Spherical v2 = (Position_Spherical) p2;
         double latArc = Math.toRadians(v2.getLatitude() - v1.getLatitude());
@@ -39,5 +39,5 @@ public class GeoGraphSpherical<V extends GeoPoint, E> extends BaseGeoGraph<V, E>
         return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
     }
 
-    private final static int R = 6378100; // Radius of the earth (meters)
+    final static int R = 6378100; // Radius of the earth (meters)
 }
@@ -0,0 +1,306 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A static k-d tree over {@link GeoPoint}s (in spherical coordinates) for radius and nearest-neighbor queries.
+ * <p>
+ * Each point is placed on the unit sphere in three-dimensional Cartesian coordinates.
+ * The straight-line (chord) distance between two such points increases monotonically with their great-circle distance,
+ * so a three-dimensional k-d tree answers spherical queries without any special treatment of the poles or the antimeridian.
+ * Distances reported and compared with radii are great-circle distances in meters, exactly as given by
+ * {@link GeoGraphSpherical#distance}.
+ * <p>
+ * The tree is built in O(n log n) time, and is held in flat arrays (the median of each range being the root of its subtree).
+ *
+ * @param <V> the point type.
+ */
+public class GeoKdTree<V extends GeoPoint> {
+
+    /**
+     * Constructor.
+     *
+     * @param points the points to index (their order is remembered: see {@link #pairsWithin}).
+     */
+    public GeoKdTree(List<V> points) {
+        int n = points.size();
+        //noinspection unchecked
+        items = (V[]) new GeoPoint[n];
+        ids = new int[n];
+        xyz = new double[3][n];
+        axes = new byte[n];
+        for (int i = 0; i < n; i++) {
+            V v = points.get(i);
+            items[i] = v;
+            ids[i] = i;
+            double[] q = toUnitSphere(v.getPosition());
+            for (int a = 0; a < 3; a++) xyz[a][i] = q[a];
+        }
+        build(0, n);
+    }
+
+    /**
+     * @return the number of points in this tree.
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Visit every point within the given great-circle distance of center.
+     *
+     * @param center the center of the query.
+     * @param meters the radius of the query.
+     * @param f      the function to be called on each point found.
+     */
+    public void forEachWithin(GeoPoint center, double meters, Consumer<V> f) {
+        double[] q = toUnitSphere(center.getPosition());
+        search(0, items.length, q, chord2(meters), center.getPosition(), meters, i -> f.accept(items[i]));
+    }
+
+    /**
+     * Get every point within the given great-circle distance of center.
+     *
+     * @param center the center of the query.
+     * @param meters the radius of the query.
+     * @return a list of points in no particular order.
+     */
+    public List<V> within(GeoPoint center, double meters) {
+        List<V> result = new ArrayList<>();
+        forEachWithin(center, meters, result::add);
+        return result;
+    }
+
+    /**
+     * Visit every (unordered) pair of distinct points which are within the given great-circle distance of each other.
+     * Each pair is visited exactly once, with the point which came first in the original list as the first argument.
+     * This evaluates only nearby pairs, rather than all n(n-1)/2 of them.
+     *
+     * @param meters the maximum distance between the points of a pair.
+     * @param f      the function to be called on each pair.
+     */
+    public void pairsWithin(double meters, BiConsumer<V, V> f) {
+        double c2 = chord2(meters);
+        for (int k = 0; k < items.length; k++) {
+            final int i = ids[k];
+            final V v = items[k];
+            double[] q = {xyz[0][k], xyz[1][k], xyz[2][k]};
+            search(0, items.length, q, c2, v.getPosition(), meters, j -> {
+                if (ids[j] > i) f.accept(v, items[j]);
+            });
+        }
+    }
+
+    /**
+     * Get the point nearest to center.
+     *
+     * @param center the center of the query.
+     * @return the nearest point (null if this tree is empty).
+     */
+    public V nearest(GeoPoint center) {
+        List<V> result = nearest(center, 1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Get the k points nearest to center.
+     *
+     * @param center the center of the query.
+     * @param k      the number of points required.
+     * @return up to k points, nearest first.
+     */
+    public List<V> nearest(GeoPoint center, int k) {
+        Neighbors neighbors = new Neighbors(Math.min(k, items.length));
+        if (neighbors.capacity > 0) nearest(0, items.length, toUnitSphere(center.getPosition()), neighbors);
+        List<V> result = new ArrayList<>();
+        while (neighbors.n > 0) result.add(items[neighbors.poll()]);
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void search(int lo, int hi, double[] q, double c2, Position center, double meters, IntConsumer f) {
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            double d2 = distance2(q, m);
+            // NOTE the chord test is only a (slightly generous) filter: the great-circle distance has the final word.
+            if (d2 <= c2 && GeoGraphSpherical.distance(center, items[m].getPosition()) <= meters) f.accept(m);
+            double diff = q[axes[m]] - xyz[axes[m]][m];
+            if (diff < 0) {
+                if (diff * diff <= c2) search(m + 1, hi, q, c2, center, meters, f);
+                hi = m;
+            } else {
+                if (diff * diff <= c2) search(lo, m, q, c2, center, meters, f);
+                lo = m + 1;
+            }
+        }
+    }
+
+    private void nearest(int lo, int hi, double[] q, Neighbors neighbors) {
+        if (lo >= hi) return;
+        int m = (lo + hi) >>> 1;
+        neighbors.offer(m, distance2(q, m));
+        double diff = q[axes[m]] - xyz[axes[m]][m];
+        int nearLo = diff < 0 ? lo : m + 1, nearHi = diff < 0 ? m : hi;
+        int farLo = diff < 0 ? m + 1 : lo, farHi = diff < 0 ? hi : m;
+        nearest(nearLo, nearHi, q, neighbors);
+        if (diff * diff < neighbors.bound()) nearest(farLo, farHi, q, neighbors);
+    }
+
+    /**
+     * Arrange items[lo..hi) as a k-d tree, splitting on the axis of greatest spread at each level.
+     */
+    private void build(int lo, int hi) {
+        if (hi - lo < 1) return;
+        int m = (lo + hi) >>> 1;
+        byte axis = 0;
+        double spread = -1;
+        for (byte a = 0; a < 3; a++) {
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                min = Math.min(min, xyz[a][i]);
+                max = Math.max(max, xyz[a][i]);
+            }
+            if (max - min > spread) {
+                spread = max - min;
+                axis = a;
+            }
+        }
+        select(lo, hi - 1, m, axis);
+        axes[m] = axis;
+        build(lo, m);
+        build(m + 1, hi);
+    }
+
+    /**
+     * Partially sort items[lo..hi] (inclusive) on the given axis such that the item at k is in its sorted position.
+     */
+    private void select(int lo, int hi, int k, int axis) {
+        double[] xs = xyz[axis];
+        while (hi > lo) {
+            double pivot = xs[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (xs[i] < pivot) i++;
+                while (xs[j] > pivot) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            if (k <= j) hi = j;
+            else if (k >= i) lo = i;
+            else return;
+        }
+    }
+
+    private void swap(int i, int j) {
+        V v = items[i];
+        items[i] = items[j];
+        items[j] = v;
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        for (double[] xs : xyz) {
+            double x = xs[i];
+            xs[i] = xs[j];
+            xs[j] = x;
+        }
+    }
+
+    private double distance2(double[] q, int i) {
+        double dx = q[0] - xyz[0][i], dy = q[1] - xyz[1][i], dz = q[2] - xyz[2][i];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] toUnitSphere(Position position) {
+        Position_Spherical p = (Position_Spherical) position;
+        double lat = Math.toRadians(p.getLatitude()), lon = Math.toRadians(p.getLongitude());
+        return new double[]{Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat)};
+    }
+
+    /**
+     * Get the square of the chord (on the unit sphere) which corresponds to a great-circle distance,
+     * with a little slack to allow for rounding errors.
+     */
+    private static double chord2(double meters) {
+        double theta = Math.min(Math.PI, meters / GeoGraphSpherical.R);
+        double chord = 2 * Math.sin(theta / 2);
+        return chord * chord * (1 + 1E-9) + 1E-15;
+    }
+
+    /**
+     * A bounded max-heap (on squared chord distance) of the best candidates so far.
+     */
+    private static class Neighbors {
+        Neighbors(int capacity) {
+            this.capacity = capacity;
+            indices = new int[capacity];
+            distances = new double[capacity];
+        }
+
+        void offer(int index, double d2) {
+            if (n < capacity) {
+                int k = n++;
+                while (k > 0 && distances[(k - 1) / 2] < d2) {
+                    indices[k] = indices[(k - 1) / 2];
+                    distances[k] = distances[(k - 1) / 2];
+                    k = (k - 1) / 2;
+                }
+                indices[k] = index;
+                distances[k] = d2;
+            } else if (d2 < distances[0]) {
+                int k = 0;
+                while (2 * k + 1 < n) {
+                    int child = 2 * k + 1;
+                    if (child + 1 < n && distances[child + 1] > distances[child]) child++;
+                    if (distances[child] <= d2) break;
+                    indices[k] = indices[child];
+                    distances[k] = distances[child];
+                    k = child;
+                }
+                indices[k] = index;
+                distances[k] = d2;
+            }
+        }
+
+        double bound() {
+            return n < capacity ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        /**
+         * Remove the farthest candidate, leaving the heap ordered.
+         */
+        int poll() {
+            int result = indices[0];
+            n--;
+            int index = indices[n];
+            double d2 = distances[n];
+            int k = 0;
+            while (2 * k + 1 < n) {
+                int child = 2 * k + 1;
+                if (child + 1 < n && distances[child + 1] > distances[child]) child++;
+                if (distances[child] <= d2) break;
+                indices[k] = indices[child];
+                distances[k] = distances[child];
+                k = child;
+            }
+            indices[k] = index;
+            distances[k] = d2;
+            return result;
+        }
+
+        final int capacity;
+        final int[] indices;
+        final double[] distances;
+        int n = 0;
+    }
+
+    private final V[] items;
+    private final int[] ids;        // ids[i] = the position of items[i] in the original list
+    private final double[][] xyz;   // xyz[a][i] = the a-th coordinate of items[i] on the unit sphere
+    private final byte[] axes;      // axes[m] = the splitting axis of the subtree rooted at m
+}
@@ -0,0 +1,134 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable, array-based copy of a {@link DiGraph} whose edge attributes are (non-negative) weights.
+ * <p>
+ * Each vertex is given an index in 0 .. V-1 and the outgoing and incoming edges of every vertex are
+ * held in compressed adjacency arrays, so that searches run over primitive arrays rather than maps and bags.
+ * The outgoing edges of vertex v are {@code outStart[v] .. outStart[v+1]-1} (similarly for the incoming edges),
+ * and each edge is identified by its index in the outgoing arrays.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class IndexedDiGraph<V, E extends Number> {
+
+    /**
+     * Constructor to index the given graph.
+     *
+     * @param graph a DiGraph with non-negative edge weights.
+     * @throws IllegalArgumentException if any edge weight is negative.
+     */
+    public IndexedDiGraph(DiGraph<V, E> graph) {
+        int n = graph.vertices().size();
+        //noinspection unchecked
+        vertices = (V[]) new Object[n];
+        for (V v : graph.vertices()) {
+            indices.put(v, indices.size());
+            vertices[indices.size() - 1] = v;
+        }
+        int m = graph.edges().size();
+        //noinspection unchecked
+        edges = (Edge<V, E>[]) new Edge[m];
+        outStart = new int[n + 1];
+        outSource = new int[m];
+        outTarget = new int[m];
+        outWeight = new double[m];
+        inStart = new int[n + 1];
+        inSource = new int[m];
+        inEdge = new int[m];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            outStart[v] = k;
+            for (Edge<V, E> e : graph.adjacent(vertices[v])) {
+                double weight = e.getAttributes().doubleValue();
+                if (weight < 0) throw new IllegalArgumentException("edge " + e + " has negative weight");
+                edges[k] = e;
+                outSource[k] = v;
+                outTarget[k] = indices.get(e.getTo());
+                outWeight[k] = weight;
+                inStart[outTarget[k] + 1]++;
+                k++;
+            }
+        }
+        outStart[n] = k;
+        for (int v = 0; v < n; v++) inStart[v + 1] += inStart[v];
+        int[] next = new int[n];
+        System.arraycopy(inStart, 0, next, 0, n);
+        for (int v = 0; v < n; v++)
+            for (int j = outStart[v]; j < outStart[v + 1]; j++) {
+                int i = next[outTarget[j]]++;
+                inSource[i] = v;
+                inEdge[i] = j;
+            }
+    }
+
+    /**
+     * @return the number of vertices.
+     */
+    public int V() {
+        return vertices.length;
+    }
+
+    /**
+     * @return the number of edges.
+     */
+    public int E() {
+        return edges.length;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex.
+     * @return its index.
+     * @throws IllegalArgumentException if v is not a vertex of this graph.
+     */
+    public int index(V v) {
+        Integer result = indices.get(v);
+        if (result == null) throw new IllegalArgumentException("not a vertex: " + v);
+        return result;
+    }
+
+    /**
+     * @param v a vertex.
+     * @return true if v is a vertex of this graph.
+     */
+    public boolean contains(V v) {
+        return indices.containsKey(v);
+    }
+
+    /**
+     * @param i the index of a vertex.
+     * @return the vertex.
+     */
+    public V vertex(int i) {
+        return vertices[i];
+    }
+
+    /**
+     * @param j the index of an edge.
+     * @return the edge.
+     */
+    public Edge<V, E> edge(int j) {
+        return edges[j];
+    }
+
+    final V[] vertices;
+    final Edge<V, E>[] edges;
+    final int[] outStart;   // the outgoing edges of v are outStart[v] .. outStart[v+1]-1
+    final int[] outSource;  // outSource[j] = the tail of edge j
+    final int[] outTarget;  // outTarget[j] = the head of edge j
+    final double[] outWeight;
+    final int[] inStart;    // the incoming edges of v are inStart[v] .. inStart[v+1]-1 (in the following two arrays)
+    final int[] inSource;   // inSource[i] = the tail of the i-th incoming edge
+    final int[] inEdge;     // inEdge[i] = the index (in the outgoing arrays) of the i-th incoming edge
+
+    private final Map<V, Integer> indices = new HashMap<>();
+}
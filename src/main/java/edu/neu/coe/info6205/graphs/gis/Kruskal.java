@@ -2,12 +2,12 @@ package edu.neu.coe.info6205.graphs.gis;
 
 import edu.neu.coe.info6205.SizedIterable;
 import edu.neu.coe.info6205.bqs.Queue;
-import edu.neu.coe.info6205.bqs.Queue_Elements;
+import edu.neu.coe.info6205.bqs.Queue_Array;
 import edu.neu.coe.info6205.graphs.undirected.Edge;
 import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
 import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
 import edu.neu.coe.info6205.pq.PQException;
-import edu.neu.coe.info6205.pq.PriorityQueue;
+import edu.neu.coe.info6205.pq.DaryHeap;
 import edu.neu.coe.info6205.union_find.TypedUF;
 import edu.neu.coe.info6205.union_find.TypedUF_HWQUPC;
 import edu.neu.coe.info6205.union_find.UFException;
@@ -25,7 +25,7 @@ public class Kruskal<V, X extends Comparable<X> & Sequenced> implements Iterable
 
     // CONSIDER having a simpler constructor which just sets up the necessary structures, then having a run method which takes a graph and outputs an Iterable.
     public Kruskal(EdgeGraph<V, X> graph) {
-        this.queue = new Queue_Elements<>();
+        this.queue = new Queue_Array<>();
 //        showEdgesInSequence(graph);
         this.pq = createPQ(graph.edges());
         this.uf = createUF(graph.vertices());
@@ -73,15 +73,18 @@ public class Kruskal<V, X extends Comparable<X> & Sequenced> implements Iterable
         return new TypedUF_HWQUPC<>(vertices);
     }
 
-    private PriorityQueue<Edge<V, X>> createPQ(SizedIterable<Edge<V, X>> edges) {
-        PriorityQueue<Edge<V, X>> result = new PriorityQueue<>(edges.size(), false, Comparator.comparing(Edge::getAttribute), false);
-        for (Edge<V, X> e : edges) result.give(e);
-        return result;
+    private DaryHeap<Edge<V, X>> createPQ(SizedIterable<Edge<V, X>> edges) {
+        //noinspection unchecked
+        Edge<V, X>[] keys = (Edge<V, X>[]) new Edge[edges.size()];
+        int i = 0;
+        for (Edge<V, X> e : edges) keys[i++] = e;
+        // NOTE that the heap is built bottom-up in linear time, rather than by giving each edge in turn.
+        return new DaryHeap<>(4, false, Comparator.comparing(Edge::getAttribute), keys);
     }
 
     private void showEdgesInSequence(EdgeGraph<V, X> graph) {
         // TODO remove this debugging code
-        PriorityQueue<Edge<V, X>> tempPQ = createPQ(graph.edges());
+        DaryHeap<Edge<V, X>> tempPQ = createPQ(graph.edges());
         while (!tempPQ.isEmpty()) {
             try {
                 System.out.println(tempPQ.take());
@@ -92,7 +95,7 @@ public class Kruskal<V, X extends Comparable<X> & Sequenced> implements Iterable
     }
 
     private final Queue<Edge<V, X>> queue;
-    private final PriorityQueue<Edge<V, X>> pq;
+    private final DaryHeap<Edge<V, X>> pq;
     private final TypedUF<V> uf;
     private final int size;
     private Iterable<Edge<V, X>> mst;
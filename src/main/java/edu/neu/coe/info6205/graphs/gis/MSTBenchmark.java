@@ -0,0 +1,132 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+import edu.neu.coe.info6205.util.Benchmark;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of {@link MSTEngine} (filter-Kruskal and parallel Borůvka) against {@link Kruskal} on Tunnels-style graphs:
+ * random sites joined wherever they are within 250 meters of each other, with an average degree of about 20.
+ * <p>
+ * Usage: MSTBenchmark [edges [edges ...]] where each (approximate) edge count yields one random graph.
+ * The default edge counts are 20K, 1M and 2M.
+ * Kruskal is only run for the smaller graphs.
+ */
+public class MSTBenchmark {
+
+    public static void main(String[] args) {
+        int[] edgeCounts = args.length > 0 ? new int[args.length] : new int[]{20_000, 1_000_000, 2_000_000};
+        for (int i = 0; i < args.length; i++) edgeCounts[i] = Integer.parseInt(args[i]);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        System.out.println("Degree of parallelism: " + pool.getParallelism());
+        for (int E : edgeCounts) new MSTBenchmark(E, 0L).run(pool, 5);
+    }
+
+    /**
+     * Constructor which generates a random graph.
+     *
+     * @param E    the approximate number of edges.
+     * @param seed the random seed.
+     */
+    public MSTBenchmark(int E, long seed) {
+        Random random = new Random(seed);
+        int n = Math.max(2, 2 * E / DEGREE);
+        // Choose the side of the (square) region such that each site has about DEGREE neighbors within RADIUS.
+        double side = RADIUS * Math.sqrt(n * Math.PI / DEGREE);
+        double latitudeSpan = side / 111_320, longitudeSpan = latitudeSpan / Math.cos(Math.toRadians(42.3));
+        List<GeoPoint> sites = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            sites.add(new GeoAStarBenchmark.Site("" + i, new Position_Spherical(42.3 + latitudeSpan * random.nextDouble(), -71.1 + longitudeSpan * random.nextDouble())));
+        List<int[]> pairs = new ArrayList<>();
+        List<Double> lengths = new ArrayList<>();
+        GeoKdTree<GeoPoint> index = new GeoKdTree<>(sites);
+        Map<GeoPoint, Integer> ids = new HashMap<>();
+        for (GeoPoint site : sites) ids.put(site, ids.size());
+        index.pairsWithin(RADIUS, (p, q) -> {
+            pairs.add(new int[]{ids.get(p), ids.get(q)});
+            // The cost of a tunnel is its length times a cost factor.
+            lengths.add(GeoGraphSpherical.distance(p.getPosition(), q.getPosition()) * (1 + random.nextInt(10)));
+        });
+        int m = pairs.size();
+        this.n = n;
+        source = new int[m];
+        destination = new int[m];
+        weight = new double[m];
+        graph = new Graph_Edges<>();
+        for (int j = 0; j < m; j++) {
+            source[j] = pairs.get(j)[0];
+            destination[j] = pairs.get(j)[1];
+            weight[j] = lengths.get(j);
+            graph.addEdge(new Edge<>(sites.get(source[j]), sites.get(destination[j]), new Cost(weight[j])));
+        }
+    }
+
+    /**
+     * Run each algorithm m times (after warmup) and print the mean times.
+     *
+     * @param pool the pool on which to run Borůvka's algorithm.
+     * @param m    the number of timed runs.
+     */
+    public void run(ForkJoinPool pool, int m) {
+        logger.info("MSTBenchmark: V=" + formatWhole(n) + ", E=" + formatWhole(weight.length));
+        Benchmark<Integer> filterKruskal = new Benchmark_Timer<>("filter-Kruskal", x -> MSTEngine.filterKruskal(n, source, destination, weight));
+        Benchmark<Integer> boruvka = new Benchmark_Timer<>("Borůvka", x -> MSTEngine.boruvka(n, source, destination, weight, pool));
+        Benchmark<Integer> engine = new Benchmark_Timer<>("MSTEngine", x -> new MSTEngine<>(graph, c -> c.cost, MSTEngine.Mode.FILTER_KRUSKAL, pool));
+        String kruskal = "skipped";
+        if (weight.length <= KRUSKAL_LIMIT)
+            kruskal = new Benchmark_Timer<Integer>("Kruskal", x -> new Kruskal<>(graph)).run(0, m) + " mSec";
+        System.out.println("E=" + formatWhole(weight.length) + ": filter-Kruskal " + filterKruskal.run(0, m) + " mSec; Borůvka " +
+                boruvka.run(0, m) + " mSec; MSTEngine (from EdgeGraph) " + engine.run(0, m) + " mSec; Kruskal " + kruskal);
+    }
+
+    /**
+     * The cost of a tunnel.
+     */
+    static class Cost implements Comparable<Cost>, Sequenced {
+        Cost(double cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public int getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public void setSequence(int sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Cost o) {
+            return Double.compare(cost, o.cost);
+        }
+
+        private final double cost;
+        private int sequence;
+    }
+
+    private static final int DEGREE = 20;
+    private static final double RADIUS = 250;
+    private static final int KRUSKAL_LIMIT = 100_000;
+
+    private final int n;
+    private final int[] source;
+    private final int[] destination;
+    private final double[] weight;
+    private final EdgeGraph<GeoPoint, Cost> graph;
+
+    final static LazyLogger logger = new LazyLogger(MSTBenchmark.class);
+}
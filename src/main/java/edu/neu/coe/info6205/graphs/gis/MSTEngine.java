@@ -0,0 +1,386 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Minimum spanning tree (forest) engine for large edge-weighted graphs, an alternative to {@link Kruskal}.
+ * <p>
+ * The edges are held as primitive arrays (source, destination, weight) and the union-find structure is a pair of int arrays,
+ * so that there is no boxing and no comparator call in the inner loops.
+ * Two algorithms are provided (see {@link Mode}):
+ * <dl>
+ * <dt>FILTER_KRUSKAL</dt><dd>Kruskal's algorithm in which the edges are partitioned (as in quicksort) around a pivot:
+ * the lighter edges are processed first; then any heavier edge whose ends have become connected is discarded
+ * before the heavier edges are partitioned in their turn.
+ * Most heavy edges of a dense graph are therefore never sorted at all (Osipov, Sanders and Singler, 2009).</dd>
+ * <dt>BORUVKA</dt><dd>Borůvka's algorithm, in which each round finds (in parallel) the lightest edge leaving each component,
+ * joins the components by those edges, and discards (again in parallel) the edges which now lie within a component.
+ * There are at most log V rounds.</dd>
+ * </dl>
+ * Ties between equal weights are broken by the order in which graph.edges() yields the edges, so that each mode yields the same
+ * spanning tree; where all weights are distinct, that is also the tree found by Kruskal.
+ * {@link #getMST()} behaves exactly as {@link Kruskal#getMST()}: the edges are in order of weight and are sequenced accordingly.
+ *
+ * @param <V> the vertex type.
+ * @param <X> the edge attribute type.
+ */
+public class MSTEngine<V, X extends Comparable<X> & Sequenced> implements Iterable<Edge<V, X>> {
+
+    /**
+     * The algorithm to be used.
+     */
+    public enum Mode {FILTER_KRUSKAL, BORUVKA}
+
+    /**
+     * Constructor.
+     *
+     * @param graph  the graph.
+     * @param weight a function which yields the weight of an attribute, consistent with the attribute's natural order.
+     * @param mode   the algorithm.
+     * @param pool   the pool on which BORUVKA runs its parallel steps.
+     */
+    public MSTEngine(EdgeGraph<V, X> graph, ToDoubleFunction<X> weight, Mode mode, ForkJoinPool pool) {
+        Map<V, Integer> indices = new HashMap<>();
+        for (V v : graph.vertices()) indices.put(v, indices.size());
+        int n = indices.size(), m = graph.edges().size();
+        //noinspection unchecked
+        Edge<V, X>[] all = (Edge<V, X>[]) new Edge[m];
+        int[] source = new int[m], destination = new int[m];
+        double[] weights = new double[m];
+        int j = 0;
+        for (Edge<V, X> e : graph.edges()) {
+            V v = e.get();
+            all[j] = e;
+            source[j] = indices.get(v);
+            destination[j] = indices.get(e.getOther(v));
+            weights[j++] = weight.applyAsDouble(e.getAttribute());
+        }
+        int[] selected = mode == Mode.BORUVKA ? boruvka(n, source, destination, weights, pool) : filterKruskal(n, source, destination, weights);
+        mst = new ArrayList<>();
+        for (int k : selected) mst.add(all[k]);
+    }
+
+    /**
+     * Constructor which uses the common pool.
+     *
+     * @param graph  the graph.
+     * @param weight a function which yields the weight of an attribute, consistent with the attribute's natural order.
+     * @param mode   the algorithm.
+     */
+    public MSTEngine(EdgeGraph<V, X> graph, ToDoubleFunction<X> weight, Mode mode) {
+        this(graph, weight, mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to get the minimum spanning tree as an EdgeGraph.
+     * NOTE: as with Kruskal, the sequence of each edge's attribute is set as a side effect.
+     *
+     * @return the MST.
+     */
+    public EdgeGraph<V, X> getMST() {
+        int sequence = 0;
+        EdgeGraph<V, X> result = new Graph_Edges<>();
+        for (Edge<V, X> edge : mst) {
+            edge.getAttribute().setSequence(sequence++);
+            result.addEdge(edge);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<Edge<V, X>> iterator() {
+        return new ArrayList<>(mst).iterator();
+    }
+
+    /**
+     * Find a minimum spanning forest by filter-Kruskal.
+     *
+     * @param n           the number of vertices (numbered 0 through n-1).
+     * @param source      the source of each edge.
+     * @param destination the destination of each edge.
+     * @param weight      the weight of each edge.
+     * @return the indices of the edges of the forest, in order of weight.
+     */
+    public static int[] filterKruskal(int n, int[] source, int[] destination, double[] weight) {
+        int m = weight.length;
+        int[] edges = new int[m];
+        for (int j = 0; j < m; j++) edges[j] = j;
+        Forest forest = new Forest(n, source, destination, weight);
+        forest.filterKruskal(edges, 0, m);
+        return Arrays.copyOf(forest.selected, forest.count);
+    }
+
+    /**
+     * Find a minimum spanning forest by Borůvka's algorithm.
+     *
+     * @param n           the number of vertices (numbered 0 through n-1).
+     * @param source      the source of each edge.
+     * @param destination the destination of each edge.
+     * @param weight      the weight of each edge.
+     * @param pool        the pool on which to run the parallel steps.
+     * @return the indices of the edges of the forest, in order of weight.
+     */
+    public static int[] boruvka(int n, int[] source, int[] destination, double[] weight, ForkJoinPool pool) {
+        int m = weight.length;
+        int[] edges = new int[m];
+        for (int j = 0; j < m; j++) edges[j] = j;
+        Forest forest = new Forest(n, source, destination, weight);
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++) component[v] = v;
+        AtomicIntegerArray lightest = new AtomicIntegerArray(n);
+        int live = m;
+        while (live > 0 && forest.count < n - 1) {
+            for (int v = 0; v < n; v++) lightest.set(v, -1);
+            // Find the lightest edge leaving each component, compacting the live edges within each chunk as we go.
+            int chunks = Math.max(1, Math.min(live / Math.max(cutoff, 1), 4 * pool.getParallelism()));
+            int[] kept = new int[chunks];
+            pool.invoke(new Scan(forest, edges, live, chunks, component, lightest, kept));
+            int next = 0;
+            for (int c = 0; c < chunks; c++) {
+                int from = (int) ((long) live * c / chunks);
+                System.arraycopy(edges, from, edges, next, kept[c]);
+                next += kept[c];
+            }
+            live = next;
+            // Join the components (sequentially: there are at most n of them).
+            boolean joined = false;
+            for (int v = 0; v < n; v++) {
+                int e = lightest.get(v);
+                if (e >= 0 && forest.union(source[e], destination[e])) {
+                    forest.selected[forest.count++] = e;
+                    joined = true;
+                }
+            }
+            if (!joined) break;
+            pool.invoke(new Relabel(forest, component, 0, n));
+        }
+        int[] result = Arrays.copyOf(forest.selected, forest.count);
+        forest.sort(result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * The threshold (in edges) below which tasks are not split further, and below which filter-Kruskal simply sorts.
+     */
+    public static int cutoff = 4096;
+
+    /**
+     * The union-find structure (weighted quick union with path halving) along with the edges of the forest so far.
+     */
+    private static class Forest {
+        Forest(int n, int[] source, int[] destination, double[] weight) {
+            this.source = source;
+            this.destination = destination;
+            this.weight = weight;
+            parent = new int[n];
+            size = new int[n];
+            for (int v = 0; v < n; v++) {
+                parent[v] = v;
+                size[v] = 1;
+            }
+            selected = new int[Math.max(0, n - 1)];
+        }
+
+        /**
+         * Find the root of v, halving the path as we go.
+         */
+        int find(int v) {
+            while (parent[v] != v) {
+                parent[v] = parent[parent[v]];
+                v = parent[v];
+            }
+            return v;
+        }
+
+        /**
+         * Find the root of v without changing anything (safe to call concurrently).
+         */
+        int root(int v) {
+            while (parent[v] != v) v = parent[v];
+            return v;
+        }
+
+        boolean union(int v, int w) {
+            int i = find(v), j = find(w);
+            if (i == j) return false;
+            if (size[i] < size[j]) {
+                parent[i] = j;
+                size[j] += size[i];
+            } else {
+                parent[j] = i;
+                size[i] += size[j];
+            }
+            return true;
+        }
+
+        /**
+         * Edge e precedes edge f if it is lighter or, if they weigh the same, if it comes first.
+         */
+        boolean less(int e, int f) {
+            return weight[e] < weight[f] || weight[e] == weight[f] && e < f;
+        }
+
+        void filterKruskal(int[] edges, int lo, int hi) {
+            if (count == selected.length) return;
+            if (hi - lo <= Math.max(cutoff, 16)) {
+                sort(edges, lo, hi);
+                for (int k = lo; k < hi && count < selected.length; k++) {
+                    int e = edges[k];
+                    if (union(source[e], destination[e])) selected[count++] = e;
+                }
+                return;
+            }
+            int p = partition(edges, lo, hi);
+            filterKruskal(edges, lo, p);
+            // Discard the heavy edges which now lie within a component.
+            int k = p;
+            for (int i = p; i < hi; i++) {
+                int e = edges[i];
+                if (find(source[e]) != find(destination[e])) edges[k++] = e;
+            }
+            filterKruskal(edges, p, k);
+        }
+
+        /**
+         * Partition edges[lo..hi) about the median of three such that edges[lo..p) precede edges[p..hi).
+         * Since no two edges are equal (under less) and the pivot is neither the first nor the last, neither part is empty
+         * provided that there are at least three edges.
+         */
+        int partition(int[] edges, int lo, int hi) {
+            int a = edges[lo], b = edges[(lo + hi) >>> 1], c = edges[hi - 1];
+            int pivot = less(a, b) ? (less(b, c) ? b : less(a, c) ? c : a) : (less(a, c) ? a : less(b, c) ? c : b);
+            int i = lo, j = hi - 1;
+            while (true) {
+                while (less(edges[i], pivot)) i++;
+                while (less(pivot, edges[j])) j--;
+                if (i >= j) return j + 1;
+                swap(edges, i++, j--);
+            }
+        }
+
+        void sort(int[] edges, int lo, int hi) {
+            while (hi - lo > 16) {
+                int p = partition(edges, lo, hi);
+                if (p - lo < hi - p) {
+                    sort(edges, lo, p);
+                    lo = p;
+                } else {
+                    sort(edges, p, hi);
+                    hi = p;
+                }
+            }
+            for (int i = lo + 1; i < hi; i++)
+                for (int j = i; j > lo && less(edges[j], edges[j - 1]); j--) swap(edges, j, j - 1);
+        }
+
+        private static void swap(int[] xs, int i, int j) {
+            int x = xs[i];
+            xs[i] = xs[j];
+            xs[j] = x;
+        }
+
+        final int[] source;
+        final int[] destination;
+        final double[] weight;
+        final int[] parent;
+        final int[] size;
+        final int[] selected;
+        int count = 0;
+    }
+
+    /**
+     * One Borůvka scan of the live edges, split into chunks.
+     * Each chunk discards its edges which lie within a component, and offers the others as the lightest edge leaving each end.
+     */
+    private static class Scan extends RecursiveAction {
+        Scan(Forest forest, int[] edges, int live, int chunks, int[] component, AtomicIntegerArray lightest, int[] kept) {
+            this(forest, edges, live, chunks, component, lightest, kept, 0, chunks);
+        }
+
+        private Scan(Forest forest, int[] edges, int live, int chunks, int[] component, AtomicIntegerArray lightest, int[] kept, int from, int to) {
+            this.forest = forest;
+            this.edges = edges;
+            this.live = live;
+            this.chunks = chunks;
+            this.component = component;
+            this.lightest = lightest;
+            this.kept = kept;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Scan(forest, edges, live, chunks, component, lightest, kept, from, mid),
+                        new Scan(forest, edges, live, chunks, component, lightest, kept, mid, to));
+                return;
+            }
+            int lo = (int) ((long) live * from / chunks), hi = (int) ((long) live * (from + 1) / chunks);
+            int k = lo;
+            for (int i = lo; i < hi; i++) {
+                int e = edges[i];
+                int cv = component[forest.source[e]], cw = component[forest.destination[e]];
+                if (cv == cw) continue;
+                edges[k++] = e;
+                offer(cv, e);
+                offer(cw, e);
+            }
+            kept[from] = k - lo;
+        }
+
+        private void offer(int c, int e) {
+            while (true) {
+                int f = lightest.get(c);
+                if (f >= 0 && !forest.less(e, f)) return;
+                if (lightest.compareAndSet(c, f, e)) return;
+            }
+        }
+
+        private final Forest forest;
+        private final int[] edges;
+        private final int live;
+        private final int chunks;
+        private final int[] component;
+        private final AtomicIntegerArray lightest;
+        private final int[] kept;
+        private final int from;
+        private final int to;
+    }
+
+    /**
+     * Set the component of each vertex in [from, to) to the root of its tree.
+     */
+    private static class Relabel extends RecursiveAction {
+        Relabel(Forest forest, int[] component, int from, int to) {
+            this.forest = forest;
+            this.component = component;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > cutoff) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Relabel(forest, component, from, mid), new Relabel(forest, component, mid, to));
+            } else for (int v = from; v < to; v++) component[v] = forest.root(v);
+        }
+
+        private final Forest forest;
+        private final int[] component;
+        private final int from;
+        private final int to;
+    }
+
+    private final List<Edge<V, X>> mst;
+}
@@ -0,0 +1,73 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.Edge;
+
+import java.util.List;
+
+/**
+ * The result of a point-to-point shortest-path query.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class Route<V, E> {
+
+    public Route(V source, V target, double cost, List<Edge<V, E>> path, int settled) {
+        this.source = source;
+        this.target = target;
+        this.cost = cost;
+        this.path = path;
+        this.settled = settled;
+    }
+
+    public V getSource() {
+        return source;
+    }
+
+    public V getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the cost of the shortest path (positive infinity if there is no path).
+     */
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * @return true if there is a path from source to target.
+     */
+    public boolean isFound() {
+        return cost < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return the edges of the shortest path, in order from source to target.
+     */
+    public List<Edge<V, E>> getPath() {
+        return path;
+    }
+
+    /**
+     * @return the number of vertices settled by the search (by both frontiers in the case of a bidirectional search).
+     */
+    public int getSettled() {
+        return settled;
+    }
+
+    @Override
+    public String toString() {
+        return "Route{" + source + "->" + target +
+                ": cost=" + cost +
+                ", edges=" + path.size() +
+                ", settled=" + settled +
+                '}';
+    }
+
+    private final V source;
+    private final V target;
+    private final double cost;
+    private final List<Edge<V, E>> path;
+    private final int settled;
+}
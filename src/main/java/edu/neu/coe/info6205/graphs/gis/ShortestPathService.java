@@ -0,0 +1,294 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A query service for shortest paths over one static {@link DiGraph} with non-negative edge weights.
+ * <p>
+ * Single-source queries yield a {@link ShortestPathTree}, which is cached per source.
+ * The cache is a least-recently-used cache bounded by the total (estimated) footprint of its trees.
+ * Many sources may be queried at once: trees are computed concurrently on the service's thread pool,
+ * and concurrent requests for the same source share one computation.
+ * <p>
+ * Point-to-point queries ({@link #route}) use bidirectional A* search. If landmarks have been precomputed
+ * (see {@link #precomputeLandmarks}), the ALT lower bounds derived from them guide the search,
+ * so that it typically settles only a small fraction of the vertices.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class ShortestPathService<V, E extends Number> implements AutoCloseable {
+
+    /**
+     * Constructor.
+     *
+     * @param graph    the graph (which must not change while this service is in use).
+     * @param maxBytes the maximum total footprint of the cached trees.
+     * @param threads  the number of threads on which to compute trees.
+     */
+    public ShortestPathService(DiGraph<V, E> graph, long maxBytes, int threads) {
+        this.graph = new IndexedDiGraph<>(graph);
+        this.maxBytes = maxBytes;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.searches = ThreadLocal.withInitial(() -> new BidirectionalSearch<>(this.graph));
+    }
+
+    /**
+     * Constructor with one thread per available processor.
+     *
+     * @param graph    the graph (which must not change while this service is in use).
+     * @param maxBytes the maximum total footprint of the cached trees.
+     */
+    public ShortestPathService(DiGraph<V, E> graph, long maxBytes) {
+        this(graph, maxBytes, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @return the indexed form of the graph.
+     */
+    public IndexedDiGraph<V, E> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Get the shortest-path tree for the given source, from the cache if possible.
+     *
+     * @param source the source vertex.
+     * @return the tree.
+     */
+    public ShortestPathTree<V, E> shortestPaths(V source) {
+        return getOrCompute(source).join();
+    }
+
+    /**
+     * Get the shortest-path tree for the given source asynchronously.
+     *
+     * @param source the source vertex.
+     * @return a future of the tree.
+     */
+    public CompletableFuture<ShortestPathTree<V, E>> shortestPathsAsync(V source) {
+        return getOrCompute(source);
+    }
+
+    /**
+     * Get the shortest-path trees for all of the given sources, computing them concurrently.
+     *
+     * @param sources the source vertices.
+     * @return a map of source to tree.
+     */
+    public Map<V, ShortestPathTree<V, E>> shortestPaths(Collection<V> sources) {
+        Map<V, CompletableFuture<ShortestPathTree<V, E>>> futures = new LinkedHashMap<>();
+        for (V source : sources) futures.put(source, getOrCompute(source));
+        Map<V, ShortestPathTree<V, E>> result = new LinkedHashMap<>();
+        for (Map.Entry<V, CompletableFuture<ShortestPathTree<V, E>>> entry : futures.entrySet())
+            result.put(entry.getKey(), entry.getValue().join());
+        return result;
+    }
+
+    /**
+     * Choose k landmarks (each as far as possible from those already chosen) and compute the
+     * costs from and to each of them, for use as ALT lower bounds in {@link #route}.
+     *
+     * @param k the number of landmarks.
+     */
+    public void precomputeLandmarks(int k) {
+        int n = graph.V();
+        k = Math.min(k, n);
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        int[] chosen = new int[k];
+        List<ShortestPathTree<V, E>> from = new ArrayList<>();
+        List<CompletableFuture<ShortestPathTree<V, E>>> to = new ArrayList<>();
+        int landmark = 0;
+        for (int i = 0; i < k; i++) {
+            chosen[i] = landmark;
+            final int l = landmark;
+            to.add(CompletableFuture.supplyAsync(() -> ShortestPathTree.build(graph, l, true), executor));
+            ShortestPathTree<V, E> tree = ShortestPathTree.build(graph, landmark, false);
+            from.add(tree);
+            double farthest = -1;
+            for (int v = 0; v < n; v++) {
+                double c = tree.cost(v);
+                if (c < nearest[v]) nearest[v] = c;
+                // Prefer vertices unreachable from all landmarks so far, then the farthest reachable one.
+                double score = nearest[v] == Double.POSITIVE_INFINITY ? Double.MAX_VALUE : nearest[v];
+                if (score > farthest) {
+                    farthest = score;
+                    landmark = v;
+                }
+            }
+        }
+        double[][] fromLandmarks = new double[k][n];
+        double[][] toLandmarks = new double[k][n];
+        for (int i = 0; i < k; i++)
+            for (int v = 0; v < n; v++) {
+                fromLandmarks[i][v] = from.get(i).cost(v);
+                toLandmarks[i][v] = to.get(i).join().cost(v);
+            }
+        this.landmarks = new Landmarks(chosen, fromLandmarks, toLandmarks);
+        logger.info("precomputeLandmarks: " + k + " landmarks");
+    }
+
+    /**
+     * @return the vertices chosen as landmarks (empty if landmarks have not been precomputed).
+     */
+    public List<V> getLandmarks() {
+        List<V> result = new ArrayList<>();
+        for (int l : landmarks.ids) result.add(graph.vertex(l));
+        return result;
+    }
+
+    /**
+     * Find a shortest path from source to target by bidirectional A* (with landmarks, if precomputed).
+     * This may be called from many threads at once.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return the Route.
+     */
+    public Route<V, E> route(V source, V target) {
+        int s = graph.index(source), t = graph.index(target);
+        // Read the landmarks once, so that both bounds come from the same set, even if they are being precomputed again.
+        Landmarks current = landmarks;
+        IntToDoubleFunction toTarget = v -> lowerBound(current, v, t);
+        IntToDoubleFunction fromSource = v -> lowerBound(current, s, v);
+        return searches.get().search(source, target, toTarget, fromSource);
+    }
+
+    /**
+     * Find a shortest path from source to target asynchronously on the thread pool.
+     *
+     * @param source the source vertex.
+     * @param target the target vertex.
+     * @return a future of the Route.
+     */
+    public CompletableFuture<Route<V, E>> routeAsync(V source, V target) {
+        return CompletableFuture.supplyAsync(() -> route(source, target), executor);
+    }
+
+    /**
+     * @return the number of trees currently cached.
+     */
+    public synchronized int cached() {
+        return cache.size();
+    }
+
+    /**
+     * @return the total footprint of the trees currently cached.
+     */
+    public synchronized long cachedBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of tree requests satisfied by the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of trees computed.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Get an ALT lower bound on the cost from u to v: by the triangle inequality,
+     * d(u,v) >= d(L,v) - d(L,u) and d(u,v) >= d(u,L) - d(v,L) for every landmark L.
+     * The bound is infinite if the landmark costs show that there is no path from u to v.
+     */
+    private static double lowerBound(Landmarks landmarks, int u, int v) {
+        double[][] from = landmarks.from, to = landmarks.to;
+        double result = 0;
+        for (int i = 0; i < from.length; i++) {
+            double lu = from[i][u], lv = from[i][v], ul = to[i][u], vl = to[i][v];
+            if (lu < Double.POSITIVE_INFINITY && lv == Double.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY;
+            if (vl < Double.POSITIVE_INFINITY && ul == Double.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY;
+            if (lu < Double.POSITIVE_INFINITY) result = Math.max(result, lv - lu);
+            if (vl < Double.POSITIVE_INFINITY) result = Math.max(result, ul - vl);
+        }
+        return result;
+    }
+
+    private CompletableFuture<ShortestPathTree<V, E>> getOrCompute(V source) {
+        ShortestPathTree<V, E> tree = lookup(source);
+        if (tree != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(tree);
+        }
+        int s = graph.index(source);
+        CompletableFuture<ShortestPathTree<V, E>> future = pending.computeIfAbsent(source, k -> CompletableFuture.supplyAsync(() -> {
+            misses.incrementAndGet();
+            ShortestPathTree<V, E> result = build(s);
+            store(source, result);
+            return result;
+        }, executor));
+        // Whether the build succeeds or fails, it is no longer pending (so that a failed build can be retried).
+        // The caller's future completes only after the removal.
+        return future.whenComplete((result, exception) -> pending.remove(source, future));
+    }
+
+    /**
+     * Build the shortest-path tree for the source with the given index.
+     */
+    ShortestPathTree<V, E> build(int source) {
+        return ShortestPathTree.build(graph, source, false);
+    }
+
+    private synchronized ShortestPathTree<V, E> lookup(V source) {
+        return cache.get(source);
+    }
+
+    private synchronized void store(V source, ShortestPathTree<V, E> tree) {
+        if (tree.footprint() > maxBytes || cache.containsKey(source)) return;
+        cache.put(source, tree);
+        bytes += tree.footprint();
+        Iterator<ShortestPathTree<V, E>> iterator = cache.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().footprint();
+            iterator.remove();
+        }
+    }
+
+    private final IndexedDiGraph<V, E> graph;
+    private final long maxBytes;
+    private final ExecutorService executor;
+    private final ThreadLocal<BidirectionalSearch<V, E>> searches;
+    private final LinkedHashMap<V, ShortestPathTree<V, E>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<V, CompletableFuture<ShortestPathTree<V, E>>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long bytes = 0;
+    private volatile Landmarks landmarks = new Landmarks(new int[0], new double[0][], new double[0][]);
+
+    /**
+     * An immutable set of landmarks, with the costs from and to each of them
+     * (published as a whole, so that a route never mixes two sets).
+     */
+    private static final class Landmarks {
+        Landmarks(int[] ids, double[][] from, double[][] to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        private final int[] ids;
+        private final double[][] from;
+        private final double[][] to;
+    }
+
+    final static LazyLogger logger = new LazyLogger(ShortestPathService.class);
+}
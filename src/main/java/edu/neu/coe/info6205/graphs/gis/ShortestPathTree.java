@@ -0,0 +1,145 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.Edge;
+
+import java.util.Arrays;
+import java.util.Stack;
+
+/**
+ * A compact shortest-path tree over an {@link IndexedDiGraph}.
+ * <p>
+ * This offers the same queries as {@link ShortestPaths} ({@link #cost}, {@link #hasPathTo} and {@link #pathTo})
+ * but holds its table in two primitive arrays, which makes it cheap enough to cache (see {@link ShortestPathService}).
+ * A reverse tree holds, for each vertex v, the cost of the shortest path from v to the root.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge attribute (weight) type.
+ */
+public class ShortestPathTree<V, E extends Number> {
+
+    /**
+     * Method to run Dijkstra's algorithm from (or, if reverse, to) root.
+     *
+     * @param graph   the graph.
+     * @param root    the index of the root vertex.
+     * @param reverse if true, the tree is built over the reversed edges.
+     * @param <V>     the vertex type.
+     * @param <E>     the edge attribute type.
+     * @return a new ShortestPathTree.
+     */
+    static <V, E extends Number> ShortestPathTree<V, E> build(IndexedDiGraph<V, E> graph, int root, boolean reverse) {
+        double[] cost = new double[graph.V()];
+        int[] edgeTo = new int[graph.V()];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        Arrays.fill(edgeTo, -1);
+        boolean[] settled = new boolean[graph.V()];
+        int count = 0;
+        VertexHeap heap = new VertexHeap();
+        cost[root] = 0;
+        heap.add(0, root);
+        while (!heap.isEmpty()) {
+            int v = heap.take();
+            if (settled[v]) continue;
+            settled[v] = true;
+            count++;
+            if (reverse)
+                for (int i = graph.inStart[v]; i < graph.inStart[v + 1]; i++)
+                    relax(graph.inSource[i], cost[v] + graph.outWeight[graph.inEdge[i]], graph.inEdge[i], cost, edgeTo, heap);
+            else
+                for (int j = graph.outStart[v]; j < graph.outStart[v + 1]; j++)
+                    relax(graph.outTarget[j], cost[v] + graph.outWeight[j], j, cost, edgeTo, heap);
+        }
+        return new ShortestPathTree<>(graph, root, reverse, cost, edgeTo, count);
+    }
+
+    /**
+     * @return the root vertex.
+     */
+    public V getRoot() {
+        return graph.vertex(root);
+    }
+
+    /**
+     * @param v a vertex.
+     * @return the cost of the shortest path from the root to v (positive infinity if there is none).
+     */
+    public double cost(V v) {
+        return graph.contains(v) ? cost[graph.index(v)] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @param v a vertex.
+     * @return true if there is a path from the root to v.
+     */
+    public boolean hasPathTo(V v) {
+        return cost(v) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Get the shortest path to the given target (for a reverse tree, the path from the target to the root).
+     *
+     * @param target the target vertex.
+     * @return the edges of the path, pushed from the target end (empty if there is no path).
+     */
+    public Iterable<Edge<V, E>> pathTo(V target) {
+        Stack<Edge<V, E>> edges = new Stack<>();
+        if (hasPathTo(target))
+            for (int v = graph.index(target); edgeTo[v] >= 0; ) {
+                int j = edgeTo[v];
+                edges.push(graph.edge(j));
+                v = reverse ? graph.outTarget[j] : graph.outSource[j];
+            }
+        return edges;
+    }
+
+    /**
+     * @return the number of vertices settled while building this tree.
+     */
+    public int getSettled() {
+        return settled;
+    }
+
+    /**
+     * @return an estimate of the number of bytes of heap used by this tree.
+     */
+    public long footprint() {
+        return 64L + 12L * cost.length;
+    }
+
+    /**
+     * @param i the index of a vertex.
+     * @return the cost of the shortest path between the root and that vertex.
+     */
+    double cost(int i) {
+        return cost[i];
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPathTree{root=" + getRoot() + ", settled=" + settled + (reverse ? ", reverse" : "") + '}';
+    }
+
+    private static void relax(int w, double c, int j, double[] cost, int[] edgeTo, VertexHeap heap) {
+        if (c < cost[w]) {
+            cost[w] = c;
+            edgeTo[w] = j;
+            heap.add(c, w);
+        }
+    }
+
+    private ShortestPathTree(IndexedDiGraph<V, E> graph, int root, boolean reverse, double[] cost, int[] edgeTo, int settled) {
+        this.graph = graph;
+        this.root = root;
+        this.reverse = reverse;
+        this.cost = cost;
+        this.edgeTo = edgeTo;
+        this.settled = settled;
+    }
+
+    private final IndexedDiGraph<V, E> graph;
+    private final int root;
+    private final boolean reverse;
+    private final double[] cost;
+    private final int[] edgeTo;
+    private final int settled;
+}
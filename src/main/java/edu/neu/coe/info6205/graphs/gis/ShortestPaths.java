@@ -25,7 +25,7 @@ public class ShortestPaths<V, E extends Number> {
         Stack<Edge<V, E>> edges = new Stack<>();
         if (hasPathTo(target)) {
             V v = target;
-            for(Vertex vertex = table.get(v); vertex.edgeTo!=null; ) {
+            for(Vertex vertex = table.get(v); vertex.edgeTo!=null; vertex = table.get(v)) {
                 Edge<V, E> edgeTo = vertex.edgeTo;
                 if (edgeTo.getTo()!=v) throw new RuntimeException("assertion error");
                 edges.push(edgeTo);
@@ -35,6 +35,13 @@ public class ShortestPaths<V, E extends Number> {
         return edges;
     }
 
+    /**
+     * @return the number of vertices taken from the priority queue (i.e. settled) by Dijkstra's algorithm.
+     */
+    public int getSettled() {
+        return settled;
+    }
+
     @Override
     public String toString() {
         return "ShortestPaths{" +
@@ -44,23 +51,28 @@ public class ShortestPaths<V, E extends Number> {
 
     private Map<V, Vertex> dijkstra() {
         Map<V, Vertex> result = new HashMap<>();
-        PriorityQueue<V> pq = new PriorityQueue<>();
-        pq.offer(start);
-        result.put(start, new Vertex(start, 0, null));
-        while(!pq.isEmpty()) relax(graph, pq.poll(), result, pq);
+        PriorityQueue<Vertex> pq = new PriorityQueue<>();
+        Vertex vertexStart = new Vertex(start, 0, null);
+        pq.offer(vertexStart);
+        result.put(start, vertexStart);
+        while(!pq.isEmpty()) {
+            settled++;
+            relax(graph, pq.poll().vertex, result, pq);
+        }
         return result;
     }
 
-    private void relax(DiGraph<V, E> graph, V vertex, Map<V, Vertex> table, PriorityQueue<V> pq) {
+    private void relax(DiGraph<V, E> graph, V vertex, Map<V, Vertex> table, PriorityQueue<Vertex> pq) {
         for (Edge<V, E> e : graph.adjacent(vertex)) {
             V w = e.getTo();
             Vertex vertexW = table.getOrDefault(w, new Vertex(w));
             table.put(w, vertexW);
             double relaxedCost = table.get(e.getFrom()).cost + e.getAttributes().doubleValue();
             if (vertexW.cost > relaxedCost) {
+                // NOTE: the vertex must be removed before its cost (i.e. its priority) changes.
+                pq.remove(vertexW);
                 vertexW.relax(relaxedCost, e);
-                if (pq.contains(w)) pq.remove(w);
-                pq.offer(w);
+                pq.offer(vertexW);
             }
         }
     }
@@ -68,6 +80,7 @@ public class ShortestPaths<V, E extends Number> {
     private final DiGraph<V, E> graph;
     private final V start;
     private final Map<V, Vertex> table;
+    private int settled = 0;
 
     class Vertex implements Comparable<Vertex> {
         @Override
@@ -0,0 +1,72 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of (key, vertex) pairs held in primitive arrays.
+ * <p>
+ * There is no decrease-key operation: when a vertex's key improves, the vertex is simply added again
+ * and the caller ignores the stale entry when it is eventually taken (lazy deletion).
+ */
+class VertexHeap {
+
+    void add(double key, int vertex) {
+        if (n == keys.length) {
+            keys = Arrays.copyOf(keys, 2 * n);
+            vertices = Arrays.copyOf(vertices, 2 * n);
+        }
+        int k = n++;
+        while (k > 0) {
+            int parent = (k - 1) / 2;
+            if (keys[parent] <= key) break;
+            keys[k] = keys[parent];
+            vertices[k] = vertices[parent];
+            k = parent;
+        }
+        keys[k] = key;
+        vertices[k] = vertex;
+    }
+
+    /**
+     * @return the key of the minimum entry (positive infinity if empty).
+     */
+    double minKey() {
+        return n == 0 ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    /**
+     * Remove the minimum entry (which must exist).
+     *
+     * @return the vertex of the minimum entry.
+     */
+    int take() {
+        int result = vertices[0];
+        n--;
+        double key = keys[n];
+        int vertex = vertices[n];
+        int k = 0;
+        while (2 * k + 1 < n) {
+            int child = 2 * k + 1;
+            if (child + 1 < n && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            keys[k] = keys[child];
+            vertices[k] = vertices[child];
+            k = child;
+        }
+        keys[k] = key;
+        vertices[k] = vertex;
+        return result;
+    }
+
+    boolean isEmpty() {
+        return n == 0;
+    }
+
+    void clear() {
+        n = 0;
+    }
+
+    private double[] keys = new double[16];
+    private int[] vertices = new int[16];
+    private int n = 0;
+}
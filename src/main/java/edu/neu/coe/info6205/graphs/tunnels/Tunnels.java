@@ -37,8 +37,8 @@ public class Tunnels implements Iterable<Edge<Building, TunnelProperties>> {
     public Tunnels(List<Building> buildings) {
         setupZones();
         setupTunnels();
-        // We arbitrarily limit the the length of any tunnel to 250m
-        kruskal = new GeoKruskal<>(createGraph(buildings, e -> e.getAttribute().length <= 250));
+        // We arbitrarily limit the the length of any tunnel to MAX_LENGTH
+        kruskal = new GeoKruskal<>(createGraph(buildings, e -> e.getAttribute().length <= MAX_LENGTH));
     }
 
     public Graph<Building, Edge<Building, TunnelProperties>> getMst() {
@@ -62,8 +62,12 @@ public class Tunnels implements Iterable<Edge<Building, TunnelProperties>> {
     private final Kruskal<Building, TunnelProperties> kruskal;
 
     /**
-     * Create a graph consisting of all possible edges connection the buildings.
-     * The resulting graph should contain N(N-1)/2 edges where N is length of the list buildings.
+     * Create a graph consisting of all possible edges connection the buildings which satisfy the predicate.
+     * <p>
+     * Rather than consider all N(N-1)/2 pairs of buildings (where N is length of the list buildings),
+     * we use a GeoKdTree to find the pairs of buildings which are close enough to be joined by a tunnel of
+     * (rounded) length up to MAX_LENGTH.
+     * The predicate is then applied to each such candidate edge, exactly as before.
      *
      * @param buildings a list of Buildings.
      * @param predicate the predicate: only edges satisfying this predicate will be added to the graph.
@@ -71,15 +75,12 @@ public class Tunnels implements Iterable<Edge<Building, TunnelProperties>> {
      */
     private static EdgeGraph<Building, TunnelProperties> createGraph(List<Building> buildings, Predicate<Edge<Building, TunnelProperties>> predicate) {
         GeoGraphSpherical<Building, TunnelProperties> graph = new GeoGraphSpherical<>();
-        int len = buildings.size();
-        for (int i = 0; i < len; i++) {
-            Building b1 = buildings.get(i);
-            for (int j = i + 1; j < len; j++) {
-                Building b2 = buildings.get(j);
-                double length = graph.getDistance(b1, b2);
-                graph.addEdge(b1, b2, getTunnelProperties(b1, b2, length), predicate);
-            }
-        }
+        GeoKdTree<Building> index = new GeoKdTree<>(buildings);
+        // NOTE that a tunnel length is rounded to the nearest meter.
+        index.pairsWithin(MAX_LENGTH + 0.5, (b1, b2) -> {
+            double length = graph.getDistance(b1, b2);
+            graph.addEdge(b1, b2, getTunnelProperties(b1, b2, length), predicate);
+        });
         SizedIterable<Edge<Building, TunnelProperties>> edges = graph.edges();
         System.out.println("created " + edges.size() + " edges");
         return graph;
@@ -225,6 +226,11 @@ public class Tunnels implements Iterable<Edge<Building, TunnelProperties>> {
         }
     }
 
+    /**
+     * The maximum length of any tunnel (in meters).
+     */
+    public static final int MAX_LENGTH = 250;
+
     private static final ArrayList<ExistingTunnel> tunnels = new ArrayList<>();
     private static final ArrayList<String> zones = new ArrayList<>();
 }
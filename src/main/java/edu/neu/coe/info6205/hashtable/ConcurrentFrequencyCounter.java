@@ -0,0 +1,230 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * A FrequencyCounter which may be updated and queried by many threads at once.
+ * <p>
+ * The counts are striped (by hash) over a number of shards, each of which is an {@link ObjectIntMap} guarded by its own lock,
+ * so that threads contend only when they touch the same shard at the same time (there is no global lock).
+ * The total is a LongAdder.
+ * <p>
+ * There are two ways to count:
+ * <ul>
+ * <li>increment, which updates the key's shard directly (suitable for occasional updates from many threads);</li>
+ * <li>ingest, which counts a (parallel) stream: each thread accumulates into its own local map, without any locking,
+ * and only the (much smaller) local maps are merged into the shards, once per distinct key.</li>
+ * </ul>
+ *
+ * @param <Key> the key type.
+ */
+public class ConcurrentFrequencyCounter<Key> implements ImmutableSymbolTable<Key, Integer> {
+
+    /**
+     * Constructor.
+     *
+     * @param shards the number of shards (rounded up to a power of two).
+     */
+    public ConcurrentFrequencyCounter(int shards) {
+        int n = shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+        shift = 32 - Integer.numberOfTrailingZeros(n);
+        //noinspection unchecked
+        maps = (ObjectIntMap<Key>[]) new ObjectIntMap[n];
+        locks = new ReentrantLock[n];
+        for (int i = 0; i < n; i++) {
+            maps[i] = new ObjectIntMap<>();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Constructor with four shards per available processor.
+     */
+    public ConcurrentFrequencyCounter() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Get the count for the given key.
+     *
+     * @param key the key.
+     * @return the number of times key has been counted (zero if never).
+     */
+    public Integer get(Key key) {
+        int shard = shard(key);
+        locks[shard].lock();
+        try {
+            return maps[shard].get(key);
+        } finally {
+            locks[shard].unlock();
+        }
+    }
+
+    /**
+     * Count one occurrence of the given key.
+     *
+     * @param key the key.
+     */
+    public void increment(Key key) {
+        add(key, 1);
+    }
+
+    /**
+     * Count all the keys of the given stream, which will be processed in parallel.
+     *
+     * @param keys a stream of keys.
+     */
+    public void ingest(Stream<? extends Key> keys) {
+        ObjectIntMap<Key> counts = keys.parallel().collect(ObjectIntMap::new, ObjectIntMap::increment, ConcurrentFrequencyCounter::combine);
+        merge(counts);
+    }
+
+    /**
+     * Count all the keys (with their counts) of the given map.
+     * This is useful when a thread has accumulated its own counts.
+     *
+     * @param counts a map of keys to their counts.
+     */
+    public void merge(ObjectIntMap<? extends Key> counts) {
+        counts.forEach(this::add);
+    }
+
+    /**
+     * @param key the key.
+     * @return the proportion of all counts which are for key.
+     */
+    public double relativeFrequency(Key key) {
+        return 1.0 * get(key) / total();
+    }
+
+    /**
+     * @param key the key.
+     * @return the percentage of all counts which are for key.
+     */
+    public double relativeFrequencyAsPercentage(Key key) {
+        return 100.0 * relativeFrequency(key);
+    }
+
+    /**
+     * Method to get the total number of counts over all keys.
+     *
+     * @return the total number of times a key has been counted.
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * @return the number of distinct keys.
+     */
+    public int size() {
+        int result = 0;
+        for (int i = 0; i < maps.length; i++) {
+            locks[i].lock();
+            try {
+                result += maps[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the set of keys in this symbol table (a snapshot).
+     *
+     * @return the Set of keys.
+     */
+    public Set<Key> keys() {
+        Set<Key> result = new HashSet<>();
+        for (int i = 0; i < maps.length; i++) {
+            locks[i].lock();
+            try {
+                result.addAll(maps[i].keys());
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the k most frequent keys, with their counts, in decreasing order of count.
+     * Each shard is scanned in turn (holding only its lock) into a bounded heap of k entries.
+     *
+     * @param k the number of keys.
+     * @return a list of at most k entries.
+     */
+    public List<Map.Entry<Key, Integer>> topK(int k) {
+        Comparator<Map.Entry<Key, Integer>> comparator = Map.Entry.comparingByValue();
+        if (k <= 0) return new ArrayList<>();
+        PriorityQueue<Map.Entry<Key, Integer>> heap = new PriorityQueue<>(k + 1, comparator);
+        for (int i = 0; i < maps.length; i++) {
+            locks[i].lock();
+            try {
+                maps[i].forEach((key, count) -> {
+                    if (heap.size() < k || count > heap.peek().getValue()) {
+                        heap.add(new AbstractMap.SimpleImmutableEntry<>(key, count));
+                        if (heap.size() > k) heap.poll();
+                    }
+                });
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        List<Map.Entry<Key, Integer>> result = new ArrayList<>(heap);
+        result.sort(comparator.reversed());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < maps.length; i++) {
+            locks[i].lock();
+            try {
+                maps[i].forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v));
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return sb.append("}").toString();
+    }
+
+    private void add(Key key, int count) {
+        int shard = shard(key);
+        locks[shard].lock();
+        try {
+            maps[shard].addTo(key, count);
+        } finally {
+            locks[shard].unlock();
+        }
+        total.add(count);
+    }
+
+    /**
+     * Choose the shard by the high bits of the (mixed) hash: ObjectIntMap chooses the slot by the low bits.
+     */
+    private int shard(Key key) {
+        return shift == 32 ? 0 : IntIntMap.hash(key.hashCode()) >>> shift;
+    }
+
+    private static <K> void combine(ObjectIntMap<K> x, ObjectIntMap<K> y) {
+        y.forEach(x::addTo);
+    }
+
+    private final ObjectIntMap<Key>[] maps;
+    private final ReentrantLock[] locks;
+    private final int shift;
+    private final LongAdder total = new LongAdder();
+}
@@ -0,0 +1,153 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Count-Min sketch (Cormode and Muthukrishnan, 2005): an approximate frequency counter whose size is fixed,
+ * however many distinct keys it sees.
+ * <p>
+ * There are depth rows of width counters; each key increments one counter in each row, and the estimate for a key is the least of its counters.
+ * The estimate never undercounts, and with probability at least 1 - delta it overcounts by at most epsilon times the total,
+ * where width = e / epsilon and depth = ln(1 / delta).
+ * <p>
+ * A sketch is not thread-safe: instead, each thread (or partition) should count into its own sketch and the sketches should then be merged.
+ * A sketch can be serialized to (and deserialized from) bytes.
+ *
+ * @param <Key> the key type.
+ */
+public class CountMinSketch<Key> {
+
+    /**
+     * Constructor.
+     *
+     * @param width the number of counters in each row (rounded up to a power of two).
+     * @param depth the number of rows.
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) throw new IllegalArgumentException("width and depth must be positive: " + width + ", " + depth);
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.counts = new long[depth * this.width];
+    }
+
+    /**
+     * Create a sketch whose estimates (with probability at least 1 - delta) exceed the true counts by at most epsilon times the total.
+     *
+     * @param epsilon the relative error (for example, 0.001).
+     * @param delta   the probability of exceeding the error (for example, 0.01).
+     * @param <K>     the key type.
+     * @return a new CountMinSketch.
+     */
+    public static <K> CountMinSketch<K> create(double epsilon, double delta) {
+        if (epsilon <= 0 || delta <= 0 || delta >= 1) throw new IllegalArgumentException("invalid epsilon or delta: " + epsilon + ", " + delta);
+        return new CountMinSketch<>((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    /**
+     * Count one occurrence of key.
+     *
+     * @param key the key.
+     */
+    public void increment(Key key) {
+        add(key, 1);
+    }
+
+    /**
+     * Count some occurrences of key.
+     *
+     * @param key   the key.
+     * @param count the number of occurrences (not negative).
+     */
+    public void add(Key key, long count) {
+        if (count < 0) throw new IllegalArgumentException("count must not be negative: " + count);
+        long hash = Hashing.hash64(key);
+        int h1 = (int) hash, h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < depth; i++) counts[i * width + ((h1 + i * h2) & (width - 1))] += count;
+        total += count;
+    }
+
+    /**
+     * Estimate the count of key.
+     *
+     * @param key the key.
+     * @return an estimate which is at least the true count.
+     */
+    public long estimate(Key key) {
+        long hash = Hashing.hash64(key);
+        int h1 = (int) hash, h2 = (int) (hash >>> 32) | 1;
+        long result = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) result = Math.min(result, counts[i * width + ((h1 + i * h2) & (width - 1))]);
+        return result;
+    }
+
+    /**
+     * @param key the key.
+     * @return the estimated proportion of all counts which are for key.
+     */
+    public double relativeFrequency(Key key) {
+        return 1.0 * estimate(key) / total;
+    }
+
+    /**
+     * @return the total of all counts.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return the number of counters in each row.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the number of rows.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Add the counts of another sketch (of the same dimensions) to this sketch.
+     *
+     * @param other the other sketch.
+     */
+    public void merge(CountMinSketch<? extends Key> other) {
+        if (other.width != width || other.depth != depth)
+            throw new IllegalArgumentException("cannot merge sketches with different dimensions");
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        total += other.total;
+    }
+
+    /**
+     * @return this sketch as an array of bytes.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(16 + 8 * counts.length);
+        buffer.putInt(width).putInt(depth).putLong(total);
+        for (long count : counts) buffer.putLong(count);
+        return buffer.array();
+    }
+
+    /**
+     * Create a sketch from an array of bytes (as yielded by toBytes).
+     *
+     * @param bytes the bytes.
+     * @param <K>   the key type.
+     * @return a new CountMinSketch.
+     */
+    public static <K> CountMinSketch<K> fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch<K> result = new CountMinSketch<>(buffer.getInt(), buffer.getInt());
+        result.total = buffer.getLong();
+        for (int i = 0; i < result.counts.length; i++) result.counts[i] = buffer.getLong();
+        return result;
+    }
+
+    private final int width;
+    private final int depth;
+    private final long[] counts; // row i occupies counts[i * width] through counts[(i + 1) * width - 1]
+    private long total = 0;
+}
@@ -46,7 +46,8 @@ public class FrequencyCounter<Key> implements ImmutableSymbolTable<Key, Integer>
     }
 
     public void increment(Key s) {
-        // TO BE IMPLEMENTED
+        map.put(s, get(s) + 1);
+        total++;
     }
 
     /**
@@ -63,7 +64,6 @@ public class FrequencyCounter<Key> implements ImmutableSymbolTable<Key, Integer>
     }
 
     private final ST<Key, Integer> map;
-    @SuppressWarnings("CanBeFinal")
     private long total = 0L;
 
     public static void main(String[] args) {
@@ -0,0 +1,102 @@
+package edu.neu.coe.info6205.hashtable;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of word counting over the Leipzig sentences: FrequencyCounter (sequential) against ConcurrentFrequencyCounter
+ * (parallel, by increment and by ingest).
+ * <p>
+ * The 10K-sentence corpus is repeated so as to yield the requested number of sentences.
+ * <p>
+ * Usage: FrequencyCounterBenchmark [sentences] (default 1,000,000).
+ */
+public class FrequencyCounterBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        new FrequencyCounterBenchmark(readSentences("eng-uk_web_2002_10K-sentences.txt"), n).run(5);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sentences the sentences of the corpus.
+     * @param n         the number of sentences to count (the corpus is repeated as necessary).
+     */
+    public FrequencyCounterBenchmark(List<String> sentences, int n) {
+        this.sentences = sentences;
+        this.n = n;
+    }
+
+    /**
+     * Count the words of the sentences, m times (after warmup), with each counter, and print the mean times.
+     *
+     * @param m the number of runs.
+     */
+    public void run(int m) {
+        logger.info("FrequencyCounterBenchmark: " + formatWhole(n) + " sentences; parallelism " + Runtime.getRuntime().availableProcessors());
+        double sequential = new Benchmark_Timer<Integer>("FrequencyCounter", x -> {
+            FrequencyCounter<String> counter = new FrequencyCounter<>();
+            words().forEach(counter::increment);
+        }).run(0, m);
+        double increment = new Benchmark_Timer<Integer>("ConcurrentFrequencyCounter.increment", x -> {
+            ConcurrentFrequencyCounter<String> counter = new ConcurrentFrequencyCounter<>();
+            words().parallel().forEach(counter::increment);
+        }).run(0, m);
+        double ingest = new Benchmark_Timer<Integer>("ConcurrentFrequencyCounter.ingest", x -> new ConcurrentFrequencyCounter<String>().ingest(words())).run(0, m);
+        System.out.println("FrequencyCounter: " + formatWhole((int) sequential) + " mSec; ConcurrentFrequencyCounter: increment " +
+                formatWhole((int) increment) + " mSec, ingest " + formatWhole((int) ingest) + " mSec");
+        ConcurrentFrequencyCounter<String> counter = new ConcurrentFrequencyCounter<>();
+        counter.ingest(words());
+        System.out.println(formatWhole((int) counter.total()) + " words, " + formatWhole(counter.size()) + " distinct; top 10:");
+        for (Map.Entry<String, Integer> entry : counter.topK(10))
+            System.out.println(entry.getKey() + ": " + String.format("%.2f", counter.relativeFrequencyAsPercentage(entry.getKey())) + "%");
+    }
+
+    /**
+     * @return a stream of the (lower-case) words of n sentences.
+     */
+    private Stream<String> words() {
+        return IntStream.range(0, n).mapToObj(i -> sentences.get(i % sentences.size()))
+                .flatMap(s -> Arrays.stream(nonLetters.split(s)))
+                .filter(w -> !w.isEmpty())
+                .map(String::toLowerCase);
+    }
+
+    /**
+     * Read the sentences (the text after the first tab of each line) of a Leipzig corpus.
+     *
+     * @param resource the name of the resource.
+     * @return the list of sentences.
+     * @throws IOException if the resource cannot be read.
+     */
+    static List<String> readSentences(String resource) throws IOException {
+        InputStream stream = FrequencyCounterBenchmark.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) throw new IOException("cannot find resource: " + resource);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+            return reader.lines().map(line -> line.substring(line.indexOf('\t') + 1)).collect(Collectors.toList());
+        }
+    }
+
+    private static final Pattern nonLetters = Pattern.compile("[^\\p{L}]+");
+
+    private final List<String> sentences;
+    private final int n;
+
+    final static LazyLogger logger = new LazyLogger(FrequencyCounterBenchmark.class);
+}
@@ -28,7 +28,7 @@ public class HashTable {
         int index = getIndex(key, bits);
         while (hashes[index] != 0 || keys[index] != null) {
             index++;
-            if (index == length - 1) index = 0;
+            if (index == length) index = 0;
         }
         if (index < length) {
             hashes[index] = key.hashCode();
@@ -50,7 +50,7 @@ public class HashTable {
         assert (index >= 0);
         assert (index < length);
         assert (hashes[index] == key.hashCode());
-        assert (keys[index] == key);
+        assert (key.equals(keys[index]));
         return values[index];
     }
 
@@ -59,29 +59,25 @@ public class HashTable {
         if (index >= 0) {
             assert (index < length);
             assert (hashes[index] == key.hashCode());
-            assert (keys[index] == key);
+            assert (key.equals(keys[index]));
             return values[index];
         }
         return null;
     }
 
     private boolean checkKey(Object key, int index) {
-        return key == keys[index];
+        return key.equals(keys[index]);
     }
 
     private int findMatchingIndex(Object key, int index) {
         int result = index;
         int hash = key.hashCode();
-        while (hashes[result] != 0) {
-            if (key.hashCode() == hash)
-                if (checkKey(key, result))
-                    return result;
-                else {
-                    result++;
-                    if (result == length) result = 0;
-                }
-            else
-                return -1;
+        for (int probes = 0; probes < length && keys[result] != null; probes++) {
+            // Compare the stored hash first: only if it matches do we need to check the key itself.
+            if (hashes[result] == hash && checkKey(key, result))
+                return result;
+            result++;
+            if (result == length) result = 0;
         }
         return -1;
     }
@@ -0,0 +1,38 @@
+package edu.neu.coe.info6205.hashtable;
+
+/**
+ * 64-bit hashing for the approximate (sketch) summaries: CountMinSketch, HyperLogLog and SpaceSaving.
+ * <p>
+ * A 32-bit hashCode is not enough for these: HyperLogLog, for example, needs about 64 well-mixed bits.
+ * For character sequences (by far the most common keys), we compute a 64-bit hash of the characters themselves;
+ * for other keys, we can only mix the bits of hashCode.
+ */
+final class Hashing {
+
+    /**
+     * @param key the key (not null).
+     * @return a well-mixed 64-bit hash of key.
+     */
+    static long hash64(Object key) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        if (key instanceof CharSequence) {
+            CharSequence s = (CharSequence) key;
+            long h = s.length();
+            for (int i = 0; i < s.length(); i++) h = h * 0x100000001B3L + s.charAt(i);
+            return mix(h);
+        }
+        return mix(key.hashCode());
+    }
+
+    /**
+     * The (64-bit) finalizer of MurmurHash3.
+     */
+    static long mix(long x) {
+        long h = (x ^ (x >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private Hashing() {
+    }
+}
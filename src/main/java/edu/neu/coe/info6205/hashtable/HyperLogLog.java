@@ -0,0 +1,110 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HyperLogLog (Flajolet, Fusy, Gandouet and Meunier, 2007): an approximate counter of distinct keys whose size is fixed
+ * (2^p bytes), however many distinct keys it sees.
+ * <p>
+ * The first p bits of the (64-bit) hash of a key choose one of m = 2^p registers;
+ * the register records the greatest number of leading zeros (plus one) seen in the remaining bits.
+ * The standard error of the estimate is about 1.04 / sqrt(m): for example, 1.6% for p = 12 (4KB).
+ * Small cardinalities are estimated by linear counting (from the number of empty registers).
+ * <p>
+ * A HyperLogLog is not thread-safe: instead, each thread (or partition) should count into its own HyperLogLog
+ * and they should then be merged (the result is exactly as if all keys had been added to one HyperLogLog).
+ * A HyperLogLog can be serialized to (and deserialized from) bytes.
+ *
+ * @param <Key> the key type.
+ */
+public class HyperLogLog<Key> {
+
+    /**
+     * Constructor.
+     *
+     * @param p the precision: there are 2^p registers (p must be between 4 and 18).
+     */
+    public HyperLogLog(int p) {
+        if (p < 4 || p > 18) throw new IllegalArgumentException("precision must be between 4 and 18: " + p);
+        this.p = p;
+        this.registers = new byte[1 << p];
+    }
+
+    /**
+     * Constructor with a precision of 12 (a standard error of about 1.6%).
+     */
+    public HyperLogLog() {
+        this(12);
+    }
+
+    /**
+     * Add a key.
+     *
+     * @param key the key.
+     */
+    public void add(Key key) {
+        long hash = Hashing.hash64(key);
+        int index = (int) (hash >>> (64 - p));
+        // The sentinel bit ensures that the number of leading zeros cannot exceed 64 - p.
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << p) | (1L << (p - 1))) + 1);
+        if (rank > registers[index]) registers[index] = rank;
+    }
+
+    /**
+     * @return the estimated number of distinct keys added.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) estimate = m * Math.log((double) m / zeros);
+        return Math.round(estimate);
+    }
+
+    /**
+     * @return the precision (p).
+     */
+    public int getPrecision() {
+        return p;
+    }
+
+    /**
+     * Merge another HyperLogLog (of the same precision) into this one.
+     *
+     * @param other the other HyperLogLog.
+     */
+    public void merge(HyperLogLog<? extends Key> other) {
+        if (other.p != p) throw new IllegalArgumentException("cannot merge HyperLogLogs with different precisions");
+        for (int i = 0; i < registers.length; i++) if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+    }
+
+    /**
+     * @return this HyperLogLog as an array of bytes.
+     */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(1 + registers.length).put((byte) p).put(registers).array();
+    }
+
+    /**
+     * Create a HyperLogLog from an array of bytes (as yielded by toBytes).
+     *
+     * @param bytes the bytes.
+     * @param <K>   the key type.
+     * @return a new HyperLogLog.
+     */
+    public static <K> HyperLogLog<K> fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        HyperLogLog<K> result = new HyperLogLog<>(buffer.get());
+        buffer.get(result.registers);
+        return result;
+    }
+
+    private final int p;
+    private final byte[] registers;
+}
@@ -0,0 +1,166 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of int values, which (unlike HashSet&lt;Integer&gt;) never boxes.
+ * <p>
+ * The organization is the same as that of {@link IntIntMap} (but without the values):
+ * linear probing, doubling when the load factor would exceed 0.75, and backward-shift deletion.
+ * Zero marks an empty slot, so the presence of 0 in the set is held separately.
+ */
+public class IntSet {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the expected number of elements.
+     */
+    public IntSet(int capacity) {
+        allocate(IntIntMap.tableSize(capacity));
+    }
+
+    /**
+     * Constructor.
+     */
+    public IntSet() {
+        this(16);
+    }
+
+    /**
+     * @param x the value.
+     * @return true if x is in this set.
+     */
+    public boolean contains(int x) {
+        if (x == 0) return hasZero;
+        for (int index = IntIntMap.hash(x) & mask; elements[index] != 0; index = (index + 1) & mask)
+            if (elements[index] == x) return true;
+        return false;
+    }
+
+    /**
+     * Add x to this set.
+     *
+     * @param x the value.
+     * @return true if x was not already present.
+     */
+    public boolean add(int x) {
+        if (x == 0) {
+            if (hasZero) return false;
+            size++;
+            return hasZero = true;
+        }
+        int index = IntIntMap.hash(x) & mask;
+        for (; elements[index] != 0; index = (index + 1) & mask)
+            if (elements[index] == x) return false;
+        if (size + 1 > threshold) {
+            allocate(2 * elements.length);
+            index = IntIntMap.hash(x) & mask;
+            while (elements[index] != 0) index = (index + 1) & mask;
+        }
+        elements[index] = x;
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove x from this set.
+     *
+     * @param x the value.
+     * @return true if x was present.
+     */
+    public boolean remove(int x) {
+        if (x == 0) {
+            if (!hasZero) return false;
+            size--;
+            hasZero = false;
+            return true;
+        }
+        int index = IntIntMap.hash(x) & mask;
+        while (elements[index] != x) {
+            if (elements[index] == 0) return false;
+            index = (index + 1) & mask;
+        }
+        // Backward shift: move up any following element whose probe sequence passes through the vacated slot.
+        for (int next = (index + 1) & mask; elements[next] != 0; next = (next + 1) & mask) {
+            int home = IntIntMap.hash(elements[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                elements[index] = elements[next];
+                index = next;
+            }
+        }
+        elements[index] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all elements (but keep the current capacity).
+     */
+    public void clear() {
+        Arrays.fill(elements, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * @return the elements (in no particular order).
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        if (hasZero) result[i++] = 0;
+        for (int x : elements) if (x != 0) result[i++] = x;
+        return result;
+    }
+
+    /**
+     * Call f on each element (in no particular order).
+     *
+     * @param f the function.
+     */
+    public void forEach(IntConsumer f) {
+        if (hasZero) f.accept(0);
+        for (int x : elements) if (x != 0) f.accept(x);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void allocate(int length) {
+        int[] old = elements;
+        elements = new int[length];
+        mask = length - 1;
+        threshold = (int) (length * IntIntMap.LOAD_FACTOR);
+        if (old != null)
+            for (int x : old)
+                if (x != 0) {
+                    int index = IntIntMap.hash(x) & mask;
+                    while (elements[index] != 0) index = (index + 1) & mask;
+                    elements[index] = x;
+                }
+    }
+
+    private int[] elements; // elements[i] is the element in slot i, or zero if slot i is empty
+    private int mask;
+    private int threshold;
+    private int size = 0;
+    private boolean hasZero = false;
+}
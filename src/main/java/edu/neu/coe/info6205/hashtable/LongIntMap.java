@@ -0,0 +1,271 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to int values, which (unlike HashMap&lt;Long, Integer&gt;) never boxes.
+ * <p>
+ * Keys and values are held in a long array and a parallel int array (about 12 bytes per slot), whereas each entry of a HashMap costs
+ * a node, a Long, an Integer and a bucket reference (about 64 bytes).
+ * The table uses linear probing, doubles in size when the load factor would exceed 0.75,
+ * and deletes by backward shift (so there are no tombstones).
+ * <p>
+ * Key 0 marks an empty slot, so the entry for key 0 (if any) is held separately.
+ * The get method returns the "missing value" (by default, 0) for an absent key;
+ * thus increment and addTo behave as if every key were initially present with the missing value.
+ * <p>
+ * See {@link IntIntMap}, of which this is the long-keyed version.
+ */
+public class LongIntMap {
+
+    /**
+     * Functional interface for forEach.
+     */
+    public interface Consumer {
+        void accept(long key, int value);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity     the expected number of entries.
+     * @param missingValue the value returned by get for an absent key.
+     */
+    public LongIntMap(int capacity, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(IntIntMap.tableSize(capacity));
+    }
+
+    /**
+     * Constructor with a missing value of 0.
+     *
+     * @param capacity the expected number of entries.
+     */
+    public LongIntMap(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Constructor.
+     */
+    public LongIntMap() {
+        this(16);
+    }
+
+    /**
+     * @param key the key.
+     * @return the value for key, or the missing value if key is absent.
+     */
+    public int get(long key) {
+        if (key == 0) return hasZero ? zeroValue : missingValue;
+        int index = find(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    /**
+     * @param key the key.
+     * @return true if key is present.
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZero : find(key) >= 0;
+    }
+
+    /**
+     * Insert or replace the value for key.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value for key, or the missing value if key was absent.
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            int result = hasZero ? zeroValue : missingValue;
+            if (!hasZero) size++;
+            hasZero = true;
+            zeroValue = value;
+            return result;
+        }
+        int index = slot(key);
+        int result = values[index];
+        values[index] = value;
+        return result;
+    }
+
+    /**
+     * Add one to the value for key.
+     *
+     * @param key the key.
+     * @return the new value for key.
+     */
+    public int increment(long key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * Add delta to the value for key (an absent key is treated as if its value were the missing value).
+     *
+     * @param key   the key.
+     * @param delta the amount to add.
+     * @return the new value for key.
+     */
+    public int addTo(long key, int delta) {
+        if (key == 0) {
+            if (!hasZero) {
+                size++;
+                hasZero = true;
+                zeroValue = missingValue;
+            }
+            return zeroValue += delta;
+        }
+        int index = slot(key);
+        return values[index] += delta;
+    }
+
+    /**
+     * Remove key (and its value).
+     *
+     * @param key the key.
+     * @return the value that was removed, or the missing value if key was absent.
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            if (!hasZero) return missingValue;
+            hasZero = false;
+            size--;
+            return zeroValue;
+        }
+        int index = find(key);
+        if (index < 0) return missingValue;
+        int result = values[index];
+        // Backward shift: move up any following entry whose probe sequence passes through the vacated slot.
+        for (int next = (index + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+        keys[index] = 0;
+        size--;
+        return result;
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries (but keep the current capacity).
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * @return the keys (in no particular order).
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasZero) result[i++] = 0;
+        for (long key : keys) if (key != 0) result[i++] = key;
+        return result;
+    }
+
+    /**
+     * Call f on each key and value (in no particular order).
+     *
+     * @param f the function.
+     */
+    public void forEach(Consumer f) {
+        if (hasZero) f.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) if (keys[i] != 0) f.accept(keys[i], values[i]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v));
+        return sb.append("}").toString();
+    }
+
+    /**
+     * Find the slot of (non-zero) key.
+     *
+     * @return the index of the slot, or -1 if key is absent.
+     */
+    private int find(long key) {
+        for (int index = hash(key) & mask; keys[index] != 0; index = (index + 1) & mask)
+            if (keys[index] == key) return index;
+        return -1;
+    }
+
+    /**
+     * Find the slot of (non-zero) key, inserting it with the missing value if it is absent.
+     *
+     * @return the index of the slot.
+     */
+    private int slot(long key) {
+        int index = hash(key) & mask;
+        for (; keys[index] != 0; index = (index + 1) & mask)
+            if (keys[index] == key) return index;
+        if (size + 1 > threshold) {
+            allocate(2 * keys.length);
+            index = hash(key) & mask;
+            while (keys[index] != 0) index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = missingValue;
+        size++;
+        return index;
+    }
+
+    private void allocate(int length) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[length];
+        values = new int[length];
+        mask = length - 1;
+        threshold = (int) (length * IntIntMap.LOAD_FACTOR);
+        if (oldKeys != null)
+            for (int i = 0; i < oldKeys.length; i++)
+                if (oldKeys[i] != 0) {
+                    int index = hash(oldKeys[i]) & mask;
+                    while (keys[index] != 0) index = (index + 1) & mask;
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+    }
+
+    /**
+     * Scramble the bits of x (so that consecutive keys are scattered and the low bits depend on all bits):
+     * this is the (64-bit) finalizer of MurmurHash3.
+     */
+    static int hash(long x) {
+        long h = (x ^ (x >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    private final int missingValue;
+    private long[] keys; // keys[i] is the key in slot i, or zero if slot i is empty
+    private int[] values;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+    private boolean hasZero = false;
+    private int zeroValue;
+}
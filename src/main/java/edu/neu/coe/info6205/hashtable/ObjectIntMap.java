@@ -0,0 +1,247 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Open-addressing hash map from (object) keys to int values, which (unlike HashMap&lt;Key, Integer&gt;) never boxes the values.
+ * <p>
+ * Keys, their hashes and values are held in three parallel arrays (about 12 bytes per slot, with compressed references),
+ * whereas each entry of a HashMap costs a node, an Integer and a bucket reference (about 52 bytes).
+ * As in HashMap, a probe compares the stored hash first, so that it only visits a key (elsewhere in the heap) when
+ * the hashes match; and the table can be resized without visiting the keys at all.
+ * The table uses linear probing, doubles in size when the load factor would exceed 0.75,
+ * and deletes by backward shift (so there are no tombstones).
+ * <p>
+ * Keys are compared by equals; they must not be null (null marks an empty slot).
+ * The get method returns the "missing value" (by default, 0) for an absent key;
+ * thus increment and addTo behave as if every key were initially present with the missing value.
+ *
+ * @param <Key> the key type.
+ */
+public class ObjectIntMap<Key> {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity     the expected number of entries.
+     * @param missingValue the value returned by get for an absent key.
+     */
+    public ObjectIntMap(int capacity, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(IntIntMap.tableSize(capacity));
+    }
+
+    /**
+     * Constructor with a missing value of 0.
+     *
+     * @param capacity the expected number of entries.
+     */
+    public ObjectIntMap(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Constructor.
+     */
+    public ObjectIntMap() {
+        this(16);
+    }
+
+    /**
+     * @param key the key.
+     * @return the value for key, or the missing value if key is absent.
+     */
+    public int get(Key key) {
+        int index = find(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    /**
+     * @param key the key.
+     * @return true if key is present.
+     */
+    public boolean containsKey(Key key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Insert or replace the value for key.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value for key, or the missing value if key was absent.
+     */
+    public int put(Key key, int value) {
+        int index = slot(key);
+        int result = values[index];
+        values[index] = value;
+        return result;
+    }
+
+    /**
+     * Add one to the value for key.
+     *
+     * @param key the key.
+     * @return the new value for key.
+     */
+    public int increment(Key key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * Add delta to the value for key (an absent key is treated as if its value were the missing value).
+     *
+     * @param key   the key.
+     * @param delta the amount to add.
+     * @return the new value for key.
+     */
+    public int addTo(Key key, int delta) {
+        int index = slot(key);
+        return values[index] += delta;
+    }
+
+    /**
+     * Remove key (and its value).
+     *
+     * @param key the key.
+     * @return the value that was removed, or the missing value if key was absent.
+     */
+    public int remove(Key key) {
+        int index = find(key);
+        if (index < 0) return missingValue;
+        int result = values[index];
+        // Backward shift: move up any following entry whose probe sequence passes through the vacated slot.
+        for (int next = (index + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+            int home = hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                hashes[index] = hashes[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+        keys[index] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries (but keep the current capacity).
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    /**
+     * Get the set of keys in this map (a copy, in table order).
+     *
+     * @return the Set of keys.
+     */
+    public Set<Key> keys() {
+        Set<Key> result = new LinkedHashSet<>();
+        for (Key key : keys) if (key != null) result.add(key);
+        return result;
+    }
+
+    /**
+     * Call f on each key and value (in table order).
+     *
+     * @param f the function.
+     */
+    public void forEach(ObjIntConsumer<Key> f) {
+        for (int i = 0; i < keys.length; i++) if (keys[i] != null) f.accept(keys[i], values[i]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v));
+        return sb.append("}").toString();
+    }
+
+    /**
+     * Find the slot of key.
+     *
+     * @return the index of the slot, or -1 if key is absent.
+     */
+    private int find(Key key) {
+        int hash = hash(key);
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask)
+            if (hashes[index] == hash && key.equals(keys[index])) return index;
+        return -1;
+    }
+
+    /**
+     * Find the slot of key, inserting it with the missing value if it is absent.
+     *
+     * @return the index of the slot.
+     */
+    private int slot(Key key) {
+        int hash = hash(key);
+        int index = hash & mask;
+        for (; keys[index] != null; index = (index + 1) & mask)
+            if (hashes[index] == hash && key.equals(keys[index])) return index;
+        if (size + 1 > threshold) {
+            allocate(2 * keys.length);
+            index = hash & mask;
+            while (keys[index] != null) index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        hashes[index] = hash;
+        values[index] = missingValue;
+        size++;
+        return index;
+    }
+
+    private void allocate(int length) {
+        Key[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldValues = values;
+        //noinspection unchecked
+        keys = (Key[]) new Object[length];
+        hashes = new int[length];
+        values = new int[length];
+        mask = length - 1;
+        threshold = (int) (length * IntIntMap.LOAD_FACTOR);
+        if (oldKeys != null)
+            for (int i = 0; i < oldKeys.length; i++)
+                if (oldKeys[i] != null) {
+                    int index = oldHashes[i] & mask;
+                    while (keys[index] != null) index = (index + 1) & mask;
+                    keys[index] = oldKeys[i];
+                    hashes[index] = oldHashes[i];
+                    values[index] = oldValues[i];
+                }
+    }
+
+    private static int hash(Object key) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        return IntIntMap.hash(key.hashCode());
+    }
+
+    private final int missingValue;
+    private Key[] keys; // keys[i] is the key in slot i, or null if slot i is empty
+    private int[] hashes; // hashes[i] is the hash of keys[i]
+    private int[] values;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+}
@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.hashtable;
+
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of the heap used (and the time taken) by the primitive maps {@link IntIntMap}, {@link LongIntMap} and
+ * {@link ObjectIntMap} against the equivalent boxed HashMaps, when counting n distinct keys.
+ * <p>
+ * The heap used by a map is measured as the growth in used memory (after garbage collection) while the map is reachable.
+ * For ObjectIntMap, the keys themselves (which are shared by both maps) are created beforehand and so are not counted.
+ * <p>
+ * Usage: PrimitiveMapBenchmark [n] where n is the number of entries (default 10,000,000).
+ * At that size, the boxed maps need a heap of about 2GB (e.g. -Xmx3g).
+ */
+public class PrimitiveMapBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        logger.info("PrimitiveMapBenchmark: " + formatWhole(n) + " entries");
+        measure("HashMap<Integer, Integer>", n, () -> {
+            Map<Integer, Integer> map = new HashMap<>();
+            for (int i = 0; i < n; i++) map.merge(i, 1, Integer::sum);
+            return map;
+        });
+        measure("IntIntMap", n, () -> {
+            IntIntMap map = new IntIntMap();
+            for (int i = 0; i < n; i++) map.increment(i);
+            return map;
+        });
+        measure("HashMap<Long, Integer>", n, () -> {
+            Map<Long, Integer> map = new HashMap<>();
+            for (long i = 0; i < n; i++) map.merge(i << 20, 1, Integer::sum);
+            return map;
+        });
+        measure("LongIntMap", n, () -> {
+            LongIntMap map = new LongIntMap();
+            for (long i = 0; i < n; i++) map.increment(i << 20);
+            return map;
+        });
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++) keys[i] = Integer.toString(i);
+        measure("HashMap<String, Integer>", n, () -> {
+            Map<String, Integer> map = new HashMap<>();
+            for (String key : keys) map.merge(key, 1, Integer::sum);
+            return map;
+        });
+        measure("ObjectIntMap<String>", n, () -> {
+            ObjectIntMap<String> map = new ObjectIntMap<>();
+            for (String key : keys) map.increment(key);
+            return map;
+        });
+    }
+
+    /**
+     * Build a map, then print the time taken and the heap which it occupies.
+     *
+     * @param description the description of the map.
+     * @param n           the number of entries.
+     * @param builder     a supplier which builds the map.
+     */
+    static void measure(String description, int n, Supplier<Object> builder) {
+        long before = usedMemory();
+        long start = System.nanoTime();
+        Object map = builder.get();
+        long time = System.nanoTime() - start;
+        long bytes = usedMemory() - before;
+        System.out.println(description + ": " + formatWhole((int) (bytes / 1024 / 1024)) + " MB (" + String.format("%.1f", 1.0 * bytes / n) +
+                " bytes/entry); built in " + formatWhole((int) (time / 1000000)) + " mSec");
+        // NOTE: keep the map reachable until after it has been measured.
+        if (map.hashCode() == 42) System.out.println();
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    final static LazyLogger logger = new LazyLogger(PrimitiveMapBenchmark.class);
+}
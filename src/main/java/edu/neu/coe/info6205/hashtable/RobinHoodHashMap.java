@@ -0,0 +1,297 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Open-addressing hash map (symbol table) which uses Robin Hood linear probing.
+ * <p>
+ * Each slot stores, alongside its key and value, the (spread) hash of its key: its fingerprint.
+ * Zero marks an empty slot, so the fingerprint of a key is never zero.
+ * The fingerprint serves three purposes:
+ * <ul>
+ * <li>a probe compares fingerprints first, and calls equals only when they match;</li>
+ * <li>the displacement of an entry (its distance from its home slot) is computed from its fingerprint without rehashing;</li>
+ * <li>the table can be resized without calling hashCode.</li>
+ * </ul>
+ * Robin Hood insertion: whenever the entry being inserted is further from its home slot than the entry in a slot,
+ * they change places (the "rich" entry gives up its slot to the "poor" one).
+ * This keeps the variance of probe lengths small, and means that an unsuccessful search can stop as soon as it meets an
+ * entry which is closer to its home slot than the search is to its own.
+ * <p>
+ * Deletion uses backward shift (rather than tombstones): the entries which follow the deleted one are shifted back by one slot
+ * until reaching an empty slot or an entry in its home slot.
+ * <p>
+ * The table doubles in size whenever the load factor would exceed its threshold.
+ * Keys must not be null; values may be null (but then get cannot distinguish a null value from an absent key).
+ *
+ * @param <Key>   key type.
+ * @param <Value> value type.
+ */
+public class RobinHoodHashMap<Key, Value> implements ST<Key, Value> {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity   the expected number of entries.
+     * @param loadFactor the maximum load factor (between 0 and 1) before the table is resized.
+     */
+    public RobinHoodHashMap(int capacity, double loadFactor) {
+        if (loadFactor <= 0 || loadFactor >= 1) throw new IllegalArgumentException("load factor must be between 0 and 1: " + loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(Integer.highestOneBit(Math.max(2, (int) Math.ceil(capacity / loadFactor)) - 1) << 1);
+    }
+
+    /**
+     * Constructor with a load factor of 0.8.
+     *
+     * @param capacity the expected number of entries.
+     */
+    public RobinHoodHashMap(int capacity) {
+        this(capacity, 0.8);
+    }
+
+    /**
+     * Constructor.
+     */
+    public RobinHoodHashMap() {
+        this(16);
+    }
+
+    /**
+     * Retrieve the value for a given key.
+     *
+     * @param key the key.
+     * @return the value, if key is present, else null.
+     */
+    public Value get(Key key) {
+        int index = find(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * @param key the key.
+     * @return true if key is present.
+     */
+    public boolean containsKey(Key key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Insert a key/value pair.
+     * If the key already exists, then its value will simply be overwritten.
+     *
+     * @param key the key.
+     * @param val the value.
+     */
+    public void put(Key key, Value val) {
+        int hash = hash(key);
+        int index = find(key, hash);
+        if (index >= 0) {
+            values[index] = val;
+            return;
+        }
+        if (size + 1 > threshold) allocate(2 * hashes.length);
+        insert(hash, key, val);
+        size++;
+    }
+
+    /**
+     * Remove the given key (and its value).
+     *
+     * @param key the key.
+     * @return the value that was removed, if key was present, else null.
+     */
+    public Value remove(Key key) {
+        int index = find(key);
+        if (index < 0) return null;
+        Value result = values[index];
+        // Backward shift: move each following entry back by one until we reach an empty slot or an entry in its home slot.
+        int next = (index + 1) & mask;
+        while (hashes[next] != 0 && displacement(hashes[next], next) > 0) {
+            hashes[index] = hashes[next];
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashes[index] = 0;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * Get the set of keys in this symbol table (a copy, in table order).
+     *
+     * @return the Set of keys.
+     */
+    public Set<Key> keys() {
+        Set<Key> result = new LinkedHashSet<>();
+        for (int i = 0; i < hashes.length; i++) if (hashes[i] != 0) result.add(keys[i]);
+        return result;
+    }
+
+    /**
+     * Call f on each key and value (in table order).
+     *
+     * @param f the function.
+     */
+    public void forEach(BiConsumer<Key, Value> f) {
+        for (int i = 0; i < hashes.length; i++) if (hashes[i] != 0) f.accept(keys[i], values[i]);
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries (but keep the current capacity).
+     */
+    public void clear() {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int capacity() {
+        return hashes.length;
+    }
+
+    /**
+     * Get the mean number of slots examined by a successful search (i.e. one more than the mean displacement).
+     *
+     * @return the mean probe length.
+     */
+    public double meanProbeLength() {
+        if (size == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < hashes.length; i++) if (hashes[i] != 0) total += displacement(hashes[i], i) + 1;
+        return (double) total / size;
+    }
+
+    /**
+     * @return the greatest number of slots examined by a successful search.
+     */
+    public int maxProbeLength() {
+        int result = 0;
+        for (int i = 0; i < hashes.length; i++) if (hashes[i] != 0) result = Math.max(result, displacement(hashes[i], i) + 1);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v));
+        return sb.append("}").toString();
+    }
+
+    private int find(Key key) {
+        return find(key, hash(key));
+    }
+
+    /**
+     * Find the slot of key.
+     *
+     * @return the index of the slot, or -1 if key is absent.
+     */
+    private int find(Key key, int hash) {
+        int index = hash & mask;
+        for (int distance = 0; ; distance++) {
+            int h = hashes[index];
+            // We can stop at an empty slot, or at an entry closer to home than we are (else it would have given way to key).
+            if (h == 0 || displacement(h, index) < distance) return -1;
+            if (h == hash && key.equals(keys[index])) return index;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Insert an entry which is known to be absent (and for which there is room).
+     */
+    private void insert(int hash, Key key, Value value) {
+        int index = hash & mask;
+        for (int distance = 0; ; distance++) {
+            int h = hashes[index];
+            if (h == 0) {
+                hashes[index] = hash;
+                keys[index] = key;
+                values[index] = value;
+                return;
+            }
+            int d = displacement(h, index);
+            if (d < distance) {
+                // Robin Hood: take this slot and carry on inserting the entry which was here.
+                Key k = keys[index];
+                Value v = values[index];
+                hashes[index] = hash;
+                keys[index] = key;
+                values[index] = value;
+                hash = h;
+                key = k;
+                value = v;
+                distance = d;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int displacement(int hash, int index) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    /**
+     * Allocate a table of the given length (a power of two) and re-insert any existing entries.
+     */
+    private void allocate(int length) {
+        int[] oldHashes = hashes;
+        Key[] oldKeys = keys;
+        Value[] oldValues = values;
+        hashes = new int[length];
+        //noinspection unchecked
+        keys = (Key[]) new Object[length];
+        //noinspection unchecked
+        values = (Value[]) new Object[length];
+        mask = length - 1;
+        threshold = Math.min(length - 1, (int) (length * loadFactor));
+        if (oldHashes != null)
+            for (int i = 0; i < oldHashes.length; i++)
+                if (oldHashes[i] != 0) insert(oldHashes[i], oldKeys[i], oldValues[i]);
+    }
+
+    /**
+     * Spread the bits of the key's hashCode (so that the low bits, which select the home slot, depend on all of them),
+     * ensuring that the result is never zero.
+     */
+    private static int hash(Object key) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        int h = key.hashCode() * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == 0 ? 1 : h;
+    }
+
+    private final double loadFactor;
+    private int[] hashes; // hashes[i] is the fingerprint of the key in slot i, or zero if slot i is empty
+    private Key[] keys;
+    private Value[] values;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+}
@@ -0,0 +1,274 @@
+package edu.neu.coe.info6205.hashtable;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Space-Saving (Metwally, Agrawal and El Abbadi, 2005): an approximate tracker of the most frequent keys (the "heavy hitters")
+ * which holds at most k counters, however many distinct keys it sees.
+ * <p>
+ * A key which is already tracked simply has its counter incremented.
+ * Otherwise, if there are already k counters, the key takes over the counter with the least count, m, and inherits m as its error.
+ * Thus each estimate overcounts by at most its error, which is at most total / k;
+ * and every key whose true count exceeds total / k is certainly tracked.
+ * <p>
+ * The counters are held in a binary min-heap (by count), with a HashMap from keys to counters.
+ * <p>
+ * A tracker is not thread-safe: instead, each thread (or partition) should count into its own tracker and the trackers should then
+ * be merged (Agarwal et al., "Mergeable Summaries", 2012).
+ * Given functions to encode and decode keys, a tracker can be serialized to (and deserialized from) bytes.
+ *
+ * @param <Key> the key type.
+ */
+public class SpaceSaving<Key> {
+
+    /**
+     * Constructor.
+     *
+     * @param k the number of counters.
+     */
+    public SpaceSaving(int k) {
+        if (k < 1) throw new IllegalArgumentException("there must be at least one counter: " + k);
+        this.k = k;
+        //noinspection unchecked
+        this.heap = (Counter<Key>[]) new Counter[k];
+        this.index = new HashMap<>(2 * k);
+    }
+
+    /**
+     * Count one occurrence of key.
+     *
+     * @param key the key.
+     */
+    public void increment(Key key) {
+        add(key, 1);
+    }
+
+    /**
+     * Count some occurrences of key.
+     *
+     * @param key   the key.
+     * @param count the number of occurrences (not negative).
+     */
+    public void add(Key key, long count) {
+        if (count < 0) throw new IllegalArgumentException("count must not be negative: " + count);
+        total += count;
+        Counter<Key> counter = index.get(key);
+        if (counter == null) {
+            if (size < k) {
+                counter = new Counter<>(key, count, 0);
+                index.put(key, counter);
+                swim(size++, counter);
+                return;
+            } else {
+                // Evict the key with the least count (at the root) and let key take over its counter.
+                counter = heap[0];
+                index.remove(counter.key);
+                counter.key = key;
+                counter.error = counter.count;
+            }
+            index.put(key, counter);
+        }
+        counter.count += count;
+        sink(counter.position);
+    }
+
+    /**
+     * Estimate the count of key.
+     *
+     * @param key the key.
+     * @return an estimate which is at least the true count if key is tracked (else, zero).
+     */
+    public long estimate(Key key) {
+        Counter<Key> counter = index.get(key);
+        return counter == null ? 0 : counter.count;
+    }
+
+    /**
+     * @param key the key.
+     * @return the greatest amount by which the estimate for key may exceed its true count (zero if key is not tracked).
+     */
+    public long error(Key key) {
+        Counter<Key> counter = index.get(key);
+        return counter == null ? 0 : counter.error;
+    }
+
+    /**
+     * @return the total of all counts.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return the number of keys tracked (at most k).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the (at most) n most frequent keys, with their estimated counts, in decreasing order of count.
+     *
+     * @param n the number of keys.
+     * @return a list of at most n entries.
+     */
+    public List<Map.Entry<Key, Long>> topK(int n) {
+        List<Counter<Key>> counters = new ArrayList<>(Arrays.asList(heap).subList(0, size));
+        counters.sort(byCountDescending());
+        List<Map.Entry<Key, Long>> result = new ArrayList<>();
+        for (Counter<Key> counter : counters.subList(0, Math.min(n, size)))
+            result.add(new AbstractMap.SimpleImmutableEntry<>(counter.key, counter.count));
+        return result;
+    }
+
+    /**
+     * Merge another tracker into this one.
+     * Each key of either tracker is estimated by the sum of its estimates in both, where a key which is not tracked
+     * by a full tracker is estimated by that tracker's least count; then only the k greatest estimates are kept.
+     *
+     * @param other the other tracker.
+     */
+    public void merge(SpaceSaving<? extends Key> other) {
+        long thisMin = size < k ? 0 : heap[0].count, otherMin = other.size < other.k ? 0 : other.heap[0].count;
+        Map<Key, Counter<Key>> merged = new HashMap<>();
+        for (int i = 0; i < size; i++)
+            merged.put(heap[i].key, new Counter<>(heap[i].key, heap[i].count + otherMin, heap[i].error + otherMin));
+        for (int i = 0; i < other.size; i++) {
+            Counter<? extends Key> x = other.heap[i];
+            Counter<Key> counter = merged.get(x.key);
+            if (counter == null) merged.put(x.key, new Counter<>(x.key, x.count + thisMin, x.error + thisMin));
+            else {
+                counter.count += x.count - otherMin;
+                counter.error += x.error - otherMin;
+            }
+        }
+        List<Counter<Key>> counters = new ArrayList<>(merged.values());
+        counters.sort(byCountDescending());
+        rebuild(counters.subList(0, Math.min(k, counters.size())), total + other.total);
+    }
+
+    /**
+     * Serialize this tracker.
+     *
+     * @param encoder a function to encode a key as bytes.
+     * @return this tracker as an array of bytes.
+     */
+    public byte[] toBytes(Function<Key, byte[]> encoder) {
+        List<byte[]> keys = new ArrayList<>();
+        int length = 16;
+        for (int i = 0; i < size; i++) {
+            byte[] bytes = encoder.apply(heap[i].key);
+            keys.add(bytes);
+            length += 20 + bytes.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(k).putInt(size).putLong(total);
+        for (int i = 0; i < size; i++)
+            buffer.putLong(heap[i].count).putLong(heap[i].error).putInt(keys.get(i).length).put(keys.get(i));
+        return buffer.array();
+    }
+
+    /**
+     * Create a tracker from an array of bytes (as yielded by toBytes).
+     *
+     * @param bytes   the bytes.
+     * @param decoder a function to decode a key from bytes.
+     * @param <K>     the key type.
+     * @return a new SpaceSaving tracker.
+     */
+    public static <K> SpaceSaving<K> fromBytes(byte[] bytes, Function<byte[], K> decoder) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        SpaceSaving<K> result = new SpaceSaving<>(buffer.getInt());
+        int n = buffer.getInt();
+        long total = buffer.getLong();
+        List<Counter<K>> counters = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            long count = buffer.getLong(), error = buffer.getLong();
+            byte[] key = new byte[buffer.getInt()];
+            buffer.get(key);
+            counters.add(new Counter<>(decoder.apply(key), count, error));
+        }
+        result.rebuild(counters, total);
+        return result;
+    }
+
+    /**
+     * Replace the counters with the given counters (at most k) and set the total.
+     */
+    private void rebuild(List<Counter<Key>> counters, long total) {
+        Arrays.fill(heap, null);
+        index.clear();
+        size = 0;
+        for (Counter<Key> counter : counters) {
+            counter.position = size;
+            heap[size++] = counter;
+            index.put(counter.key, counter);
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) sink(i);
+        this.total = total;
+    }
+
+    /**
+     * Place counter at or above the (new) leaf at position i.
+     */
+    private void swim(int i, Counter<Key> counter) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heap[parent].count <= counter.count) break;
+            heap[i] = heap[parent];
+            heap[i].position = i;
+            i = parent;
+        }
+        heap[i] = counter;
+        counter.position = i;
+    }
+
+    /**
+     * Restore heap order below position i (the count of heap[i] may have increased).
+     */
+    private void sink(int i) {
+        Counter<Key> counter = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) child++;
+            if (counter.count <= heap[child].count) break;
+            heap[i] = heap[child];
+            heap[i].position = i;
+            i = child;
+        }
+        heap[i] = counter;
+        counter.position = i;
+    }
+
+    private static class Counter<K> {
+        Counter(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        K key;
+        long count;
+        long error;
+        int position; // the index of this counter in the heap
+    }
+
+    private static <K> Comparator<Counter<K>> byCountDescending() {
+        return Comparator.comparingLong((Counter<K> c) -> c.count).reversed();
+    }
+
+    private final int k;
+    private final Counter<Key>[] heap; // a binary min-heap (by count) of the counters
+    private final Map<Key, Counter<Key>> index;
+    private int size = 0;
+    private long total = 0;
+}
@@ -0,0 +1,412 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * This class represents a rectangular region of the (infinite) Life grid as a matrix of bits, and computes each generation
+ * bit-parallel, i.e. 64 cells at a time.
+ * <p>
+ * The region is held as a sequence of lines, one for each x-coordinate, and each line is packed 64 cells (of successive y-coordinates)
+ * to a long word: the cell (x, y) is bit (y - y0) % 64 of word (y - y0) / 64 of line (x - x0).
+ * Cells outside the region are dead.
+ * <p>
+ * The next state of the 64 cells of a word is computed by adding (with bitwise full- and half-adders)
+ * the eight words which hold their neighbors, i.e. the word itself and the corresponding words of the adjacent lines,
+ * each shifted by one bit in either direction (taking the carry from the adjacent word).
+ * A cell is alive in the next generation if the sum is 3, or if it is 2 and the cell is alive now.
+ * <p>
+ * Because Life is symmetric under transposition, it makes no difference that lines run in the y direction.
+ * It does mean, though, that the live cells are visited (by forEach) in order of x and then of y.
+ */
+public class BitBoard implements Generational<BitBoard, Void>, Countable, Renderable {
+
+    /**
+     * Functional interface for forEach.
+     */
+    public interface CellConsumer {
+        void accept(int x, int y);
+    }
+
+    /**
+     * Constructor for an empty board.
+     *
+     * @param x0     the least x-coordinate of the region.
+     * @param y0     the least y-coordinate of the region.
+     * @param width  the number of x-coordinates (lines) of the region.
+     * @param height the (minimum) number of y-coordinates of the region (it is rounded up to a multiple of 64).
+     */
+    public BitBoard(int x0, int y0, int width, int height) {
+        this(0L, x0, y0, width, (Math.max(height, 1) + BitsPerLong - 1) / BitsPerLong);
+    }
+
+    /**
+     * Method to create a board just large enough to hold the given points (and any cells which may be born next to them).
+     *
+     * @param points the live cells.
+     * @return a new BitBoard.
+     */
+    public static BitBoard create(Iterable<Point> points) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Point p : points) {
+            minX = Math.min(minX, p.getX());
+            minY = Math.min(minY, p.getY());
+            maxX = Math.max(maxX, p.getX());
+            maxY = Math.max(maxY, p.getY());
+        }
+        if (minX > maxX) return new BitBoard(0, 0, 1, 1);
+        final BitBoard result = new BitBoard(minX - 1, minY - 1, maxX - minX + 3, maxY - minY + 3);
+        for (Point p : points) result.set(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Method to create a BitBoard just large enough for the given cells (and their neighbors), without creating any Points.
+     *
+     * @param cells the live cells.
+     * @return a new BitBoard.
+     */
+    public static BitBoard create(Cells cells) {
+        return create(cells, 0, 0);
+    }
+
+    /**
+     * Method to create a BitBoard, as above, for the given cells moved by (dx, dy).
+     *
+     * @param cells the live cells.
+     * @param dx    the amount to add to each x-coordinate.
+     * @param dy    the amount to add to each y-coordinate.
+     * @return a new BitBoard.
+     */
+    public static BitBoard create(Cells cells, int dx, int dy) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < cells.size(); i++) {
+            minX = Math.min(minX, cells.getX(i));
+            minY = Math.min(minY, cells.getY(i));
+            maxX = Math.max(maxX, cells.getX(i));
+            maxY = Math.max(maxY, cells.getY(i));
+        }
+        if (minX > maxX) return new BitBoard(0, 0, 1, 1);
+        final BitBoard result = new BitBoard(minX + dx - 1, minY + dy - 1, maxX - minX + 3, maxY - minY + 3);
+        cells.forEach((x, y) -> result.set(x + dx, y + dy));
+        return result;
+    }
+
+    /**
+     * Method to make the cell at (x, y) alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @throws LifeException if (x, y) is outside this board.
+     */
+    public void set(int x, int y) {
+        final int i = index(x, y);
+        cells[i] |= 1L << (y - y0);
+        stepped = false;
+    }
+
+    /**
+     * Method to determine if the cell at (x, y) is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if (x, y) is within this board and is alive.
+     */
+    public boolean isAlive(int x, int y) {
+        if (!contains(x, y)) return false;
+        return (cells[index(x, y)] & 1L << (y - y0)) != 0;
+    }
+
+    /**
+     * Method to determine if the cell at p is alive.
+     *
+     * @param p a Point.
+     * @return true if p is within this board and is alive.
+     */
+    public boolean isAlive(Point p) {
+        return isAlive(p.getX(), p.getY());
+    }
+
+    /**
+     * Method to visit each live cell, in order of x and then of y.
+     *
+     * @param action the action to be performed for each live cell.
+     */
+    public void forEach(CellConsumer action) {
+        for (int line = 0, i = 0; line < width; line++)
+            for (int word = 0; word < words; word++, i++)
+                for (long bits = cells[i]; bits != 0; bits &= bits - 1)
+                    action.accept(x0 + line, y0 + word * BitsPerLong + Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Method to visit each cell which was born in the most recent step, in order of x and then of y.
+     *
+     * @param action the action to be performed for each cell born.
+     * @throws LifeException if this board has been changed (other than by step) since it was last stepped.
+     */
+    public void forEachBorn(CellConsumer action) {
+        if (!stepped) throw new LifeException("BitBoard: forEachBorn: no step to compare with");
+        for (int line = 0, i = 0; line < width; line++)
+            for (int word = 0; word < words; word++, i++)
+                for (long bits = cells[i] & ~scratch[i]; bits != 0; bits &= bits - 1)
+                    action.accept(x0 + line, y0 + word * BitsPerLong + Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Method to yield the next generation, within the same region as this board.
+     * Any cells which would be born outside the region are lost, so the caller must ensure that there is a margin of dead cells
+     * (as there is for a board created from points).
+     *
+     * @return a new BitBoard.
+     */
+    public BitBoard next() {
+        final BitBoard result = new BitBoard(generation + 1, x0, y0, width, words);
+        step(cells, result.cells, width, words);
+        return result;
+    }
+
+    /**
+     * Method to advance this board by one generation, in place, first refitting the region (with a margin) around the live cells
+     * if there is a live cell on its boundary (so that no cell is ever lost, and a moving pattern does not make the region grow without limit).
+     * Apart from any such refitting, stepping allocates nothing.
+     */
+    public void step() {
+        if (onBoundary()) refit();
+        if (scratch == null || scratch.length != cells.length) scratch = new long[cells.length];
+        step(cells, scratch, width, words);
+        final long[] t = cells;
+        cells = scratch;
+        scratch = t;
+        generation++;
+        stepped = true;
+    }
+
+    @Override
+    public BitBoard generation(BiConsumer<Long, Void> monitor) {
+        monitor.accept(generation, null);
+        final BitBoard result = copy();
+        result.step();
+        return result;
+    }
+
+    /**
+     * Method to get the number of live cells.
+     *
+     * @return the count of set bits.
+     */
+    @Override
+    public int getCount() {
+        int result = 0;
+        for (long bits : cells) result += Long.bitCount(bits);
+        return result;
+    }
+
+    /**
+     * Method to yield a String with a line for each y-coordinate (the greatest first) and a character for each x-coordinate,
+     * trimmed to the live cells.
+     *
+     * @return a String.
+     */
+    @Override
+    public String render() {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int line = 0, i = 0; line < width; line++)
+            for (int word = 0; word < words; word++, i++)
+                if (cells[i] != 0) {
+                    minX = Math.min(minX, x0 + line);
+                    maxX = Math.max(maxX, x0 + line);
+                    minY = Math.min(minY, y0 + word * BitsPerLong + Long.numberOfTrailingZeros(cells[i]));
+                    maxY = Math.max(maxY, y0 + word * BitsPerLong + BitsPerLong - 1 - Long.numberOfLeadingZeros(cells[i]));
+                }
+        final StringBuilder sb = new StringBuilder();
+        for (int y = maxY; y >= minY; y--) {
+            for (int x = minX; x <= maxX; x++) sb.append(isAlive(x, y) ? '*' : '.');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Method to get the generation of this board.
+     *
+     * @return the generation.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the least x-coordinate of the region.
+     */
+    public int getX0() {
+        return x0;
+    }
+
+    /**
+     * @return the least y-coordinate of the region.
+     */
+    public int getY0() {
+        return y0;
+    }
+
+    /**
+     * @return the number of x-coordinates of the region.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the number of y-coordinates of the region (a multiple of 64).
+     */
+    public int getHeight() {
+        return words * BitsPerLong;
+    }
+
+    /**
+     * Method to create a copy of this board (at the same generation).
+     *
+     * @return a new BitBoard.
+     */
+    public BitBoard copy() {
+        final BitBoard result = new BitBoard(generation, x0, y0, width, words);
+        System.arraycopy(cells, 0, result.cells, 0, cells.length);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BitBoard{generation=" + generation + ", region=[" + x0 + ", " + y0 + "] + [" + width + ", " + getHeight() + "], count=" + getCount() + "}";
+    }
+
+    /**
+     * Compute the next generation of the cells of src into dst (src and dst must be distinct).
+     *
+     * @param src   the current cells.
+     * @param dst   the next cells.
+     * @param width the number of lines.
+     * @param words the number of words per line.
+     */
+    static void step(long[] src, long[] dst, int width, int words) {
+        for (int line = 0; line < width; line++) {
+            final int here = line * words;
+            final int before = line > 0 ? here - words : -1;
+            final int after = line < width - 1 ? here + words : -1;
+            for (int word = 0; word < words; word++) {
+                final boolean first = word == 0, last = word == words - 1;
+                // The three words of the adjacent lines (before, here and after) and their words on either side.
+                final long b = before < 0 ? 0 : src[before + word], bLo = before < 0 || first ? 0 : src[before + word - 1], bHi = before < 0 || last ? 0 : src[before + word + 1];
+                final long h = src[here + word], hLo = first ? 0 : src[here + word - 1], hHi = last ? 0 : src[here + word + 1];
+                final long a = after < 0 ? 0 : src[after + word], aLo = after < 0 || first ? 0 : src[after + word - 1], aHi = after < 0 || last ? 0 : src[after + word + 1];
+                dst[here + word] = nextState(h,
+                        b << 1 | bLo >>> 63, b, b >>> 1 | bHi << 63,
+                        h << 1 | hLo >>> 63, h >>> 1 | hHi << 63,
+                        a << 1 | aLo >>> 63, a, a >>> 1 | aHi << 63);
+            }
+        }
+    }
+
+    /**
+     * Compute the next state of 64 cells, given their current state and the states of their eight neighbors.
+     * The neighbor count of each cell is held in "bit slices" and the sum is formed by full- and half-adders.
+     *
+     * @return the next state of the 64 cells.
+     */
+    static long nextState(long alive, long b0, long b1, long b2, long h0, long h2, long a0, long a1, long a2) {
+        // The sum of each of the outer triples as two bits (weights 1 and 2).
+        final long bx = b0 ^ b1, bOnes = bx ^ b2, bTwos = b0 & b1 | b2 & bx;
+        final long ax = a0 ^ a1, aOnes = ax ^ a2, aTwos = a0 & a1 | a2 & ax;
+        // The sum of the middle pair.
+        final long hOnes = h0 ^ h2, hTwos = h0 & h2;
+        // The ones bit of the total, and the carry into its twos.
+        final long ox = bOnes ^ aOnes, ones = ox ^ hOnes, carry = bOnes & aOnes | hOnes & ox;
+        // The total is 2 or 3 if and only if exactly one of the four twos (bTwos, aTwos, hTwos, carry) is set.
+        final long p = bTwos ^ aTwos, q = hTwos ^ carry;
+        final long twoOrThree = (p ^ q) & ~(bTwos & aTwos | hTwos & carry);
+        return twoOrThree & (ones | alive);
+    }
+
+    private BitBoard(long generation, int x0, int y0, int width, int words) {
+        if (width < 1 || words < 1) throw new LifeException("BitBoard: region must not be empty");
+        this.generation = generation;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.width = width;
+        this.words = words;
+        this.cells = new long[width * words];
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= x0 && x < x0 + width && y >= y0 && (long) y - y0 < (long) words * BitsPerLong;
+    }
+
+    private int index(int x, int y) {
+        if (!contains(x, y)) throw new LifeException("BitBoard: (" + x + ", " + y + ") is outside region");
+        return (x - x0) * words + (y - y0) / BitsPerLong;
+    }
+
+    /**
+     * @return true if there is a live cell in the first or last line, or in the first or last bit of any line.
+     */
+    private boolean onBoundary() {
+        for (int word = 0; word < words; word++)
+            if (cells[word] != 0 || cells[(width - 1) * words + word] != 0) return true;
+        for (int line = 0; line < width; line++)
+            if ((cells[line * words] & 1L) != 0 || (cells[line * words + words - 1] & HighBit) != 0) return true;
+        return false;
+    }
+
+    /**
+     * Refit the region to the lines and words which hold live cells, with LineMargin lines on either side
+     * and one word at either end of every line.
+     */
+    private void refit() {
+        int minLine = width, maxLine = -1, minWord = words, maxWord = -1;
+        for (int line = 0, i = 0; line < width; line++)
+            for (int word = 0; word < words; word++, i++)
+                if (cells[i] != 0) {
+                    minLine = Math.min(minLine, line);
+                    maxLine = line;
+                    minWord = Math.min(minWord, word);
+                    maxWord = Math.max(maxWord, word);
+                }
+        final int newWidth = maxLine - minLine + 1 + 2 * LineMargin, newWords = maxWord - minWord + 3;
+        final long[] refitted = new long[newWidth * newWords];
+        for (int line = minLine; line <= maxLine; line++)
+            System.arraycopy(cells, line * words + minWord, refitted, (line - minLine + LineMargin) * newWords + 1, newWords - 2);
+        x0 += minLine - LineMargin;
+        y0 += (minWord - 1) * BitsPerLong;
+        width = newWidth;
+        words = newWords;
+        cells = refitted;
+        scratch = null;
+        stepped = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBoard)) return false;
+        BitBoard board = (BitBoard) o;
+        return x0 == board.x0 && y0 == board.y0 && width == board.width && words == board.words && Arrays.equals(cells, board.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+
+    private static final int BitsPerLong = 64;
+    private static final long HighBit = 1L << 63;
+    private static final int LineMargin = 32;
+
+    private long generation;
+    private int x0; // the x-coordinate of the first line.
+    private int y0; // the y-coordinate of the first bit of each line.
+    private int width; // the number of lines.
+    private int words; // the number of words per line.
+    private long[] cells; // the lines, each of words words.
+    private transient long[] scratch; // the buffer for the next generation (used by step), which then holds the previous generation.
+    private transient boolean stepped = false; // true if scratch holds the previous generation (used by forEachBorn).
+}
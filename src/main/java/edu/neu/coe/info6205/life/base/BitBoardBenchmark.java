@@ -0,0 +1,35 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of BitBoard: the rate at which it steps a random "soup" of size n x n (with a third of the cells alive).
+ * <p>
+ * Usage: BitBoardBenchmark [n] [generations] (defaults 4,096 and 100).
+ */
+public class BitBoardBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        final Random random = new Random(0L);
+        final BitBoard board = new BitBoard(0, 0, n, n);
+        // Leave a margin so that the board doesn't need to expand.
+        for (int x = n / 8; x < n - n / 8; x++)
+            for (int y = n / 8; y < n - n / 8; y++)
+                if (random.nextInt(3) == 0) board.set(x, y);
+        logger.info("BitBoardBenchmark: " + n + " x " + n + " board with " + formatWhole(board.getCount()) + " live cells");
+        double time = new Benchmark_Timer<BitBoard>("BitBoard.step", b -> {
+            for (int i = 0; i < generations; i++) b.step();
+        }).run(board, 3);
+        System.out.println("BitBoard: " + String.format("%.1f", generations * 1000 / time) + " generations/sec (" +
+                formatWhole(board.getCount()) + " live cells after " + formatWhole((int) board.getGeneration()) + " generations)");
+    }
+
+    final static LazyLogger logger = new LazyLogger(BitBoardBenchmark.class);
+}
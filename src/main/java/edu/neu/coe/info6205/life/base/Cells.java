@@ -0,0 +1,233 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a list of cells (coordinate pairs), packed two to a long, in a growable long[].
+ * <p>
+ * Unlike a List of Point, a Cells allocates nothing per cell: forEach(CellConsumer) and getX/getY visit the cells without creating Points,
+ * and shift moves every cell in constant time, by changing an offset which is added to the stored coordinates (rather than rewriting them).
+ * Points are only created for callers which ask for them (get, iterator, toList).
+ * <p>
+ * As with a List, the order in which cells are added is preserved, and the same cell may be added more than once.
+ */
+public final class Cells implements Iterable<Point> {
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the initial capacity.
+     */
+    public Cells(int capacity) {
+        this.cells = new long[Math.max(capacity, 4)];
+    }
+
+    /**
+     * Constructor for an empty Cells with a default capacity.
+     */
+    public Cells() {
+        this(16);
+    }
+
+    /**
+     * Method to create a Cells from some points.
+     *
+     * @param points the points.
+     * @return a new Cells, with the points in the same order.
+     */
+    public static Cells create(Iterable<Point> points) {
+        final Cells result = new Cells();
+        for (Point p : points) result.add(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Method to add a cell at the end.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true.
+     */
+    public boolean add(int x, int y) {
+        if (size == cells.length) cells = Arrays.copyOf(cells, size * 2);
+        cells[size++] = pack(x - dx, y - dy);
+        return true;
+    }
+
+    /**
+     * Method to add a cell at the end.
+     *
+     * @param point the cell.
+     * @return true.
+     */
+    public boolean add(Point point) {
+        return add(point.getX(), point.getY());
+    }
+
+    /**
+     * Method to remove the first occurrence of a cell (the order of the remaining cells is preserved).
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell was present.
+     */
+    public boolean remove(int x, int y) {
+        final int i = indexOf(x, y);
+        if (i < 0) return false;
+        System.arraycopy(cells, i + 1, cells, i, size - i - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return the index of the first occurrence of (x, y), or -1 if it is not present.
+     */
+    public int indexOf(int x, int y) {
+        final long key = pack(x - dx, y - dy);
+        for (int i = 0; i < size; i++) if (cells[i] == key) return i;
+        return -1;
+    }
+
+    /**
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if (x, y) is present.
+     */
+    public boolean contains(int x, int y) {
+        return indexOf(x, y) >= 0;
+    }
+
+    /**
+     * Method to move every cell by (x, y), in constant time.
+     *
+     * @param x the change in the x-coordinates.
+     * @param y the change in the y-coordinates.
+     */
+    public void shift(int x, int y) {
+        dx += x;
+        dy += y;
+    }
+
+    /**
+     * @param i the index of a cell.
+     * @return the x-coordinate of the cell.
+     */
+    public int getX(int i) {
+        return (int) (cells[i] >> 32) + dx;
+    }
+
+    /**
+     * @param i the index of a cell.
+     * @return the y-coordinate of the cell.
+     */
+    public int getY(int i) {
+        return (int) cells[i] + dy;
+    }
+
+    /**
+     * @param i the index of a cell.
+     * @return a new Point for the cell.
+     */
+    public Point get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Cells.get: " + i);
+        return new Point(getX(i), getY(i));
+    }
+
+    /**
+     * @return the number of cells.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method to visit each cell, in order, without creating Points.
+     *
+     * @param action the action to be performed for each cell.
+     */
+    public void forEach(BitBoard.CellConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(getX(i), getY(i));
+    }
+
+    /**
+     * @return a copy of this Cells (which shares nothing with this).
+     */
+    public Cells copy() {
+        final Cells result = new Cells(size);
+        System.arraycopy(cells, 0, result.cells, 0, size);
+        result.size = size;
+        result.dx = dx;
+        result.dy = dy;
+        return result;
+    }
+
+    /**
+     * @return a new List of the cells, as Points.
+     */
+    public List<Point> toList() {
+        final List<Point> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) result.add(get(i));
+        return result;
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            public Point next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(i++);
+            }
+
+            private int i = 0;
+        };
+    }
+
+    /**
+     * Two Cells are equal if they have the same cells in the same order (as for Lists).
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cells)) return false;
+        final Cells other = (Cells) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) if (getX(i) != other.getX(i) || getY(i) != other.getY(i)) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) result = 31 * result + 31 * (31 + getX(i)) + getY(i);
+        return result;
+    }
+
+    /**
+     * @return the cells in the same form as a List of Points.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) sb.append(i > 0 ? ", " : "").append("{").append(getX(i)).append(", ").append(getY(i)).append("}");
+        return sb.append("]").toString();
+    }
+
+    private static long pack(int x, int y) {
+        return (long) x << 32 | y & 0xFFFFFFFFL;
+    }
+
+    private long[] cells;
+    private int size = 0;
+    private int dx = 0;
+    private int dy = 0;
+}
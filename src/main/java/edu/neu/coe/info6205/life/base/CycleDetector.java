@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.function.BiPredicate;
+
+/**
+ * This class detects when a sequence of states (such as the generations of a Game) enters a cycle,
+ * using Brent's algorithm (1980) on the Zobrist hashes of the states.
+ * <p>
+ * Only one earlier state (the "tortoise") is remembered, so memory is bounded however long the sequence.
+ * Each new state is compared with the tortoise: first by hash, and only if the hashes are equal, by the (expensive) equivalence test.
+ * The tortoise is replaced by the current state whenever the number of states since the tortoise reaches a power of two,
+ * so that a cycle of period p, which is entered after m states, is detected within about 2 max(m, p) + p states.
+ *
+ * @param <T> the type of the states.
+ */
+public class CycleDetector<T> {
+
+    /**
+     * Constructor.
+     *
+     * @param equivalent a predicate to determine if two states are truly equivalent (when their hashes are equal).
+     */
+    public CycleDetector(BiPredicate<T, T> equivalent) {
+        this.equivalent = equivalent;
+    }
+
+    /**
+     * Method to consider the next state.
+     *
+     * @param hash  the hash of state.
+     * @param state the next state.
+     * @return true if state is equivalent to an earlier state.
+     */
+    public boolean repeats(Zobrist hash, T state) {
+        if (tortoise != null) {
+            steps++;
+            if (hash.equals(tortoiseHash)) {
+                if (equivalent.test(tortoise, state)) {
+                    period = steps;
+                    return true;
+                }
+                collisions++;
+            }
+        }
+        if (tortoise == null || steps == power) {
+            if (tortoise != null) power *= 2;
+            tortoise = state;
+            tortoiseHash = hash.copy();
+            steps = 0;
+        }
+        return false;
+    }
+
+    /**
+     * @return the period of the cycle (once detected), else 0.
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return the number of times that equal hashes were found for states which were not equivalent.
+     */
+    public long getCollisions() {
+        return collisions;
+    }
+
+    private final BiPredicate<T, T> equivalent;
+    private T tortoise = null;
+    private Zobrist tortoiseHash = null;
+    private long power = 1;
+    private long steps = 0;
+    private long period = 0;
+    private long collisions = 0;
+}
@@ -2,8 +2,6 @@ package edu.neu.coe.info6205.life.base;
 
 import edu.neu.coe.info6205.life.library.Library;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -65,9 +63,6 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
 
     public static final int MaxGenerations = 1000;
 
-    // CONSIDER making this a priority queue so that the older generations can be discarded.
-    public static final Map<Game, Long> generations = new HashMap<>();
-
     public static void main(String[] args) {
         String patternName = args.length > 0 ? args[0] : "Blip";
         System.out.println("Game of Life with starting pattern: " + patternName);
@@ -75,19 +70,36 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
         run(pattern);
     }
 
-    public static void run(String pattern) {
+    /**
+     * Method to run a Game of Life until it dies out, repeats an earlier generation or reaches MaxGenerations.
+     * Repetition is detected by a CycleDetector, which remembers only one earlier Game.
+     *
+     * @param pattern the starting pattern.
+     * @return the final Game.
+     */
+    public static Game run(String pattern) {
         final long generation = 0L;
         final Grid grid = new Grid(generation);
         grid.add(Group.create(generation, pattern));
         BiConsumer<Long, Grid> gridMonitor = (l, g) -> System.out.println("generation " + l + "; grid=" + g);
         BiConsumer<Long, Group> groupMonitor = (l, g) -> System.out.println("generation " + l + ";\ngroup=\n" + g.render());
+        final CycleDetector<Game> detector = new CycleDetector<>((g1, g2) -> g1.grid.sameCells(g2.grid));
         Game game = new Game(generation, grid, groupMonitor);
-        while (!game.terminated()) {
-            generations.put(game, game.generation);
+        while (!game.terminated(detector)) {
             System.out.println(game.render());
             game = game.generation(gridMonitor);
         }
         System.out.println("Ending Game of Life after " + game.generation + " generations and with " + game.getCount() + " cells");
+        return game;
+    }
+
+    /**
+     * Method to get the generation of this Game.
+     *
+     * @return the generation.
+     */
+    public long getGeneration() {
+        return generation;
     }
 
     private Game(long generation, BiConsumer<Long, Group> monitor) {
@@ -100,10 +112,10 @@ public class Game implements Generational<Game, Grid>, Countable, Renderable {
         this.monitor = monitor;
     }
 
-    private boolean terminated() {
+    private boolean terminated(CycleDetector<Game> detector) {
         return testTerminationPredicate(g -> g.generation >= MaxGenerations, "having exceeded " + MaxGenerations + " generations") ||
                 testTerminationPredicate(g -> g.getCount() == 0, "no cells") ||
-                testTerminationPredicate(generations::containsKey, "having previous equivalent game");
+                testTerminationPredicate(g -> detector.repeats(g.grid.getZobrist(), g), "having previous equivalent game");
     }
 
     private boolean testTerminationPredicate(Predicate<Game> predicate, String message) {
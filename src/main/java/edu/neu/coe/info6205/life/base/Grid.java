@@ -1,8 +1,10 @@
 package edu.neu.coe.info6205.life.base;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -91,6 +93,33 @@ public class Grid implements Generational<Grid, Group>, Countable, Renderable {
         return Objects.hash(groups);
     }
 
+    /**
+     * Method to get the Zobrist hash of the cells of this Grid: since Groups do not overlap, it is the exclusive-or of their hashes.
+     *
+     * @return a new Zobrist.
+     */
+    Zobrist getZobrist() {
+        final Zobrist result = new Zobrist();
+        forEach(g -> result.xor(g.getZobrist()));
+        return result;
+    }
+
+    /**
+     * Method to determine if this Grid has exactly the same live cells as another, however they are grouped or ordered.
+     *
+     * @param other the other Grid.
+     * @return true if the cells are the same.
+     */
+    boolean sameCells(Grid other) {
+        if (getCount() != other.getCount()) return false;
+        final Set<Point> cells = new HashSet<>();
+        forEach(g -> cells.addAll(g.pointsAbsolute()));
+        for (Group g : other.groups)
+            for (Point p : g.pointsAbsolute())
+                if (!cells.contains(p)) return false;
+        return true;
+    }
+
     /**
      * Unsupported Operation,
      *
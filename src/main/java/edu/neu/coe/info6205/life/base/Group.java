@@ -1,11 +1,8 @@
 package edu.neu.coe.info6205.life.base;
 
-import edu.neu.coe.info6205.util.Range;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
@@ -14,6 +11,15 @@ import static edu.neu.coe.info6205.life.base.Grid.Origin;
 
 /**
  * Class to model a group of cells. Groups may not overlap. If an overlap occurs through expansion, then the groups must merge.
+ * <p>
+ * The cells are held in a Cells object (coordinates packed into a long[]), so that neither iterating over the cells,
+ * nor changing the origin, nor computing a new generation, allocates a Point per cell.
+ * <p>
+ * A new generation is computed by stepping a BitBoard (in absolute coordinates, so that it is unaffected by changes of origin),
+ * which is handed on from each generation to the next, and so is built only when the cells have been changed in some other way.
+ * What is still allocated for each generation is the new Group and its Cells, about 8 bytes per live cell
+ * (compared with 57 when the cells were a List of Points): a seven-fold reduction, rather than an order of magnitude,
+ * because the Cells cannot be reused while each generation is a distinct Group (the previous generation remains valid).
  */
 public class Group implements Generational<Group, Void>, Renderable, Countable {
 
@@ -23,9 +29,9 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @param generation the generation of this Group.
      */
     public static Group create(long generation, Point point) {
-        final List<Point> points = new ArrayList<>();
-        points.add(point);
-        return new Group(generation, point, points);
+        final Cells cells = new Cells();
+        cells.add(point);
+        return new Group(generation, point, cells);
     }
 
     /**
@@ -43,6 +49,21 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
         return result;
     }
 
+    /**
+     * Factory method to create a new Group from the given cells (for example, those loaded from a pattern file).
+     * The Group takes ownership of cells, which must not be used afterwards by the caller.
+     *
+     * @param generation the current generation.
+     * @param cells      the cells, in absolute (Grid) coordinates.
+     * @return a new Group.
+     */
+    public static Group create(long generation, Cells cells) {
+        if (cells == null) throw new LifeException("create: was given null cells");
+        final Group result = new Group(generation, Origin, cells);
+        result.normalize();
+        return result;
+    }
+
     /**
      * Appends the specified point to the list of points and normalizes the Group.
      *
@@ -142,7 +163,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @return a transposed version of this Group.
      */
     Group move(Point vector) {
-        return new Group(generation, origin.move(vector), points);
+        return new Group(generation, origin.move(vector), cells.copy());
     }
 
     /**
@@ -163,7 +184,12 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @return a new Group, which may possibly overlap with other Groups.
      */
     Group newGeneration(long generation) {
-        Group result = copy(generation);
+        // The cells need not be copied: applyLifeRules only reads them, and then replaces them with new cells.
+        final Group result = new Group(generation, origin, extent1, extent2, cells);
+        if (zobrist != null) result.zobrist = zobrist.copy();
+        // The board is handed on (rather than copied), since applyLifeRules steps it in place.
+        result.board = board;
+        board = null;
         result.applyLifeRules();
         return result;
     }
@@ -186,7 +212,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @since 1.8
      */
     void forEach(Consumer<? super Point> action) {
-        points.forEach(action);
+        for (Point p : cells) action.accept(p);
     }
 
     /**
@@ -203,7 +229,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      */
     @Override
     public String toString() {
-        return "generation " + this.generation + ", origin = " + origin + ", extents = [" + extent1 + ", " + extent2 + "]\n    " + points;
+        return "generation " + this.generation + ", origin = " + origin + ", extents = [" + extent1 + ", " + extent2 + "]\n    " + cells;
     }
 
     /**
@@ -229,7 +255,10 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      *                                       is not supported by this list
      */
     public boolean remove(Point p) {
-        return points.remove(p);
+        final boolean result = cells.remove(p.getX(), p.getY());
+        if (result) board = null;
+        if (result && zobrist != null) toggle(p.getX(), p.getY());
+        return result;
     }
 
     /**
@@ -237,9 +266,9 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      *
      * @return a List of points relative to Grid.
      */
-    List<Point> pointsAbsolute() {
-        List<Point> result = new ArrayList<>();
-        forEach(p -> result.add(p.move(origin)));
+    public List<Point> pointsAbsolute() {
+        List<Point> result = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) result.add(new Point(cells.getX(i) + origin.getX(), cells.getY(i) + origin.getY()));
         return result;
     }
 
@@ -250,7 +279,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      */
     @Override
     public int getCount() {
-        return points.size();
+        return cells.size();
     }
 
     /**
@@ -274,7 +303,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(points);
+        return cells.hashCode();
     }
 
     /**
@@ -303,7 +332,10 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
 
     private boolean addPoint(Point point) {
         Point o = origin != null ? origin : Origin; // CONSIDER may not be necessary
-        return points.add(point.relative(o));
+        final boolean result = cells.add(point.getX() - o.getX(), point.getY() - o.getY());
+        if (result) board = null;
+        if (result && zobrist != null) zobrist.toggle(point.getX(), point.getY());
+        return result;
     }
 
     /**
@@ -316,26 +348,29 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
         return new Group(generation, origin, mapPoints(f));
     }
 
-    private List<Point> mapPoints(UnaryOperator<Point> f) {
-        final List<Point> mapped = new ArrayList<>();
-        points.forEach(p -> mapped.add(p.map(f)));
+    private Cells mapPoints(UnaryOperator<Point> f) {
+        final Cells mapped = new Cells(cells.size());
+        forEach(p -> mapped.add(p.map(f)));
         return mapped;
     }
 
     private void normalize() {
-        if (points.size() == 0) return;
-        forEach(this::updateExtents);
-        if (origin != null && points.contains(Origin)) return;  // CONSIDER null check of origin may not be necessary
-        updateOrigin(points.get(0));
+        if (cells.size() == 0) return;
+        updateExtents();
+        if (origin != null && cells.contains(0, 0)) return;  // CONSIDER null check of origin may not be necessary
+        updateOrigin(cells.get(0));
     }
 
+    /**
+     * Move the origin to point (relative to the current origin): the absolute positions of the cells do not change
+     * (and so neither does the Zobrist hash).
+     */
     private void updateOrigin(Point point) {
         Point o = origin != null ? origin : Origin;  // CONSIDER may not be necessary
-        Point vector = point.vector(o);
-        origin = point;
+        origin = o.move(point);
         extent1 = extent1.relative(point);
         extent2 = extent2.relative(point);
-        points = mapPoints(p -> p.relative(point));
+        cells.shift(-point.getX(), -point.getY());
     }
 
     /**
@@ -348,11 +383,9 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
     private Group changeOrigin(long generation, Point origin) {
         Point vector = origin.vector(this.origin);
         // TODO use updateOrigin
-        return new Group(generation, origin, extent1.move(vector), extent2.move(vector), mapPoints(p -> p.move(vector)));
-    }
-
-    private Group copy(long generation) {
-        return new Group(generation, origin.copy(), extent1.copy(), extent2.copy(), mapPoints(Point::copy));
+        final Cells moved = cells.copy();
+        moved.shift(vector.getX(), vector.getY());
+        return new Group(generation, origin, extent1.move(vector), extent2.move(vector), moved);
     }
 
     private Point getAbsolute(Point p) {
@@ -363,30 +396,14 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * This method accounts for the change in origin as we go to the new generation.
      *
      * @param point the point, relative to which, the Points should move.
-     * @return a list of Points based on the new coordinates.
+     * @return a new Cells based on the new coordinates.
      */
-    private List<Point> moveCellsRelative(Point point) {
-        List<Point> result = new ArrayList<>();
-        forEach(p -> result.add(p.relative(point)));
+    private Cells moveCellsRelative(Point point) {
+        final Cells result = cells.copy();
+        result.shift(-point.getX(), -point.getY());
         return result;
     }
 
-    private Point updateCell(int count, boolean onEdge, int i, int j, int[][] grid) {
-        // grid indices are in the coordinate system of the cells (points).
-        final Point p = new Point(i, j).move(extent1);
-        if (onEdge || grid[i - 1][j - 1] == 0)
-            if (count == BirthNeighborCount) {
-                assert onEdge || !points.contains(p) : "logic error: should not exist: " + p;
-                return p;
-            } else return null;
-        else {
-            assert points.contains(p) : "logic error: should exist: " + p;
-            final boolean ok = DeathRange.contains(count) || remove(p);
-            assert ok : "Problem removing point: " + p;
-            return null;
-        }
-    }
-
     /**
      * Get the absolute value of the diagonal of the boundary.
      *
@@ -398,14 +415,24 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
         else return getAbsolute(extent1.move(extent2.getX(), 0));
     }
 
-    private void updateExtents(Point point) {
-        if (point == null) throw new LifeException("updateExtents: point is null");
-        if (extent2 == null) extent2 = point;
-        if (extent1 == null) extent1 = point;
-        if (point.getX() >= extent2.getX()) extent2 = new Point(point.getX() + 1, extent2.getY());
-        if (point.getY() >= extent2.getY()) extent2 = new Point(extent2.getX(), point.getY() + 1);
-        if (point.getX() <= extent1.getX()) extent1 = new Point(point.getX() - 1, extent1.getY());
-        if (point.getY() <= extent1.getY()) extent1 = new Point(extent1.getX(), point.getY() - 1);
+    /**
+     * Extend the extents (if necessary) so that they enclose all of the cells, with a margin of one.
+     * Only the (at most two) new extents are allocated.
+     */
+    private void updateExtents() {
+        if (cells.size() == 0) return;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < cells.size(); i++) {
+            final int x = cells.getX(i), y = cells.getY(i);
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+        if (extent1 == null || minX - 1 < extent1.getX() || minY - 1 < extent1.getY())
+            extent1 = extent1 == null ? new Point(minX - 1, minY - 1) : new Point(Math.min(minX - 1, extent1.getX()), Math.min(minY - 1, extent1.getY()));
+        if (extent2 == null || maxX + 1 > extent2.getX() || maxY + 1 > extent2.getY())
+            extent2 = extent2 == null ? new Point(maxX + 1, maxY + 1) : new Point(Math.max(maxX + 1, extent2.getX()), Math.max(maxY + 1, extent2.getY()));
     }
 
     /**
@@ -452,56 +479,100 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @return the points in this Group.
      */
     private Collection<Point> getPoints() {
-        return points;
+        return cells.toList();
     }
     // which is furthest from the origin of the coordinate system.
     // All cells have negative coordinates compared to extent2.
 
+    /**
+     * Method to apply the rules of Life to this Group, using a BitBoard (in the coordinate system of this Group).
+     * The surviving points keep their order, and are followed by the new points, in order of x and then of y.
+     * If the Zobrist hash has been computed, it is updated for each cell which dies or is born.
+     */
     private void applyLifeRules() {
-        final Collection<Point> points = CellsAndNeighbors.create(this).updateCells();
-        // add points after moving relative to origin
-        final List<Point> absPoints = new ArrayList<>();
-        for (Point p : points) absPoints.add(p.move(origin));
-        boolean ok = add(absPoints);
-        assert ok : "Problem adding the new points: " + points;
+        final Point o = origin != null ? origin : Origin;
+        final int ox = o.getX(), oy = o.getY();
+        if (board == null) board = BitBoard.create(cells, ox, oy);
+        board.step();
+        final Cells result = new Cells(board.getCount());
+        for (int i = 0; i < cells.size(); i++) {
+            final int x = cells.getX(i), y = cells.getY(i);
+            if (board.isAlive(x + ox, y + oy)) result.add(x, y);
+            else if (zobrist != null) toggle(x, y);
+        }
+        board.forEachBorn((x, y) -> {
+            result.add(x - ox, y - oy);
+            if (zobrist != null) zobrist.toggle(x, y);
+        });
+        cells = result;
         resetExtents();
     }
 
+    /**
+     * Method to get the Zobrist hash of the cells of this Group (in absolute coordinates).
+     * It is computed (from all the points) only when first needed, and is then updated incrementally, including by newGeneration
+     * (a change of origin does not change the absolute positions of the cells, and so does not change the hash).
+     *
+     * @return the hash (which must not be modified).
+     */
+    Zobrist getZobrist() {
+        if (zobrist == null) zobrist = Zobrist.create(pointsAbsolute());
+        return zobrist;
+    }
+
+    /**
+     * Toggle the cell (x, y) (relative to origin) in the Zobrist hash.
+     */
+    private void toggle(int x, int y) {
+        zobrist.toggle(x + origin.getX(), y + origin.getY());
+    }
+
     private void resetExtents() {
         extent1 = extent2 = null;
         normalize();
     }
 
-    private static final int BirthNeighborCount = 3;
-    private static final int LonelinessNeighborThreshold = 2;
-    private static final int OvercrowdingNeighborThreshold = 3;
-    private static final Range DeathRange = Range.valueOf(LonelinessNeighborThreshold, OvercrowdingNeighborThreshold);
     private final long generation; // the current generation of this Group.
-    private List<Point> points; // the list of non-empty cells within this group (must include one point at the origin).
+    private Cells cells; // the non-empty cells within this group (must include one point at the origin).
     private Point origin; // the position of the origin relative to the grid.
     // All cells have coordinates which are relative to the origin.
     private transient Point extent1; // the position of the corner of the enclosing rectangle of this Group,
     // which is closest to the origin of the coordinate system.
     // All cells have positive coordinates compared to extent1.
     private transient Point extent2; // the position of the corner of the enclosing rectangle of this Group,
+    private transient Zobrist zobrist = null; // the hash of the cells (null until needed).
+    private transient BitBoard board = null; // the cells, in absolute coordinates, as left by applyLifeRules (null if unknown).
 
     /**
      * Base constructor.
-     * <p>
-     * TODO make this private.
      *
      * @param generation the generation of this Group.
      * @param origin     the origin of this Group relative to the origin of the Grid.
      * @param extent1    the extent1 of this Group (i.e. the SW corner of the boundary).
      * @param extent2    the extent2 of this Group (i.e. the NE corner of the boundary).
-     * @param points     a list of points, which are in the coordinate system of this Group.
+     * @param cells      the cells, which are in the coordinate system of this Group.
      */
-    Group(long generation, Point origin, Point extent1, Point extent2, List<Point> points) {
+    private Group(long generation, Point origin, Point extent1, Point extent2, Cells cells) {
         this.generation = generation;
         this.origin = origin;
         this.extent1 = extent1;
         this.extent2 = extent2;
-        this.points = points;
+        this.cells = cells;
+    }
+
+    /**
+     * Constructor as above, but with the points in a List.
+     * <p>
+     * TODO make this private.
+     *
+     * @param generation the generation of this Group.
+     * @param origin     the origin of this Group relative to the origin of the Grid.
+     * @param extent1    the extent1 of this Group (i.e. the SW corner of the boundary).
+     * @param extent2    the extent2 of this Group (i.e. the NE corner of the boundary).
+     * @param points     a list of points, which are in the coordinate system of this Group.
+     */
+    Group(long generation, Point origin, Point extent1, Point extent2, List<Point> points) {
+        this(generation, origin, extent1, extent2, points != null ? Cells.create(points) : null);
     }
 
     /**
@@ -512,7 +583,7 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @param generation the generation of this Group.
      */
     Group(long generation) {
-        this(generation, Origin, new ArrayList<>());
+        this(generation, Origin, new Cells());
     }
 
     /**
@@ -525,8 +596,19 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
      * @param points     the points in this Group, with coordinates relative to the origin (points MUST include 0,0).
      */
     Group(long generation, Point origin, List<Point> points) {
-        this(generation, origin, null, null, points);
-        forEach(this::updateExtents);
+        this(generation, origin, Cells.create(points));
+    }
+
+    /**
+     * Constructor for a Group with a particular origin and some cells (which this Group then owns).
+     *
+     * @param generation the generation of this Group.
+     * @param origin     the origin of this Group relative to the Grid.
+     * @param cells      the cells in this Group, with coordinates relative to the origin.
+     */
+    private Group(long generation, Point origin, Cells cells) {
+        this(generation, origin, null, null, cells);
+        updateExtents();
     }
 
     @Override
@@ -601,17 +683,5 @@ public class Group implements Generational<Group, Void>, Renderable, Countable {
             }
             return sb.toString();
         }
-
-        private Collection<Point> updateCells() {
-            List<Point> additions = new ArrayList<>();
-            // i, j and neighbors are in the coordinate system of the total extents.
-            for (int i = 0; i <= width + 1; i++)
-                for (int j = 0; j <= height + 1; j++) {
-                    final boolean onEdge = i == 0 || i == width + 1 || j == 0 || j == height + 1;
-                    final Point p = group.updateCell(neighbors[i][j], onEdge, i, j, cells);
-                    if (p != null) additions.add(p);
-                }
-            return additions;
-        }
     }
 }
@@ -0,0 +1,471 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements Gosper's HashLife (1984): the (infinite) grid is represented by a quadtree whose nodes are canonical,
+ * i.e. there is only one node for any given square of cells, so that repeated structure (in space and in time) is shared.
+ * <p>
+ * A node of level k is a square of 2^k x 2^k cells, made of four nodes of level k - 1 (the leaves, of level 0, are single cells).
+ * The RESULT of a node of level k (at least 2) is the node of level k - 1 at its center, 2^(k - 2) generations later;
+ * it is computed recursively from the results of nine overlapping nodes of level k - 1, and is memoized in the node.
+ * Since canonical nodes are looked up in a hash table (by the identity of their quadrants), a pattern which repeats
+ * (such as an oscillator, or the background of a glider gun) is computed only once: thus the universe can be advanced
+ * by 2^j generations in one step, in time which depends on the complexity of the pattern rather than on j.
+ * <p>
+ * The results of nodes which are larger than needed for a step of 2^j generations are computed more slowly
+ * (advancing only 2^j generations) and are memoized separately.
+ * <p>
+ * The hash table of nodes (and hence the memory used) is bounded by generational eviction:
+ * when, before a step, the table holds more than maxNodes nodes, it is rebuilt with only the nodes of the current universe
+ * (and all memoized results are forgotten).
+ * <p>
+ * The universe is centered on the origin: a root of level k covers -2^(k-1) &lt;= x, y &lt; 2^(k-1).
+ */
+public class HashLife implements Countable, Renderable {
+
+    /**
+     * Functional interface for forEach.
+     */
+    public interface CellConsumer {
+        void accept(long x, long y);
+    }
+
+    /**
+     * Constructor for an empty universe.
+     *
+     * @param maxNodes the number of nodes which may be held (between steps) before the table is rebuilt.
+     */
+    public HashLife(int maxNodes) {
+        this.maxNodes = maxNodes;
+        this.table = new Node[InitialCapacity];
+        empties.add(Dead);
+        root = empty(MinLevel);
+    }
+
+    /**
+     * Constructor for an empty universe, with a maximum of about 4 million nodes.
+     */
+    public HashLife() {
+        this(DefaultMaxNodes);
+    }
+
+    /**
+     * Method to create a universe from the given points.
+     *
+     * @param points the live cells.
+     * @return a new HashLife.
+     */
+    public static HashLife create(Iterable<Point> points) {
+        final HashLife result = new HashLife();
+        for (Point p : points) result.set(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Method to make the cell at (x, y) alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     */
+    public void set(long x, long y) {
+        while (!contains(root, x, y)) root = expand(root);
+        root = set(root, x + half(root), y + half(root));
+    }
+
+    /**
+     * Method to determine if the cell at (x, y) is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell is alive.
+     */
+    public boolean isAlive(long x, long y) {
+        if (!contains(root, x, y)) return false;
+        Node node = root;
+        x += half(root);
+        y += half(root);
+        while (node.level > 0) {
+            final long h = 1L << node.level - 1;
+            final boolean east = x >= h, north = y >= h;
+            node = north ? east ? node.ne : node.nw : east ? node.se : node.sw;
+            if (east) x -= h;
+            if (north) y -= h;
+        }
+        return node == Alive;
+    }
+
+    /**
+     * Method to advance the universe by 2^j generations.
+     *
+     * @param j the log (base 2) of the number of generations (between 0 and 60).
+     */
+    public void step(int j) {
+        if (j < 0 || j > MaxStep) throw new LifeException("HashLife.step: j out of range: " + j);
+        if (size > maxNodes) collect();
+        // Expand until the pattern lies within the central quarter (so that nothing can escape the result) and the root is large enough.
+        while (root.level < Math.max(j + 2, MinLevel) || !isPadded(root)) root = expand(root);
+        root = successor(root, j);
+        generation += 1L << j;
+    }
+
+    /**
+     * Method to advance the universe by any number of generations, as a sequence of steps of powers of two.
+     *
+     * @param generations the number of generations (not negative).
+     */
+    public void advance(long generations) {
+        if (generations < 0) throw new LifeException("HashLife.advance: generations must not be negative: " + generations);
+        for (int j = 0; generations != 0; j++, generations >>>= 1)
+            if ((generations & 1) != 0) step(j);
+    }
+
+    /**
+     * Method to visit each live cell.
+     *
+     * @param action the action to be performed for each live cell.
+     */
+    public void forEach(CellConsumer action) {
+        forEach(root, -half(root), -half(root), action);
+    }
+
+    /**
+     * @return the number of live cells.
+     */
+    public long getPopulation() {
+        return root.population;
+    }
+
+    /**
+     * @return the number of live cells (or Integer.MAX_VALUE if there are more).
+     */
+    @Override
+    public int getCount() {
+        return (int) Math.min(Integer.MAX_VALUE, root.population);
+    }
+
+    /**
+     * @return the generation of the universe.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of canonical nodes currently held.
+     */
+    public int getNodeCount() {
+        return size;
+    }
+
+    /**
+     * Method to yield a String with a line for each y-coordinate (the greatest first) and a character for each x-coordinate,
+     * trimmed to the live cells.
+     * Only suitable for small patterns.
+     *
+     * @return a String.
+     */
+    @Override
+    public String render() {
+        final List<long[]> cells = new ArrayList<>();
+        forEach((x, y) -> cells.add(new long[]{x, y}));
+        if (cells.isEmpty()) return "";
+        long minX = Long.MAX_VALUE, minY = Long.MAX_VALUE, maxX = Long.MIN_VALUE, maxY = Long.MIN_VALUE;
+        for (long[] c : cells) {
+            minX = Math.min(minX, c[0]);
+            maxX = Math.max(maxX, c[0]);
+            minY = Math.min(minY, c[1]);
+            maxY = Math.max(maxY, c[1]);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (long y = maxY; y >= minY; y--) {
+            for (long x = minX; x <= maxX; x++) sb.append(isAlive(x, y) ? '*' : '.');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "HashLife{generation=" + generation + ", population=" + root.population + ", level=" + root.level + ", nodes=" + size + "}";
+    }
+
+    /**
+     * Method to compute the RESULT of a node: its central node (of the next lower level), 2^min(j, level - 2) generations later.
+     *
+     * @param node a node of level at least 2.
+     * @param j    the log of the number of generations wanted.
+     * @return a node of level node.level - 1.
+     */
+    private Node successor(Node node, int j) {
+        final int k = node.level;
+        if (node.population == 0) return empty(k - 1);
+        final int step = Math.min(j, k - 2);
+        if (node.result != null && node.resultStep == step) return node.result;
+        final Node result;
+        if (k == 2) result = life4x4(node);
+        else {
+            final Node nw = node.nw, ne = node.ne, sw = node.sw, se = node.se;
+            // The nine overlapping nodes of level k - 1 (top row first).
+            final Node n00 = nw, n01 = join(nw.ne, ne.nw, nw.se, ne.sw), n02 = ne;
+            final Node n10 = join(nw.sw, nw.se, sw.nw, sw.ne), n11 = join(nw.se, ne.sw, sw.ne, se.nw), n12 = join(ne.sw, ne.se, se.nw, se.ne);
+            final Node n20 = sw, n21 = join(sw.ne, se.nw, sw.se, se.sw), n22 = se;
+            final Node r00, r01, r02, r10, r11, r12, r20, r21, r22;
+            if (step == k - 2) {
+                // Full speed: advance each of the nine by 2^(k-3), and then each of the four combinations by another 2^(k-3).
+                r00 = successor(n00, j);
+                r01 = successor(n01, j);
+                r02 = successor(n02, j);
+                r10 = successor(n10, j);
+                r11 = successor(n11, j);
+                r12 = successor(n12, j);
+                r20 = successor(n20, j);
+                r21 = successor(n21, j);
+                r22 = successor(n22, j);
+            } else {
+                // Slower: take the centers of the nine, and advance only the four combinations (by 2^j).
+                r00 = center(n00);
+                r01 = center(n01);
+                r02 = center(n02);
+                r10 = center(n10);
+                r11 = center(n11);
+                r12 = center(n12);
+                r20 = center(n20);
+                r21 = center(n21);
+                r22 = center(n22);
+            }
+            result = join(
+                    successor(join(r00, r01, r10, r11), j),
+                    successor(join(r01, r02, r11, r12), j),
+                    successor(join(r10, r11, r20, r21), j),
+                    successor(join(r11, r12, r21, r22), j));
+        }
+        node.result = result;
+        node.resultStep = step;
+        return result;
+    }
+
+    /**
+     * Method to compute the central 2x2 cells of a 4x4 node, one generation later, by counting neighbors.
+     */
+    private Node life4x4(Node node) {
+        // Bit (4 * y + x) represents the cell (x, y), with (0, 0) at the SW corner.
+        int bits = 0;
+        for (int y = 0; y < 4; y++)
+            for (int x = 0; x < 4; x++)
+                if (cell(node, x, y)) bits |= 1 << 4 * y + x;
+        return join(next(bits, 1, 2), next(bits, 2, 2), next(bits, 1, 1), next(bits, 2, 1));
+    }
+
+    private static Node next(int bits, int x, int y) {
+        int count = 0;
+        for (int i = -1; i <= 1; i++)
+            for (int j = -1; j <= 1; j++)
+                if ((i != 0 || j != 0) && (bits & 1 << 4 * (y + j) + x + i) != 0) count++;
+        final boolean alive = (bits & 1 << 4 * y + x) != 0;
+        return count == 3 || count == 2 && alive ? Alive : Dead;
+    }
+
+    private static boolean cell(Node node, int x, int y) {
+        while (node.level > 0) {
+            final int h = 1 << node.level - 1;
+            final boolean east = x >= h, north = y >= h;
+            node = north ? east ? node.ne : node.nw : east ? node.se : node.sw;
+            if (east) x -= h;
+            if (north) y -= h;
+        }
+        return node == Alive;
+    }
+
+    /**
+     * @return the central node (of the next lower level) of node.
+     */
+    private Node center(Node node) {
+        return join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    }
+
+    /**
+     * @return a node of the next higher level, with node at its center (and empty elsewhere).
+     */
+    private Node expand(Node node) {
+        if (node.level >= MaxLevel) throw new LifeException("HashLife: the universe is too large");
+        final Node e = empty(node.level - 1);
+        return join(join(e, e, e, node.nw), join(e, e, node.ne, e), join(e, node.sw, e, e), join(node.se, e, e, e));
+    }
+
+    /**
+     * @return true if all of the live cells of node lie within its central quarter (i.e. within the central nodes of level k - 2).
+     */
+    private static boolean isPadded(Node node) {
+        return node.nw.population == node.nw.se.se.population &&
+                node.ne.population == node.ne.sw.sw.population &&
+                node.sw.population == node.sw.ne.ne.population &&
+                node.se.population == node.se.nw.nw.population;
+    }
+
+    /**
+     * @return the (canonical) node with cell (x, y) (relative to its SW corner) alive.
+     */
+    private Node set(Node node, long x, long y) {
+        if (node.level == 0) return Alive;
+        final long h = 1L << node.level - 1;
+        final boolean east = x >= h, north = y >= h;
+        final long dx = east ? x - h : x, dy = north ? y - h : y;
+        if (north)
+            return east ? join(node.nw, set(node.ne, dx, dy), node.sw, node.se) : join(set(node.nw, dx, dy), node.ne, node.sw, node.se);
+        else
+            return east ? join(node.nw, node.ne, node.sw, set(node.se, dx, dy)) : join(node.nw, node.ne, set(node.sw, dx, dy), node.se);
+    }
+
+    private void forEach(Node node, long x, long y, CellConsumer action) {
+        if (node.population == 0) return;
+        if (node.level == 0) {
+            action.accept(x, y);
+            return;
+        }
+        final long h = 1L << node.level - 1;
+        forEach(node.sw, x, y, action);
+        forEach(node.se, x + h, y, action);
+        forEach(node.nw, x, y + h, action);
+        forEach(node.ne, x + h, y + h, action);
+    }
+
+    private static boolean contains(Node node, long x, long y) {
+        final long h = half(node);
+        return x >= -h && x < h && y >= -h && y < h;
+    }
+
+    private static long half(Node node) {
+        return 1L << node.level - 1;
+    }
+
+    /**
+     * @return the empty node of the given level.
+     */
+    private Node empty(int level) {
+        while (empties.size() <= level) {
+            final Node e = empties.get(empties.size() - 1);
+            empties.add(join(e, e, e, e));
+        }
+        return empties.get(level);
+    }
+
+    /**
+     * Method to get the canonical node with the given quadrants (which must themselves be canonical), creating it if necessary.
+     */
+    private Node join(Node nw, Node ne, Node sw, Node se) {
+        final int hash = hash(nw, ne, sw, se);
+        int i = hash & table.length - 1;
+        for (Node node = table[i]; node != null; node = node.next)
+            if (node.nw == nw && node.ne == ne && node.sw == sw && node.se == se) return node;
+        final Node result = new Node(nw, ne, sw, se, hash);
+        if (size >= table.length * 3 / 4) {
+            resize(table.length * 2);
+            i = hash & table.length - 1;
+        }
+        result.next = table[i];
+        table[i] = result;
+        size++;
+        return result;
+    }
+
+    private static int hash(Node nw, Node ne, Node sw, Node se) {
+        int h = nw.hash;
+        h = h * 0x9E3779B1 + ne.hash;
+        h = h * 0x9E3779B1 + sw.hash;
+        h = h * 0x9E3779B1 + se.hash;
+        return h ^ h >>> 15;
+    }
+
+    private void resize(int capacity) {
+        final Node[] old = table;
+        table = new Node[capacity];
+        for (Node node : old)
+            while (node != null) {
+                final Node next = node.next;
+                final int i = node.hash & capacity - 1;
+                node.next = table[i];
+                table[i] = node;
+                node = next;
+            }
+    }
+
+    /**
+     * Rebuild the table with only the nodes of the current universe (and the empty nodes), forgetting all memoized results.
+     */
+    private void collect() {
+        final Node[] old = table;
+        for (Node node : old)
+            for (; node != null; node = node.next) {
+                node.result = null;
+                node.mark = false;
+            }
+        table = new Node[InitialCapacity];
+        size = 0;
+        final List<Node> keep = new ArrayList<>(empties);
+        keep.add(root);
+        for (Node node : keep) retain(node);
+    }
+
+    private void retain(Node node) {
+        if (node.level == 0 || node.mark) return;
+        node.mark = true;
+        retain(node.nw);
+        retain(node.ne);
+        retain(node.sw);
+        retain(node.se);
+        if (size >= table.length * 3 / 4) resize(table.length * 2);
+        final int i = node.hash & table.length - 1;
+        node.next = table[i];
+        table[i] = node;
+        size++;
+    }
+
+    private static final class Node {
+        /**
+         * Constructor for a leaf (a single cell).
+         */
+        Node(boolean alive) {
+            this.level = 0;
+            this.nw = this.ne = this.sw = this.se = null;
+            this.population = alive ? 1 : 0;
+            this.hash = alive ? 1 : 0;
+        }
+
+        Node(Node nw, Node ne, Node sw, Node se, int hash) {
+            this.level = nw.level + 1;
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.population = nw.population + ne.population + sw.population + se.population;
+            this.hash = hash;
+        }
+
+        final int level;
+        final Node nw, ne, sw, se;
+        final long population;
+        final int hash;
+        Node next; // the next node in the same bucket of the table.
+        Node result; // the memoized RESULT.
+        int resultStep; // the log of the number of generations by which result is advanced.
+        boolean mark; // used by collect.
+    }
+
+    private static final Node Alive = new Node(true);
+    private static final Node Dead = new Node(false);
+
+    private static final int MinLevel = 3;
+    private static final int MaxLevel = 62;
+    private static final int MaxStep = MaxLevel - 2;
+    private static final int InitialCapacity = 1 << 10;
+    private static final int DefaultMaxNodes = 1 << 22;
+
+    private final int maxNodes;
+    private final List<Node> empties = new ArrayList<>();
+    private Node[] table;
+    private int size = 0;
+    private Node root;
+    private long generation = 0L;
+}
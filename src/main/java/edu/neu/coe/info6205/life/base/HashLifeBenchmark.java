@@ -0,0 +1,35 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of HashLife: the time to advance a random soup (of size n x n, with half the cells alive)
+ * to generation 1,000, then to 1,000,000 and then to 1,000,000,000.
+ * The soup settles into still lifes, oscillators and escaping gliders, which HashLife advances in ever larger steps.
+ * <p>
+ * Usage: HashLifeBenchmark [n] (default 64).
+ */
+public class HashLifeBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final Random random = new Random(0L);
+        final HashLife universe = new HashLife();
+        for (int x = 0; x < n; x++)
+            for (int y = 0; y < n; y++)
+                if (random.nextBoolean()) universe.set(x, y);
+        logger.info("HashLifeBenchmark: " + n + " x " + n + " soup with " + formatWhole(universe.getCount()) + " live cells");
+        for (long target : new long[]{1_000L, 1_000_000L, 1_000_000_000L}) {
+            final long start = System.nanoTime();
+            universe.advance(target - universe.getGeneration());
+            final double time = (System.nanoTime() - start) / 1E6;
+            System.out.println("HashLife: generation " + target + " in " + String.format("%.1f", time) + " mSec: " + universe);
+        }
+    }
+
+    final static LazyLogger logger = new LazyLogger(HashLifeBenchmark.class);
+}
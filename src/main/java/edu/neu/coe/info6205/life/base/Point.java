@@ -2,7 +2,6 @@ package edu.neu.coe.info6205.life.base;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 public class Point implements Comparable<Point> {
@@ -91,9 +90,12 @@ public class Point implements Comparable<Point> {
                 y == point.y;
     }
 
+    /**
+     * The same value as Objects.hash(x, y), but without boxing x and y.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * (31 + x) + y;
     }
 
     @Override
@@ -0,0 +1,311 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class represents a large, bounded board (cells outside it are dead) which is split into square tiles of 256 x 256 cells,
+ * whose generations are computed in parallel on a ForkJoinPool.
+ * <p>
+ * The cells of each tile are packed in the same way as those of a BitBoard (lines of long words), and surrounded by a halo:
+ * an extra line on either side and an extra word at either end of each line.
+ * Each generation has two phases:
+ * <ol>
+ * <li>halo exchange: each tile copies into its halo the single cells which surround it, from the edges of its eight neighbors;</li>
+ * <li>computation: each tile computes its next generation from its cells and its halo alone, and notes whether anything changed.</li>
+ * </ol>
+ * Change tracking: a tile whose own cells, and whose neighbors' cells, did not change in the previous generation cannot change now,
+ * so it is skipped (empty and stable regions cost nothing).
+ * <p>
+ * The dimensions of the board are rounded up to multiples of the tile size.
+ * <p>
+ * Each board has its own pool of threads, so a board should be closed when it is no longer needed (for example, by try-with-resources).
+ */
+public class TiledBoard implements Countable, AutoCloseable {
+
+    /**
+     * Constructor.
+     *
+     * @param width       the (minimum) number of x-coordinates (from 0).
+     * @param height      the (minimum) number of y-coordinates (from 0).
+     * @param parallelism the number of threads to use.
+     */
+    public TiledBoard(int width, int height, int parallelism) {
+        if (width < 1 || height < 1) throw new LifeException("TiledBoard: board must not be empty");
+        this.tilesX = (width + TileLines - 1) / TileLines;
+        this.tilesY = (height + TileCells - 1) / TileCells;
+        this.tiles = new Tile[tilesX * tilesY];
+        for (int i = 0; i < tiles.length; i++) tiles[i] = new Tile(i % tilesX, i / tilesX);
+        this.active = new int[tiles.length];
+        for (int i = 0; i < tiles.length; i++) active[i] = i;
+        this.activeCount = tiles.length;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Constructor which uses as many threads as there are processors.
+     *
+     * @param width  the (minimum) number of x-coordinates (from 0).
+     * @param height the (minimum) number of y-coordinates (from 0).
+     */
+    public TiledBoard(int width, int height) {
+        this(width, height, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Method to make the cell at (x, y) alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @throws LifeException if (x, y) is outside this board.
+     */
+    public void set(int x, int y) {
+        final Tile tile = tileAt(x, y);
+        tile.cells[tile.index(x % TileLines + 1, y % TileCells / BitsPerLong + 1)] |= 1L << (y % BitsPerLong);
+        // The tile (and so its neighbors) must be computed in the next generation.
+        if (!tile.changed) {
+            tile.changed = true;
+            updateActive();
+        }
+    }
+
+    /**
+     * Method to determine if the cell at (x, y) is alive.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if (x, y) is within this board and is alive.
+     */
+    public boolean isAlive(int x, int y) {
+        if (x < 0 || y < 0 || x >= getWidth() || y >= getHeight()) return false;
+        final Tile tile = tileAt(x, y);
+        return (tile.cells[tile.index(x % TileLines + 1, y % TileCells / BitsPerLong + 1)] & 1L << (y % BitsPerLong)) != 0;
+    }
+
+    /**
+     * Method to visit each live cell, tile by tile.
+     *
+     * @param action the action to be performed for each live cell.
+     */
+    public void forEach(BitBoard.CellConsumer action) {
+        for (Tile tile : tiles)
+            for (int line = 1; line <= TileLines; line++)
+                for (int word = 1; word <= TileWords; word++)
+                    for (long bits = tile.cells[tile.index(line, word)]; bits != 0; bits &= bits - 1)
+                        action.accept(tile.tx * TileLines + line - 1, tile.ty * TileCells + (word - 1) * BitsPerLong + Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Method to advance this board by one generation.
+     */
+    public void step() {
+        if (activeCount > 0) {
+            pool.invoke(new Phase(false, 0, activeCount));
+            pool.invoke(new Phase(true, 0, activeCount));
+        }
+        updateActive();
+        generation++;
+    }
+
+    /**
+     * Method to get the number of live cells.
+     *
+     * @return the count of live cells.
+     */
+    @Override
+    public int getCount() {
+        int result = 0;
+        for (Tile tile : tiles)
+            for (int line = 1; line <= TileLines; line++)
+                for (int word = 1; word <= TileWords; word++)
+                    result += Long.bitCount(tile.cells[tile.index(line, word)]);
+        return result;
+    }
+
+    /**
+     * @return the generation of this board.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of tiles which will be computed in the next generation.
+     */
+    public int getActiveTiles() {
+        return activeCount;
+    }
+
+    /**
+     * @return the total number of tiles.
+     */
+    public int getTiles() {
+        return tiles.length;
+    }
+
+    /**
+     * @return the number of x-coordinates of this board.
+     */
+    public int getWidth() {
+        return tilesX * TileLines;
+    }
+
+    /**
+     * @return the number of y-coordinates of this board.
+     */
+    public int getHeight() {
+        return tilesY * TileCells;
+    }
+
+    /**
+     * Shut down the threads of this board.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "TiledBoard{generation=" + generation + ", size=" + getWidth() + " x " + getHeight() + ", tiles=" + tiles.length + ", active=" + activeCount + "}";
+    }
+
+    /**
+     * Determine the tiles which must be computed in the next generation: those which changed or have a neighbor which changed.
+     */
+    private void updateActive() {
+        activeCount = 0;
+        for (Tile tile : tiles) {
+            boolean result = false;
+            for (int i = -1; i <= 1 && !result; i++)
+                for (int j = -1; j <= 1 && !result; j++) {
+                    final Tile neighbor = tile(tile.tx + i, tile.ty + j);
+                    result = neighbor != null && neighbor.changed;
+                }
+            if (result) active[activeCount++] = tile.tx + tile.ty * tilesX;
+        }
+    }
+
+    private Tile tileAt(int x, int y) {
+        final Tile result = x >= 0 && y >= 0 ? tile(x / TileLines, y / TileCells) : null;
+        if (result == null) throw new LifeException("TiledBoard: (" + x + ", " + y + ") is outside the board");
+        return result;
+    }
+
+    /**
+     * @return the tile at (tx, ty) or null if there is none.
+     */
+    private Tile tile(int tx, int ty) {
+        return tx >= 0 && tx < tilesX && ty >= 0 && ty < tilesY ? tiles[tx + ty * tilesX] : null;
+    }
+
+    /**
+     * A ForkJoin task which performs one of the phases for a range of the active tiles (splitting the range if it is large).
+     */
+    private class Phase extends RecursiveAction {
+        Phase(boolean compute, int from, int to) {
+            this.compute = compute;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new Phase(compute, from, mid), new Phase(compute, mid, to));
+            } else {
+                final Tile tile = tiles[active[from]];
+                if (compute) tile.compute();
+                else tile.exchangeHalo();
+            }
+        }
+
+        private final boolean compute;
+        private final int from;
+        private final int to;
+    }
+
+    /**
+     * A tile of TileLines lines of TileWords words, with a halo.
+     * The element (line, word) of cells (and of next) is at line * (TileWords + 2) + word:
+     * lines 1 to TileLines and words 1 to TileWords are the tile's own cells.
+     */
+    private class Tile {
+        Tile(int tx, int ty) {
+            this.tx = tx;
+            this.ty = ty;
+        }
+
+        int index(int line, int word) {
+            return line * Stride + word;
+        }
+
+        /**
+         * Copy into the halo the cells which surround this tile.
+         * Only the single cell adjacent to this tile is taken from the end of each neighboring word.
+         */
+        void exchangeHalo() {
+            final Tile west = tile(tx - 1, ty), east = tile(tx + 1, ty), south = tile(tx, ty - 1), north = tile(tx, ty + 1);
+            final Tile southWest = tile(tx - 1, ty - 1), northWest = tile(tx - 1, ty + 1), southEast = tile(tx + 1, ty - 1), northEast = tile(tx + 1, ty + 1);
+            for (int word = 1; word <= TileWords; word++) {
+                cells[index(0, word)] = west == null ? 0 : west.cells[index(TileLines, word)];
+                cells[index(TileLines + 1, word)] = east == null ? 0 : east.cells[index(1, word)];
+            }
+            for (int line = 1; line <= TileLines; line++) {
+                cells[index(line, 0)] = south == null ? 0 : south.cells[index(line, TileWords)] & HighBit;
+                cells[index(line, TileWords + 1)] = north == null ? 0 : north.cells[index(line, 1)] & 1L;
+            }
+            cells[index(0, 0)] = southWest == null ? 0 : southWest.cells[index(TileLines, TileWords)] & HighBit;
+            cells[index(0, TileWords + 1)] = northWest == null ? 0 : northWest.cells[index(TileLines, 1)] & 1L;
+            cells[index(TileLines + 1, 0)] = southEast == null ? 0 : southEast.cells[index(1, TileWords)] & HighBit;
+            cells[index(TileLines + 1, TileWords + 1)] = northEast == null ? 0 : northEast.cells[index(1, 1)] & 1L;
+        }
+
+        /**
+         * Compute the next generation of this tile's own cells (from its cells and halo), and then swap the buffers.
+         */
+        void compute() {
+            boolean changed = false;
+            for (int line = 1; line <= TileLines; line++) {
+                final int here = line * Stride, before = here - Stride, after = here + Stride;
+                for (int word = 1; word <= TileWords; word++) {
+                    final long b = cells[before + word], bLo = cells[before + word - 1], bHi = cells[before + word + 1];
+                    final long h = cells[here + word], hLo = cells[here + word - 1], hHi = cells[here + word + 1];
+                    final long a = cells[after + word], aLo = cells[after + word - 1], aHi = cells[after + word + 1];
+                    final long result = BitBoard.nextState(h,
+                            b << 1 | bLo >>> 63, b, b >>> 1 | bHi << 63,
+                            h << 1 | hLo >>> 63, h >>> 1 | hHi << 63,
+                            a << 1 | aLo >>> 63, a, a >>> 1 | aHi << 63);
+                    next[here + word] = result;
+                    changed |= result != h;
+                }
+            }
+            final long[] t = cells;
+            cells = next;
+            next = t;
+            this.changed = changed;
+        }
+
+        final int tx;
+        final int ty;
+        long[] cells = new long[(TileLines + 2) * Stride];
+        long[] next = new long[(TileLines + 2) * Stride];
+        boolean changed = true; // whether the cells changed in the last generation (initially true, so that every tile is computed).
+    }
+
+    private static final int BitsPerLong = 64;
+    private static final long HighBit = 1L << 63;
+    private static final int TileWords = 4;
+    private static final int TileCells = TileWords * BitsPerLong;
+    private static final int TileLines = TileCells;
+    private static final int Stride = TileWords + 2;
+
+    private final int tilesX;
+    private final int tilesY;
+    private final Tile[] tiles;
+    private final int[] active; // the indices of the tiles to be computed in the next generation.
+    private int activeCount;
+    private final ForkJoinPool pool;
+    private long generation = 0L;
+}
@@ -0,0 +1,61 @@
+package edu.neu.coe.info6205.life.base;
+
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of TiledBoard: the rate at which it steps a random soup covering an n x n board (with a third of the cells alive),
+ * for increasing numbers of threads, compared with a (single-threaded) BitBoard.
+ * As the soup settles, more and more tiles are skipped, so the rate is reported for the first and second halves of the run.
+ * <p>
+ * Usage: TiledBoardBenchmark [n] [generations] [max threads] (defaults 10,240; 200; number of processors).
+ */
+public class TiledBoardBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10240;
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        logger.info("TiledBoardBenchmark: " + formatWhole(n) + " x " + formatWhole(n) + " board, " + generations + " generations, " +
+                Runtime.getRuntime().availableProcessors() + " processors");
+        final BitBoard board = new BitBoard(0, 0, n, n);
+        soup(n, board::set);
+        run("BitBoard", generations, board::step, board::getCount);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            try (TiledBoard tiled = new TiledBoard(n, n, threads)) {
+                soup(n, tiled::set);
+                run("TiledBoard (" + threads + " threads, " + formatWhole(tiled.getTiles()) + " tiles)", generations, tiled::step, tiled::getCount);
+                System.out.println("    active tiles at end: " + formatWhole(tiled.getActiveTiles()));
+            }
+        }
+    }
+
+    private static void soup(int n, BitBoard.CellConsumer set) {
+        final Random random = new Random(0L);
+        // Leave a margin so that a BitBoard doesn't need to expand.
+        for (int x = n / 16; x < n - n / 16; x++)
+            for (int y = n / 16; y < n - n / 16; y++)
+                if (random.nextInt(3) == 0) set.accept(x, y);
+    }
+
+    private static void run(String description, int generations, Runnable step, IntSupplier count) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < generations / 2; i++) step.run();
+        final long middle = System.nanoTime();
+        for (int i = generations / 2; i < generations; i++) step.run();
+        final long end = System.nanoTime();
+        System.out.println(description + ": " + String.format("%.1f", rate(generations / 2, start, middle)) + " then " +
+                String.format("%.1f", rate(generations - generations / 2, middle, end)) + " generations/sec; " +
+                formatWhole(count.getAsInt()) + " live cells");
+    }
+
+    private static double rate(int generations, long start, long end) {
+        return generations * 1E9 / (end - start);
+    }
+
+    final static LazyLogger logger = new LazyLogger(TiledBoardBenchmark.class);
+}
@@ -0,0 +1,97 @@
+package edu.neu.coe.info6205.life.base;
+
+import java.util.Objects;
+
+/**
+ * This class represents a 128-bit Zobrist hash of a set of live cells: the exclusive-or of a pseudo-random 128-bit key for each cell.
+ * <p>
+ * Since the grid is unbounded, the key of a cell is not looked up in a table but computed by mixing its coordinates
+ * (with two different SplitMix64 finalizers, one for each half).
+ * Because exclusive-or is its own inverse, the hash is updated in constant time when a cell is born or dies (toggle),
+ * and the hash of the union of disjoint sets of cells is the exclusive-or of their hashes (xor).
+ * <p>
+ * Two different sets of cells have the same hash with a probability of about 2^-128,
+ * but a caller which must be certain should compare the cells themselves when the hashes are equal.
+ */
+public final class Zobrist {
+
+    /**
+     * Constructor for the hash of no cells.
+     */
+    public Zobrist() {
+        this(0L, 0L);
+    }
+
+    /**
+     * Method to create the hash of the given cells.
+     *
+     * @param points the live cells.
+     * @return a new Zobrist.
+     */
+    public static Zobrist create(Iterable<Point> points) {
+        final Zobrist result = new Zobrist();
+        for (Point p : points) result.toggle(p.getX(), p.getY());
+        return result;
+    }
+
+    /**
+     * Method to add (or remove) the cell (x, y).
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     */
+    public void toggle(int x, int y) {
+        final long key = (long) x << 32 | y & 0xFFFFFFFFL;
+        hi ^= mix(key + 0x9E3779B97F4A7C15L);
+        lo ^= mix(key * 0xC2B2AE3D27D4EB4FL + 0x165667B19E3779F9L);
+    }
+
+    /**
+     * Method to combine this hash with the hash of another (disjoint) set of cells.
+     *
+     * @param other the other hash.
+     */
+    public void xor(Zobrist other) {
+        hi ^= other.hi;
+        lo ^= other.lo;
+    }
+
+    /**
+     * @return a copy of this hash.
+     */
+    public Zobrist copy() {
+        return new Zobrist(hi, lo);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Zobrist)) return false;
+        Zobrist zobrist = (Zobrist) o;
+        return hi == zobrist.hi && lo == zobrist.lo;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hi, lo);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", hi, lo);
+    }
+
+    private Zobrist(long hi, long lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        return z ^ z >>> 31;
+    }
+
+    private long hi;
+    private long lo;
+}
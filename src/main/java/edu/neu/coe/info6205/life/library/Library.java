@@ -1,8 +1,23 @@
 package edu.neu.coe.info6205.life.library;
 
+import edu.neu.coe.info6205.life.base.Cells;
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.Point;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * The library of patterns.
+ * <p>
+ * Small patterns are held as Strings (see Point.points), in map.
+ * Large patterns are held in RLE or plaintext files (see PatternReader), which are registered in files:
+ * either as resources (such as "/life/lwss.cells") or as files.
+ * Every pattern, of either kind, is decoded only when first needed by getCells, and is then cached.
+ */
 public class Library {
 
     final public static String Blip = "0 0";
@@ -30,10 +45,83 @@ public class Library {
     }
 
     public static String put(String key, String value) {
+        synchronized (cache) {
+            cache.remove(key.toLowerCase());
+        }
         return map.put(key.toLowerCase(), value);
     }
 
+    /**
+     * Method to register a pattern file, which will be loaded only when first needed.
+     *
+     * @param key  the name of the pattern.
+     * @param path the resource or (if there is no such resource) the file containing the pattern.
+     * @return the previous path for key, if any.
+     */
+    public static String register(String key, String path) {
+        synchronized (cache) {
+            cache.remove(key.toLowerCase());
+        }
+        return files.put(key.toLowerCase(), path);
+    }
+
+    /**
+     * Method to unregister a pattern file (for example, one registered by a test).
+     *
+     * @param key the name of the pattern.
+     * @return the path for key, if any.
+     */
+    public static String unregister(String key) {
+        synchronized (cache) {
+            cache.remove(key.toLowerCase());
+        }
+        return files.remove(key.toLowerCase());
+    }
+
+    /**
+     * Method to get the cells of a pattern, which is decoded (and cached) when first needed.
+     *
+     * @param key the name of the pattern (either a registered file or a String pattern).
+     * @return a new Cells (a copy of the cached Cells, so that the caller may give it to a Group), or null if there is no such pattern.
+     * @throws LifeException if the pattern file cannot be read.
+     */
+    public static Cells getCells(String key) {
+        final String name = key.toLowerCase();
+        synchronized (cache) {
+            Cells result = cache.get(name);
+            if (result == null) {
+                result = load(name);
+                if (result == null) return null;
+                cache.put(name, result);
+            }
+            return result.copy();
+        }
+    }
+
+    private static Cells load(String name) {
+        final String path = files.get(name);
+        if (path != null)
+            try (InputStream stream = open(path)) {
+                return PatternReader.read(stream);
+            } catch (IOException e) {
+                throw new LifeException("Library: cannot read " + path + ": " + e.getLocalizedMessage());
+            }
+        final String pattern = map.get(name);
+        return pattern != null ? Cells.create(Point.points(pattern)) : null;
+    }
+
+    private static InputStream open(String path) throws IOException {
+        final InputStream resource = Library.class.getResourceAsStream(path);
+        return resource != null ? resource : new FileInputStream(path);
+    }
+
+    final public static Map<String, String> files = new HashMap<>();
+
+    private final static Map<String, Cells> cache = new HashMap<>();
+
     static {
+        register("GosperGliderGun", "/life/gosperglidergun.rle");
+        register("LWSS", "/life/lwss.cells");
         put("Blip", Blip);
         put("Blip2", Blip2);
         put("Block", Block);
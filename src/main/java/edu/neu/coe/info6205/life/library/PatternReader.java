@@ -0,0 +1,172 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.Cells;
+import edu.neu.coe.info6205.life.base.LifeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class decodes Life patterns in the two standard text formats, straight into a Cells object:
+ * <ul>
+ * <li>RLE (run length encoded): optional "#" comment lines, a header line "x = m, y = n[, rule = ...]",
+ * and then runs such as "3o2b$" where b (or .) is a dead cell, o (or any other letter) is a live cell, $ ends a row and ! ends the pattern;</li>
+ * <li>plaintext: optional "!" comment lines, and then one line per row, where O (or *) is a live cell and . is a dead cell.</li>
+ * </ul>
+ * The format is detected from the first character which is not white space.
+ * Only the cells are read: the rule, if any, in the RLE header is ignored.
+ * <p>
+ * The input is read through a char buffer, one character at a time, and neither lines nor cells are ever turned into Strings or Points,
+ * so that patterns with millions of cells can be loaded quickly.
+ * <p>
+ * The files number their rows downwards from the top, but y increases upwards in a Grid, so row r of a pattern has y = -r
+ * (and a pattern renders the same way up as it appears in its file).
+ */
+public class PatternReader {
+
+    /**
+     * Method to read a pattern from an InputStream (which is not closed).
+     *
+     * @param stream the input, which is assumed to be in UTF-8 (or ASCII).
+     * @return a new Cells.
+     * @throws LifeException if the pattern is malformed or cannot be read.
+     */
+    public static Cells read(InputStream stream) {
+        return read(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to read a pattern from a Reader (which is not closed).
+     *
+     * @param reader the input.
+     * @return a new Cells.
+     * @throws LifeException if the pattern is malformed or cannot be read.
+     */
+    public static Cells read(Reader reader) {
+        try {
+            return new PatternReader(reader).read();
+        } catch (IOException e) {
+            throw new LifeException("PatternReader: cannot read pattern: " + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Method to read a pattern from a String.
+     *
+     * @param pattern the pattern (in either format).
+     * @return a new Cells.
+     */
+    public static Cells parse(String pattern) {
+        return read(new StringReader(pattern));
+    }
+
+    private PatternReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    private Cells read() throws IOException {
+        int c = skipWhiteSpace();
+        if (c == '!' || c == '.' || c == 'O' || c == '*') return readPlaintext(c);
+        if (c == '#' || c == 'x' || c == 'b' || c == 'o' || c == '$' || c >= '0' && c <= '9' || c < 0) return readRLE(c);
+        throw new LifeException("PatternReader: unrecognized format (starts with '" + (char) c + "')");
+    }
+
+    private Cells readRLE(int c) throws IOException {
+        // Comment lines, then the header line (which we don't need, since the cells are in a Cells).
+        while (c == '#') c = skipWhiteSpace(skipLine());
+        if (c == 'x') c = skipLine();
+        int x = 0, y = 0, count = 0;
+        for (; c >= 0 && c != '!'; c = next()) {
+            if (c >= '0' && c <= '9') {
+                count = count * 10 + c - '0';
+                continue;
+            }
+            final int n = count == 0 ? 1 : count;
+            count = 0;
+            if (c == 'b' || c == '.') x += n;
+            else if (c == '$') {
+                x = 0;
+                y -= n;
+            } else if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')
+                for (int i = 0; i < n; i++) cells.add(x++, y);
+            else if (!Character.isWhitespace(c))
+                throw new LifeException("PatternReader: unexpected character '" + (char) c + "' in RLE at row " + -y);
+        }
+        return cells;
+    }
+
+    private Cells readPlaintext(int c) throws IOException {
+        int y = 0;
+        while (c >= 0) {
+            // c is the first character of a line.
+            if (c == '!') {
+                c = skipLine();
+                continue;
+            }
+            for (int x = 0; c >= 0 && c != '\n'; c = next())
+                switch (c) {
+                    case 'O':
+                    case '*':
+                        cells.add(x++, y);
+                        break;
+                    case '.':
+                        x++;
+                        break;
+                    case '\r':
+                    case ' ':
+                    case '\t':
+                        break;
+                    default:
+                        throw new LifeException("PatternReader: unexpected character '" + (char) c + "' in plaintext at row " + -y);
+                }
+            y--;
+            if (c >= 0) c = next();
+        }
+        return cells;
+    }
+
+    /**
+     * Skip the rest of the current line.
+     *
+     * @return the first character of the next line (or -1).
+     */
+    private int skipLine() throws IOException {
+        int c = next();
+        while (c >= 0 && c != '\n') c = next();
+        return next();
+    }
+
+    private int skipWhiteSpace() throws IOException {
+        return skipWhiteSpace(next());
+    }
+
+    private int skipWhiteSpace(int c) throws IOException {
+        while (c >= 0 && Character.isWhitespace(c)) c = next();
+        return c;
+    }
+
+    /**
+     * @return the next character, or -1 at the end of the input.
+     */
+    private int next() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position = 0;
+    private int limit = 0;
+    private final Cells cells = new Cells(1024);
+}
@@ -0,0 +1,49 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.Cells;
+import edu.neu.coe.info6205.life.base.Group;
+import edu.neu.coe.info6205.life.base.Point;
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of PatternReader: the time to decode a random "soup" of size n x n (with a third of the cells alive) as RLE,
+ * and to make a Group of it, compared with the time to do the same from the equivalent String pattern (via Point.points).
+ * <p>
+ * Usage: PatternReaderBenchmark [n] (default 2,048).
+ */
+public class PatternReaderBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2048;
+        final Random random = new Random(0L);
+        final StringBuilder rle = new StringBuilder("x = " + n + ", y = " + n + "\n");
+        final StringBuilder points = new StringBuilder();
+        for (int y = 0; y < n; y++) {
+            for (int x = 0; x < n; x++)
+                if (random.nextInt(3) == 0) {
+                    rle.append('o');
+                    points.append(points.length() > 0 ? ", " : "").append(x).append(' ').append(-y);
+                } else rle.append('b');
+            rle.append("$\n");
+        }
+        final String pattern = rle.append('!').toString();
+        final Cells cells = PatternReader.parse(pattern);
+        logger.info("PatternReaderBenchmark: " + n + " x " + n + " soup with " + formatWhole(cells.size()) + " live cells");
+        final double rleTime = new Benchmark_Timer<String>("PatternReader", s -> Group.create(0L, PatternReader.parse(s))).run(pattern, 5);
+        report("PatternReader (RLE)", cells.size(), rleTime);
+        final String string = points.toString();
+        final double pointsTime = new Benchmark_Timer<String>("Point.points", s -> Group.create(0L, Cells.create(Point.points(s)))).run(string, 5);
+        report("Point.points (String pattern)", cells.size(), pointsTime);
+    }
+
+    private static void report(String description, int cells, double time) {
+        System.out.println(description + ": " + String.format("%.1f", time) + " mSec, " + formatWhole((int) (cells / time * 1000)) + " cells/sec");
+    }
+
+    final static LazyLogger logger = new LazyLogger(PatternReaderBenchmark.class);
+}
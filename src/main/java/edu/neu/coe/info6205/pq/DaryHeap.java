@@ -0,0 +1,181 @@
+package edu.neu.coe.info6205.pq;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Priority Queue Data Structure which uses a d-ary heap.
+ * <p>
+ * Like PriorityQueue, it can serve as a minPQ or a maxPQ (define "max" as either false or true, respectively)
+ * and the methods to insert and remove the root element are called "give" and "take."
+ * Unlike PriorityQueue:
+ * <ul>
+ * <li>each node has d children (where d is 2, 4, 8, ...): a wider, shallower heap means that take makes fewer
+ * (but more local) moves, since the d children of a node are adjacent in memory;</li>
+ * <li>the heap is 0-based: the children of node k are d*k+1 through d*k+d;</li>
+ * <li>it grows as necessary (nothing is ever discarded);</li>
+ * <li>it can be built from an array of n elements in O(n) time (bottom-up, as in heapsort) rather than by n calls of give;</li>
+ * <li>elements are moved into a "hole" rather than swapped.</li>
+ * </ul>
+ *
+ * @param <K> the type of the elements.
+ */
+public class DaryHeap<K> implements Iterable<K> {
+
+    /**
+     * Constructor of an empty heap.
+     *
+     * @param d          the arity of the heap (at least 2).
+     * @param max        whether or not this is a Maximum Priority Queue as opposed to a Minimum PQ.
+     * @param comparator a comparator for the type K.
+     * @param capacity   the initial capacity (the heap will grow as necessary).
+     */
+    public DaryHeap(int d, boolean max, Comparator<K> comparator, int capacity) {
+        if (d < 2) throw new IllegalArgumentException("arity must be at least 2: " + d);
+        this.d = d;
+        this.max = max;
+        this.comparator = comparator;
+        //noinspection unchecked
+        this.heap = (K[]) new Object[Math.max(1, capacity)];
+    }
+
+    /**
+     * Constructor which builds a heap from the given elements (which are copied) in linear time.
+     *
+     * @param d          the arity of the heap (at least 2).
+     * @param max        whether or not this is a Maximum Priority Queue as opposed to a Minimum PQ.
+     * @param comparator a comparator for the type K.
+     * @param keys       the initial elements.
+     */
+    public DaryHeap(int d, boolean max, Comparator<K> comparator, K[] keys) {
+        this(d, max, comparator, keys.length);
+        System.arraycopy(keys, 0, heap, 0, keys.length);
+        last = keys.length;
+        heapify();
+    }
+
+    /**
+     * @return true if the current size is zero.
+     */
+    public boolean isEmpty() {
+        return last == 0;
+    }
+
+    /**
+     * @return the number of elements actually stored in this Priority Queue.
+     */
+    public int size() {
+        return last;
+    }
+
+    /**
+     * @return the arity (d) of this heap.
+     */
+    public int getArity() {
+        return d;
+    }
+
+    /**
+     * Insert an element into this Priority Queue.
+     *
+     * @param key the value of the key to give.
+     */
+    public void give(K key) {
+        if (last == heap.length) heap = Arrays.copyOf(heap, 2 * heap.length);
+        swimUp(last++, key);
+    }
+
+    /**
+     * Take a peek at the root element of this Priority Queue.
+     *
+     * @return If max is true, then the maximum element, otherwise the minimum element.
+     * @throws PQException if this priority queue is empty.
+     */
+    public K peek() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        return heap[0];
+    }
+
+    /**
+     * Remove the root element from this Priority Queue and adjust the heap accordingly.
+     *
+     * @return If max is true, then the maximum element, otherwise the minimum element.
+     * @throws PQException if this priority queue is empty.
+     */
+    public K take() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        K result = heap[0];
+        K key = heap[--last];
+        heap[last] = null; // prevent loitering
+        if (last > 0) sink(0, key);
+        return result;
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, last, null);
+        last = 0;
+    }
+
+    /**
+     * @return an iterator over the elements (in no particular order).
+     */
+    @Override
+    public Iterator<K> iterator() {
+        return Arrays.asList(Arrays.copyOf(heap, last)).iterator();
+    }
+
+    /**
+     * Establish heap order over heap[0..last) by sinking each internal node, from the last up to the root.
+     */
+    private void heapify() {
+        for (int k = (last - 2) / d; k >= 0; k--) sink(k, heap[k]);
+    }
+
+    /**
+     * Place key at or above the hole at index k.
+     */
+    private void swimUp(int k, K key) {
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            if (!unordered(heap[parent], key)) break;
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = key;
+    }
+
+    /**
+     * Place key at or below the hole at index k.
+     */
+    private void sink(int k, K key) {
+        while (true) {
+            int first = d * k + 1;
+            if (first >= last) break;
+            int best = first;
+            int end = Math.min(first + d, last);
+            for (int j = first + 1; j < end; j++) if (unordered(heap[best], heap[j])) best = j;
+            if (!unordered(key, heap[best])) break;
+            heap[k] = heap[best];
+            k = best;
+        }
+        heap[k] = key;
+    }
+
+    /**
+     * @return true if x should be below y (i.e. if x above y would be out of order).
+     */
+    private boolean unordered(K x, K y) {
+        int cf = comparator.compare(x, y);
+        return max ? cf < 0 : cf > 0;
+    }
+
+    private final int d;
+    private final boolean max;
+    private final Comparator<K> comparator;
+    private K[] heap; // heap[k] is the kth element of the d-ary heap
+    private int last = 0; // number of elements in the heap
+}
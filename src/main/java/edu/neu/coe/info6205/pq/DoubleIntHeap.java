@@ -0,0 +1,149 @@
+package edu.neu.coe.info6205.pq;
+
+import java.util.Arrays;
+
+/**
+ * Minimum Priority Queue Data Structure with primitive double priorities and int values (payloads), for example
+ * vertices keyed by distance in a shortest-path search or edges keyed by weight in a minimum spanning tree.
+ * <p>
+ * It is a d-ary heap (see DaryHeap) held in two parallel arrays, so that there is neither boxing nor comparator call.
+ * It grows as necessary and can be built from arrays in linear time.
+ * The methods to insert and remove the minimum element are called "give" and "take."
+ */
+public class DoubleIntHeap {
+
+    /**
+     * Constructor of an empty heap.
+     *
+     * @param d        the arity of the heap (at least 2).
+     * @param capacity the initial capacity (the heap will grow as necessary).
+     */
+    public DoubleIntHeap(int d, int capacity) {
+        if (d < 2) throw new IllegalArgumentException("arity must be at least 2: " + d);
+        this.d = d;
+        priorities = new double[Math.max(1, capacity)];
+        values = new int[priorities.length];
+    }
+
+    /**
+     * Constructor of an empty 4-ary heap.
+     */
+    public DoubleIntHeap() {
+        this(4, 16);
+    }
+
+    /**
+     * Constructor which builds a heap from the given priorities and values (which are copied) in linear time.
+     *
+     * @param d          the arity of the heap (at least 2).
+     * @param priorities the priorities.
+     * @param values     the values (of the same length as priorities).
+     */
+    public DoubleIntHeap(int d, double[] priorities, int[] values) {
+        this(d, priorities.length);
+        if (values.length != priorities.length) throw new IllegalArgumentException("priorities and values differ in length");
+        System.arraycopy(priorities, 0, this.priorities, 0, priorities.length);
+        System.arraycopy(values, 0, this.values, 0, values.length);
+        last = priorities.length;
+        for (int k = (last - 2) / d; k >= 0; k--) sink(k, this.priorities[k], this.values[k]);
+    }
+
+    /**
+     * @return true if the current size is zero.
+     */
+    public boolean isEmpty() {
+        return last == 0;
+    }
+
+    /**
+     * @return the number of elements actually stored in this heap.
+     */
+    public int size() {
+        return last;
+    }
+
+    /**
+     * Insert a value with the given priority.
+     *
+     * @param priority the priority.
+     * @param value    the value.
+     */
+    public void give(double priority, int value) {
+        if (last == priorities.length) {
+            priorities = Arrays.copyOf(priorities, 2 * last);
+            values = Arrays.copyOf(values, 2 * last);
+        }
+        int k = last++;
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            if (priorities[parent] <= priority) break;
+            priorities[k] = priorities[parent];
+            values[k] = values[parent];
+            k = parent;
+        }
+        priorities[k] = priority;
+        values[k] = value;
+    }
+
+    /**
+     * @return the minimum priority.
+     * @throws PQException if this heap is empty.
+     */
+    public double peekPriority() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        return priorities[0];
+    }
+
+    /**
+     * @return the value with the minimum priority.
+     * @throws PQException if this heap is empty.
+     */
+    public int peek() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        return values[0];
+    }
+
+    /**
+     * Remove the element with the minimum priority.
+     *
+     * @return its value.
+     * @throws PQException if this heap is empty.
+     */
+    public int take() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        int result = values[0];
+        if (--last > 0) sink(0, priorities[last], values[last]);
+        return result;
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        last = 0;
+    }
+
+    /**
+     * Place (priority, value) at or below the hole at index k.
+     */
+    private void sink(int k, double priority, int value) {
+        while (true) {
+            int first = d * k + 1;
+            if (first >= last) break;
+            int best = first;
+            int end = Math.min(first + d, last);
+            for (int j = first + 1; j < end; j++) if (priorities[j] < priorities[best]) best = j;
+            if (priority <= priorities[best]) break;
+            priorities[k] = priorities[best];
+            values[k] = values[best];
+            k = best;
+        }
+        priorities[k] = priority;
+        values[k] = value;
+    }
+
+    private final int d;
+    private double[] priorities; // priorities[k] is the priority of the kth element of the d-ary heap
+    private int[] values; // values[k] is the value of the kth element
+    private int last = 0; // number of elements in the heap
+}
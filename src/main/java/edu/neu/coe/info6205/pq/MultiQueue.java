@@ -0,0 +1,201 @@
+package edu.neu.coe.info6205.pq;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent (relaxed) Priority Queue Data Structure: a MultiQueue (Rihani, Sanders and Dementiev, 2015).
+ * <p>
+ * There are q sequential heaps (DaryHeap), each guarded by its own lock, where q is typically c times the number of threads
+ * (for some small c such as 2 or 4).
+ * give inserts into a random heap whose lock is free; take looks at the roots of two random heaps and takes the better one.
+ * Since no thread ever waits for a lock (it simply tries another heap), many threads can give and take at once.
+ * <p>
+ * The price is that take is relaxed: it does not necessarily yield the very best element, but an element whose expected rank
+ * (the number of better elements in the whole queue) is O(q). So q controls the trade-off between throughput and order:
+ * with q = 1, this is simply a locked heap with exact order.
+ * <p>
+ * Like PriorityQueue, it can serve as a minPQ or a maxPQ and the methods to insert and remove an element are called "give" and "take."
+ *
+ * @param <K> the type of the elements.
+ */
+public class MultiQueue<K> {
+
+    /**
+     * Constructor.
+     *
+     * @param queues     the number of internal heaps (the bound on the relaxation of priority order).
+     * @param max        whether or not this is a Maximum Priority Queue as opposed to a Minimum PQ.
+     * @param comparator a comparator for the type K.
+     */
+    public MultiQueue(int queues, boolean max, Comparator<K> comparator) {
+        if (queues < 1) throw new IllegalArgumentException("there must be at least one queue: " + queues);
+        this.max = max;
+        this.comparator = comparator;
+        //noinspection unchecked
+        this.heaps = (Heap<K>[]) new Heap[queues];
+        for (int i = 0; i < queues; i++) heaps[i] = new Heap<>(new DaryHeap<>(4, max, comparator, 16));
+    }
+
+    /**
+     * Constructor with c queues per thread for the given number of threads.
+     *
+     * @param c          the number of queues per thread.
+     * @param threads    the number of threads.
+     * @param max        whether or not this is a Maximum Priority Queue as opposed to a Minimum PQ.
+     * @param comparator a comparator for the type K.
+     */
+    public MultiQueue(int c, int threads, boolean max, Comparator<K> comparator) {
+        this(c * threads, max, comparator);
+    }
+
+    /**
+     * Insert an element into this Priority Queue.
+     *
+     * @param key the value of the key to give.
+     */
+    public void give(K key) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Heap<K> heap = heaps[random.nextInt(heaps.length)];
+            if (heap.lock.tryLock()) try {
+                heap.heap.give(key);
+                heap.updateTop();
+                count.increment();
+                return;
+            } finally {
+                heap.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Remove an element which is (approximately) the root element of this Priority Queue.
+     *
+     * @return If max is true, then (approximately) the maximum element, otherwise (approximately) the minimum element.
+     * @throws PQException if this priority queue is empty.
+     */
+    public K take() throws PQException {
+        K result = poll();
+        if (result == null) throw new PQException("Priority queue is empty");
+        return result;
+    }
+
+    /**
+     * Remove an element which is (approximately) the root element of this Priority Queue, if there is one.
+     *
+     * @return If max is true, then (approximately) the maximum element, otherwise (approximately) the minimum element;
+     * or null if this priority queue is empty.
+     */
+    public K poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int misses = 0;
+        while (true) {
+            Heap<K> heap = better(heaps[random.nextInt(heaps.length)], heaps[random.nextInt(heaps.length)]);
+            // If both heaps seem to be empty (too often), sweep all of them: only if they are all empty do we give up.
+            if (heap == null) {
+                if (++misses >= heaps.length) return sweep();
+                continue;
+            }
+            if (heap.lock.tryLock()) try {
+                if (!heap.heap.isEmpty()) return remove(heap);
+            } finally {
+                heap.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return true if this priority queue is (momentarily) empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of elements (momentarily) in this priority queue: exact only when there are no concurrent updates.
+     */
+    public int size() {
+        return count.intValue();
+    }
+
+    /**
+     * @return the number of internal heaps.
+     */
+    public int getQueues() {
+        return heaps.length;
+    }
+
+    /**
+     * Take from the first non-empty heap, waiting for each lock in turn.
+     */
+    private K sweep() {
+        for (Heap<K> heap : heaps) {
+            heap.lock.lock();
+            try {
+                if (!heap.heap.isEmpty()) return remove(heap);
+            } finally {
+                heap.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove the root of the given (locked and non-empty) heap.
+     */
+    private K remove(Heap<K> heap) {
+        try {
+            K result = heap.heap.take();
+            heap.updateTop();
+            count.decrement();
+            return result;
+        } catch (PQException e) {
+            throw new IllegalStateException("logic error: heap is empty", e);
+        }
+    }
+
+    /**
+     * Choose (without locking) whichever of two heaps has the better root, according to the cached roots.
+     *
+     * @return the better heap or null if both appear to be empty.
+     */
+    private Heap<K> better(Heap<K> a, Heap<K> b) {
+        K x = a.top, y = b.top;
+        if (x == null) return y == null ? null : b;
+        if (y == null) return a;
+        int cf = comparator.compare(x, y);
+        return (max ? cf >= 0 : cf <= 0) ? a : b;
+    }
+
+    /**
+     * A heap, its lock, and a cached copy of its root (which may be read without the lock).
+     */
+    private static class Heap<K> {
+        Heap(DaryHeap<K> heap) {
+            this.heap = heap;
+        }
+
+        /**
+         * Update the cached root: the lock must be held.
+         */
+        void updateTop() {
+            try {
+                top = heap.isEmpty() ? null : heap.peek();
+            } catch (PQException e) {
+                top = null;
+            }
+        }
+
+        final DaryHeap<K> heap;
+        final ReentrantLock lock = new ReentrantLock();
+        volatile K top = null;
+    }
+
+    private final boolean max;
+    private final Comparator<K> comparator;
+    private final Heap<K>[] heaps;
+    private final LongAdder count = new LongAdder();
+}
@@ -0,0 +1,104 @@
+package edu.neu.coe.info6205.pq;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of MultiQueue against java.util.concurrent.PriorityBlockingQueue (a heap guarded by a single lock)
+ * as a scheduler shared by many threads.
+ * <p>
+ * The queue is first filled with a number of random keys; then each thread alternately gives a random key and takes a key.
+ * The throughput (in millions of operations per second, over all threads) is reported for each number of threads.
+ * <p>
+ * Usage: MultiQueueBenchmark [operations [prefill]] where operations is the total number of operations per run.
+ */
+public class MultiQueueBenchmark {
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int prefill = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int processors = Runtime.getRuntime().availableProcessors();
+        logger.info("MultiQueueBenchmark: " + formatWhole(operations) + " operations with " + formatWhole(prefill) + " keys; processors: " + processors);
+        for (int threads = 1; threads <= Math.max(4, processors); threads *= 2) {
+            final int p = threads;
+            double blocking = throughput("PriorityBlockingQueue", p, operations, prefill, () -> {
+                PriorityBlockingQueue<Long> queue = new PriorityBlockingQueue<>();
+                return new Scheduler() {
+                    public void give(long x) {
+                        queue.offer(x);
+                    }
+
+                    public Long poll() {
+                        return queue.poll();
+                    }
+                };
+            });
+            double multi = throughput("MultiQueue", p, operations, prefill, () -> {
+                MultiQueue<Long> queue = new MultiQueue<Long>(C, p, false, Comparator.naturalOrder());
+                return new Scheduler() {
+                    public void give(long x) {
+                        queue.give(x);
+                    }
+
+                    public Long poll() {
+                        return queue.poll();
+                    }
+                };
+            });
+            System.out.println("threads: " + p + ": PriorityBlockingQueue " + blocking + " Mops/sec; MultiQueue (c=" + C + ") " + multi + " Mops/sec");
+        }
+    }
+
+    /**
+     * The operations common to both queues.
+     */
+    interface Scheduler {
+        void give(long x);
+
+        Long poll();
+    }
+
+    private static double throughput(String description, int threads, int operations, int prefill, Supplier<Scheduler> supplier) {
+        // NOTE that the set up (creating and filling the queue) is not timed.
+        Scheduler[] holder = new Scheduler[1];
+        Consumer<Integer> run = t -> {
+            Thread[] workers = new Thread[t];
+            for (int i = 0; i < t; i++) {
+                workers[i] = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < operations / t / 2; j++) {
+                        holder[0].give(random.nextLong());
+                        holder[0].poll();
+                    }
+                });
+                workers[i].start();
+            }
+            for (Thread worker : workers)
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+        };
+        double time = new Benchmark_Timer<>(description, t -> {
+            Random random = new Random(0L);
+            holder[0] = supplier.get();
+            for (int i = 0; i < prefill; i++) holder[0].give(random.nextLong());
+            return t;
+        }, run, null).run(threads, 5);
+        return operations / time / 1000;
+    }
+
+    private static final int C = 4;
+
+    final static LazyLogger logger = new LazyLogger(MultiQueueBenchmark.class);
+}
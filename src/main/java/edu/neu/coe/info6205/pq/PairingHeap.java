@@ -0,0 +1,173 @@
+package edu.neu.coe.info6205.pq;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Priority Queue Data Structure which uses a pairing heap (Fredman, Sedgewick, Sleator and Tarjan, 1986).
+ * <p>
+ * Like PriorityQueue, it can serve as a minPQ or a maxPQ and the methods to insert and remove the root element
+ * are called "give" and "take."
+ * give (and merge) take O(1) time; take takes O(log n) amortized time, using the standard two-pass pairing of the root's children.
+ * It is unlimited in capacity.
+ *
+ * @param <K> the type of the elements.
+ */
+public class PairingHeap<K> implements Iterable<K> {
+
+    /**
+     * Constructor.
+     *
+     * @param max        whether or not this is a Maximum Priority Queue as opposed to a Minimum PQ.
+     * @param comparator a comparator for the type K.
+     */
+    public PairingHeap(boolean max, Comparator<K> comparator) {
+        this.max = max;
+        this.comparator = comparator;
+    }
+
+    /**
+     * @return true if the current size is zero.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @return the number of elements actually stored in this Priority Queue.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Insert an element into this Priority Queue.
+     *
+     * @param key the value of the key to give.
+     */
+    public void give(K key) {
+        root = link(root, new Node<>(key));
+        count++;
+    }
+
+    /**
+     * Move all of the elements of other into this Priority Queue (leaving other empty).
+     * NOTE: both heaps must have the same ordering.
+     *
+     * @param other another PairingHeap.
+     */
+    public void merge(PairingHeap<K> other) {
+        root = link(root, other.root);
+        count += other.count;
+        other.root = null;
+        other.count = 0;
+    }
+
+    /**
+     * Take a peek at the root element of this Priority Queue.
+     *
+     * @return If max is true, then the maximum element, otherwise the minimum element.
+     * @throws PQException if this priority queue is empty.
+     */
+    public K peek() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        return root.key;
+    }
+
+    /**
+     * Remove the root element from this Priority Queue.
+     *
+     * @return If max is true, then the maximum element, otherwise the minimum element.
+     * @throws PQException if this priority queue is empty.
+     */
+    public K take() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        K result = root.key;
+        root = combine(root.child);
+        count--;
+        return result;
+    }
+
+    /**
+     * @return an iterator over the elements (in no particular order).
+     */
+    @Override
+    public Iterator<K> iterator() {
+        List<K> result = new ArrayList<>();
+        List<Node<K>> stack = new ArrayList<>();
+        if (root != null) stack.add(root);
+        while (!stack.isEmpty()) {
+            Node<K> node = stack.remove(stack.size() - 1);
+            result.add(node.key);
+            for (Node<K> child = node.child; child != null; child = child.sibling) stack.add(child);
+        }
+        return result.iterator();
+    }
+
+    /**
+     * Combine a list of siblings into one tree: first link them in pairs from left to right,
+     * then link the resulting trees from right to left.
+     * The first pass threads the pairs into a list in reverse order (through sibling), so the second pass is a simple loop.
+     */
+    private Node<K> combine(Node<K> first) {
+        Node<K> pairs = null;
+        while (first != null) {
+            Node<K> a = first, b = a.sibling;
+            first = b == null ? null : b.sibling;
+            a.sibling = null;
+            if (b != null) b.sibling = null;
+            Node<K> pair = link(a, b);
+            pair.sibling = pairs;
+            pairs = pair;
+        }
+        Node<K> result = null;
+        while (pairs != null) {
+            Node<K> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(pairs, result);
+            pairs = next;
+        }
+        return result;
+    }
+
+    /**
+     * Link two trees (either of which may be null): the loser becomes the first child of the winner.
+     */
+    private Node<K> link(Node<K> a, Node<K> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (unordered(a.key, b.key)) {
+            Node<K> t = a;
+            a = b;
+            b = t;
+        }
+        b.sibling = a.child;
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * @return true if x should be below y.
+     */
+    private boolean unordered(K x, K y) {
+        int cf = comparator.compare(x, y);
+        return max ? cf < 0 : cf > 0;
+    }
+
+    private static class Node<K> {
+        Node(K key) {
+            this.key = key;
+        }
+
+        final K key;
+        Node<K> child;
+        Node<K> sibling;
+    }
+
+    private final boolean max;
+    private final Comparator<K> comparator;
+    private Node<K> root = null;
+    private int count = 0;
+}
@@ -20,7 +20,8 @@ public class RandomWalk {
      * @param dy the distance he moves in the y direction
      */
     private void move(int dx, int dy) {
-        // TO BE IMPLEMENTED
+        x += dx;
+        y += dy;
     }
 
     /**
@@ -29,7 +30,7 @@ public class RandomWalk {
      * @param m the number of steps the drunkard takes
      */
     private void randomWalk(int m) {
-        // TO BE IMPLEMENTED
+        for (int i = 0; i < m; i++) randomMove();
     }
 
     /**
@@ -48,25 +49,19 @@ public class RandomWalk {
      * @return the (Euclidean) distance from the origin to the current position.
      */
     public double distance() {
-        // TO BE IMPLEMENTED
-        return 0;
+        return Math.sqrt((double) x * x + (double) y * y);
     }
 
     /**
      * Perform multiple random walk experiments, returning the mean distance.
+     * The experiments are run (in parallel) by a RandomWalkSimulator.
      *
      * @param m the number of steps for each experiment
      * @param n the number of experiments to run
      * @return the mean distance
      */
     public static double randomWalkMulti(int m, int n) {
-        double totalDistance = 0;
-        for (int i = 0; i < n; i++) {
-            RandomWalk walk = new RandomWalk();
-            walk.randomWalk(m);
-            totalDistance = totalDistance + walk.distance();
-        }
-        return totalDistance / n;
+        return new RandomWalkSimulator(2).simulate(m, n).getDistance().mean();
     }
 
     public static void main(String[] args) {
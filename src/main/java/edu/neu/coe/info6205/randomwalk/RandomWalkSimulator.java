@@ -0,0 +1,239 @@
+package edu.neu.coe.info6205.randomwalk;
+
+import edu.neu.coe.info6205.util.RunningStatistics;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulator for random walks on the 2D (square) or 3D (cubic) lattice,
+ * where each step moves one unit, in one of the 2d directions (chosen uniformly at random).
+ * <p>
+ * The experiments (walks) are run in parallel on a ForkJoinPool.
+ * Each task has its own SplittableRandom, split from its parent's before it is forked,
+ * so that the results depend only on the seed (and not on the number of threads or on the scheduling).
+ * The distance (and squared distance) of each walk is streamed into a RunningStatistics,
+ * and the accumulators of the tasks are merged, so that nothing is stored per experiment.
+ * <p>
+ * Steps are not generated one at a time.
+ * For the 2D walk, the coordinates are rotated by 45 degrees (u = x + y, v = x - y):
+ * then each step changes u by +-1 and v by +-1, independently and with equal probability,
+ * so that 32 steps are made by a single random long: u moves by 2 bitCount(low half) - 32, and v by 2 bitCount(high half) - 32.
+ * For the 3D walk, each step is an axis and a sign.
+ * The axes are taken from 2-bit codes (0, 1, 2 for x, y, z: code 3 is rejected), and are counted (32 codes to a long) by bitCount;
+ * then the displacement along each axis is found from the signs of its steps, 64 to a long, again by bitCount.
+ * Both methods give exactly the same distribution as a step-by-step walk.
+ */
+public class RandomWalkSimulator {
+
+    /**
+     * Constructor.
+     *
+     * @param dimensions  the number of dimensions of the lattice (2 or 3).
+     * @param parallelism the number of threads to use.
+     */
+    public RandomWalkSimulator(int dimensions, int parallelism) {
+        if (dimensions < 2 || dimensions > 3)
+            throw new IllegalArgumentException("RandomWalkSimulator: dimensions must be 2 or 3: " + dimensions);
+        this.dimensions = dimensions;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Constructor for a simulator which uses the common ForkJoinPool.
+     *
+     * @param dimensions the number of dimensions of the lattice (2 or 3).
+     */
+    public RandomWalkSimulator(int dimensions) {
+        this(dimensions, 0);
+    }
+
+    /**
+     * Method to run n random walks, each of m steps.
+     *
+     * @param m    the number of steps in each walk.
+     * @param n    the number of walks (experiments).
+     * @param seed the seed (the same seed always gives the same Result).
+     * @return the Result.
+     */
+    public Result simulate(long m, int n, long seed) {
+        final Experiments task = new Experiments(m, n, new SplittableRandom(seed));
+        if (parallelism > 0) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                return pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        } else return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * Method to run n random walks, each of m steps, with a random seed.
+     *
+     * @param m the number of steps in each walk.
+     * @param n the number of walks (experiments).
+     * @return the Result.
+     */
+    public Result simulate(long m, int n) {
+        return simulate(m, n, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Method to make one random walk.
+     *
+     * @param m      the number of steps.
+     * @param random the source of randomness.
+     * @return the square of the distance from the origin at the end of the walk.
+     */
+    double walk(long m, SplittableRandom random) {
+        return dimensions == 2 ? walk2D(m, random) : walk3D(m, random);
+    }
+
+    static double walk2D(long m, SplittableRandom random) {
+        long u = 0, v = 0, remaining = m;
+        for (; remaining >= 32; remaining -= 32) {
+            final long bits = random.nextLong();
+            u += 2 * Integer.bitCount((int) bits) - 32;
+            v += 2 * Integer.bitCount((int) (bits >>> 32)) - 32;
+        }
+        if (remaining > 0) {
+            final long bits = random.nextLong(), mask = (1L << remaining) - 1;
+            u += 2 * Long.bitCount(bits & mask) - remaining;
+            v += 2 * Long.bitCount(bits >>> 32 & mask) - remaining;
+        }
+        // Since x = (u + v) / 2 and y = (u - v) / 2, x^2 + y^2 = (u^2 + v^2) / 2.
+        return ((double) u * u + (double) v * v) / 2;
+    }
+
+    static double walk3D(long m, SplittableRandom random) {
+        long nx = 0, ny = 0, nz = 0, remaining = m;
+        // While at least 32 steps remain, every accepted code of a long can be used.
+        while (remaining >= 32) {
+            final long bits = random.nextLong();
+            final long low = bits & Evens, high = bits >>> 1 & Evens;
+            final int ones = Long.bitCount(low & ~high), twos = Long.bitCount(high & ~low), threes = Long.bitCount(low & high);
+            nx += 32 - ones - twos - threes;
+            ny += ones;
+            nz += twos;
+            remaining -= 32 - threes;
+        }
+        while (remaining > 0) {
+            final long bits = random.nextLong();
+            for (int shift = 0; shift < 64 && remaining > 0; shift += 2) {
+                final int code = (int) (bits >>> shift) & 3;
+                if (code == 3) continue;
+                if (code == 0) nx++;
+                else if (code == 1) ny++;
+                else nz++;
+                remaining--;
+            }
+        }
+        final double x = displacement(nx, random), y = displacement(ny, random), z = displacement(nz, random);
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * @return the sum of n independent steps of +-1.
+     */
+    static long displacement(long n, SplittableRandom random) {
+        long result = 0;
+        for (; n >= 64; n -= 64) result += 2 * Long.bitCount(random.nextLong()) - 64;
+        if (n > 0) result += 2 * Long.bitCount(random.nextLong() & (1L << n) - 1) - n;
+        return result;
+    }
+
+    /**
+     * The result of a simulation: the statistics of the distance, and of the squared distance, of the walks.
+     * For a walk of m steps, the expected squared distance is exactly m (in any number of dimensions).
+     */
+    public static class Result {
+
+        public RunningStatistics getDistance() {
+            return distance;
+        }
+
+        public RunningStatistics getSquaredDistance() {
+            return squaredDistance;
+        }
+
+        void add(double squared) {
+            distance.add(Math.sqrt(squared));
+            squaredDistance.add(squared);
+        }
+
+        Result merge(Result other) {
+            distance.merge(other.distance);
+            squaredDistance.merge(other.squaredDistance);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "distance: " + distance + "; squared distance: " + squaredDistance;
+        }
+
+        private final RunningStatistics distance = new RunningStatistics();
+        private final RunningStatistics squaredDistance = new RunningStatistics();
+    }
+
+    /**
+     * A ForkJoin task which runs a number of walks (splitting them, and its SplittableRandom, until the work is small enough).
+     */
+    private class Experiments extends RecursiveTask<Result> {
+        Experiments(long m, int n, SplittableRandom random) {
+            this.m = m;
+            this.n = n;
+            this.random = random;
+        }
+
+        @Override
+        protected Result compute() {
+            if (n > 1 && n * m > Grain) {
+                final int half = n / 2;
+                final Experiments right = new Experiments(m, n - half, random.split());
+                right.fork();
+                return new Experiments(m, half, random).compute().merge(right.join());
+            }
+            final Result result = new Result();
+            for (int i = 0; i < n; i++) result.add(walk(m, random));
+            return result;
+        }
+
+        private final long m;
+        private final int n;
+        private final SplittableRandom random;
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0)
+            throw new RuntimeException("Syntax: RandomWalkSimulator steps [experiments [dimensions]]");
+        final long steps = Long.parseLong(args[0]);
+        final int n = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        final int dimensions = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        final RandomWalkSimulator simulator = new RandomWalkSimulator(dimensions);
+        for (long m = 1; m <= steps; m *= 10) {
+            final long start = System.nanoTime();
+            final Result result = simulator.simulate(m, n);
+            final double mSecs = (System.nanoTime() - start) / 1E6;
+            System.out.println(m + " steps (" + dimensions + "D): mean distance=" + String.format("%.3f", result.getDistance().mean()) +
+                    " +- " + String.format("%.3f", result.getDistance().standardError()) +
+                    "; distance/sqrt(m)=" + String.format("%.4f", result.getDistance().mean() / Math.sqrt(m)) +
+                    " over " + n + " experiments in " + String.format("%.1f", mSecs) + " mSec");
+        }
+    }
+
+    /**
+     * The mask of the low bit of each 2-bit code.
+     */
+    private static final long Evens = 0x5555555555555555L;
+
+    /**
+     * The number of steps (of all the walks of a task) below which the task is not split.
+     */
+    private static final long Grain = 1 << 20;
+
+    private final int dimensions;
+    private final int parallelism;
+}
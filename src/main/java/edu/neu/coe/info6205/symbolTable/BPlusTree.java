@@ -0,0 +1,526 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * B+-tree symbol table.
+ * <p>
+ * Each node holds up to b (the fanout) keys in an array, so that a search examines about log_b(n) nodes, each of which occupies a few
+ * adjacent cache lines, rather than lg(n) scattered nodes (as in a binary tree).
+ * Internal nodes hold only keys (separators) and children; the values are all in the leaves,
+ * which are linked in order for range scans.
+ * <ul>
+ * <li>An internal node with keys k[0..m) has children c[0..m]: child c[i] holds the keys k such that k[i-1] &le; k &lt; k[i].</li>
+ * <li>Put splits a full node into two halves and inserts the separator into the parent (which may split in turn).</li>
+ * <li>A tree can be bulk-loaded from sorted keys in O(n) time, building the leaves and then each level above.</li>
+ * <li>Delete removes the key from its leaf but does not merge underfull nodes (lazy deletion):
+ * searches remain correct, since the separators still partition the keys, and the tree never gets taller.
+ * However, a leaf which becomes empty is unlinked (from its parent, and from the chain of leaves), and so is an internal node which loses its last child,
+ * so that the first leaf is never empty (and deleteMin, and scans, take no time over empty leaves).</li>
+ * </ul>
+ * See {@link LongBPlusTree} for the equivalent with primitive long keys.
+ *
+ * @param <Key>   the key type.
+ * @param <Value> the value type.
+ */
+public class BPlusTree<Key extends Comparable<Key>, Value> implements BstDetail<Key, Value> {
+
+    /**
+     * Constructor.
+     *
+     * @param fanout the maximum number of keys in a leaf (and of children of an internal node): at least 3.
+     */
+    public BPlusTree(int fanout) {
+        if (fanout < 3) throw new IllegalArgumentException("fanout must be at least 3: " + fanout);
+        this.fanout = fanout;
+        this.root = new Leaf(fanout);
+    }
+
+    /**
+     * Constructor with a fanout of 64.
+     */
+    public BPlusTree() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /**
+     * Build a tree from keys which are already sorted (and distinct), in O(n) time.
+     * The leaves (and internal nodes) are filled as evenly as possible.
+     *
+     * @param fanout the maximum number of keys in a leaf (and of children of an internal node).
+     * @param keys   the keys, in strictly increasing order.
+     * @param values the corresponding values.
+     * @param <K>    the key type.
+     * @param <V>    the value type.
+     * @return a new BPlusTree.
+     */
+    public static <K extends Comparable<K>, V> BPlusTree<K, V> bulkLoad(int fanout, K[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException("keys and values must have the same length");
+        for (int i = 1; i < keys.length; i++)
+            if (keys[i - 1].compareTo(keys[i]) >= 0) throw new IllegalArgumentException("keys are not strictly increasing at index " + i);
+        BPlusTree<K, V> result = new BPlusTree<>(fanout);
+        if (keys.length == 0) return result;
+        // Build the leaves.
+        int leaves = (keys.length + fanout - 1) / fanout;
+        List<BPlusTree<K, V>.Node> level = new ArrayList<>(leaves);
+        List<K> lows = new ArrayList<>(leaves);
+        BPlusTree<K, V>.Leaf previous = null;
+        for (int i = 0; i < leaves; i++) {
+            int from = (int) ((long) keys.length * i / leaves), to = (int) ((long) keys.length * (i + 1) / leaves);
+            BPlusTree<K, V>.Leaf leaf = result.new Leaf(fanout);
+            System.arraycopy(keys, from, leaf.keys, 0, to - from);
+            System.arraycopy(values, from, leaf.values, 0, to - from);
+            leaf.n = to - from;
+            if (previous != null) previous.next = leaf;
+            previous = leaf;
+            level.add(leaf);
+            lows.add(keys[from]);
+        }
+        // Build each level of internal nodes, until there is only one node.
+        while (level.size() > 1) {
+            int parents = (level.size() + fanout - 1) / fanout;
+            List<BPlusTree<K, V>.Node> nextLevel = new ArrayList<>(parents);
+            List<K> nextLows = new ArrayList<>(parents);
+            for (int i = 0; i < parents; i++) {
+                int from = (int) ((long) level.size() * i / parents), to = (int) ((long) level.size() * (i + 1) / parents);
+                BPlusTree<K, V>.Inner inner = result.new Inner(fanout);
+                for (int j = from; j < to; j++) {
+                    inner.children[j - from] = level.get(j);
+                    if (j > from) inner.keys[j - from - 1] = lows.get(j);
+                }
+                inner.n = to - from - 1;
+                nextLevel.add(inner);
+                nextLows.add(lows.get(from));
+            }
+            level = nextLevel;
+            lows = nextLows;
+        }
+        result.root = level.get(0);
+        result.size = keys.length;
+        return result;
+    }
+
+    @Override
+    public Boolean contains(Key key) {
+        Leaf leaf = findLeaf(key);
+        return leaf.search(key) >= 0;
+    }
+
+    /**
+     * If this tree is empty, the map's keys are sorted and bulk-loaded; otherwise, they are simply put.
+     *
+     * @param map a map of key value pairs
+     */
+    @Override
+    public void putAll(Map<Key, Value> map) {
+        if (size == 0 && !map.isEmpty()) {
+            @SuppressWarnings("unchecked") Map.Entry<Key, Value>[] entries = map.entrySet().toArray(new Map.Entry[0]);
+            Arrays.sort(entries, Map.Entry.comparingByKey());
+            //noinspection unchecked
+            Key[] keys = (Key[]) new Comparable[entries.length];
+            //noinspection unchecked
+            Value[] values = (Value[]) new Object[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                keys[i] = entries[i].getKey();
+                values[i] = entries[i].getValue();
+            }
+            BPlusTree<Key, Value> loaded = bulkLoad(fanout, keys, values);
+            root = loaded.root;
+            size = loaded.size;
+        } else for (Map.Entry<Key, Value> entry : map.entrySet()) put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of levels of this tree (1 if the root is a leaf).
+     */
+    public int height() {
+        int result = 1;
+        for (Node node = root; node instanceof BPlusTree.Inner; node = ((Inner) node).children[0]) result++;
+        return result;
+    }
+
+    @Override
+    public void inOrderTraverse(BiFunction<Key, Value, Void> f) {
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next)
+            for (int i = 0; i < leaf.n; i++) f.apply(leaf.key(i), leaf.value(i));
+    }
+
+    @Override
+    public Value get(Key key) {
+        Leaf leaf = findLeaf(key);
+        int i = leaf.search(key);
+        return i >= 0 ? leaf.value(i) : null;
+    }
+
+    @Override
+    public Value put(Key key, Value value) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        Leaf leaf = descend(key, path, indices);
+        int i = leaf.search(key);
+        if (i >= 0) {
+            Value result = leaf.value(i);
+            leaf.values[i] = value;
+            return result;
+        }
+        leaf.insert(-i - 1, key, value);
+        size++;
+        if (leaf.n <= fanout) return null;
+        // Split the leaf and then, as necessary, its ancestors.
+        Node right = leaf.split();
+        Key separator = ((Leaf) right).key(0);
+        for (int level = path.size() - 1; level >= 0; level--) {
+            Inner parent = path.get(level);
+            parent.insert(indices.get(level), separator, right);
+            if (parent.n < fanout) return null;
+            separator = parent.key(parent.n / 2);
+            right = parent.split();
+        }
+        // The root has split: grow a new root.
+        Inner newRoot = new Inner(fanout);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.n = 1;
+        root = newRoot;
+        return null;
+    }
+
+    @Override
+    public void delete(Key key) {
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        Leaf leaf = descend(key, path, indices);
+        int i = leaf.search(key);
+        if (i >= 0) remove(leaf, i, path, indices);
+    }
+
+    /**
+     * Delete the smallest key, which (since empty leaves are unlinked) is the first key of the first leaf.
+     */
+    @Override
+    public void deleteMin() {
+        if (size == 0) return;
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        remove(descend(null, path, indices), 0, path, indices);
+    }
+
+    /**
+     * Get the keys between lo and hi (inclusive), in order, by scanning the linked leaves.
+     *
+     * @param lo the least key (or null for no lower bound).
+     * @param hi the greatest key (or null for no upper bound).
+     * @return an Iterable of keys.
+     */
+    public Iterable<Key> keys(Key lo, Key hi) {
+        return () -> new KeyIterator(lo, hi);
+    }
+
+    /**
+     * Get the set of keys of this tree, in order.
+     * The set is a view: it reflects subsequent changes to this tree.
+     *
+     * @return the Set of keys.
+     */
+    @Override
+    public Set<Key> keySet() {
+        return new AbstractSet<Key>() {
+            @Override
+            public Iterator<Key> iterator() {
+                return new KeyIterator(null, null);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                //noinspection unchecked
+                return o != null && BPlusTree.this.contains((Key) o);
+            }
+        };
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        inOrderTraverse((k, v) -> {
+            sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v);
+            return null;
+        });
+        return sb.append("}").toString();
+    }
+
+    /**
+     * Descend to the leaf whose range contains key (or to the first leaf if key is null),
+     * recording the path of internal nodes and the index of the child taken from each.
+     */
+    private Leaf descend(Key key, List<Inner> path, List<Integer> indices) {
+        Node node = root;
+        while (node instanceof BPlusTree.Inner) {
+            Inner inner = (Inner) node;
+            int i = key == null ? 0 : inner.childIndex(key);
+            path.add(inner);
+            indices.add(i);
+            node = inner.children[i];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Remove the key at index i of leaf (which was reached by path and indices) and, if the leaf is then empty, unlink it.
+     */
+    private void remove(Leaf leaf, int i, List<Inner> path, List<Integer> indices) {
+        leaf.remove(i);
+        size--;
+        // The root stays, even when it is an empty leaf.
+        if (leaf.n > 0 || path.isEmpty()) return;
+        Leaf previous = predecessor(path, indices);
+        if (previous != null) previous.next = leaf.next;
+        // Remove the leaf from its parent, and any ancestor which has thereby lost its only child from its own parent.
+        for (int level = path.size() - 1; level >= 0; level--) {
+            Inner parent = path.get(level);
+            if (parent.n > 0) {
+                parent.remove(indices.get(level));
+                break;
+            }
+        }
+        // The root always has at least two children, so it is never emptied; but if it has only one, the tree gets shorter.
+        while (root instanceof BPlusTree.Inner && ((Inner) root).n == 0) root = ((Inner) root).children[0];
+    }
+
+    /**
+     * @return the leaf before the leaf reached by path and indices (or null if it is the first leaf).
+     */
+    private Leaf predecessor(List<Inner> path, List<Integer> indices) {
+        for (int level = path.size() - 1; level >= 0; level--) {
+            int i = indices.get(level);
+            if (i > 0) {
+                Node node = path.get(level).children[i - 1];
+                while (node instanceof BPlusTree.Inner) node = ((Inner) node).children[((Inner) node).n];
+                return (Leaf) node;
+            }
+        }
+        return null;
+    }
+
+    private Leaf findLeaf(Key key) {
+        Node node = root;
+        while (node instanceof BPlusTree.Inner) {
+            Inner inner = (Inner) node;
+            node = inner.children[inner.childIndex(key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof BPlusTree.Inner) node = ((Inner) node).children[0];
+        return (Leaf) node;
+    }
+
+    /**
+     * A node: its keys occupy keys[0..n).
+     * The arrays have room for one extra key, so that a node may overflow (briefly) before it is split.
+     */
+    abstract class Node {
+        Node(int capacity) {
+            keys = new Comparable[capacity];
+        }
+
+        Key key(int i) {
+            //noinspection unchecked
+            return (Key) keys[i];
+        }
+
+        /**
+         * Binary search for key among keys[0..n).
+         *
+         * @return the index of key, if present; otherwise -(insertion point) - 1.
+         */
+        int search(Key key) {
+            int lo = 0, hi = n - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int cf = key.compareTo(key(mid));
+                if (cf > 0) lo = mid + 1;
+                else if (cf < 0) hi = mid - 1;
+                else return mid;
+            }
+            return -(lo + 1);
+        }
+
+        final Comparable<?>[] keys;
+        int n = 0;
+    }
+
+    class Inner extends Node {
+        Inner(int fanout) {
+            super(fanout);
+            children = new BPlusTree.Node[fanout + 1];
+        }
+
+        /**
+         * @return the index of the child whose subtree would contain key.
+         */
+        int childIndex(Key key) {
+            int i = search(key);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        /**
+         * Insert separator and (to its right) child, where the child at index i has just split.
+         */
+        void insert(int i, Key separator, Node child) {
+            System.arraycopy(keys, i, keys, i + 1, n - i);
+            System.arraycopy(children, i + 1, children, i + 2, n - i);
+            keys[i] = separator;
+            children[i + 1] = child;
+            n++;
+        }
+
+        /**
+         * Remove the child at index i (which must not be the only child), together with one of its separators:
+         * its range is taken over by a neighbour.
+         */
+        void remove(int i) {
+            int k = i > 0 ? i - 1 : 0;
+            System.arraycopy(keys, k + 1, keys, k, n - k - 1);
+            System.arraycopy(children, i + 1, children, i, n - i);
+            n--;
+            keys[n] = null;
+            children[n + 1] = null;
+        }
+
+        /**
+         * Split this node: the middle key moves up (the caller takes it beforehand) and the larger keys move to a new node.
+         *
+         * @return the new (right) node.
+         */
+        Node split() {
+            int mid = n / 2;
+            Inner right = new Inner(children.length - 1);
+            right.n = n - mid - 1;
+            System.arraycopy(keys, mid + 1, right.keys, 0, right.n);
+            System.arraycopy(children, mid + 1, right.children, 0, right.n + 1);
+            Arrays.fill(keys, mid, n, null);
+            Arrays.fill(children, mid + 1, n + 1, null);
+            n = mid;
+            return right;
+        }
+
+        final Node[] children;
+    }
+
+    class Leaf extends Node {
+        Leaf(int fanout) {
+            super(fanout + 1);
+            values = new Object[fanout + 1];
+        }
+
+        Value value(int i) {
+            //noinspection unchecked
+            return (Value) values[i];
+        }
+
+        void insert(int i, Key key, Value value) {
+            System.arraycopy(keys, i, keys, i + 1, n - i);
+            System.arraycopy(values, i, values, i + 1, n - i);
+            keys[i] = key;
+            values[i] = value;
+            n++;
+        }
+
+        void remove(int i) {
+            System.arraycopy(keys, i + 1, keys, i, n - i - 1);
+            System.arraycopy(values, i + 1, values, i, n - i - 1);
+            n--;
+            keys[n] = null;
+            values[n] = null;
+        }
+
+        /**
+         * Split this leaf: the larger half of the keys move to a new leaf, which is linked after this one.
+         *
+         * @return the new (right) leaf.
+         */
+        Node split() {
+            int mid = n / 2;
+            Leaf right = new Leaf(values.length - 1);
+            right.n = n - mid;
+            System.arraycopy(keys, mid, right.keys, 0, right.n);
+            System.arraycopy(values, mid, right.values, 0, right.n);
+            Arrays.fill(keys, mid, n, null);
+            Arrays.fill(values, mid, n, null);
+            n = mid;
+            right.next = next;
+            next = right;
+            return right;
+        }
+
+        final Object[] values;
+        Leaf next = null;
+    }
+
+    private class KeyIterator implements Iterator<Key> {
+        KeyIterator(Key lo, Key hi) {
+            this.hi = hi;
+            if (lo == null) leaf = firstLeaf();
+            else {
+                leaf = findLeaf(lo);
+                int i = leaf.search(lo);
+                index = i >= 0 ? i : -i - 1;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (hi == null || leaf.key(index).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public Key next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Key result = leaf.key(index++);
+            advance();
+            return result;
+        }
+
+        /**
+         * Skip over exhausted (or empty) leaves.
+         */
+        private void advance() {
+            while (leaf != null && index >= leaf.n) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        private final Key hi;
+        private Leaf leaf;
+        private int index = 0;
+    }
+
+    static final int DEFAULT_FANOUT = 64;
+
+    private final int fanout;
+    private Node root;
+    private int size = 0;
+}
@@ -0,0 +1,72 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of lookups in BPlusTree (and LongBPlusTree), bulk-loaded from sorted keys, against BSTSimple and BSTAVL.
+ * <p>
+ * The keys are the even numbers 0, 2, ... 2(n-1); there are m lookups of random (even and odd) keys.
+ * BSTSimple is built by inserting the keys in random order (else it would degenerate).
+ * <p>
+ * Usage: BPlusTreeBenchmark [n [m]] (defaults 10,000,000 and 1,000,000): this needs a heap of about 3GB.
+ */
+public class BPlusTreeBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        Integer[] keys = new Integer[n];
+        long[] longKeys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = 2 * i;
+            longKeys[i] = 2L * i;
+        }
+        Random random = new Random(0L);
+        Integer[] lookups = new Integer[m];
+        for (int i = 0; i < m; i++) lookups[i] = random.nextInt(2 * n);
+        logger.info("BPlusTreeBenchmark: " + formatWhole(n) + " keys, " + formatWhole(m) + " lookups");
+
+        long start = System.nanoTime();
+        BPlusTree<Integer, Integer> bPlusTree = BPlusTree.bulkLoad(BPlusTree.DEFAULT_FANOUT, keys, keys);
+        System.out.println("BPlusTree bulk load: " + formatWhole((int) ((System.nanoTime() - start) / 1000000)) + " mSec; height " + bPlusTree.height());
+        report("BPlusTree", lookups, xs -> {
+            for (Integer x : xs) bPlusTree.get(x);
+        });
+        LongBPlusTree<Integer> longTree = LongBPlusTree.bulkLoad(BPlusTree.DEFAULT_FANOUT, longKeys, keys);
+        report("LongBPlusTree", lookups, xs -> {
+            for (Integer x : xs) longTree.get(x);
+        });
+
+        BSTAVL<Integer, Integer> avl = new BSTAVL<>();
+        for (Integer key : keys) avl.put(key, key);
+        report("BSTAVL", lookups, xs -> {
+            for (Integer x : xs) avl.get(x);
+        });
+
+        // Shuffle the keys for BSTSimple.
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer t = keys[i];
+            keys[i] = keys[j];
+            keys[j] = t;
+        }
+        BSTSimple<Integer, Integer> simple = new BSTSimple<>();
+        for (Integer key : keys) simple.put(key, key);
+        report("BSTSimple", lookups, xs -> {
+            for (Integer x : xs) simple.get(x);
+        });
+    }
+
+    private static void report(String description, Integer[] lookups, Consumer<Integer[]> f) {
+        double time = new Benchmark_Timer<Integer[]>(description, f).run(lookups, 5);
+        System.out.println(description + ": " + String.format("%.1f", time * 1e6 / lookups.length) + " nSec/lookup");
+    }
+
+    final static LazyLogger logger = new LazyLogger(BPlusTreeBenchmark.class);
+}
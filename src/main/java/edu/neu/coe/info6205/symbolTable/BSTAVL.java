@@ -0,0 +1,425 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Balanced binary search tree: an AVL tree (Adelson-Velsky and Landis, 1962).
+ * <p>
+ * At every node, the heights of the two subtrees differ by at most one, so that the height of a tree of n keys is less than
+ * 1.44 lg(n+2): unlike BSTSimple, the order of insertion doesn't matter (in particular, sorted keys are fine).
+ * <p>
+ * Both get and put are iterative: put (and delete) record the path from the root in an array (whose length is bounded by
+ * the maximum height) and then retrace it, updating heights and counts and rotating where necessary.
+ * Each node also records the number of nodes in its subtree, which supports the order statistics rank and select.
+ *
+ * @param <Key>   the key type.
+ * @param <Value> the value type.
+ */
+public class BSTAVL<Key extends Comparable<Key>, Value> implements BstDetail<Key, Value> {
+
+    public BSTAVL() {
+    }
+
+    public BSTAVL(Map<Key, Value> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public Boolean contains(Key key) {
+        return getNode(key) != null;
+    }
+
+    /**
+     * Since this tree is balanced, there is no need to randomize the order of insertion.
+     *
+     * @param map a map of key value pairs
+     */
+    @Override
+    public void putAll(Map<Key, Value> map) {
+        for (Map.Entry<Key, Value> entry : map.entrySet()) put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return the height of this tree (0 if empty).
+     */
+    public int height() {
+        return height(root);
+    }
+
+    @Override
+    public void inOrderTraverse(BiFunction<Key, Value, Void> f) {
+        for (Iterator<Node> nodes = new NodeIterator(root, null, null); nodes.hasNext(); ) {
+            Node node = nodes.next();
+            f.apply(node.key, node.value);
+        }
+    }
+
+    @Override
+    public Value get(Key key) {
+        Node node = getNode(key);
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public Value put(Key key, Value value) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        Node[] path = newPath();
+        int depth = 0;
+        Node node = root;
+        while (node != null) {
+            int cf = key.compareTo(node.key);
+            if (cf == 0) {
+                Value result = node.value;
+                node.value = value;
+                return result;
+            }
+            path[depth++] = node;
+            node = cf < 0 ? node.smaller : node.larger;
+        }
+        Node leaf = new Node(key, value);
+        if (depth == 0) root = leaf;
+        else if (key.compareTo(path[depth - 1].key) < 0) path[depth - 1].smaller = leaf;
+        else path[depth - 1].larger = leaf;
+        retrace(path, depth);
+        return null;
+    }
+
+    @Override
+    public void delete(Key key) {
+        Node[] path = newPath();
+        int depth = 0;
+        Node node = root;
+        while (node != null) {
+            int cf = key.compareTo(node.key);
+            if (cf == 0) break;
+            path[depth++] = node;
+            node = cf < 0 ? node.smaller : node.larger;
+        }
+        if (node == null) return;
+        if (node.smaller != null && node.larger != null) {
+            // Replace node's key and value by those of its successor, and delete the successor instead.
+            path[depth++] = node;
+            Node successor = node.larger;
+            while (successor.smaller != null) {
+                path[depth++] = successor;
+                successor = successor.smaller;
+            }
+            node.key = successor.key;
+            node.value = successor.value;
+            node = successor;
+        }
+        replace(path, depth, node, node.smaller != null ? node.smaller : node.larger);
+        retrace(path, depth);
+    }
+
+    @Override
+    public void deleteMin() {
+        if (root == null) return;
+        Node[] path = newPath();
+        int depth = 0;
+        Node node = root;
+        while (node.smaller != null) {
+            path[depth++] = node;
+            node = node.smaller;
+        }
+        replace(path, depth, node, node.larger);
+        retrace(path, depth);
+    }
+
+    /**
+     * @return the smallest key (or null if this tree is empty).
+     */
+    public Key min() {
+        Node node = root;
+        if (node == null) return null;
+        while (node.smaller != null) node = node.smaller;
+        return node.key;
+    }
+
+    /**
+     * @return the largest key (or null if this tree is empty).
+     */
+    public Key max() {
+        Node node = root;
+        if (node == null) return null;
+        while (node.larger != null) node = node.larger;
+        return node.key;
+    }
+
+    /**
+     * Method to yield the rank of a key.
+     *
+     * @param key the key (which need not be present).
+     * @return the number of keys in this tree which are less than key.
+     */
+    public int rank(Key key) {
+        int result = 0;
+        Node node = root;
+        while (node != null) {
+            int cf = key.compareTo(node.key);
+            if (cf < 0) node = node.smaller;
+            else {
+                result += size(node.smaller);
+                if (cf == 0) break;
+                result++;
+                node = node.larger;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method to yield the key of a given rank.
+     *
+     * @param rank the rank (between 0 and size() - 1).
+     * @return the key which has exactly rank smaller keys in this tree.
+     */
+    public Key select(int rank) {
+        if (rank < 0 || rank >= size()) throw new IllegalArgumentException("rank out of range: " + rank);
+        Node node = root;
+        while (true) {
+            int smaller = size(node.smaller);
+            if (rank < smaller) node = node.smaller;
+            else if (rank > smaller) {
+                rank -= smaller + 1;
+                node = node.larger;
+            } else return node.key;
+        }
+    }
+
+    /**
+     * Get the keys between lo and hi (inclusive), in order.
+     * The iteration is lazy: it visits only O(log n) nodes more than it yields.
+     *
+     * @param lo the least key (or null for no lower bound).
+     * @param hi the greatest key (or null for no upper bound).
+     * @return an Iterable of keys.
+     */
+    public Iterable<Key> keys(Key lo, Key hi) {
+        return () -> new KeyIterator(new NodeIterator(root, lo, hi));
+    }
+
+    /**
+     * Get the set of keys of this tree, in order.
+     * The set is a view: it reflects subsequent changes to this tree.
+     *
+     * @return the Set of keys.
+     */
+    @Override
+    public Set<Key> keySet() {
+        return new AbstractSet<Key>() {
+            @Override
+            public Iterator<Key> iterator() {
+                return new KeyIterator(new NodeIterator(root, null, null));
+            }
+
+            @Override
+            public int size() {
+                return BSTAVL.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                //noinspection unchecked
+                return o != null && BSTAVL.this.contains((Key) o);
+            }
+        };
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        inOrderTraverse((k, v) -> {
+            sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v);
+            return null;
+        });
+        return sb.append("}").toString();
+    }
+
+    private Node getNode(Key key) {
+        Node node = root;
+        while (node != null) {
+            int cf = key.compareTo(node.key);
+            if (cf < 0) node = node.smaller;
+            else if (cf > 0) node = node.larger;
+            else return node;
+        }
+        return null;
+    }
+
+    /**
+     * Replace node (which is a child of path[depth - 1], or the root) by replacement.
+     */
+    private void replace(Node[] path, int depth, Node node, Node replacement) {
+        if (depth == 0) root = replacement;
+        else if (path[depth - 1].smaller == node) path[depth - 1].smaller = replacement;
+        else path[depth - 1].larger = replacement;
+    }
+
+    /**
+     * Retrace the path from the bottom up to the root: update each node, rebalance it if necessary,
+     * and attach the resulting subtree to the node's parent.
+     */
+    private void retrace(Node[] path, int depth) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Node node = path[i];
+            Node balanced = balance(node);
+            if (balanced != node) replace(path, i, node, balanced);
+        }
+    }
+
+    /**
+     * Update the height and count of node, and rotate if its subtrees' heights differ by two.
+     *
+     * @return the root of the (balanced) subtree.
+     */
+    private Node balance(Node node) {
+        int balance = height(node.smaller) - height(node.larger);
+        if (balance > 1) {
+            if (height(node.smaller.smaller) < height(node.smaller.larger)) node.smaller = rotateLeft(node.smaller);
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.larger.larger) < height(node.larger.smaller)) node.larger = rotateRight(node.larger);
+            return rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node result = node.smaller;
+        node.smaller = result.larger;
+        result.larger = node;
+        update(node);
+        update(result);
+        return result;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node result = node.larger;
+        node.larger = result.smaller;
+        result.smaller = node;
+        update(node);
+        update(result);
+        return result;
+    }
+
+    private void update(Node node) {
+        node.height = 1 + Math.max(height(node.smaller), height(node.larger));
+        node.count = 1 + size(node.smaller) + size(node.larger);
+    }
+
+    /**
+     * @return an array long enough to hold any path from the root.
+     */
+    private Node[] newPath() {
+        //noinspection unchecked
+        return (Node[]) new BSTAVL.Node[MAX_HEIGHT];
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private int size(Node node) {
+        return node == null ? 0 : node.count;
+    }
+
+    class Node {
+        Node(Key key, Value value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        Key key;
+        Value value;
+        Node smaller = null;
+        Node larger = null;
+        int height = 1;
+        int count = 1;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Node: " + key + ":" + value);
+            if (smaller != null) sb.append(", smaller: ").append(smaller.key);
+            if (larger != null) sb.append(", larger: ").append(larger.key);
+            return sb.toString();
+        }
+    }
+
+    /**
+     * In-order iterator over the nodes whose keys are between lo and hi (inclusive; null means unbounded),
+     * using an explicit stack of the nodes whose smaller subtrees are being visited.
+     */
+    private class NodeIterator implements Iterator<Node> {
+        NodeIterator(Node node, Key lo, Key hi) {
+            this.lo = lo;
+            this.hi = hi;
+            pushSmaller(node);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0 && (hi == null || stack[top - 1].key.compareTo(hi) <= 0);
+        }
+
+        @Override
+        public Node next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Node result = stack[--top];
+            pushSmaller(result.larger);
+            return result;
+        }
+
+        /**
+         * Push node and its chain of smaller descendants, skipping any whose keys are less than lo.
+         */
+        private void pushSmaller(Node node) {
+            while (node != null) {
+                if (lo != null && node.key.compareTo(lo) < 0) node = node.larger;
+                else {
+                    stack[top++] = node;
+                    node = node.smaller;
+                }
+            }
+        }
+
+        private final Key lo;
+        private final Key hi;
+        private final Node[] stack = newPath();
+        private int top = 0;
+    }
+
+    private class KeyIterator implements Iterator<Key> {
+        KeyIterator(NodeIterator nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nodes.hasNext();
+        }
+
+        @Override
+        public Key next() {
+            return nodes.next().key;
+        }
+
+        private final NodeIterator nodes;
+    }
+
+    // NOTE: the height of an AVL tree of n nodes is less than 1.44 lg(n+2), i.e. less than 46 for any int n.
+    private static final int MAX_HEIGHT = 48;
+
+    Node root = null;
+}
@@ -0,0 +1,70 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of BSTAVL against BSTSimple and java.util.TreeMap: n puts followed by n gets, of keys in sorted and in random order.
+ * <p>
+ * BSTSimple is only run on sorted keys for small n, since it degenerates into a linked list (and its recursion overflows the stack).
+ * <p>
+ * Usage: BSTBenchmark [n] (default 1,000,000).
+ */
+public class BSTBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer[] sorted = new Integer[n];
+        for (int i = 0; i < n; i++) sorted[i] = i;
+        Integer[] random = sorted.clone();
+        Random r = new Random(0L);
+        for (int i = n - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            Integer t = random[i];
+            random[i] = random[j];
+            random[j] = t;
+        }
+        logger.info("BSTBenchmark: " + formatWhole(n) + " keys");
+        for (String order : new String[]{"sorted", "random"}) {
+            Integer[] keys = order.equals("sorted") ? sorted : random;
+            report("TreeMap", order, keys, xs -> {
+                Map<Integer, Integer> map = new TreeMap<>();
+                for (Integer x : xs) map.put(x, x);
+                for (Integer x : xs) map.get(x);
+            });
+            report("BSTAVL", order, keys, xs -> {
+                BSTAVL<Integer, Integer> bst = new BSTAVL<>();
+                for (Integer x : xs) bst.put(x, x);
+                for (Integer x : xs) bst.get(x);
+            });
+            Consumer<Integer[]> simple = xs -> {
+                BSTSimple<Integer, Integer> bst = new BSTSimple<>();
+                for (Integer x : xs) bst.put(x, x);
+                for (Integer x : xs) bst.get(x);
+            };
+            if (order.equals("random")) report("BSTSimple", order, keys, simple);
+            else {
+                int m = Math.min(n, SIMPLE_SORTED_LIMIT);
+                Integer[] xs = new Integer[m];
+                System.arraycopy(keys, 0, xs, 0, m);
+                report("BSTSimple", order, xs, simple);
+            }
+        }
+    }
+
+    private static void report(String description, String order, Integer[] keys, Consumer<Integer[]> f) {
+        double time = new Benchmark_Timer<Integer[]>(description, f).run(keys, 5);
+        System.out.println(description + " (" + formatWhole(keys.length) + " " + order + " keys): " + String.format("%.1f", time) + " mSec");
+    }
+
+    private static final int SIMPLE_SORTED_LIMIT = 5_000;
+
+    final static LazyLogger logger = new LazyLogger(BSTBenchmark.class);
+}
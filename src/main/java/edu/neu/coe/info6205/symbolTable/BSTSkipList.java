@@ -0,0 +1,359 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Ordered symbol table which many threads may read and update at once: a lock-free skip list
+ * (Herlihy and Shavit, The Art of Multiprocessor Programming, chapter 14).
+ * <p>
+ * Each node has a tower of forward pointers (one per level), each of which is an AtomicMarkableReference:
+ * the mark on a node's pointer at some level means that the node has been deleted at that level.
+ * <ul>
+ * <li>delete marks the node's pointers from the top level down; the node is (logically) deleted, i.e. the deletion takes effect,
+ * at the moment its bottom-level pointer is marked;</li>
+ * <li>put links a new node in at the bottom level (which is when the insertion takes effect) and then at each higher level, by CAS;</li>
+ * <li>traversals by put and delete physically unlink (by CAS) any marked nodes they meet;</li>
+ * <li>get (and contains) never write and never retry: they simply step over marked nodes, so reads are wait-free.</li>
+ * </ul>
+ * Iteration (inOrderTraverse, keySet, keys) is weakly consistent: it reflects some, but not necessarily all,
+ * of the updates made since it started.
+ * size is exact only when there are no concurrent updates.
+ *
+ * @param <Key>   the key type.
+ * @param <Value> the value type.
+ */
+public class BSTSkipList<Key extends Comparable<Key>, Value> implements BstDetail<Key, Value> {
+
+    public BSTSkipList() {
+        tail = new Node<>(null, null, MAX_LEVEL);
+        head = new Node<>(null, null, MAX_LEVEL);
+        for (int i = 0; i <= MAX_LEVEL; i++) {
+            head.next[i] = new AtomicMarkableReference<>(tail, false);
+            // NOTE: tail is never marked, so traversals stop at tail without special cases.
+            tail.next[i] = new AtomicMarkableReference<>(null, false);
+        }
+    }
+
+    public BSTSkipList(Map<Key, Value> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public Boolean contains(Key key) {
+        return getNode(key) != null;
+    }
+
+    @Override
+    public void putAll(Map<Key, Value> map) {
+        for (Map.Entry<Key, Value> entry : map.entrySet()) put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public int size() {
+        return count.intValue();
+    }
+
+    @Override
+    public void inOrderTraverse(BiFunction<Key, Value, Void> f) {
+        for (Node<Key, Value> node = first(); node != tail; node = successor(node))
+            if (!node.next[0].isMarked()) f.apply(node.key, node.value.get());
+    }
+
+    /**
+     * Wait-free lookup.
+     *
+     * @param key the key.
+     * @return the value for key, or null if key is absent.
+     */
+    @Override
+    public Value get(Key key) {
+        Node<Key, Value> node = getNode(key);
+        return node != null ? node.value.get() : null;
+    }
+
+    @Override
+    public Value put(Key key, Value value) {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        Node<Key, Value>[] preds = newPath(), succs = newPath();
+        int top = randomLevel();
+        // Levels above the highest in use are empty (head links directly to tail), so traversals may start at the highest.
+        for (int highest = levels.get(); top > highest; highest = levels.get())
+            if (levels.compareAndSet(highest, top)) break;
+        while (true) {
+            if (find(key, preds, succs)) {
+                // The key is present: replace its value, unless the node is deleted meanwhile (in which case, start again).
+                Node<Key, Value> node = succs[0];
+                Value result = node.value.getAndSet(value);
+                if (!node.next[0].isMarked()) return result;
+                continue;
+            }
+            Node<Key, Value> node = new Node<>(key, value, top);
+            for (int level = 0; level <= top; level++) node.next[level] = new AtomicMarkableReference<>(succs[level], false);
+            // The insertion takes effect when the node is linked in at the bottom level.
+            if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) continue;
+            count.increment();
+            for (int level = 1; level <= top; level++)
+                while (true) {
+                    if (preds[level].next[level].compareAndSet(succs[level], node, false, false)) break;
+                    find(key, preds, succs);
+                    // If the node has been deleted meanwhile, don't link it in at any more levels.
+                    if (node.next[0].isMarked()) return null;
+                    Node<Key, Value> succ = node.next[level].getReference();
+                    if (succ != succs[level] && !node.next[level].compareAndSet(succ, succs[level], false, false)) return null;
+                }
+            return null;
+        }
+    }
+
+    @Override
+    public void delete(Key key) {
+        Node<Key, Value>[] preds = newPath(), succs = newPath();
+        if (find(key, preds, succs)) remove(succs[0]);
+    }
+
+    @Override
+    public void deleteMin() {
+        while (true) {
+            Node<Key, Value> node = first();
+            if (node == tail || remove(node)) return;
+        }
+    }
+
+    /**
+     * @return the smallest key (or null if this table is empty).
+     */
+    public Key min() {
+        for (Node<Key, Value> node = first(); node != tail; node = successor(node))
+            if (!node.next[0].isMarked()) return node.key;
+        return null;
+    }
+
+    /**
+     * Get the keys between lo and hi (inclusive), in order (weakly consistent).
+     *
+     * @param lo the least key (or null for no lower bound).
+     * @param hi the greatest key (or null for no upper bound).
+     * @return an Iterable of keys.
+     */
+    public Iterable<Key> keys(Key lo, Key hi) {
+        return () -> new KeyIterator(lo, hi);
+    }
+
+    /**
+     * Get the set of keys of this table, in order.
+     * The set is a (weakly consistent) view: it reflects subsequent changes to this table.
+     *
+     * @return the Set of keys.
+     */
+    @Override
+    public Set<Key> keySet() {
+        return new AbstractSet<Key>() {
+            @Override
+            public Iterator<Key> iterator() {
+                return new KeyIterator(null, null);
+            }
+
+            @Override
+            public int size() {
+                return BSTSkipList.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                //noinspection unchecked
+                return o != null && BSTSkipList.this.contains((Key) o);
+            }
+        };
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        inOrderTraverse((k, v) -> {
+            sb.append(sb.length() > 1 ? ", " : "").append(k).append("=").append(v);
+            return null;
+        });
+        return sb.append("}").toString();
+    }
+
+    /**
+     * Delete the given node by marking its pointers from the top down.
+     *
+     * @return true if this thread marked the bottom level (i.e. made the deletion take effect).
+     */
+    private boolean remove(Node<Key, Value> node) {
+        boolean[] marked = {false};
+        for (int level = node.top; level >= 1; level--) {
+            Node<Key, Value> succ = node.next[level].get(marked);
+            while (!marked[0]) {
+                node.next[level].compareAndSet(succ, succ, false, true);
+                succ = node.next[level].get(marked);
+            }
+        }
+        Node<Key, Value> succ = node.next[0].get(marked);
+        while (true) {
+            if (node.next[0].compareAndSet(succ, succ, false, true)) {
+                count.decrement();
+                // Unlink the node at every level.
+                find(node.key, newPath(), newPath());
+                return true;
+            }
+            succ = node.next[0].get(marked);
+            if (marked[0]) return false;
+        }
+    }
+
+    /**
+     * Find the predecessors and successors of key at each level, unlinking any marked nodes on the way.
+     *
+     * @return true if succs[0] has the given key.
+     */
+    private boolean find(Key key, Node<Key, Value>[] preds, Node<Key, Value>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node<Key, Value> pred = head;
+            for (int level = levels.get(); level >= 0; level--) {
+                Node<Key, Value> curr = pred.next[level].getReference();
+                while (true) {
+                    Node<Key, Value> succ = curr.next[level].get(marked);
+                    while (marked[0]) {
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false)) continue retry;
+                        curr = succ;
+                        succ = curr.next[level].get(marked);
+                    }
+                    if (less(curr, key)) {
+                        pred = curr;
+                        curr = succ;
+                    } else break;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != tail && succs[0].key.compareTo(key) == 0;
+        }
+    }
+
+    /**
+     * Find (without writing) the unmarked node with the given key.
+     *
+     * @return the node or null.
+     */
+    private Node<Key, Value> getNode(Key key) {
+        Node<Key, Value> pred = ceilingPredecessor(key);
+        Node<Key, Value> curr = successor(pred);
+        return curr != tail && curr.key.compareTo(key) == 0 ? curr : null;
+    }
+
+    /**
+     * Find (without writing) the last node, at the bottom level, whose key is less than key (or head).
+     */
+    private Node<Key, Value> ceilingPredecessor(Key key) {
+        boolean[] marked = {false};
+        Node<Key, Value> pred = head;
+        for (int level = levels.get(); level >= 0; level--) {
+            Node<Key, Value> curr = pred.next[level].getReference();
+            while (true) {
+                Node<Key, Value> succ = curr.next[level].get(marked);
+                while (marked[0]) {
+                    curr = succ;
+                    succ = curr.next[level].get(marked);
+                }
+                if (less(curr, key)) {
+                    pred = curr;
+                    curr = succ;
+                } else break;
+            }
+        }
+        return pred;
+    }
+
+    /**
+     * @return the first unmarked node after node at the bottom level (or tail).
+     */
+    private Node<Key, Value> successor(Node<Key, Value> node) {
+        Node<Key, Value> curr = node.next[0].getReference();
+        while (curr != tail && curr.next[0].isMarked()) curr = curr.next[0].getReference();
+        return curr;
+    }
+
+    private Node<Key, Value> first() {
+        return successor(head);
+    }
+
+    /**
+     * @return true if node (which is not head) precedes key.
+     */
+    private boolean less(Node<Key, Value> node, Key key) {
+        return node != tail && node.key.compareTo(key) < 0;
+    }
+
+    private static int randomLevel() {
+        // Each level is a quarter as likely as the one below (Pugh's recommendation): fewer levels to descend and fewer pointers.
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Integer.numberOfTrailingZeros(bits) / 2;
+    }
+
+    /**
+     * @return an array with an element for each level.
+     */
+    private Node<Key, Value>[] newPath() {
+        //noinspection unchecked
+        return (Node<Key, Value>[]) new Node[MAX_LEVEL + 1];
+    }
+
+    private static class Node<K, V> {
+        Node(K key, V value, int top) {
+            this.key = key;
+            this.value = new AtomicReference<>(value);
+            this.top = top;
+            //noinspection unchecked
+            this.next = (AtomicMarkableReference<Node<K, V>>[]) new AtomicMarkableReference[top + 1];
+        }
+
+        final K key;
+        final AtomicReference<V> value;
+        final int top; // the highest level of this node
+        final AtomicMarkableReference<Node<K, V>>[] next;
+    }
+
+    private class KeyIterator implements Iterator<Key> {
+        KeyIterator(Key lo, Key hi) {
+            this.hi = hi;
+            node = successor(lo == null ? head : ceilingPredecessor(lo));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != tail && (hi == null || node.key.compareTo(hi) <= 0);
+        }
+
+        @Override
+        public Key next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Key result = node.key;
+            node = successor(node);
+            return result;
+        }
+
+        private final Key hi;
+        private Node<Key, Value> node;
+    }
+
+    private static final int MAX_LEVEL = 16;
+
+    private final Node<Key, Value> head;
+    private final Node<Key, Value> tail;
+    private final AtomicInteger levels = new AtomicInteger(); // the highest level in use (it never decreases)
+    private final LongAdder count = new LongAdder();
+}
@@ -0,0 +1,380 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * B+-tree symbol table with primitive long keys.
+ * <p>
+ * This is the same structure as {@link BPlusTree}, but the keys of each node are held in a long[],
+ * so that a search within a node compares adjacent primitives rather than following a reference to each key.
+ * As in BPlusTree, a leaf which becomes empty is unlinked, so that scans never pass over empty leaves.
+ *
+ * @param <Value> the value type.
+ */
+public class LongBPlusTree<Value> {
+
+    /**
+     * Functional interface for forEach.
+     *
+     * @param <V> the value type.
+     */
+    public interface Consumer<V> {
+        void accept(long key, V value);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param fanout the maximum number of keys in a leaf (and of children of an internal node): at least 3.
+     */
+    public LongBPlusTree(int fanout) {
+        if (fanout < 3) throw new IllegalArgumentException("fanout must be at least 3: " + fanout);
+        this.fanout = fanout;
+        this.root = new Leaf(fanout);
+    }
+
+    /**
+     * Constructor with a fanout of 64.
+     */
+    public LongBPlusTree() {
+        this(BPlusTree.DEFAULT_FANOUT);
+    }
+
+    /**
+     * Build a tree from keys which are already sorted (and distinct), in O(n) time.
+     *
+     * @param fanout the maximum number of keys in a leaf (and of children of an internal node).
+     * @param keys   the keys, in strictly increasing order.
+     * @param values the corresponding values.
+     * @param <V>    the value type.
+     * @return a new LongBPlusTree.
+     */
+    public static <V> LongBPlusTree<V> bulkLoad(int fanout, long[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException("keys and values must have the same length");
+        for (int i = 1; i < keys.length; i++)
+            if (keys[i - 1] >= keys[i]) throw new IllegalArgumentException("keys are not strictly increasing at index " + i);
+        LongBPlusTree<V> result = new LongBPlusTree<>(fanout);
+        if (keys.length == 0) return result;
+        int leaves = (keys.length + fanout - 1) / fanout;
+        List<Node> level = new ArrayList<>(leaves);
+        long[] lows = new long[leaves];
+        Leaf previous = null;
+        for (int i = 0; i < leaves; i++) {
+            int from = (int) ((long) keys.length * i / leaves), to = (int) ((long) keys.length * (i + 1) / leaves);
+            Leaf leaf = new Leaf(fanout);
+            System.arraycopy(keys, from, leaf.keys, 0, to - from);
+            System.arraycopy(values, from, leaf.values, 0, to - from);
+            leaf.n = to - from;
+            if (previous != null) previous.next = leaf;
+            previous = leaf;
+            level.add(leaf);
+            lows[i] = keys[from];
+        }
+        while (level.size() > 1) {
+            int parents = (level.size() + fanout - 1) / fanout;
+            List<Node> nextLevel = new ArrayList<>(parents);
+            long[] nextLows = new long[parents];
+            for (int i = 0; i < parents; i++) {
+                int from = (int) ((long) level.size() * i / parents), to = (int) ((long) level.size() * (i + 1) / parents);
+                Inner inner = new Inner(fanout);
+                for (int j = from; j < to; j++) {
+                    inner.children[j - from] = level.get(j);
+                    if (j > from) inner.keys[j - from - 1] = lows[j];
+                }
+                inner.n = to - from - 1;
+                nextLevel.add(inner);
+                nextLows[i] = lows[from];
+            }
+            level = nextLevel;
+            lows = nextLows;
+        }
+        result.root = level.get(0);
+        result.size = keys.length;
+        return result;
+    }
+
+    /**
+     * @param key the key.
+     * @return the value for key, or null if key is absent.
+     */
+    public Value get(long key) {
+        Leaf leaf = findLeaf(key);
+        int i = leaf.search(key);
+        //noinspection unchecked
+        return i >= 0 ? (Value) leaf.values[i] : null;
+    }
+
+    /**
+     * @param key the key.
+     * @return true if key is present.
+     */
+    public boolean containsKey(long key) {
+        return findLeaf(key).search(key) >= 0;
+    }
+
+    /**
+     * Insert or replace the value for key.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value for key, or null if key was absent.
+     */
+    public Value put(long key, Value value) {
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        Leaf leaf = descend(key, path, indices);
+        int i = leaf.search(key);
+        if (i >= 0) {
+            //noinspection unchecked
+            Value result = (Value) leaf.values[i];
+            leaf.values[i] = value;
+            return result;
+        }
+        leaf.insert(-i - 1, key, value);
+        size++;
+        if (leaf.n <= fanout) return null;
+        Node right = leaf.split();
+        long separator = right.keys[0];
+        for (int level = path.size() - 1; level >= 0; level--) {
+            Inner parent = path.get(level);
+            parent.insert(indices.get(level), separator, right);
+            if (parent.n < fanout) return null;
+            separator = parent.keys[parent.n / 2];
+            right = parent.split();
+        }
+        Inner newRoot = new Inner(fanout);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.n = 1;
+        root = newRoot;
+        return null;
+    }
+
+    /**
+     * Remove key (and its value), without merging underfull nodes, but unlinking a leaf which becomes empty (as in BPlusTree).
+     *
+     * @param key the key.
+     */
+    public void delete(long key) {
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        Leaf leaf = descend(key, path, indices);
+        int i = leaf.search(key);
+        if (i >= 0) remove(leaf, i, path, indices);
+    }
+
+    /**
+     * Remove the smallest key (and its value), which (since empty leaves are unlinked) is the first key of the first leaf.
+     */
+    public void deleteMin() {
+        if (size == 0) return;
+        List<Inner> path = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        remove(descend(Long.MIN_VALUE, path, indices), 0, path, indices);
+    }
+
+    /**
+     * Call f on each key between lo and hi (inclusive) and its value, in order, by scanning the linked leaves.
+     *
+     * @param lo the least key.
+     * @param hi the greatest key.
+     * @param f  the function.
+     */
+    public void forEach(long lo, long hi, Consumer<Value> f) {
+        Leaf leaf = findLeaf(lo);
+        int i = leaf.search(lo);
+        for (i = i >= 0 ? i : -i - 1; leaf != null; leaf = leaf.next, i = 0)
+            for (; i < leaf.n; i++) {
+                if (leaf.keys[i] > hi) return;
+                //noinspection unchecked
+                f.accept(leaf.keys[i], (Value) leaf.values[i]);
+            }
+    }
+
+    /**
+     * @return the number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of levels of this tree (1 if the root is a leaf).
+     */
+    public int height() {
+        int result = 1;
+        for (Node node = root; node instanceof Inner; node = ((Inner) node).children[0]) result++;
+        return result;
+    }
+
+    /**
+     * Descend to the leaf whose range contains key, recording the path of internal nodes and the index of the child taken from each.
+     */
+    private Leaf descend(long key, List<Inner> path, List<Integer> indices) {
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int i = inner.childIndex(key);
+            path.add(inner);
+            indices.add(i);
+            node = inner.children[i];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Remove the key at index i of leaf (which was reached by path and indices) and, if the leaf is then empty, unlink it
+     * (and any ancestor which thereby loses its only child), as in BPlusTree.
+     */
+    private void remove(Leaf leaf, int i, List<Inner> path, List<Integer> indices) {
+        leaf.remove(i);
+        size--;
+        if (leaf.n > 0 || path.isEmpty()) return;
+        Leaf previous = predecessor(path, indices);
+        if (previous != null) previous.next = leaf.next;
+        for (int level = path.size() - 1; level >= 0; level--) {
+            Inner parent = path.get(level);
+            if (parent.n > 0) {
+                parent.remove(indices.get(level));
+                break;
+            }
+        }
+        while (root instanceof Inner && root.n == 0) root = ((Inner) root).children[0];
+    }
+
+    /**
+     * @return the leaf before the leaf reached by path and indices (or null if it is the first leaf).
+     */
+    private Leaf predecessor(List<Inner> path, List<Integer> indices) {
+        for (int level = path.size() - 1; level >= 0; level--) {
+            int i = indices.get(level);
+            if (i > 0) {
+                Node node = path.get(level).children[i - 1];
+                while (node instanceof Inner) node = ((Inner) node).children[node.n];
+                return (Leaf) node;
+            }
+        }
+        return null;
+    }
+
+    private Leaf findLeaf(long key) {
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            node = inner.children[inner.childIndex(key)];
+        }
+        return (Leaf) node;
+    }
+
+    private static abstract class Node {
+        Node(int capacity) {
+            keys = new long[capacity];
+        }
+
+        /**
+         * @return the index of key, if present; otherwise -(insertion point) - 1.
+         */
+        int search(long key) {
+            int lo = 0, hi = n - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                long k = keys[mid];
+                if (k < key) lo = mid + 1;
+                else if (k > key) hi = mid - 1;
+                else return mid;
+            }
+            return -(lo + 1);
+        }
+
+        final long[] keys;
+        int n = 0;
+    }
+
+    private static class Inner extends Node {
+        Inner(int fanout) {
+            super(fanout);
+            children = new Node[fanout + 1];
+        }
+
+        int childIndex(long key) {
+            int i = search(key);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        void insert(int i, long separator, Node child) {
+            System.arraycopy(keys, i, keys, i + 1, n - i);
+            System.arraycopy(children, i + 1, children, i + 2, n - i);
+            keys[i] = separator;
+            children[i + 1] = child;
+            n++;
+        }
+
+        /**
+         * Remove the child at index i (which must not be the only child), together with one of its separators.
+         */
+        void remove(int i) {
+            int k = i > 0 ? i - 1 : 0;
+            System.arraycopy(keys, k + 1, keys, k, n - k - 1);
+            System.arraycopy(children, i + 1, children, i, n - i);
+            n--;
+            children[n + 1] = null;
+        }
+
+        Node split() {
+            int mid = n / 2;
+            Inner right = new Inner(children.length - 1);
+            right.n = n - mid - 1;
+            System.arraycopy(keys, mid + 1, right.keys, 0, right.n);
+            System.arraycopy(children, mid + 1, right.children, 0, right.n + 1);
+            Arrays.fill(children, mid + 1, n + 1, null);
+            n = mid;
+            return right;
+        }
+
+        final Node[] children;
+    }
+
+    private static class Leaf extends Node {
+        Leaf(int fanout) {
+            super(fanout + 1);
+            values = new Object[fanout + 1];
+        }
+
+        void insert(int i, long key, Object value) {
+            System.arraycopy(keys, i, keys, i + 1, n - i);
+            System.arraycopy(values, i, values, i + 1, n - i);
+            keys[i] = key;
+            values[i] = value;
+            n++;
+        }
+
+        void remove(int i) {
+            System.arraycopy(keys, i + 1, keys, i, n - i - 1);
+            System.arraycopy(values, i + 1, values, i, n - i - 1);
+            values[--n] = null;
+        }
+
+        Node split() {
+            int mid = n / 2;
+            Leaf right = new Leaf(values.length - 1);
+            right.n = n - mid;
+            System.arraycopy(keys, mid, right.keys, 0, right.n);
+            System.arraycopy(values, mid, right.values, 0, right.n);
+            Arrays.fill(values, mid, n, null);
+            n = mid;
+            right.next = next;
+            next = right;
+            return right;
+        }
+
+        final Object[] values;
+        Leaf next = null;
+    }
+
+    private final int fanout;
+    private Node root;
+    private int size = 0;
+}
@@ -0,0 +1,129 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.LazyLogger;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of the throughput of BSTSkipList against a TreeMap wrapped by Collections.synchronizedSortedMap,
+ * as the number of threads grows (java.util.concurrent.ConcurrentSkipListMap is included for reference).
+ * Each thread performs a fixed number of operations on random keys (from a range of n), of which a given fraction are gets
+ * and the rest are puts and deletes (in equal numbers); the table is first filled with half of the keys.
+ * <p>
+ * Of course, throughput can only scale with the number of threads if there are as many cores.
+ * <p>
+ * Usage: SkipListBenchmark [n] [operations per thread] [max threads] (defaults 100,000; 200,000; 8).
+ */
+public class SkipListBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        logger.info("SkipListBenchmark: " + formatWhole(n) + " keys, " + formatWhole(operations) + " operations per thread, " +
+                Runtime.getRuntime().availableProcessors() + " processors");
+        for (double reads : new double[]{0.9, 0.5})
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                report("synchronized TreeMap", threads, reads, n, operations, () -> new Table() {
+                    public Integer get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    public void put(Integer key, Integer value) {
+                        map.put(key, value);
+                    }
+
+                    public void delete(Integer key) {
+                        map.remove(key);
+                    }
+
+                    private final SortedMap<Integer, Integer> map = Collections.synchronizedSortedMap(new TreeMap<>());
+                });
+                report("ConcurrentSkipListMap", threads, reads, n, operations, () -> new Table() {
+                    public Integer get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    public void put(Integer key, Integer value) {
+                        map.put(key, value);
+                    }
+
+                    public void delete(Integer key) {
+                        map.remove(key);
+                    }
+
+                    private final ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+                });
+                report("BSTSkipList", threads, reads, n, operations, () -> new Table() {
+                    public Integer get(Integer key) {
+                        return bst.get(key);
+                    }
+
+                    public void put(Integer key, Integer value) {
+                        bst.put(key, value);
+                    }
+
+                    public void delete(Integer key) {
+                        bst.delete(key);
+                    }
+
+                    private final BSTSkipList<Integer, Integer> bst = new BSTSkipList<>();
+                });
+            }
+    }
+
+    /**
+     * The operations common to the tables.
+     */
+    interface Table {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+
+        void delete(Integer key);
+    }
+
+    private static void report(String description, int threads, double reads, int n, int operations, Supplier<Table> supplier) {
+        // The pre-function (which is not timed) yields a new table holding the even keys.
+        double time = new Benchmark_Timer<Table>(description, ignored -> {
+            Table result = supplier.get();
+            for (int i = 0; i < n; i += 2) result.put(i, i);
+            return result;
+        }, table -> run(table, threads, reads, n, operations)).run(supplier.get(), 5);
+        double throughput = threads * (double) operations / time / 1000;
+        System.out.println(description + " (" + threads + " threads, " + Math.round(reads * 100) + "% reads): " +
+                String.format("%.2f", throughput) + " million operations/sec");
+    }
+
+    private static void run(Table table, int threads, double reads, int n, int operations) {
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < operations; i++) {
+                    Integer key = random.nextInt(n);
+                    double x = random.nextDouble();
+                    if (x < reads) table.get(key);
+                    else if (x < (1 + reads) / 2) table.put(key, key);
+                    else table.delete(key);
+                }
+            });
+            workers[t].start();
+        }
+        try {
+            for (Thread worker : workers) worker.join();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    final static LazyLogger logger = new LazyLogger(SkipListBenchmark.class);
+}
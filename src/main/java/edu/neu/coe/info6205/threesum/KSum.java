@@ -0,0 +1,359 @@
+package edu.neu.coe.info6205.threesum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Generalization of ThreeSum: finds the k-tuples of elements (at distinct indices) of an ordered array whose sum is a given target,
+ * and the triple whose sum is closest to a given target.
+ * <p>
+ * For k = 4, the meet-in-the-middle algorithm is used: every pair (i, j) is put into a (primitive) hash table, keyed by its sum,
+ * and then every pair (k, l), with j &lt; k, looks up target - a[k] - a[l].
+ * To bound the memory, the pairs are divided into chunks according to (a hash of) their sums: each chunk is processed in a separate pass,
+ * and its table holds only the pairs whose sums belong to it, so that at most maxPairs pairs are held at once.
+ * Since the number of pairs in a chunk varies, the table is sized for the mean number plus five standard deviations
+ * (and there are enough chunks to keep that within maxPairs).
+ * Each pair takes 12 bytes (its two indices and a link), and the hash table has fewer than 8/3 slots per pair (so that its load factor
+ * stays below 3/4), of 12 bytes each, so the table takes less than 44 bytes per pair: under 46 MB for the default maxPairs of 2^20.
+ * That bound holds provided that no chunk exceeds its expected size by more than five standard deviations:
+ * which is vanishingly unlikely unless many pairs have the same sum (all of which belong to the same chunk), in which case the table grows as required.
+ * For other values of k, the calipers are applied recursively: the first element is fixed, then the (k-1)-sum problem is solved for the rest,
+ * until only two elements remain, which are found by the calipers (as in ThreeSumQuadraticWithCalipers).
+ * Candidates are pruned using prefix sums: if the smallest possible sum from index i exceeds the target, no later index can succeed.
+ * <p>
+ * Matches are streamed to a Consumer as they are found, so that they need not be stored.
+ * Each match is an array of k values in increasing order.
+ * <p>
+ * Sums are computed as longs, so there is no overflow whatever the values (for k less than 2^32).
+ * <p>
+ * NOTE: The array provided in the constructor MUST be ordered and distinct (then, every k-tuple is found exactly once).
+ * <p>
+ * The recursive calipers run in O(N^(k-1)) time; the meet-in-the-middle algorithm in O(N^2 + M) time, where M is the number of matches,
+ * multiplied by the number of chunks.
+ */
+public class KSum {
+
+    /**
+     * Construct a KSum on a.
+     *
+     * @param a        a sorted array of distinct ints.
+     * @param maxPairs the (approximate) maximum number of pairs to hold at once (for k = 4).
+     */
+    public KSum(int[] a, int maxPairs) {
+        if (maxPairs < 1) throw new IllegalArgumentException("KSum: maxPairs must be positive");
+        this.a = a;
+        length = a.length;
+        this.maxPairs = maxPairs;
+        prefix = new long[length + 1];
+        for (int i = 0; i < length; i++) prefix[i + 1] = prefix[i] + a[i];
+    }
+
+    /**
+     * Construct a KSum on a which holds at most (about) 2^20 pairs at once.
+     *
+     * @param a a sorted array of distinct ints.
+     */
+    public KSum(int[] a) {
+        this(a, DEFAULT_MAX_PAIRS);
+    }
+
+    /**
+     * Method to stream the k-tuples whose sum is target.
+     *
+     * @param k      the number of elements in each tuple.
+     * @param target the target sum.
+     * @param action the action to be performed for each tuple, as it is found.
+     *               NOTE the array is re-used for subsequent tuples, so it must be copied if it is to be kept.
+     */
+    public void forEach(int k, long target, Consumer<int[]> action) {
+        if (k < 1) throw new IllegalArgumentException("KSum: k must be positive");
+        if (k > length) return;
+        final int[] tuple = new int[k];
+        if (k == 4) meetInTheMiddle(target, tuple, action);
+        else recurse(k, 0, target, tuple, action);
+    }
+
+    /**
+     * Method to get the k-tuples whose sum is target.
+     *
+     * @param k      the number of elements in each tuple.
+     * @param target the target sum.
+     * @return a list of tuples, each in increasing order.
+     */
+    public List<int[]> getTuples(int k, long target) {
+        final List<int[]> result = new ArrayList<>();
+        forEach(k, target, tuple -> result.add(tuple.clone()));
+        return result;
+    }
+
+    /**
+     * Method to count the k-tuples whose sum is target.
+     *
+     * @param k      the number of elements in each tuple.
+     * @param target the target sum.
+     * @return the number of tuples.
+     */
+    public long count(int k, long target) {
+        final long[] result = new long[1];
+        forEach(k, target, tuple -> result[0]++);
+        return result[0];
+    }
+
+    /**
+     * Method to find the triple whose sum is closest to target, by the calipers, in O(N^2) time.
+     *
+     * @param target the target sum.
+     * @return the triple (in increasing order), or null if there are fewer than three elements.
+     * If more than one triple is equally close, the first to be found is returned.
+     */
+    public int[] closest(long target) {
+        int[] result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < length - 2 && best != 0; i++) {
+            int j = i + 1, k = length - 1;
+            while (j < k) {
+                final long sum = (long) a[i] + a[j] + a[k];
+                final long distance = Math.abs(sum - target);
+                if (distance < best) {
+                    best = distance;
+                    result = new int[]{a[i], a[j], a[k]};
+                    if (distance == 0) break;
+                }
+                if (sum < target) j++;
+                else k--;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the k-tuples which begin at or after index start and whose sum is target,
+     * where tuple already holds the first tuple.length - k elements.
+     */
+    private void recurse(int k, int start, long target, int[] tuple, Consumer<int[]> action) {
+        final int depth = tuple.length - k;
+        if (k == 1) {
+            final int index = Arrays.binarySearch(a, start, length, (int) Math.max(Math.min(target, Integer.MAX_VALUE), Integer.MIN_VALUE));
+            if (index >= 0 && a[index] == target) {
+                tuple[depth] = a[index];
+                action.accept(tuple);
+            }
+        } else if (k == 2) {
+            int j = start, l = length - 1;
+            while (j < l) {
+                final long sum = (long) a[j] + a[l];
+                if (sum < target) j++;
+                else if (sum > target) l--;
+                else {
+                    tuple[depth] = a[j++];
+                    tuple[depth + 1] = a[l--];
+                    action.accept(tuple);
+                }
+            }
+        } else {
+            // The largest sum of k - 1 elements.
+            final long largest = prefix[length] - prefix[length - k + 1];
+            for (int i = start; i <= length - k; i++) {
+                // The smallest sum of k elements beginning at i (and all later sums are larger).
+                if (prefix[i + k] - prefix[i] > target) return;
+                if (a[i] + largest < target) continue;
+                tuple[depth] = a[i];
+                recurse(k - 1, i + 1, target - a[i], tuple, action);
+            }
+        }
+    }
+
+    /**
+     * Find the 4-tuples whose sum is target, using the meet-in-the-middle algorithm, in as many passes as there are chunks.
+     */
+    private void meetInTheMiddle(long target, int[] tuple, Consumer<int[]> action) {
+        final long pairs = (long) length * (length - 1) / 2;
+        final int chunks = chunks(pairs, maxPairs);
+        final PairSumTable table = new PairSumTable((int) capacity(pairs, chunks));
+        this.table = table;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            table.clear();
+            // k is the index of the third element: the table holds all the pairs (i, j) with j < k (in this chunk).
+            for (int k = 2; k < length - 1; k++) {
+                final int j = k - 1;
+                for (int i = 0; i < j; i++) {
+                    final long sum = (long) a[i] + a[j];
+                    if (chunk(sum, chunks) == chunk) table.add(sum, i, j);
+                }
+                for (int l = k + 1; l < length; l++) {
+                    final long rest = target - a[k] - a[l];
+                    if (chunk(rest, chunks) != chunk) continue;
+                    for (int e = table.find(rest); e >= 0; e = table.next(e)) {
+                        tuple[0] = a[table.first(e)];
+                        tuple[1] = a[table.second(e)];
+                        tuple[2] = a[k];
+                        tuple[3] = a[l];
+                        action.accept(tuple);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the least number of chunks whose capacity is at most maxPairs.
+     */
+    static int chunks(long pairs, int maxPairs) {
+        long chunks = Math.max((pairs + maxPairs - 1) / maxPairs, 1);
+        while (capacity(pairs, chunks) > maxPairs && chunks < Integer.MAX_VALUE) chunks++;
+        return (int) chunks;
+    }
+
+    /**
+     * @return the number of pairs for which to size the table of each chunk:
+     * all of the pairs, if there is only one chunk; otherwise the mean number in a chunk, plus five standard deviations (and a little).
+     */
+    static long capacity(long pairs, long chunks) {
+        if (chunks == 1) return pairs;
+        final double mean = (double) pairs / chunks;
+        return (long) Math.ceil(mean + 5 * Math.sqrt(mean * (1 - 1.0 / chunks))) + 8;
+    }
+
+    private static int chunk(long sum, int chunks) {
+        return chunks == 1 ? 0 : (int) Math.floorMod(PairSumTable.mix(sum), (long) chunks);
+    }
+
+    /**
+     * A hash table (with open addressing) from long sums to chains of pairs of indices, held entirely in primitive arrays.
+     */
+    static class PairSumTable {
+        PairSumTable(int capacity) {
+            entries = Math.max(capacity, 16);
+            first = new int[entries];
+            second = new int[entries];
+            chain = new int[entries];
+            // Enough slots that the load factor stays below 3/4 (even if every entry has a different sum): fewer than 8/3 per entry.
+            allocate(tableSizeFor(entries * 4L / 3 + 1));
+        }
+
+        void clear() {
+            size = 0;
+            occupied = 0;
+            Arrays.fill(heads, -1);
+        }
+
+        void add(long sum, int i, int j) {
+            if (size == entries) {
+                entries *= 2;
+                first = Arrays.copyOf(first, entries);
+                second = Arrays.copyOf(second, entries);
+                chain = Arrays.copyOf(chain, entries);
+                growths++;
+            }
+            int slot = slot(sum);
+            if (heads[slot] < 0) {
+                // A new sum: keep the load factor (the fraction of slots occupied by sums) below 3/4.
+                if (4 * (occupied + 1) >= 3 * heads.length) {
+                    rehash();
+                    growths++;
+                    slot = slot(sum);
+                }
+                keys[slot] = sum;
+                occupied++;
+            }
+            first[size] = i;
+            second[size] = j;
+            chain[size] = heads[slot];
+            heads[slot] = size++;
+        }
+
+        /**
+         * @return the first entry for sum, or -1 if there is none.
+         */
+        int find(long sum) {
+            return heads[slot(sum)];
+        }
+
+        int next(int entry) {
+            return chain[entry];
+        }
+
+        int first(int entry) {
+            return first[entry];
+        }
+
+        int second(int entry) {
+            return second[entry];
+        }
+
+        /**
+         * @return the number of slots in the hash table.
+         */
+        int slots() {
+            return heads.length;
+        }
+
+        /**
+         * @return the number of times that the entries or the slots have had to grow (since construction).
+         */
+        int getGrowths() {
+            return growths;
+        }
+
+        private static int tableSizeFor(long n) {
+            return (int) Math.min(Long.highestOneBit(Math.max(n - 1, 1)) << 1, 1 << 30);
+        }
+
+        /**
+         * @return the slot which holds sum, or else the empty slot where it belongs.
+         */
+        private int slot(long sum) {
+            final int mask = heads.length - 1;
+            int slot = (int) mix(sum) & mask;
+            while (heads[slot] >= 0 && keys[slot] != sum) slot = (slot + 1) & mask;
+            return slot;
+        }
+
+        private void rehash() {
+            final long[] oldKeys = keys;
+            final int[] oldHeads = heads;
+            allocate(heads.length * 2);
+            for (int s = 0; s < oldHeads.length; s++)
+                if (oldHeads[s] >= 0) {
+                    final int slot = slot(oldKeys[s]);
+                    keys[slot] = oldKeys[s];
+                    heads[slot] = oldHeads[s];
+                }
+        }
+
+        private void allocate(int slots) {
+            keys = new long[slots];
+            heads = new int[slots];
+            Arrays.fill(heads, -1);
+        }
+
+        static long mix(long z) {
+            z = (z ^ z >>> 33) * 0xFF51AFD7ED558CCDL;
+            z = (z ^ z >>> 33) * 0xC4CEB9FE1A85EC53L;
+            return z ^ z >>> 33;
+        }
+
+        private long[] keys;
+        private int[] heads;
+        private int entries;
+        private int[] first;
+        private int[] second;
+        private int[] chain;
+        private int size = 0;
+        private int occupied = 0;
+        private int growths = 0;
+    }
+
+    /**
+     * The default maximum number of pairs to hold at once (for k = 4).
+     */
+    static final int DEFAULT_MAX_PAIRS = 1 << 20;
+
+    private final int[] a;
+    private final int length;
+    private final int maxPairs;
+    private final long[] prefix;
+    PairSumTable table = null; // the table of the latest 4-sum (for testing).
+}
@@ -34,10 +34,12 @@ class Source {
             int[] ints = (int[]) Array.newInstance(int.class, safetyFactor * n);
             for (int i = 0; i < ints.length; i++) ints[i] = random.nextInt(safetyFactor * m) - safetyFactor * m / 2;
             Arrays.sort(ints);
-            int[] distinct = Arrays.stream(ints).distinct().toArray();
+            // Remove duplicates in place (since ints is sorted, they are adjacent).
+            int distinct = ints.length > 0 ? 1 : 0;
+            for (int i = 1; i < ints.length; i++) if (ints[i] != ints[distinct - 1]) ints[distinct++] = ints[i];
             int[] result = (int[]) Array.newInstance(int.class, n);
             for (int i = 0; i < n; i++)
-                result[i] = distinct[i * (distinct.length / n)];
+                result[i] = ints[i * (distinct / n)];
             return result;
         };
     }
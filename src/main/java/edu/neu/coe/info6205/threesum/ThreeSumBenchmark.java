@@ -1,12 +1,16 @@
 package edu.neu.coe.info6205.threesum;
 
 import edu.neu.coe.info6205.util.Benchmark_Timer;
+import edu.neu.coe.info6205.util.DoublingExperiment;
+import edu.neu.coe.info6205.util.LazyLogger;
 import edu.neu.coe.info6205.util.TimeLogger;
 import edu.neu.coe.info6205.util.Utilities;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
-import java.util.function.UnaryOperator;
 
 public class ThreeSumBenchmark {
     public ThreeSumBenchmark(int runs, int n, int m) {
@@ -18,11 +22,35 @@ public class ThreeSumBenchmark {
     public void runBenchmarks() {
         System.out.println("ThreeSumBenchmark: N=" + n);
         benchmarkThreeSum("ThreeSumQuadratic", (xs) -> new ThreeSumQuadratic(xs).getTriples(), n, timeLoggersQuadratic);
+        benchmarkThreeSum("ThreeSumParallel", (xs) -> new ThreeSumParallel(xs).getPackedTriples(), n, timeLoggersQuadratic);
         benchmarkThreeSum("ThreeSumQuadrithmic", (xs) -> new ThreeSumQuadrithmic(xs).getTriples(), n, timeLoggersQuadrithmic);
         benchmarkThreeSum("ThreeSumCubic", (xs) -> new ThreeSumCubic(xs).getTriples(), n, timeLoggersCubic);
     }
 
-    public static void main(String[] args) {
+    /**
+     * Run a doubling experiment (on the same, cached, inputs) for each implementation of ThreeSum,
+     * and log the estimated exponent of each, warning of any which is significantly greater than expected.
+     *
+     * @param n0    the smallest value of N.
+     * @param sizes the number of values of N (n0, 2 n0, 4 n0, ...); the cubic implementation is given two fewer.
+     * @return the results.
+     */
+    public static List<DoublingExperiment.Result> runDoublingExperiments(int n0, int sizes) {
+        final DoublingExperiment<int[]> experiment = new DoublingExperiment<>(n -> new Source(n, n, 0L).intsSupplier(10).get(), n0, sizes);
+        final DoublingExperiment<int[]> cubicExperiment = new DoublingExperiment<>(experiment::getInput, n0, Math.max(3, sizes - 2));
+        final IntUnaryOperator runs = n -> Math.max(2, 25_000 / n);
+        final List<DoublingExperiment.Result> results = new ArrayList<>();
+        results.add(check(experiment.run("ThreeSumParallel", new Benchmark_Timer<>("ThreeSumParallel", xs -> new ThreeSumParallel(xs).getPackedTriples()), runs), 2));
+        results.add(check(experiment.run("ThreeSumQuadratic", new Benchmark_Timer<>("ThreeSumQuadratic", xs -> new ThreeSumQuadratic(xs).getTriples()), runs), 2));
+        results.add(check(experiment.run("ThreeSumQuadrithmic", new Benchmark_Timer<>("ThreeSumQuadrithmic", xs -> new ThreeSumQuadrithmic(xs).getTriples()), runs), 2));
+        results.add(check(cubicExperiment.run("ThreeSumCubic", new Benchmark_Timer<>("ThreeSumCubic", xs -> new ThreeSumCubic(xs).getTriples()), runs), 3));
+        return results;
+    }
+
+    /**
+     * Run the benchmarks (with their tables of raw and normalized times) for N = 250, 500, ... 16000.
+     */
+    public static void runTables() {
         new ThreeSumBenchmark(100, 250, 250).runBenchmarks();
         new ThreeSumBenchmark(50, 500, 500).runBenchmarks();
         new ThreeSumBenchmark(20, 1000, 1000).runBenchmarks();
@@ -32,9 +60,38 @@ public class ThreeSumBenchmark {
         new ThreeSumBenchmark(2, 16000, 16000).runBenchmarks();
     }
 
+    /**
+     * Syntax: ThreeSumBenchmark [tables | n0 [sizes]]
+     * <p>
+     * With "tables", the times are logged as tables (see runTables); otherwise, doubling experiments are run (see runDoublingExperiments).
+     *
+     * @param args the arguments.
+     */
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("tables")) {
+            runTables();
+            return;
+        }
+        int n0 = args.length > 0 ? Integer.parseInt(args[0]) : 250;
+        int sizes = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        for (DoublingExperiment.Result result : runDoublingExperiments(n0, sizes)) System.out.println(result);
+    }
+
+    private static DoublingExperiment.Result check(DoublingExperiment.Result result, double expected) {
+        logger.info(result.toString());
+        // Allow for lower-order factors such as log N (and for timing noise at small N).
+        if (result.exceeds(expected + 0.5))
+            logger.warn("ThreeSumBenchmark: " + result + " suggests a complexity regression (expected exponent " + expected + ")");
+        return result;
+    }
+
     private void benchmarkThreeSum(final String description, final Consumer<int[]> function, int n, final TimeLogger[] timeLoggers) {
         if (description.equals("ThreeSumCubic") && n > 4000) return;
-        // TO BE IMPLEMENTED
+        // The input is generated (off the clock) only once, and is shared by all runs.
+        final int[] input = supplier.get();
+        final double time = new Benchmark_Timer<>(description, function).run(input, runs);
+        logger.info(description + ": N=" + n);
+        for (TimeLogger timeLogger : timeLoggers) timeLogger.log(time, n);
     }
 
     private final static TimeLogger[] timeLoggersCubic = {
@@ -53,4 +110,6 @@ public class ThreeSumBenchmark {
     private final int runs;
     private final Supplier<int[]> supplier;
     private final int n;
+
+    final static LazyLogger logger = new LazyLogger(ThreeSumBenchmark.class);
 }
@@ -0,0 +1,204 @@
+package edu.neu.coe.info6205.threesum;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of ThreeSum which runs the calipers (two-pointer) algorithm of ThreeSumQuadraticWithCalipers,
+ * in parallel (on a ForkJoinPool) across the index of the first (smallest) element of each triple.
+ * <p>
+ * The outer indices are divided into many small chunks, so that work-stealing balances the load
+ * (the calipers for index i take time proportional to N - i).
+ * The triples found in each chunk are written, as ints, into a primitive buffer which belongs to that chunk,
+ * and the buffers are concatenated (in chunk order) at the end.
+ * Since the array is ordered and distinct, and the calipers scan each sub-space in order,
+ * every triple is found exactly once and in order: no sort or de-duplication is required.
+ * Alternatively, count() simply counts the triples, without storing them.
+ * <p>
+ * Sums are computed as longs, so there is no overflow whatever the values.
+ * <p>
+ * NOTE: The array provided in the constructor MUST be ordered and distinct.
+ * <p>
+ * This algorithm runs in O(N^2) time (divided by the number of processors).
+ */
+public class ThreeSumParallel implements ThreeSum {
+
+    /**
+     * Construct a ThreeSumParallel on a.
+     *
+     * @param a           a sorted array of distinct ints.
+     * @param parallelism the number of threads to use.
+     */
+    public ThreeSumParallel(int[] a, int parallelism) {
+        this.a = a;
+        length = a.length;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Construct a ThreeSumParallel on a, which uses the common ForkJoinPool.
+     *
+     * @param a a sorted array of distinct ints.
+     */
+    public ThreeSumParallel(int[] a) {
+        this(a, 0);
+    }
+
+    /**
+     * Method to get the triples.
+     *
+     * @return an ordered, distinct, array of Triple.
+     */
+    public Triple[] getTriples() {
+        final int[] packed = getPackedTriples();
+        final Triple[] result = new Triple[packed.length / 3];
+        for (int t = 0; t < result.length; t++) result[t] = new Triple(packed[3 * t], packed[3 * t + 1], packed[3 * t + 2]);
+        return result;
+    }
+
+    /**
+     * Method to get the triples, without creating any Triple objects.
+     *
+     * @return an array of 3t ints, where t is the number of triples: triple number s is (x[3s], x[3s+1], x[3s+2]).
+     */
+    public int[] getPackedTriples() {
+        final Buffer[] buffers = run(true);
+        int size = 0;
+        for (Buffer buffer : buffers) size += buffer.size;
+        final int[] result = new int[size];
+        int position = 0;
+        for (Buffer buffer : buffers) {
+            System.arraycopy(buffer.ints, 0, result, position, buffer.size);
+            position += buffer.size;
+        }
+        return result;
+    }
+
+    /**
+     * Method to count the triples (without storing them).
+     *
+     * @return the number of triples.
+     */
+    public long count() {
+        long result = 0;
+        for (Buffer buffer : run(false)) result += buffer.count;
+        return result;
+    }
+
+    /**
+     * Method to run the calipers for every chunk of outer indices.
+     *
+     * @param store true if the triples are to be stored (else they are only counted).
+     * @return the buffer for each chunk, in order.
+     */
+    private Buffer[] run(boolean store) {
+        final int outer = Math.max(length - 2, 0);
+        final int chunks = (outer + ChunkSize - 1) / ChunkSize;
+        final Buffer[] buffers = new Buffer[chunks];
+        for (int c = 0; c < chunks; c++) buffers[c] = new Buffer(store);
+        if (chunks == 0) return buffers;
+        final Chunks task = new Chunks(buffers, 0, chunks);
+        if (parallelism > 0) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        } else ForkJoinPool.commonPool().invoke(task);
+        return buffers;
+    }
+
+    /**
+     * Run the calipers for each first index from i0 (inclusive) to i1 (exclusive).
+     */
+    private void calipers(int i0, int i1, Buffer buffer) {
+        final int[] a = this.a;
+        for (int i = i0; i < i1; i++) {
+            final long x = a[i];
+            // Since the array is ordered, no triple can begin with a[i] (or anything later) if the smallest candidate is positive.
+            if (x + a[i + 1] + a[i + 2] > 0) return;
+            // ... and there is no triple beginning with a[i] if the largest candidate is negative.
+            if (x + a[length - 2] + a[length - 1] < 0) continue;
+            // Narrow the calipers to where a partner can exist: a[j] >= -x - a[length - 1] and a[k] <= -x - a[i + 1].
+            int j = lowerBound(i + 1, length - 1, -x - a[length - 1]);
+            int k = lowerBound(j, length, -x - a[i + 1] + 1) - 1;
+            while (j < k) {
+                final long sum = x + a[j] + a[k];
+                if (sum < 0) j++;
+                else if (sum > 0) k--;
+                else buffer.add(a[i], a[j++], a[k--]);
+            }
+        }
+    }
+
+    /**
+     * @return the first index in [from, to) whose value is at least key (or to if there is none).
+     */
+    private int lowerBound(int from, int to, long key) {
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (a[mid] < key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    /**
+     * A ForkJoin task which runs the calipers for a range of chunks (splitting the range until it is a single chunk).
+     */
+    private class Chunks extends RecursiveAction {
+        Chunks(Buffer[] buffers, int from, int to) {
+            this.buffers = buffers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new Chunks(buffers, from, mid), new Chunks(buffers, mid, to));
+            } else {
+                final int i0 = from * ChunkSize;
+                calipers(i0, Math.min(i0 + ChunkSize, length - 2), buffers[from]);
+            }
+        }
+
+        private final Buffer[] buffers;
+        private final int from;
+        private final int to;
+    }
+
+    /**
+     * A growable buffer of ints (or, if store is false, just a count of triples).
+     */
+    private static class Buffer {
+        Buffer(boolean store) {
+            this.ints = store ? new int[12] : null;
+        }
+
+        void add(int x, int y, int z) {
+            count++;
+            if (ints == null) return;
+            if (size + 3 > ints.length) ints = Arrays.copyOf(ints, ints.length * 2);
+            ints[size++] = x;
+            ints[size++] = y;
+            ints[size++] = z;
+        }
+
+        int[] ints;
+        int size = 0;
+        long count = 0;
+    }
+
+    /**
+     * The number of first indices in a chunk.
+     */
+    private static final int ChunkSize = 64;
+
+    private final int[] a;
+    private final int length;
+    private final int parallelism;
+}
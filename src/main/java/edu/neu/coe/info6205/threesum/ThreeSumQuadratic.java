@@ -33,11 +33,18 @@ public class ThreeSumQuadratic implements ThreeSum {
      * Get a list of Triples such that the middle index is the given value j.
      *
      * @param j the index of the middle value.
-     * @return a Triple such that
+     * @return a list of Triples such that the middle value is a[j].
      */
     public List<Triple> getTriples(int j) {
         List<Triple> triples = new ArrayList<>();
-        // TO BE IMPLEMENTED : implement getTriples
+        int i = j - 1;
+        int k = j + 1;
+        while (i >= 0 && k < length) {
+            final long sum = (long) a[i] + a[j] + a[k];
+            if (sum == 0) triples.add(new Triple(a[i--], a[j], a[k++]));
+            else if (sum < 0) k++;
+            else i--;
+        }
         return triples;
     }
 
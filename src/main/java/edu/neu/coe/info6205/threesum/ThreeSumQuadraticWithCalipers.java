@@ -38,11 +38,22 @@ public class ThreeSumQuadraticWithCalipers implements ThreeSum {
      * @param a        a sorted array of ints.
      * @param i        the index of the first element of resulting triples.
      * @param function a function which takes a triple and returns the comparison of sum of the triple with zero.
-     * @return a Triple such that
+     * @return a list of Triples such that the first value is a[i].
      */
     public static List<Triple> calipers(int[] a, int i, Function<Triple, Integer> function) {
         List<Triple> triples = new ArrayList<>();
-        // TO BE IMPLEMENTED : implement getTriples
+        int j = i + 1;
+        int k = a.length - 1;
+        while (j < k) {
+            final Triple triple = new Triple(a[i], a[j], a[k]);
+            final int cf = function.apply(triple);
+            if (cf == 0) {
+                triples.add(triple);
+                j++;
+                k--;
+            } else if (cf < 0) j++;
+            else k--;
+        }
         return triples;
     }
 
@@ -0,0 +1,204 @@
+package edu.neu.coe.info6205.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * This class runs doubling experiments: it times a Benchmark for problem sizes N, 2N, 4N, etc.
+ * and estimates the exponent b of the running time (assumed to be proportional to N^b),
+ * as the slope of the least-squares line through the points (lg N, lg time), with a 95% confidence interval.
+ * <p>
+ * The input for each size is generated (by the given function) only once, off the clock, and is then cached,
+ * so that the same inputs are used by every Benchmark which is run by this experiment.
+ * Benchmarks whose function mutates its input should copy it first, in a pre-function (for example, when sorting).
+ * <p>
+ * A complexity regression can be detected automatically by checking the Result (see Result.isConsistentWith and Result.exceeds).
+ *
+ * @param <T> the type of the input to the Benchmarks.
+ */
+public class DoublingExperiment<T> {
+
+    /**
+     * Constructor.
+     *
+     * @param generator a function which generates the input for a problem of size n.
+     * @param n0        the smallest problem size.
+     * @param sizes     the number of problem sizes (n0, 2 n0, 4 n0, ...) at least 3.
+     */
+    public DoublingExperiment(IntFunction<T> generator, int n0, int sizes) {
+        if (sizes < 3) throw new IllegalArgumentException("DoublingExperiment: at least three sizes are required");
+        this.generator = generator;
+        this.n0 = n0;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Method to run a Benchmark for each problem size.
+     *
+     * @param description the description of the benchmark (for the Result).
+     * @param benchmark   the Benchmark.
+     * @param runs        a function which yields the number of runs for a problem of size n.
+     * @return the Result.
+     */
+    public Result run(String description, Benchmark<T> benchmark, IntUnaryOperator runs) {
+        final int[] ns = new int[sizes];
+        final double[] times = new double[sizes];
+        for (int i = 0; i < sizes; i++) {
+            ns[i] = n0 << i;
+            final T input = getInput(ns[i]);
+            times[i] = benchmark.run(input, Math.max(1, runs.applyAsInt(ns[i])));
+            logger.info("DoublingExperiment: " + description + ": N=" + formatWhole(ns[i]) + ": " + Utilities.formatDecimal3Places(times[i]) + " mSec");
+        }
+        return new Result(description, ns, times);
+    }
+
+    /**
+     * Method to get the (cached) input for a problem of size n.
+     *
+     * @param n the problem size.
+     * @return the input.
+     */
+    public T getInput(int n) {
+        return inputs.computeIfAbsent(n, generator::apply);
+    }
+
+    /**
+     * The result of a doubling experiment: the time for each problem size, and the estimated exponent.
+     */
+    public static class Result {
+
+        /**
+         * Constructor (which fits the exponent).
+         *
+         * @param description the description of the benchmark.
+         * @param ns          the problem sizes.
+         * @param times       the corresponding (mean) times (which must be positive).
+         */
+        public Result(String description, int[] ns, double[] times) {
+            this.description = description;
+            this.ns = ns;
+            this.times = times;
+            final int n = ns.length;
+            final double[] xs = new double[n], ys = new double[n];
+            double meanX = 0, meanY = 0;
+            for (int i = 0; i < n; i++) {
+                xs[i] = Utilities.lg(ns[i]);
+                ys[i] = Utilities.lg(Math.max(times[i], Double.MIN_NORMAL));
+                meanX += xs[i] / n;
+                meanY += ys[i] / n;
+            }
+            double sxx = 0, sxy = 0;
+            for (int i = 0; i < n; i++) {
+                sxx += (xs[i] - meanX) * (xs[i] - meanX);
+                sxy += (xs[i] - meanX) * (ys[i] - meanY);
+            }
+            slope = sxy / sxx;
+            double residuals = 0;
+            for (int i = 0; i < n; i++) {
+                final double residual = ys[i] - meanY - slope * (xs[i] - meanX);
+                residuals += residual * residual;
+            }
+            standardError = n > 2 ? Math.sqrt(residuals / (n - 2) / sxx) : Double.POSITIVE_INFINITY;
+            halfWidth = tQuantile(n - 2) * standardError;
+        }
+
+        /**
+         * @return the estimated exponent (the slope of lg time against lg N).
+         */
+        public double getExponent() {
+            return slope;
+        }
+
+        /**
+         * @return the standard error of the exponent.
+         */
+        public double getStandardError() {
+            return standardError;
+        }
+
+        /**
+         * @return the lower bound of the 95% confidence interval for the exponent.
+         */
+        public double getLower() {
+            return slope - halfWidth;
+        }
+
+        /**
+         * @return the upper bound of the 95% confidence interval for the exponent.
+         */
+        public double getUpper() {
+            return slope + halfWidth;
+        }
+
+        /**
+         * @param exponent an expected exponent.
+         * @return true if exponent is within the 95% confidence interval.
+         */
+        public boolean isConsistentWith(double exponent) {
+            return exponent >= getLower() && exponent <= getUpper();
+        }
+
+        /**
+         * @param exponent the largest acceptable exponent.
+         * @return true if the whole of the 95% confidence interval is above exponent (i.e. a complexity regression).
+         */
+        public boolean exceeds(double exponent) {
+            return getLower() > exponent;
+        }
+
+        /**
+         * @param i the index of a problem size (at least 1).
+         * @return the doubling ratio: the ratio of the time for size i to that for size i - 1.
+         */
+        public double getRatio(int i) {
+            return times[i] / times[i - 1];
+        }
+
+        public int[] getNs() {
+            return ns;
+        }
+
+        public double[] getTimes() {
+            return times;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(description).append(": exponent=").append(String.format("%.2f", slope))
+                    .append(" (95% CI ").append(String.format("%.2f", getLower())).append("..").append(String.format("%.2f", getUpper())).append("); ratios:");
+            for (int i = 1; i < ns.length; i++) sb.append(" ").append(String.format("%.2f", getRatio(i)));
+            return sb.toString();
+        }
+
+        /**
+         * @param df the degrees of freedom.
+         * @return the 97.5th percentile of Student's t distribution (for a two-sided 95% interval).
+         */
+        static double tQuantile(int df) {
+            if (df < 1) return Double.POSITIVE_INFINITY;
+            return df <= tTable.length ? tTable[df - 1] : 1.96;
+        }
+
+        private static final double[] tTable = {12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+                2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086, 2.080, 2.074, 2.069, 2.064, 2.060,
+                2.056, 2.052, 2.048, 2.045, 2.042};
+
+        private final String description;
+        private final int[] ns;
+        private final double[] times;
+        private final double slope;
+        private final double standardError;
+        private final double halfWidth;
+    }
+
+    private final IntFunction<T> generator;
+    private final int n0;
+    private final int sizes;
+    private final Map<Integer, T> inputs = new HashMap<>();
+
+    final static LazyLogger logger = new LazyLogger(DoublingExperiment.class);
+}
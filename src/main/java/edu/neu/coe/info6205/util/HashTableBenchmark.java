@@ -0,0 +1,106 @@
+package edu.neu.coe.info6205.util;
+
+import edu.neu.coe.info6205.hashtable.RobinHoodHashMap;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static edu.neu.coe.info6205.util.SortBenchmarkHelper.generateRandomStringArray;
+import static edu.neu.coe.info6205.util.SortBenchmarkHelper.getWords;
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark of {@link RobinHoodHashMap} against java.util.HashMap on the Leipzig word corpora.
+ * <p>
+ * Each table maps the distinct words of a corpus to their index.
+ * We time n successful lookups (words drawn at random from the corpus) and n unsuccessful lookups (the same words, reversed,
+ * most of which are not words).
+ * <p>
+ * Java gives us no access to the hardware counters, so the cache behavior is reported by proxy:
+ * the mean probe length of RobinHoodHashMap is the mean number of (adjacent) slots which a successful lookup visits,
+ * whereas each lookup in HashMap visits a bucket and then follows at least one pointer to a (scattered) node.
+ * <p>
+ * Usage: HashTableBenchmark [n] where n is the number of lookups per run (default 1,000,000).
+ */
+public class HashTableBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        new HashTableBenchmark(getWords("eng-uk_web_2002_100K-words.txt", HashTableBenchmark::getWordFromList)).run(n, 10);
+        new HashTableBenchmark(getWords("eng-uk_web_2002_10K-sentences.txt", line -> getWords(PQBenchmark.regexLeipzig, line))).run(n, 10);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param words the distinct words of a corpus.
+     */
+    public HashTableBenchmark(String[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Build each table and time m runs of n successful and n unsuccessful lookups.
+     *
+     * @param n the number of lookups of each kind per run.
+     * @param m the number of runs.
+     */
+    public void run(int n, int m) {
+        Map<String, Integer> hashMap = new HashMap<>();
+        RobinHoodHashMap<String, Integer> robinHood = new RobinHoodHashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            hashMap.put(words[i], i);
+            robinHood.put(words[i], i);
+        }
+        String[] hits = generateRandomStringArray(words, n);
+        String[] misses = new String[n];
+        for (int i = 0; i < n; i++) misses[i] = new StringBuilder(hits[i]).append('~').reverse().toString();
+        // Copy the keys, so that lookups can't succeed by identity (==) alone.
+        for (int i = 0; i < n; i++) hits[i] = new String(hits[i]);
+        logger.info("HashTableBenchmark: " + formatWhole(words.length) + " words; " + formatWhole(n) + " lookups; " + m + " runs");
+        System.out.println("HashMap: " + report("hits", hits, m, xs -> lookup(hashMap, xs)) + "; " + report("misses", misses, m, xs -> lookup(hashMap, xs)));
+        System.out.println("RobinHoodHashMap: " + report("hits", hits, m, xs -> lookup(robinHood, xs)) + "; " + report("misses", misses, m, xs -> lookup(robinHood, xs)));
+        System.out.println("RobinHoodHashMap: capacity " + formatWhole(robinHood.capacity()) + ", mean probe length " +
+                String.format("%.3f", robinHood.meanProbeLength()) + ", max probe length " + robinHood.maxProbeLength());
+    }
+
+    private static String report(String description, String[] xs, int m, Consumer<String[]> lookups) {
+        double time = new Benchmark_Timer<String[]>(description, lookups).run(xs, m);
+        return description + " " + String.format("%.1f", time * 1e6 / xs.length) + " nSec/lookup";
+    }
+
+    private static void lookup(Map<String, Integer> map, String[] xs) {
+        int found = 0;
+        for (String x : xs) if (map.get(x) != null) found++;
+        checksum += found;
+    }
+
+    private static void lookup(RobinHoodHashMap<String, Integer> map, String[] xs) {
+        int found = 0;
+        for (String x : xs) if (map.get(x) != null) found++;
+        checksum += found;
+    }
+
+    /**
+     * Get the word from a line of a word list (rank, word, frequency separated by tabs).
+     */
+    private static Collection<String> getWordFromList(String line) {
+        List<String> result = new ArrayList<>();
+        String[] fields = line.split("\t");
+        if (fields.length > 1) result.add(fields[1]);
+        return result;
+    }
+
+    // NOTE: this prevents the lookups from being optimized away.
+    private static long checksum = new Random().nextInt(2);
+
+    private final String[] words;
+
+    final static LazyLogger logger = new LazyLogger(HashTableBenchmark.class);
+}
@@ -3,7 +3,10 @@
  */
 package edu.neu.coe.info6205.util;
 
+import edu.neu.coe.info6205.pq.DaryHeap;
+import edu.neu.coe.info6205.pq.DoubleIntHeap;
 import edu.neu.coe.info6205.pq.PQException;
+import edu.neu.coe.info6205.pq.PairingHeap;
 import edu.neu.coe.info6205.pq.PriorityQueue;
 
 import java.io.IOException;
@@ -12,7 +15,9 @@ import java.util.*;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
+import static edu.neu.coe.info6205.util.SortBenchmarkHelper.generateRandomStringArray;
 import static edu.neu.coe.info6205.util.SortBenchmarkHelper.getWords;
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
 
 public class PQBenchmark {
 
@@ -27,6 +32,88 @@ public class PQBenchmark {
         PQBenchmark benchmark = new PQBenchmark(config);
         System.out.println("with floyd: " + benchmark.insertDeleteN(10000, 1000, true));
         System.out.println("no floyd: " + benchmark.insertDeleteN(10000, 1000, false));
+        String[] words = getWords("eng-uk_web_2002_10K-sentences.txt", PQBenchmark::getLeipzigWords);
+        int[] wordCounts = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : new int[]{10000, 100000};
+        for (int n : wordCounts) benchmark.compareLeipzig(words, n, Math.max(10, 10000000 / n / 10));
+    }
+
+    /**
+     * Compare the priority queue implementations on n words drawn at random from the Leipzig corpus.
+     * Each run gives all n words to a (min) priority queue and then takes them all.
+     *
+     * @param lookup the distinct words of the corpus.
+     * @param n      the number of words.
+     * @param m      the number of runs.
+     */
+    public void compareLeipzig(String[] lookup, int n, int m) {
+        String[] words = generateRandomStringArray(lookup, n);
+        // For the primitive-keyed heap, the priority of a word is its rank (precomputed, outside of the timings).
+        String[] sorted = Arrays.copyOf(words, n);
+        Arrays.sort(sorted);
+        double[] ranks = new double[n];
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            ranks[i] = Arrays.binarySearch(sorted, words[i]);
+            indices[i] = i;
+        }
+        logger.info("PQBenchmark.compareLeipzig: " + formatWhole(n) + " words, " + m + " runs");
+        Comparator<String> comparator = Comparator.naturalOrder();
+        report("PriorityQueue (binary)", words, m, xs -> {
+            PriorityQueue<String> pq = new PriorityQueue<>(xs.length, false, comparator, false);
+            for (String x : xs) pq.give(x);
+            try {
+                while (!pq.isEmpty()) pq.take();
+            } catch (PQException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        report("PriorityQueue (binary, floyd)", words, m, xs -> {
+            PriorityQueue<String> pq = new PriorityQueue<>(xs.length, false, comparator, true);
+            for (String x : xs) pq.give(x);
+            try {
+                while (!pq.isEmpty()) pq.take();
+            } catch (PQException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        for (int d : new int[]{2, 4, 8})
+            report("DaryHeap (d=" + d + ")", words, m, xs -> {
+                DaryHeap<String> pq = new DaryHeap<>(d, false, comparator, 16);
+                for (String x : xs) pq.give(x);
+                drain(pq);
+            });
+        for (int d : new int[]{2, 4, 8})
+            report("DaryHeap (d=" + d + ", bulk)", words, m, xs -> drain(new DaryHeap<>(d, false, comparator, xs)));
+        report("PairingHeap", words, m, xs -> {
+            PairingHeap<String> pq = new PairingHeap<>(false, comparator);
+            for (String x : xs) pq.give(x);
+            try {
+                while (!pq.isEmpty()) pq.take();
+            } catch (PQException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        report("DoubleIntHeap (d=4, bulk)", words, m, xs -> {
+            DoubleIntHeap pq = new DoubleIntHeap(4, ranks, indices);
+            try {
+                while (!pq.isEmpty()) pq.take();
+            } catch (PQException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void report(String description, String[] words, int m, Consumer<String[]> f) {
+        double time = new Benchmark_Timer<>(description, f).run(words, m);
+        System.out.println(description + ": n=" + formatWhole(words.length) + ", mean time " + time + " mSec");
+    }
+
+    private static void drain(DaryHeap<String> pq) {
+        try {
+            while (!pq.isEmpty()) pq.take();
+        } catch (PQException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     // Insert and delete random integer array with floyd methods according to parameter
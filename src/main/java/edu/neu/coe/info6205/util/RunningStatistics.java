@@ -0,0 +1,87 @@
+package edu.neu.coe.info6205.util;
+
+/**
+ * This class accumulates the count, mean and variance of a stream of values, online, in constant space
+ * (unlike Statistics, which keeps every value).
+ * <p>
+ * Values are added by Welford's method, which is numerically stable.
+ * Two accumulators (for example, from parallel tasks) are combined by merge, using the pairwise formula of Chan et al.,
+ * which gives the same result (to within rounding) as if all the values had been added to one accumulator.
+ */
+public class RunningStatistics {
+
+    /**
+     * Method to add a value.
+     *
+     * @param x the value.
+     */
+    public void add(double x) {
+        count++;
+        final double delta = x - mean;
+        mean += delta / count;
+        m2 += delta * (x - mean);
+    }
+
+    /**
+     * Method to merge another accumulator into this one (the other is not changed).
+     *
+     * @param other the other accumulator.
+     * @return this.
+     */
+    public RunningStatistics merge(RunningStatistics other) {
+        if (other.count == 0) return this;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return this;
+        }
+        final long total = count + other.count;
+        final double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean (or NaN if there are no values).
+     */
+    public double mean() {
+        return count > 0 ? mean : Double.NaN;
+    }
+
+    /**
+     * @return the (unbiased) sample variance (or NaN if there are fewer than two values).
+     */
+    public double variance() {
+        return count > 1 ? m2 / (count - 1) : Double.NaN;
+    }
+
+    /**
+     * @return the sample standard deviation.
+     */
+    public double stdDev() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * @return the standard error of the mean.
+     */
+    public double standardError() {
+        return Math.sqrt(variance() / count);
+    }
+
+    @Override
+    public String toString() {
+        return "mean=" + String.format("%.4f", mean()) + " (stdErr=" + String.format("%.4f", standardError()) + "); stdDev=" + String.format("%.4f", stdDev()) + "; count=" + count;
+    }
+
+    private long count = 0;
+    private double mean = 0;
+    private double m2 = 0;
+}
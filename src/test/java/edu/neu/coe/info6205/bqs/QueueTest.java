@@ -55,4 +55,56 @@ public class QueueTest {
         assertEquals(queue.dequeue(), new Integer(4));
         assertTrue(queue.isEmpty());
     }
+
+    @Test
+    public void testQueueArray() {
+        Queue_Array<Integer> queue = new Queue_Array<>(2);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.dequeue());
+        // Interleave enqueue and dequeue so that the ring buffer wraps around before it grows.
+        int next = 0;
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(i);
+            queue.enqueue(-i);
+            if (i % 2 == 0) {
+                Integer x = queue.dequeue();
+                assertNotNull(x);
+                next++;
+            }
+        }
+        assertEquals(200 - next, queue.size());
+        int count = 0;
+        for (Integer ignored : queue) count++;
+        assertEquals(queue.size(), count);
+        Integer last = null;
+        while (!queue.isEmpty()) last = queue.dequeue();
+        assertEquals(Integer.valueOf(-99), last);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testQueueArrayOrder() {
+        Queue_Array<Integer> queue = new Queue_Array<>();
+        for (int i = 0; i < 10; i++) queue.enqueue(i);
+        for (int i = 0; i < 5; i++) assertEquals(Integer.valueOf(i), queue.dequeue());
+        for (int i = 10; i < 40; i++) queue.enqueue(i);
+        assertEquals(Integer.valueOf(5), queue.peek());
+        int expected = 5;
+        for (Integer x : queue) assertEquals(Integer.valueOf(expected++), x);
+        assertEquals(40, expected);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testQueueElementsSize() {
+        Queue_Elements<Integer> queue = new Queue_Elements<>();
+        queue.enqueue(1);
+        queue.enqueue(2);
+        assertEquals(2, queue.size());
+        queue.dequeue();
+        assertEquals(1, queue.size());
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
 }
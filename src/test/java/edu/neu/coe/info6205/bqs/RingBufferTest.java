@@ -0,0 +1,55 @@
+package edu.neu.coe.info6205.bqs;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class RingBufferTest {
+
+    @Test
+    public void testIntQueue() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        for (int i = 0; i < 3; i++) buffer.enqueue(i);
+        assertEquals(0, buffer.dequeue());
+        assertEquals(1, buffer.dequeue());
+        // Now wrap around, then grow.
+        for (int i = 3; i < 20; i++) buffer.enqueue(i);
+        assertEquals(18, buffer.size());
+        assertEquals(2, buffer.get(0));
+        assertEquals(19, buffer.get(17));
+        int[] xs = buffer.toArray();
+        for (int i = 0; i < xs.length; i++) assertEquals(i + 2, xs[i]);
+        for (int i = 2; i < 20; i++) assertEquals(i, buffer.dequeue());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testIntStack() {
+        IntRingBuffer buffer = new IntRingBuffer();
+        for (int i = 0; i < 100; i++) buffer.push(i);
+        assertEquals(99, buffer.peek());
+        for (int i = 99; i >= 0; i--) assertEquals(i, buffer.pop());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIntEmpty() {
+        new IntRingBuffer().dequeue();
+    }
+
+    @Test
+    public void testLong() {
+        LongRingBuffer buffer = new LongRingBuffer(1);
+        long big = 1L << 40;
+        for (long i = 0; i < 50; i++) buffer.enqueue(big + i);
+        assertEquals(big, buffer.dequeue());
+        assertEquals(big + 49, buffer.pop());
+        long[] sum = new long[1];
+        buffer.forEach(x -> sum[0] += x - big);
+        assertEquals(48 * 49 / 2, sum[0]);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+    }
+}
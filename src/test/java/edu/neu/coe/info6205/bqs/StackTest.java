@@ -23,4 +23,22 @@ public class StackTest {
         assertEquals(item, new Integer(1));
     }
 
+    @Test
+    public void testStackArray() throws BQSException {
+        Stack_Array<Integer> stack = new Stack_Array<>(1);
+        assertTrue(stack.isEmpty());
+        assertNull(stack.peek());
+        for (int i = 0; i < 100; i++) stack.push(i);
+        assertEquals(100, stack.size());
+        assertEquals(Integer.valueOf(99), stack.peek());
+        int expected = 99;
+        for (Integer x : stack) assertEquals(Integer.valueOf(expected--), x);
+        for (int i = 99; i >= 0; i--) assertEquals(Integer.valueOf(i), stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test(expected = BQSException.class)
+    public void testStackArrayEmpty() throws BQSException {
+        new Stack_Array<Integer>().pop();
+    }
 }
@@ -0,0 +1,105 @@
+package edu.neu.coe.info6205.graphs.DijkstraTest;
+
+import edu.neu.coe.info6205.graphs.Dijkstra.DeltaStepping;
+import edu.neu.coe.info6205.graphs.Dijkstra.Dijkstra;
+import edu.neu.coe.info6205.graphs.Dijkstra.DirectedEdge;
+import edu.neu.coe.info6205.graphs.Dijkstra.EdgeWeightedDigraph;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class DeltaSteppingTest {
+
+    @BeforeClass
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void test1() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(8);
+        ewd.addEdge(new DirectedEdge(0, 4, 0.38));
+        ewd.addEdge(new DirectedEdge(6, 4, 0.93));
+        ewd.addEdge(new DirectedEdge(0, 2, 0.26));
+        ewd.addEdge(new DirectedEdge(5, 7, 0.28));
+        ewd.addEdge(new DirectedEdge(4, 7, 0.36));
+        ewd.addEdge(new DirectedEdge(7, 5, 0.28));
+        ewd.addEdge(new DirectedEdge(2, 7, 0.34));
+        ewd.addEdge(new DirectedEdge(7, 3, 0.39));
+        ewd.addEdge(new DirectedEdge(1, 3, 0.29));
+        ewd.addEdge(new DirectedEdge(6, 0, 0.58));
+        ewd.addEdge(new DirectedEdge(6, 2, 0.4));
+        ewd.addEdge(new DirectedEdge(5, 1, 0.32));
+        ewd.addEdge(new DirectedEdge(3, 6, 0.52));
+        ewd.addEdge(new DirectedEdge(4, 5, 0.35));
+        ewd.addEdge(new DirectedEdge(5, 4, 0.35));
+        DeltaStepping target = new DeltaStepping(ewd, 0, 0.3);
+        assertEquals(0, target.distTo(0), 1E-9);
+        assertEquals(1.05, target.distTo(1), 1E-9);
+        assertEquals(0.26, target.distTo(2), 1E-9);
+        assertEquals(0.99, target.distTo(3), 1E-9);
+        assertEquals(0.38, target.distTo(4), 1E-9);
+        assertEquals(0.73, target.distTo(5), 1E-9);
+        assertEquals(1.51, target.distTo(6), 1E-9);
+        assertEquals(0.60, target.distTo(7), 1E-9);
+        double length = 0;
+        for (DirectedEdge e : target.pathTo(6)) length += e.weight();
+        assertEquals(1.51, length, 1E-9);
+    }
+
+    @Test
+    public void testUnreachable() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(3);
+        ewd.addEdge(new DirectedEdge(0, 1, 1));
+        DeltaStepping target = new DeltaStepping(ewd, 0, 1);
+        assertTrue(target.hasPathTo(1));
+        assertFalse(target.hasPathTo(2));
+        assertNull(target.pathTo(2));
+        assertEquals(Double.POSITIVE_INFINITY, target.distTo(2), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() {
+        EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(2);
+        ewd.addEdge(new DirectedEdge(0, 1, -1));
+        new DeltaStepping(ewd, 0, 1);
+    }
+
+    @Test
+    public void testAgainstDijkstra() {
+        DeltaStepping.cutoff = 16;
+        try {
+            EdgeWeightedDigraph ewd = new EdgeWeightedDigraph(2000, 20000);
+            Dijkstra dijkstra = new Dijkstra(ewd, 0);
+            for (double delta : new double[]{0.01, 0.1, 1, Double.POSITIVE_INFINITY}) {
+                DeltaStepping target = new DeltaStepping(ewd, 0, delta, pool);
+                for (int v = 0; v < ewd.V(); v++) {
+                    assertEquals(dijkstra.hasPathTo(v), target.hasPathTo(v));
+                    if (!target.hasPathTo(v)) continue;
+                    assertEquals(dijkstra.distTo(v), target.distTo(v), 1E-9);
+                    double length = 0;
+                    int n = 0;
+                    for (DirectedEdge e : target.pathTo(v)) {
+                        length += e.weight();
+                        n++;
+                    }
+                    assertEquals(target.distTo(v), length, 1E-9);
+                    assertTrue(n < ewd.V());
+                }
+            }
+        } finally {
+            DeltaStepping.cutoff = 1024;
+        }
+    }
+
+    private static ForkJoinPool pool;
+}
@@ -0,0 +1,84 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GeoAStarTest {
+
+    private static final int SIDE = 25;
+
+    /**
+     * Build a street grid whose street lengths are at least their great-circle lengths.
+     */
+    private static DiGraph<GeoPoint, Double> grid(MockGeoPoint[] points, Random random) {
+        for (int i = 0; i < SIDE; i++)
+            for (int j = 0; j < SIDE; j++)
+                points[i * SIDE + j] = new MockGeoPoint(i + ":" + j, new Position_Spherical(42.3 + i * 0.001, -71.1 + j * 0.001));
+        GeoGraphSpherical<GeoPoint, Double> geo = new GeoGraphSpherical<>();
+        DiGraph<GeoPoint, Double> graph = new DiGraph<>();
+        for (int i = 0; i < SIDE; i++)
+            for (int j = 0; j < SIDE; j++) {
+                int v = i * SIDE + j;
+                if (i + 1 < SIDE) {
+                    double length = geo.getDistance(points[v], points[v + SIDE]) * (1 + random.nextDouble());
+                    graph.addEdge(new Edge<>(points[v], points[v + SIDE], length));
+                    graph.addEdge(new Edge<>(points[v + SIDE], points[v], length));
+                }
+                if (j + 1 < SIDE) {
+                    double length = geo.getDistance(points[v], points[v + 1]);
+                    graph.addEdge(new Edge<>(points[v], points[v + 1], length));
+                    graph.addEdge(new Edge<>(points[v + 1], points[v], length));
+                }
+            }
+        return graph;
+    }
+
+    @Test
+    public void testSearch() {
+        Random random = new Random(0L);
+        MockGeoPoint[] points = new MockGeoPoint[SIDE * SIDE];
+        DiGraph<GeoPoint, Double> graph = grid(points, random);
+        GeoAStar<GeoPoint, Double> target = new GeoAStar<>(graph);
+        long settledDijkstra = 0, settledAStar = 0, settledBidirectional = 0;
+        for (int k = 0; k < 40; k++) {
+            GeoPoint s = points[random.nextInt(points.length)], t = points[random.nextInt(points.length)];
+            ShortestPaths<GeoPoint, Double> shortestPaths = new ShortestPaths<>(graph, s);
+            Route<GeoPoint, Double> route = target.search(s, t);
+            Route<GeoPoint, Double> bidirectional = target.searchBidirectional(s, t);
+            assertEquals(shortestPaths.cost(t), route.getCost(), 1E-6);
+            assertEquals(shortestPaths.cost(t), bidirectional.getCost(), 1E-6);
+            double length = 0;
+            GeoPoint last = s;
+            for (Edge<GeoPoint, Double> e : bidirectional.getPath()) {
+                assertSame(last, e.getFrom());
+                length += e.getAttributes();
+                last = e.getTo();
+            }
+            assertSame(t, last);
+            assertEquals(bidirectional.getCost(), length, 1E-6);
+            settledDijkstra += shortestPaths.getSettled();
+            settledAStar += route.getSettled();
+            settledBidirectional += bidirectional.getSettled();
+        }
+        assertTrue(settledAStar < settledDijkstra / 2);
+        assertTrue(settledBidirectional < settledDijkstra / 2);
+    }
+
+    @Test
+    public void testUnreachable() {
+        MockGeoPoint a = new MockGeoPoint("a", new Position_Spherical(42.3, -71.1));
+        MockGeoPoint b = new MockGeoPoint("b", new Position_Spherical(42.4, -71.1));
+        DiGraph<GeoPoint, Double> graph = new DiGraph<>();
+        graph.addEdge(new Edge<>(a, b, 20000.0));
+        GeoAStar<GeoPoint, Double> target = new GeoAStar<>(graph);
+        assertEquals(20000.0, target.search(a, b).getCost(), 0);
+        assertFalse(target.search(b, a).isFound());
+        assertFalse(target.searchBidirectional(b, a).isFound());
+        assertEquals(0, target.search(a, a).getCost(), 0);
+    }
+}
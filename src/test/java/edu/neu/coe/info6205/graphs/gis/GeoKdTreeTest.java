@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GeoKdTreeTest {
+
+    private static List<GeoPoint> points(int n, double latitude, double longitude, double spread, Random random) {
+        List<GeoPoint> result = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            result.add(new MockGeoPoint("p" + i, new Position_Spherical(
+                    latitude + spread * (random.nextDouble() - 0.5), longitude + spread * (random.nextDouble() - 0.5))));
+        return result;
+    }
+
+    @Test
+    public void testWithin() {
+        Random random = new Random(0L);
+        List<GeoPoint> points = points(1000, 42.34, -71.09, 0.02, random);
+        GeoKdTree<GeoPoint> target = new GeoKdTree<>(points);
+        assertEquals(1000, target.size());
+        for (int k = 0; k < 50; k++) {
+            GeoPoint center = points.get(random.nextInt(points.size()));
+            double meters = 50 + 300 * random.nextDouble();
+            Set<GeoPoint> expected = new HashSet<>();
+            for (GeoPoint p : points)
+                if (GeoGraphSpherical.distance(center.getPosition(), p.getPosition()) <= meters) expected.add(p);
+            List<GeoPoint> actual = target.within(center, meters);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    public void testPairsWithin() {
+        Random random = new Random(1L);
+        List<GeoPoint> points = points(400, 42.34, -71.09, 0.01, random);
+        GeoKdTree<GeoPoint> target = new GeoKdTree<>(points);
+        double meters = 150;
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++)
+            for (int j = i + 1; j < points.size(); j++)
+                if (GeoGraphSpherical.distance(points.get(i).getPosition(), points.get(j).getPosition()) <= meters)
+                    expected.add(points.get(i).getName() + "-" + points.get(j).getName());
+        List<String> actual = new ArrayList<>();
+        target.pairsWithin(meters, (p, q) -> {
+            assertTrue(points.indexOf(p) < points.indexOf(q));
+            actual.add(p.getName() + "-" + q.getName());
+        });
+        assertFalse(expected.isEmpty());
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testNearest() {
+        Random random = new Random(2L);
+        List<GeoPoint> points = points(1000, 0, 179.99, 0.1, random);
+        GeoKdTree<GeoPoint> target = new GeoKdTree<>(points);
+        for (int k = 0; k < 50; k++) {
+            GeoPoint center = points(1, 0, 179.99, 0.1, random).get(0);
+            List<GeoPoint> expected = new ArrayList<>(points);
+            expected.sort(Comparator.comparingDouble(p -> GeoGraphSpherical.distance(center.getPosition(), p.getPosition())));
+            assertSame(expected.get(0), target.nearest(center));
+            List<GeoPoint> actual = target.nearest(center, 7);
+            assertEquals(expected.subList(0, 7), actual);
+        }
+        assertEquals(points.size(), target.nearest(points.get(0), 2000).size());
+        assertNull(new GeoKdTree<>(new ArrayList<>()).nearest(points.get(0)));
+    }
+}
@@ -0,0 +1,118 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.undirected.Edge;
+import edu.neu.coe.info6205.graphs.undirected.EdgeGraph;
+import edu.neu.coe.info6205.graphs.undirected.Graph_Edges;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class MSTEngineTest {
+
+    static class Cost implements Comparable<Cost>, Sequenced {
+        Cost(double cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public int getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public void setSequence(int sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Cost o) {
+            return Double.compare(cost, o.cost);
+        }
+
+        @Override
+        public String toString() {
+            return "" + cost;
+        }
+
+        final double cost;
+        int sequence;
+    }
+
+    /**
+     * Create a Tunnels-style graph: random points (near Boston) joined wherever they are within meters of each other.
+     */
+    private static EdgeGraph<GeoPoint, Cost> graph(int n, double meters, long seed) {
+        Random random = new Random(seed);
+        List<GeoPoint> points = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            points.add(new MockGeoPoint("p" + i, new Position_Spherical(42.33 + 0.02 * random.nextDouble(), -71.1 + 0.02 * random.nextDouble())));
+        EdgeGraph<GeoPoint, Cost> result = new Graph_Edges<>();
+        new GeoKdTree<>(points).pairsWithin(meters, (p, q) ->
+                result.addEdge(p, q, new Cost(GeoGraphSpherical.distance(p.getPosition(), q.getPosition()) * (1 + random.nextDouble()))));
+        return result;
+    }
+
+    private static Set<Edge<GeoPoint, Cost>> edges(EdgeGraph<GeoPoint, Cost> graph) {
+        Set<Edge<GeoPoint, Cost>> result = new HashSet<>();
+        for (Edge<GeoPoint, Cost> e : graph.edges()) result.add(e);
+        return result;
+    }
+
+    @Test
+    public void testSameAsKruskal() {
+        EdgeGraph<GeoPoint, Cost> graph = graph(600, 300, 0L);
+        List<Edge<GeoPoint, Cost>> expected = new ArrayList<>();
+        for (Edge<GeoPoint, Cost> e : new Kruskal<>(graph)) expected.add(e);
+        Set<Edge<GeoPoint, Cost>> kruskal = edges(new Kruskal<>(graph).getMST());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (MSTEngine.Mode mode : MSTEngine.Mode.values()) {
+                MSTEngine<GeoPoint, Cost> target = new MSTEngine<>(graph, x -> x.cost, mode, pool);
+                List<Edge<GeoPoint, Cost>> actual = new ArrayList<>();
+                for (Edge<GeoPoint, Cost> e : target) actual.add(e);
+                assertEquals(mode.toString(), expected, actual);
+                EdgeGraph<GeoPoint, Cost> mst = target.getMST();
+                assertEquals(mode.toString(), kruskal, edges(mst));
+                int sequence = 0;
+                for (Edge<GeoPoint, Cost> e : actual) assertEquals(sequence++, e.getAttribute().getSequence());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLarge() {
+        int n = 20000;
+        Random random = new Random(1L);
+        int m = 10 * n;
+        int[] source = new int[m], destination = new int[m];
+        double[] weight = new double[m];
+        for (int j = 0; j < m; j++) {
+            // A path through all the vertices ensures that the graph is connected.
+            source[j] = j < n - 1 ? j : random.nextInt(n);
+            destination[j] = j < n - 1 ? j + 1 : random.nextInt(n);
+            weight[j] = random.nextInt(1000);
+        }
+        int[] filterKruskal = MSTEngine.filterKruskal(n, source, destination, weight);
+        int[] boruvka = MSTEngine.boruvka(n, source, destination, weight, ForkJoinPool.commonPool());
+        assertEquals(n - 1, filterKruskal.length);
+        assertArrayEquals(filterKruskal, boruvka);
+        for (int k = 1; k < filterKruskal.length; k++)
+            assertTrue(weight[filterKruskal[k - 1]] <= weight[filterKruskal[k]]);
+    }
+
+    @Test
+    public void testForest() {
+        int[] source = {0, 1, 0, 3, 4, 3, 2};
+        int[] destination = {1, 2, 2, 4, 5, 5, 2};
+        double[] weight = {1, 2, 3, 3, 2, 1, 0};
+        int[] expected = {0, 5, 1, 4};
+        assertArrayEquals(expected, MSTEngine.filterKruskal(7, source, destination, weight));
+        assertArrayEquals(expected, MSTEngine.boruvka(7, source, destination, weight, ForkJoinPool.commonPool()));
+        assertEquals(0, MSTEngine.filterKruskal(1, new int[0], new int[0], new double[0]).length);
+    }
+}
@@ -0,0 +1,177 @@
+package edu.neu.coe.info6205.graphs.gis;
+
+import edu.neu.coe.info6205.graphs.dag.DiGraph;
+import edu.neu.coe.info6205.graphs.dag.Edge;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ShortestPathServiceTest {
+
+    /**
+     * Create a directed grid of size x size vertices with edges in both directions between neighbors.
+     */
+    static DiGraph<Integer, Double> grid(int size, long seed) {
+        Random random = new Random(seed);
+        DiGraph<Integer, Double> graph = new DiGraph<>();
+        for (int x = 0; x < size; x++)
+            for (int y = 0; y < size; y++) {
+                int v = x * size + y;
+                if (x + 1 < size) {
+                    graph.addEdge(new Edge<>(v, v + size, 1 + random.nextDouble()));
+                    graph.addEdge(new Edge<>(v + size, v, 1 + random.nextDouble()));
+                }
+                if (y + 1 < size) {
+                    graph.addEdge(new Edge<>(v, v + 1, 1 + random.nextDouble()));
+                    graph.addEdge(new Edge<>(v + 1, v, 1 + random.nextDouble()));
+                }
+            }
+        return graph;
+    }
+
+    static double length(Iterable<Edge<Integer, Double>> path) {
+        double result = 0;
+        for (Edge<Integer, Double> e : path) result += e.getAttributes();
+        return result;
+    }
+
+    @Test
+    public void testShortestPaths() {
+        DiGraph<String, Double> graph = new DiGraph<>();
+        graph.addEdge(new Edge<>("A", "B", 1.0));
+        graph.addEdge(new Edge<>("B", "C", 2.0));
+        graph.addEdge(new Edge<>("C", "D", 1.0));
+        graph.addEdge(new Edge<>("A", "E", 4.0));
+        graph.addEdge(new Edge<>("A", "F", 8.0));
+        graph.addEdge(new Edge<>("B", "F", 6.0));
+        graph.addEdge(new Edge<>("B", "G", 6.0));
+        graph.addEdge(new Edge<>("C", "G", 2.0));
+        graph.addEdge(new Edge<>("D", "G", 1.0));
+        graph.addEdge(new Edge<>("D", "H", 4.0));
+        graph.addEdge(new Edge<>("E", "F", 5.0));
+        graph.addEdge(new Edge<>("G", "F", 1.0));
+        graph.addEdge(new Edge<>("G", "H", 1.0));
+        try (ShortestPathService<String, Double> service = new ShortestPathService<>(graph, 1 << 20, 2)) {
+            ShortestPathTree<String, Double> tree = service.shortestPaths("A");
+            assertTrue(tree.hasPathTo("H"));
+            assertEquals(6.0, tree.cost("H"), 0);
+            assertFalse(service.shortestPaths("H").hasPathTo("A"));
+            double length = 0;
+            for (Edge<String, Double> e : tree.pathTo("H")) length += e.getAttributes();
+            assertEquals(6.0, length, 0);
+            Route<String, Double> route = service.route("A", "H");
+            assertEquals(6.0, route.getCost(), 0);
+            assertEquals("A", route.getPath().get(0).getFrom());
+            assertEquals("H", route.getPath().get(route.getPath().size() - 1).getTo());
+            assertFalse(service.route("H", "A").isFound());
+            assertSame(tree, service.shortestPaths("A"));
+            assertEquals(1, service.getHits());
+        }
+    }
+
+    @Test
+    public void testCacheEviction() {
+        DiGraph<Integer, Double> graph = grid(10, 0L);
+        try (ShortestPathService<Integer, Double> service = new ShortestPathService<>(graph, 0, 2)) {
+            assertEquals(64 + 12 * 100, service.shortestPaths(0).footprint());
+            assertEquals(0, service.cached());
+        }
+        try (ShortestPathService<Integer, Double> service = new ShortestPathService<>(graph, 2 * (64 + 12 * 100), 4)) {
+            Map<Integer, ShortestPathTree<Integer, Double>> trees = service.shortestPaths(Arrays.asList(0, 1, 2, 3));
+            assertEquals(4, trees.size());
+            assertEquals(2, service.cached());
+            assertTrue(service.cachedBytes() <= 2 * (64 + 12 * 100));
+            for (Map.Entry<Integer, ShortestPathTree<Integer, Double>> entry : trees.entrySet())
+                assertEquals(entry.getKey(), entry.getValue().getRoot());
+        }
+    }
+
+    @Test
+    public void testRouteWithLandmarks() {
+        int size = 30;
+        DiGraph<Integer, Double> graph = grid(size, 1L);
+        try (ShortestPathService<Integer, Double> service = new ShortestPathService<>(graph, 1 << 24, 4)) {
+            Random random = new Random(2L);
+            int[][] queries = new int[50][2];
+            for (int[] query : queries) {
+                query[0] = random.nextInt(size * size);
+                query[1] = random.nextInt(size * size);
+            }
+            long plain = 0;
+            for (int[] query : queries) {
+                Route<Integer, Double> route = service.route(query[0], query[1]);
+                assertEquals(service.shortestPaths(query[0]).cost(query[1]), route.getCost(), 1E-9);
+                assertEquals(route.getCost(), length(route.getPath()), 1E-9);
+                plain += route.getSettled();
+            }
+            service.precomputeLandmarks(8);
+            assertEquals(8, service.getLandmarks().size());
+            long alt = 0;
+            for (int[] query : queries) {
+                Route<Integer, Double> route = service.route(query[0], query[1]);
+                assertEquals(service.shortestPaths(query[0]).cost(query[1]), route.getCost(), 1E-9);
+                assertEquals(route.getCost(), length(route.getPath()), 1E-9);
+                alt += route.getSettled();
+            }
+            assertTrue(alt < plain);
+            assertTrue(alt < queries.length * size * size / 4);
+        }
+    }
+
+    @Test
+    public void testFailedBuildIsRetried() {
+        DiGraph<Integer, Double> graph = grid(5, 0L);
+        AtomicInteger builds = new AtomicInteger();
+        try (ShortestPathService<Integer, Double> service = new ShortestPathService<Integer, Double>(graph, 1 << 20, 2) {
+            @Override
+            ShortestPathTree<Integer, Double> build(int source) {
+                if (builds.incrementAndGet() == 1) throw new IllegalStateException("first build fails");
+                return super.build(source);
+            }
+        }) {
+            try {
+                service.shortestPaths(0);
+                fail("expected the first build to fail");
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            ShortestPathTree<Integer, Double> tree = service.shortestPaths(0);
+            assertEquals(0, tree.cost(0), 0);
+            assertEquals(2, builds.get());
+            assertSame(tree, service.shortestPaths(0));
+        }
+    }
+
+    @Test
+    public void testRouteWhileLandmarksChange() throws Exception {
+        int size = 20;
+        DiGraph<Integer, Double> graph = grid(size, 3L);
+        try (ShortestPathService<Integer, Double> service = new ShortestPathService<>(graph, 1 << 24, 2)) {
+            service.precomputeLandmarks(2);
+            double[] expected = new double[size * size];
+            for (int v = 0; v < expected.length; v++) expected[v] = service.shortestPaths(0).cost(v);
+            AtomicBoolean done = new AtomicBoolean();
+            Thread precompute = new Thread(() -> {
+                for (int i = 0; !done.get(); i++) service.precomputeLandmarks(i % 2 == 0 ? 6 : 2);
+            });
+            precompute.start();
+            try {
+                Random random = new Random(4L);
+                for (int i = 0; i < 200; i++) {
+                    int target = random.nextInt(size * size);
+                    assertEquals(expected[target], service.route(0, target).getCost(), 1E-9);
+                }
+            } finally {
+                done.set(true);
+                precompute.join();
+            }
+        }
+    }
+}
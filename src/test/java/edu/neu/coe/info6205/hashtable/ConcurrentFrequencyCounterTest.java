@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentFrequencyCounterTest {
+
+    @Test
+    public void testIncrement() {
+        ConcurrentFrequencyCounter<String> fc = new ConcurrentFrequencyCounter<>(4);
+        assertEquals(0, fc.get("X").intValue());
+        fc.increment("X");
+        fc.increment("X");
+        fc.increment("Y");
+        assertEquals(2, fc.get("X").intValue());
+        assertEquals(1, fc.get("Y").intValue());
+        assertEquals(3, fc.total());
+        assertEquals(2, fc.size());
+        assertEquals(2, fc.keys().size());
+    }
+
+    @Test
+    public void testRelativeFrequency() {
+        ConcurrentFrequencyCounter<String> fc = new ConcurrentFrequencyCounter<>();
+        for (int i = 0; i < 49; i++) fc.increment("X");
+        fc.increment("Y");
+        assertEquals(0.98, fc.relativeFrequency("X"), 0.0000001);
+        assertEquals(2.0, fc.relativeFrequencyAsPercentage("Y"), 0.0000001);
+        assertEquals(0.0, fc.relativeFrequency("Z"), 0.0000001);
+    }
+
+    @Test
+    public void testIngest() {
+        // Key i occurs i times.
+        ConcurrentFrequencyCounter<Integer> fc = new ConcurrentFrequencyCounter<>(8);
+        fc.ingest(IntStream.range(0, 1000).boxed().flatMap(i -> Stream.generate(() -> i).limit(i)));
+        assertEquals(999 * 1000 / 2, fc.total());
+        assertEquals(999, fc.size());
+        for (int i = 0; i < 1000; i++) assertEquals(i, fc.get(i).intValue());
+    }
+
+    @Test
+    public void testConcurrentIncrement() throws InterruptedException {
+        ConcurrentFrequencyCounter<Integer> fc = new ConcurrentFrequencyCounter<>(2);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) fc.increment(i % 100);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(40000, fc.total());
+        for (int i = 0; i < 100; i++) assertEquals(400, fc.get(i).intValue());
+    }
+
+    @Test
+    public void testTopK() {
+        ConcurrentFrequencyCounter<Integer> fc = new ConcurrentFrequencyCounter<>();
+        fc.ingest(IntStream.range(0, 100).boxed().flatMap(i -> Stream.generate(() -> i).limit(i)));
+        List<Map.Entry<Integer, Integer>> top = fc.topK(3);
+        assertEquals(3, top.size());
+        assertEquals(99, top.get(0).getKey().intValue());
+        assertEquals(99, top.get(0).getValue().intValue());
+        assertEquals(98, top.get(1).getKey().intValue());
+        assertEquals(97, top.get(2).getKey().intValue());
+        assertEquals(99, fc.topK(1000).size());
+        assertTrue(fc.topK(0).isEmpty());
+    }
+}
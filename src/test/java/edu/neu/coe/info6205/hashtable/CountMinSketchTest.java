@@ -0,0 +1,65 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void testCreate() {
+        CountMinSketch<String> sketch = CountMinSketch.create(0.001, 0.01);
+        assertEquals(4096, sketch.getWidth());
+        assertEquals(5, sketch.getDepth());
+    }
+
+    @Test
+    public void testEstimate() {
+        // Zipf-like counts over 10,000 keys: the estimates must never undercount and should rarely overcount by more than epsilon * total.
+        double epsilon = 0.001;
+        CountMinSketch<String> sketch = CountMinSketch.create(epsilon, 0.01);
+        Map<String, Integer> counts = new HashMap<>();
+        Random random = new Random(0L);
+        for (int i = 0; i < 200000; i++) {
+            String key = "k" + (int) Math.pow(10000, random.nextDouble());
+            sketch.increment(key);
+            counts.merge(key, 1, Integer::sum);
+        }
+        assertEquals(200000, sketch.total());
+        int bad = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate >= entry.getValue());
+            if (estimate - entry.getValue() > epsilon * sketch.total()) bad++;
+        }
+        assertTrue(bad <= 0.01 * counts.size());
+        assertEquals(0, sketch.estimate("absent"), epsilon * sketch.total());
+    }
+
+    @Test
+    public void testMergeAndBytes() {
+        CountMinSketch<String> x = new CountMinSketch<>(256, 4);
+        CountMinSketch<String> y = new CountMinSketch<>(256, 4);
+        for (int i = 0; i < 100; i++) x.increment("a");
+        y.add("a", 50);
+        y.add("b", 7);
+        x.merge(y);
+        assertEquals(157, x.total());
+        assertTrue(x.estimate("a") >= 150);
+        assertTrue(x.estimate("b") >= 7);
+        CountMinSketch<String> z = CountMinSketch.fromBytes(x.toBytes());
+        assertEquals(x.total(), z.total());
+        assertEquals(x.estimate("a"), z.estimate("a"));
+        assertEquals(x.estimate("b"), z.estimate("b"));
+        assertEquals(x.toBytes().length, z.toBytes().length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeMismatch() {
+        new CountMinSketch<String>(256, 4).merge(new CountMinSketch<>(128, 4));
+    }
+}
@@ -0,0 +1,56 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testSmall() {
+        HyperLogLog<String> hll = new HyperLogLog<>();
+        assertEquals(0, hll.estimate());
+        for (int i = 0; i < 10; i++) for (int j = 0; j < 100; j++) hll.add("key" + j);
+        assertEquals(100, hll.estimate(), 2);
+    }
+
+    @Test
+    public void testLarge() {
+        HyperLogLog<String> hll = new HyperLogLog<>(12);
+        int n = 1000000;
+        for (int i = 0; i < n; i++) hll.add("key" + i);
+        // The standard error is about 1.6%: allow four times that.
+        assertEquals(n, hll.estimate(), 0.065 * n);
+    }
+
+    @Test
+    public void testIntegers() {
+        HyperLogLog<Integer> hll = new HyperLogLog<>(14);
+        int n = 100000;
+        for (int i = 0; i < n; i++) hll.add(i);
+        assertEquals(n, hll.estimate(), 0.035 * n);
+    }
+
+    @Test
+    public void testMergeAndBytes() {
+        HyperLogLog<String> x = new HyperLogLog<>(10);
+        HyperLogLog<String> y = new HyperLogLog<>(10);
+        HyperLogLog<String> both = new HyperLogLog<>(10);
+        for (int i = 0; i < 50000; i++) {
+            String key = "key" + i;
+            (i % 2 == 0 ? x : y).add(key);
+            both.add(key);
+        }
+        x.merge(y);
+        assertEquals(both.estimate(), x.estimate());
+        assertArrayEquals(both.toBytes(), x.toBytes());
+        HyperLogLog<String> z = HyperLogLog.fromBytes(x.toBytes());
+        assertEquals(10, z.getPrecision());
+        assertEquals(x.estimate(), z.estimate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeMismatch() {
+        new HyperLogLog<String>(10).merge(new HyperLogLog<>(12));
+    }
+}
@@ -0,0 +1,76 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IntIntMapTest {
+
+    @Test
+    public void testPutGet() {
+        IntIntMap map = new IntIntMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.get(42));
+        assertEquals(0, map.put(42, 7));
+        assertEquals(7, map.put(42, 8));
+        assertEquals(8, map.get(42));
+        assertTrue(map.containsKey(42));
+        assertFalse(map.containsKey(43));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testZeroKey() {
+        IntIntMap map = new IntIntMap(4, -1);
+        assertEquals(-1, map.get(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(0, map.increment(0));
+        assertEquals(1, map.increment(0));
+        assertEquals(1, map.size());
+        assertArrayEquals(new int[]{0}, map.keys());
+        assertEquals(1, map.remove(0));
+        assertEquals(-1, map.remove(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testIncrement() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < 10; i++) for (int j = 0; j <= i; j++) map.increment(i);
+        for (int i = 0; i < 10; i++) assertEquals(i + 1, map.get(i));
+        assertEquals(15, map.addTo(9, 5));
+        assertEquals(-3, map.addTo(-1, -3));
+        assertEquals(11, map.size());
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[]{-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, keys);
+    }
+
+    @Test
+    public void testRandom() {
+        // Compare with HashMap over a random sequence of increments and removes (which requires resizing and backward shifts).
+        Random random = new Random(0L);
+        IntIntMap map = new IntIntMap(2);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            int key = random.nextInt(5000) - 100;
+            if (random.nextInt(3) == 0) {
+                Integer value = expected.remove(key);
+                assertEquals(value == null ? 0 : value, map.remove(key));
+            } else assertEquals(expected.merge(key, 1, Integer::sum).intValue(), map.increment(key));
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = -100; key < 4900; key++) assertEquals(expected.getOrDefault(key, 0).intValue(), map.get(key));
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+    }
+}
@@ -0,0 +1,48 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class IntSetTest {
+
+    @Test
+    public void testAddContainsRemove() {
+        IntSet set = new IntSet();
+        assertTrue(set.add(0));
+        assertTrue(set.add(-5));
+        assertTrue(set.add(17));
+        assertFalse(set.add(17));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertFalse(set.contains(1));
+        int[] xs = set.toArray();
+        Arrays.sort(xs);
+        assertArrayEquals(new int[]{-5, 0, 17}, xs);
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(17));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0L);
+        IntSet set = new IntSet(2);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            int x = random.nextInt(5000);
+            if (random.nextBoolean()) assertEquals(expected.remove(x), set.remove(x));
+            else assertEquals(expected.add(x), set.add(x));
+        }
+        assertEquals(expected.size(), set.size());
+        Set<Integer> actual = new HashSet<>();
+        set.forEach(actual::add);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,47 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LongIntMapTest {
+
+    @Test
+    public void testPutGet() {
+        LongIntMap map = new LongIntMap();
+        long big = 1L << 40;
+        assertEquals(0, map.put(big, 7));
+        assertEquals(0, map.get(big + 1));
+        assertEquals(7, map.get(big));
+        assertEquals(1, map.increment(0L));
+        assertEquals(2, map.size());
+        assertEquals(7, map.remove(big));
+        assertFalse(map.containsKey(big));
+        assertTrue(map.containsKey(0L));
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0L);
+        LongIntMap map = new LongIntMap(2, -1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            // Keys which differ only in their high bits must not collide.
+            long key = (long) random.nextInt(5000) << 32;
+            if (random.nextInt(3) == 0) {
+                Integer value = expected.remove(key);
+                assertEquals(value == null ? -1 : value, map.remove(key));
+            } else
+                // An absent key starts from the missing value (-1).
+                assertEquals(expected.merge(key, 2, (x, y) -> x + 3).intValue(), map.addTo(key, 3));
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
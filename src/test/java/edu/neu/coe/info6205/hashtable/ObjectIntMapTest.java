@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ObjectIntMapTest {
+
+    @Test
+    public void testIncrement() {
+        ObjectIntMap<String> map = new ObjectIntMap<>();
+        assertEquals(0, map.get("X"));
+        assertEquals(1, map.increment("X"));
+        assertEquals(2, map.increment(new String("X")));
+        assertEquals(1, map.increment("Y"));
+        assertEquals(2, map.size());
+        assertEquals(2, map.keys().size());
+        assertEquals(12, map.addTo("X", 10));
+        assertEquals(12, map.put("X", 0));
+        assertEquals(0, map.get("X"));
+        assertTrue(map.containsKey("X"));
+    }
+
+    @Test
+    public void testCollisions() {
+        // These keys all have the same hashCode.
+        ObjectIntMap<String> map = new ObjectIntMap<>(2, -1);
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], i);
+        assertEquals(1, map.remove("AaBB"));
+        assertEquals(-1, map.get("AaBB"));
+        assertEquals(0, map.get("AaAa"));
+        assertEquals(2, map.get("BBAa"));
+        assertEquals(3, map.get("BBBB"));
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0L);
+        ObjectIntMap<String> map = new ObjectIntMap<>();
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            String key = "k" + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                Integer value = expected.remove(key);
+                assertEquals(value == null ? 0 : value, map.remove(key));
+            } else assertEquals(expected.merge(key, 1, Integer::sum).intValue(), map.increment(key));
+            assertEquals(expected.size(), map.size());
+        }
+        Map<String, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected.keySet(), map.keys());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullKey() {
+        new ObjectIntMap<String>().increment(null);
+    }
+}
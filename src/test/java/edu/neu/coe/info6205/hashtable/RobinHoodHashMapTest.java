@@ -0,0 +1,109 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RobinHoodHashMapTest {
+
+    @Test
+    public void testPutGet() {
+        RobinHoodHashMap<String, Integer> map = new RobinHoodHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("Hello"));
+        map.put("Hello", 1);
+        map.put("World", 2);
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(1), map.get("Hello"));
+        assertEquals(Integer.valueOf(2), map.get("World"));
+        map.put("Hello", 3);
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("Hello"));
+        assertEquals(2, map.keys().size());
+    }
+
+    @Test
+    public void testEquals() {
+        RobinHoodHashMap<String, Integer> map = new RobinHoodHashMap<>();
+        map.put("Hello", 1);
+        // A distinct, but equal, key must be found.
+        String key = new String("Hello");
+        assertTrue(map.containsKey(key));
+        assertEquals(Integer.valueOf(1), map.get(key));
+    }
+
+    @Test
+    public void testCollisions() {
+        // These keys all have the same hashCode.
+        RobinHoodHashMap<String, Integer> map = new RobinHoodHashMap<>();
+        String[] keys = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB"};
+        assertEquals(keys[2].hashCode(), keys[5].hashCode());
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], i);
+        for (int i = 0; i < keys.length; i++) assertEquals(Integer.valueOf(i), map.get(keys[i]));
+        assertEquals(Integer.valueOf(3), map.remove("AaBB"));
+        assertNull(map.get("AaBB"));
+        for (int i = 0; i < keys.length; i++) if (i != 3) assertEquals(Integer.valueOf(i), map.get(keys[i]));
+    }
+
+    @Test
+    public void testResize() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(4, 0.5);
+        assertEquals(8, map.capacity());
+        for (int i = 0; i < 1000; i++) map.put(i, -i);
+        assertEquals(1000, map.size());
+        assertEquals(2048, map.capacity());
+        for (int i = 0; i < 1000; i++) assertEquals(Integer.valueOf(-i), map.get(i));
+        assertTrue(map.meanProbeLength() >= 1);
+        assertTrue(map.maxProbeLength() >= map.meanProbeLength());
+    }
+
+    @Test
+    public void testRemove() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>();
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        for (int i = 0; i < 100; i += 2) assertEquals(Integer.valueOf(i), map.remove(i));
+        assertNull(map.remove(0));
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(i));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+
+    @Test
+    public void testRandom() {
+        // Compare with HashMap over a random sequence of puts and removes, with high load and many displaced entries.
+        Random random = new Random(0L);
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(16, 0.9);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            int key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) assertEquals(expected.remove(key), map.remove(key));
+            else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = 0; key < 5000; key++) assertEquals(expected.get(key), map.get(key));
+        assertEquals(expected.keySet(), map.keys());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullKey() {
+        new RobinHoodHashMap<String, Integer>().put(null, 1);
+    }
+
+    @Test
+    public void testHashTableEquals() {
+        // HashTable must also find a distinct, but equal, key.
+        HashTable hashTable = new HashTable(4);
+        hashTable.put("Hello", "World!");
+        assertEquals("World!", hashTable.getValueMaybe(new String("Hello")));
+        assertNull(hashTable.getValueMaybe("Goodbye"));
+    }
+}
@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.hashtable;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SpaceSavingTest {
+
+    @Test
+    public void testExact() {
+        // With no more distinct keys than counters, the counts are exact.
+        SpaceSaving<String> tracker = new SpaceSaving<>(10);
+        for (int i = 0; i < 5; i++) for (int j = 0; j <= i; j++) tracker.increment("k" + i);
+        assertEquals(15, tracker.total());
+        assertEquals(5, tracker.size());
+        List<Map.Entry<String, Long>> top = tracker.topK(2);
+        assertEquals("k4", top.get(0).getKey());
+        assertEquals(5, top.get(0).getValue().longValue());
+        assertEquals("k3", top.get(1).getKey());
+        assertEquals(0, tracker.error("k4"));
+        assertEquals(0, tracker.estimate("absent"));
+    }
+
+    @Test
+    public void testHeavyHitters() {
+        // Three heavy hitters (each about 1%, so more than total / k) in a stream of 100,000 keys, most of which are distinct.
+        SpaceSaving<String> tracker = new SpaceSaving<>(200);
+        Random random = new Random(0L);
+        int[] heavy = new int[3];
+        for (int i = 0; i < 100000; i++) {
+            int r = random.nextInt(100);
+            if (r < 3) {
+                heavy[r]++;
+                tracker.increment("heavy" + r);
+            } else tracker.increment("light" + i);
+        }
+        assertEquals(200, tracker.size());
+        for (int r = 0; r < 3; r++) {
+            String key = "heavy" + r;
+            long estimate = tracker.estimate(key);
+            assertTrue(estimate >= heavy[r]);
+            assertTrue(estimate - tracker.error(key) <= heavy[r]);
+            assertTrue(tracker.error(key) <= tracker.total() / 200);
+        }
+        for (Map.Entry<String, Long> entry : tracker.topK(3)) assertTrue(entry.getKey().startsWith("heavy"));
+    }
+
+    @Test
+    public void testMergeAndBytes() {
+        SpaceSaving<String> x = new SpaceSaving<>(3);
+        SpaceSaving<String> y = new SpaceSaving<>(3);
+        x.add("a", 10);
+        x.add("b", 5);
+        y.add("a", 4);
+        y.add("c", 20);
+        y.add("d", 1);
+        x.merge(y);
+        assertEquals(40, x.total());
+        assertEquals(3, x.size());
+        List<Map.Entry<String, Long>> top = x.topK(3);
+        assertEquals("c", top.get(0).getKey());
+        assertEquals(20, top.get(0).getValue().longValue());
+        // y is full, so b (not tracked by y) may have occurred up to once more (the least count of y).
+        assertEquals(14, x.estimate("a"));
+        assertEquals(6, x.estimate("b"));
+        assertEquals(1, x.error("b"));
+        SpaceSaving<String> z = SpaceSaving.fromBytes(x.toBytes(s -> s.getBytes(StandardCharsets.UTF_8)), b -> new String(b, StandardCharsets.UTF_8));
+        assertEquals(x.total(), z.total());
+        assertEquals(x.topK(3), z.topK(3));
+        z.increment("e");
+        assertEquals(3, z.size());
+    }
+}
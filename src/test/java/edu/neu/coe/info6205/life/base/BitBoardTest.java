@@ -0,0 +1,135 @@
+package edu.neu.coe.info6205.life.base;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static edu.neu.coe.info6205.life.library.Library.*;
+import static org.junit.Assert.*;
+
+public class BitBoardTest {
+
+    @Test
+    public void testSetIsAlive() {
+        BitBoard target = new BitBoard(-10, -100, 20, 200);
+        assertEquals(256, target.getHeight());
+        target.set(-10, -100);
+        target.set(9, 155);
+        target.set(0, -37);
+        assertTrue(target.isAlive(-10, -100));
+        assertTrue(target.isAlive(9, 155));
+        assertTrue(target.isAlive(new Point(0, -37)));
+        assertFalse(target.isAlive(0, -36));
+        assertFalse(target.isAlive(100, 0));
+        assertEquals(3, target.getCount());
+    }
+
+    @Test(expected = LifeException.class)
+    public void testSetOutside() {
+        new BitBoard(0, 0, 10, 10).set(10, 0);
+    }
+
+    @Test
+    public void testForEach() {
+        BitBoard target = BitBoard.create(Point.points("3 1, 1 70, 1 -5, 2 2"));
+        List<Point> points = new ArrayList<>();
+        target.forEach((x, y) -> points.add(new Point(x, y)));
+        assertEquals(Point.points("1 -5, 1 70, 2 2, 3 1"), points);
+    }
+
+    @Test
+    public void testBlinker() {
+        BitBoard target = BitBoard.create(Point.points(Blinker));
+        BitBoard next = target.next();
+        assertEquals(1L, next.getGeneration());
+        assertEquals("***\n", next.render());
+        assertEquals(target.render(), next.next().render());
+    }
+
+    @Test
+    public void testBlock() {
+        BitBoard target = BitBoard.create(Point.points(Block));
+        assertEquals(target, target.next().copy().next());
+        assertEquals(4, target.next().getCount());
+    }
+
+    @Test
+    public void testGliderAcrossWords() {
+        // The glider travels (1, -1) every four generations: it must cross word boundaries and the board must be refitted as it leaves the region.
+        BitBoard target = new BitBoard(0, 0, 3, 64);
+        for (Point p : Point.points("0 60, 1 60, 2 60, 2 61, 1 62")) target.set(p.getX(), p.getY());
+        final String render = target.render();
+        for (int i = 0; i < 400; i++) target.step();
+        assertEquals(400L, target.getGeneration());
+        assertEquals(5, target.getCount());
+        assertEquals(render, target.render());
+        assertTrue(target.isAlive(100, -40));
+        assertTrue(target.isAlive(101, -40));
+        assertTrue(target.isAlive(102, -40));
+        // The region follows the glider, rather than growing with the distance traveled.
+        for (int i = 0; i < 4000; i++) target.step();
+        assertTrue(target.getWidth() <= 3 + 2 * 32 + 64);
+        assertTrue(target.getHeight() <= 4 * 64);
+    }
+
+    @Test
+    public void testForEachBorn() {
+        BitBoard target = BitBoard.create(Point.points("0 0, 1 0, 2 0"));
+        target.step();
+        final List<Point> born = new ArrayList<>();
+        target.forEachBorn((x, y) -> born.add(new Point(x, y)));
+        assertEquals(Arrays.asList(new Point(1, -1), new Point(1, 1)), born);
+        target.set(3, 0);
+        try {
+            target.forEachBorn((x, y) -> fail());
+            fail("no exception");
+        } catch (LifeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGeneration() {
+        BitBoard target = BitBoard.create(Point.points(Glider1));
+        final BitBoard next = target.generation((l, v) -> assertEquals(Long.valueOf(0L), l));
+        assertEquals(1L, next.getGeneration());
+        assertEquals(0L, target.getGeneration());
+        assertEquals(5, next.getCount());
+    }
+
+    @Test
+    public void testAgainstNeighborCounts() {
+        // Compare each generation with a direct count of neighbors, on a random board.
+        final int width = 100;
+        Random random = new Random(0L);
+        BitBoard target = new BitBoard(0, 0, width, 130);
+        final int height = target.getHeight();
+        boolean[][] cells = new boolean[width][height];
+        for (int x = 1; x < width - 1; x++)
+            for (int y = 1; y < 129; y++)
+                if (random.nextInt(3) == 0) {
+                    cells[x][y] = true;
+                    target.set(x, y);
+                }
+        for (int g = 0; g < 20; g++) {
+            boolean[][] next = new boolean[width][height];
+            for (int x = 0; x < width; x++)
+                for (int y = 0; y < height; y++) {
+                    int count = 0;
+                    for (int i = -1; i <= 1; i++)
+                        for (int j = -1; j <= 1; j++)
+                            if ((i != 0 || j != 0) && x + i >= 0 && x + i < width && y + j >= 0 && y + j < height && cells[x + i][y + j])
+                                count++;
+                    next[x][y] = count == 3 || count == 2 && cells[x][y];
+                }
+            cells = next;
+            target = target.next();
+            for (int x = 0; x < width; x++)
+                for (int y = 0; y < height; y++)
+                    assertEquals("generation " + g + " at " + x + ", " + y, cells[x][y], target.isAlive(x, y));
+        }
+    }
+}
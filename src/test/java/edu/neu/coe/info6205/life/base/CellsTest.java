@@ -0,0 +1,74 @@
+package edu.neu.coe.info6205.life.base;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+
+public class CellsTest {
+
+    @Test
+    public void testAddGet() {
+        final Cells target = new Cells(1);
+        for (int i = 0; i < 10; i++) target.add(i, -i);
+        target.add(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(11, target.size());
+        assertEquals(new Point(3, -3), target.get(3));
+        assertEquals(Integer.MIN_VALUE, target.getX(10));
+        assertEquals(Integer.MAX_VALUE, target.getY(10));
+        assertTrue(target.contains(9, -9));
+        assertFalse(target.contains(9, 9));
+        assertEquals(4, target.indexOf(4, -4));
+    }
+
+    @Test
+    public void testShift() {
+        final Cells target = Cells.create(Point.points("0 0, 1 2, -3 4"));
+        final Cells copy = target.copy();
+        target.shift(10, -1);
+        assertEquals("[{10, -1}, {11, 1}, {7, 3}]", target.toString());
+        assertTrue(target.contains(11, 1));
+        assertFalse(target.contains(1, 2));
+        // Cells added after a shift are not themselves shifted.
+        target.add(0, 0);
+        assertEquals(new Point(0, 0), target.get(3));
+        target.shift(-10, 1);
+        assertEquals(new Point(-10, 1), target.get(3));
+        // The copy is unaffected.
+        assertEquals(Point.points("0 0, 1 2, -3 4"), copy.toList());
+    }
+
+    @Test
+    public void testRemove() {
+        final Cells target = Cells.create(Point.points("0 0, 1 1, 2 2, 1 1"));
+        assertTrue(target.remove(1, 1));
+        assertEquals(Point.points("0 0, 2 2, 1 1"), target.toList());
+        assertFalse(target.remove(5, 5));
+        assertEquals(3, target.size());
+    }
+
+    @Test
+    public void testForEach() {
+        final Cells target = Cells.create(Point.points("5 6, 7 8"));
+        final List<Point> points = new ArrayList<>();
+        target.forEach((x, y) -> points.add(new Point(x, y)));
+        assertEquals(target.toList(), points);
+        final List<Point> iterated = new ArrayList<>();
+        for (Point p : target) iterated.add(p);
+        assertEquals(points, iterated);
+    }
+
+    @Test
+    public void testEqualsHashCode() {
+        final List<Point> points = Point.points("5 6, 7 8, -1 0");
+        final Cells target = Cells.create(points);
+        assertEquals(points.hashCode(), target.hashCode());
+        assertEquals(points.toString(), target.toString());
+        assertEquals(Cells.create(points), target);
+        assertNotEquals(Cells.create(Point.points("7 8, 5 6, -1 0")), target);
+        assertEquals(Objects.hash(5, 6), new Point(5, 6).hashCode());
+    }
+}
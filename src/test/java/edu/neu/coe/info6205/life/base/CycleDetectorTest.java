@@ -0,0 +1,71 @@
+package edu.neu.coe.info6205.life.base;
+
+import org.junit.Test;
+
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.Assert.*;
+
+public class CycleDetectorTest {
+
+    @Test
+    public void testZobrist() {
+        final Zobrist target = Zobrist.create(Point.points("0 0, 1 0, 2 0"));
+        assertEquals(Zobrist.create(Point.points("2 0, 0 0, 1 0")), target);
+        assertNotEquals(Zobrist.create(Point.points("0 0, 0 1, 0 2")), target);
+        // Toggling a cell twice restores the hash.
+        final Zobrist copy = target.copy();
+        target.toggle(-5, 7);
+        assertNotEquals(copy, target);
+        target.toggle(-5, 7);
+        assertEquals(copy, target);
+        // The hash of a union of disjoint sets is the exclusive-or of their hashes.
+        final Zobrist union = Zobrist.create(Point.points("0 0, 1 0"));
+        union.xor(Zobrist.create(Point.points("2 0")));
+        assertEquals(target, union);
+    }
+
+    @Test
+    public void testGroupZobrist() {
+        // The hash of a Group is maintained incrementally as it evolves, and doesn't depend on its origin.
+        Group group = Group.create(0L, "0 0, 1 0, 2 0, 2 1, 1 2");
+        final Zobrist initial = group.getZobrist().copy();
+        for (int i = 0; i < 8; i++) {
+            group = group.generation((l, v) -> {
+            });
+            assertEquals(Zobrist.create(group.pointsAbsolute()), group.getZobrist());
+        }
+        assertNotEquals(initial, group.getZobrist());
+    }
+
+    @Test
+    public void testRepeats() {
+        // x -> x * x + 1 mod 255, from 3: enters a cycle of period 6 (101, 2, 5, 26, 167, 95) after 2 steps.
+        final IntUnaryOperator f = x -> (x * x + 1) % 255;
+        final CycleDetector<Integer> target = new CycleDetector<>(Integer::equals);
+        int x = 3;
+        int count = 0;
+        while (!target.repeats(hash(x), x)) {
+            x = f.applyAsInt(x);
+            count++;
+        }
+        assertEquals(6L, target.getPeriod());
+        assertTrue(count < 20);
+        assertEquals(0L, target.getCollisions());
+    }
+
+    @Test
+    public void testCollisions() {
+        // All states have the same hash, so only the equivalence test can tell them apart.
+        final CycleDetector<Integer> target = new CycleDetector<>(Integer::equals);
+        for (int i = 0; i < 5; i++) assertFalse(target.repeats(new Zobrist(), i));
+        assertEquals(4L, target.getCollisions());
+        assertEquals(0L, target.getPeriod());
+    }
+
+    private static Zobrist hash(int x) {
+        final Zobrist result = new Zobrist();
+        result.toggle(x, 0);
+        return result;
+    }
+}
@@ -1,16 +1,32 @@
 package edu.neu.coe.info6205.life.base;
 
+import edu.neu.coe.info6205.life.library.Library;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 public class GameTest {
 
     @Test
     public void run() {
-        // TODO implement test
+        // A block repeats immediately; a blinker (period 2) is detected on its second cycle.
+        assertEquals(1L, Game.run(Library.Block).getGeneration());
+        assertEquals(3L, Game.run(Library.Blinker).getGeneration());
+        // A blip dies out.
+        final Game blip = Game.run(Library.Blip);
+        assertEquals(1L, blip.getGeneration());
+        assertEquals(0, blip.getCount());
+        // A beehive and a loaf are still lifes.
+        assertEquals(1L, Game.run(Library.Beehive).getGeneration());
+        assertEquals(1L, Game.run(Library.Loaf).getGeneration());
     }
 
     @Test
     public void generation() {
-        // TODO implement test
+        final Game game = Game.run(Library.Blinker);
+        final Game target = game.generation((l, g) -> {
+        });
+        assertEquals(game.getGeneration() + 1, target.getGeneration());
+        assertEquals(3, target.getCount());
     }
-}
\ No newline at end of file
+}
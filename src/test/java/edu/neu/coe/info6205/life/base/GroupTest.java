@@ -3,10 +3,15 @@ package edu.neu.coe.info6205.life.base;
 import edu.neu.coe.info6205.util.PrivateMethodTester;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static edu.neu.coe.info6205.life.base.Grid.Origin;
 import static edu.neu.coe.info6205.life.library.Library.*;
@@ -505,7 +510,7 @@ public class GroupTest {
         assertEquals("O**\n" + "..*\n" + ".*.\nOrigin: {0, 0}\n", renderGlider0);
         assertEquals(new Point(-1, -3), glider0.getExtent1());
         assertEquals(new Point(3, 1), glider0.getExtent2());
-        Group expected = glider0.move(-1, 1);
+        Group expected = glider0.move(1, 1);
         final Group glider1 = glider0.newGeneration(1L);
         System.out.println(glider1.toStringInGrid());
         final Point p10 = new Point(1, 0);
@@ -514,17 +519,17 @@ public class GroupTest {
         assertEquals(5, glider1.getCount());
         final Group glider2 = glider1.newGeneration(2L);
         System.out.println(glider2.toStringInGrid());
-        assertEquals(".**\n" + "*.O\n" + "..*\nOrigin: {1, 0}\n", glider2.render());
+        assertEquals(".**\n" + "*.O\n" + "..*\nOrigin: {2, 0}\n", glider2.render());
         assertEquals(5, glider2.getCount());
         final Group glider3 = glider2.newGeneration(3L);
         System.out.println(glider3.toStringInGrid());
-        assertEquals("**.\n" + ".O*\n" + "*..\nOrigin: {1, 0}\n", glider3.render());
+        assertEquals("**.\n" + ".O*\n" + "*..\nOrigin: {2, 0}\n", glider3.render());
         assertEquals(5, glider3.getCount());
         final Group glider4 = glider3.newGeneration(4L);
         System.out.println(glider4.toStringInGrid());
         final String glider4Render = glider4.render();
         System.out.println(glider4Render);
-        assertEquals("O**\n" + "..*\n" + ".*.\n" + "Origin: {-1, 1}\n", glider4Render);
+        assertEquals("O**\n" + "..*\n" + ".*.\n" + "Origin: {1, 1}\n", glider4Render);
         assertEquals(5, glider4.getCount());
         final List<Point> expectedPoints = expected.pointsAbsolute();
         Collections.sort(expectedPoints);
@@ -582,7 +587,7 @@ public class GroupTest {
         assertEquals(".*.\n" + "..*\n" + "O**\n", renderGlider0);
         assertEquals(new Point(-1, -1), glider0.getExtent1());
         assertEquals(new Point(3, 3), glider0.getExtent2());
-        Group expected = glider0.move(-1, -1);
+        Group expected = glider0.move(1, -1);
         final Group glider1 = glider0.newGeneration(1L);
 //				System.out.println(glider1.toStringInGrid());
         final Point p10 = new Point(1, 0);
@@ -591,15 +596,15 @@ public class GroupTest {
         assertEquals(5, glider1.getCount());
         final Group glider2 = glider1.newGeneration(2L);
 //				System.out.println(glider2.toStringInGrid());
-        assertEquals("..*\n" + "*.O\n" + ".**\nOrigin: {1, 0}\n", glider2.render());
+        assertEquals("..*\n" + "*.O\n" + ".**\nOrigin: {2, 0}\n", glider2.render());
         assertEquals(5, glider2.getCount());
         final Group glider3 = glider2.newGeneration(3L);
 //				System.out.println(glider3.toStringInGrid());
-        assertEquals("*..\n" + ".O*\n" + "**.\nOrigin: {1, 0}\n", glider3.render());
+        assertEquals("*..\n" + ".O*\n" + "**.\nOrigin: {2, 0}\n", glider3.render());
         assertEquals(5, glider3.getCount());
         final Group glider4 = glider3.newGeneration(4L);
 //				System.out.println(glider4.toStringInGrid());
-        assertEquals(renderGlider0 + "Origin: {-1, -1}\n", glider4.render());
+        assertEquals(renderGlider0 + "Origin: {1, -1}\n", glider4.render());
         assertEquals(5, glider4.getCount());
         final List<Point> expectedPoints = expected.pointsAbsolute();
         Collections.sort(expectedPoints);
@@ -607,4 +612,64 @@ public class GroupTest {
         Collections.sort(glider4Points);
         assertEquals(expectedPoints, glider4Points);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGliderAbsolutePositions() {
+        // Changes of origin must not move the cells: compare 100 generations with a straightforward simulation.
+        Group glider = Group.create(0L, Glider1);
+        Set<Point> expected = new HashSet<>(glider.pointsAbsolute());
+        for (int generation = 1; generation <= 100; generation++) {
+            glider = glider.newGeneration(generation);
+            expected = nextGeneration(expected);
+            assertEquals(expected, new HashSet<>(glider.pointsAbsolute()));
+        }
+        assertEquals(new Point(25, 25), glider.getOrigin());
+    }
+
+    @Test
+    public void testZobristIsIncremental() throws Exception {
+        final Field field = Group.class.getDeclaredField("zobrist");
+        field.setAccessible(true);
+        Group glider = Group.create(0L, Glider1);
+        assertNull(field.get(glider));
+        glider.getZobrist();
+        for (int generation = 1; generation <= 100; generation++) {
+            glider = glider.newGeneration(generation);
+            // The hash has been carried forward (through any change of origin), so getZobrist need not recompute it.
+            final Zobrist zobrist = (Zobrist) field.get(glider);
+            assertNotNull(zobrist);
+            assertSame(zobrist, glider.getZobrist());
+            assertEquals(Zobrist.create(glider.pointsAbsolute()), zobrist);
+        }
+    }
+
+    @Test
+    public void testBoardIsRebuiltAfterChange() {
+        // Each generation steps the board handed on by the previous one, unless the cells have since been changed.
+        Group group = Group.create(0L, Glider1);
+        Set<Point> expected = new HashSet<>(group.pointsAbsolute());
+        for (int generation = 1; generation <= 40; generation++) {
+            group = group.newGeneration(generation);
+            expected = nextGeneration(expected);
+            if (generation % 10 == 0)
+                // Add a block (a still life), which a stale board would lose.
+                for (Point p : Point.points(generation + " " + -generation + ", " + (generation + 1) + " " + -generation + ", " + generation + " " + (1 - generation) + ", " + (generation + 1) + " " + (1 - generation))) {
+                    assertTrue(group.add(p));
+                    expected.add(p);
+                }
+            assertEquals(expected, new HashSet<>(group.pointsAbsolute()));
+        }
+    }
+
+    private static Set<Point> nextGeneration(Set<Point> cells) {
+        final Map<Point, Integer> neighbors = new HashMap<>();
+        for (Point p : cells)
+            for (int dx = -1; dx <= 1; dx++)
+                for (int dy = -1; dy <= 1; dy++)
+                    if (dx != 0 || dy != 0) neighbors.merge(p.move(dx, dy), 1, Integer::sum);
+        final Set<Point> result = new HashSet<>();
+        for (Map.Entry<Point, Integer> entry : neighbors.entrySet())
+            if (entry.getValue() == 3 || entry.getValue() == 2 && cells.contains(entry.getKey())) result.add(entry.getKey());
+        return result;
+    }
+}
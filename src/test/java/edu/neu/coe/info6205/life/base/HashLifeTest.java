@@ -0,0 +1,100 @@
+package edu.neu.coe.info6205.life.base;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static edu.neu.coe.info6205.life.library.Library.*;
+import static org.junit.Assert.*;
+
+public class HashLifeTest {
+
+    @Test
+    public void testSetIsAlive() {
+        HashLife target = new HashLife();
+        target.set(0, 0);
+        target.set(-1000, 7);
+        target.set(123456789L, -987654321L);
+        assertTrue(target.isAlive(0, 0));
+        assertTrue(target.isAlive(-1000, 7));
+        assertTrue(target.isAlive(123456789L, -987654321L));
+        assertFalse(target.isAlive(1, 0));
+        assertFalse(target.isAlive(Long.MAX_VALUE, 0));
+        assertEquals(3L, target.getPopulation());
+        List<String> cells = new ArrayList<>();
+        target.forEach((x, y) -> cells.add(x + " " + y));
+        assertEquals(3, cells.size());
+        assertTrue(cells.contains("123456789 -987654321"));
+    }
+
+    @Test
+    public void testBlinker() {
+        HashLife target = HashLife.create(Point.points(Blinker));
+        final String render = target.render();
+        target.step(0);
+        assertEquals(1L, target.getGeneration());
+        assertEquals("***\n", target.render());
+        target.advance(1_000_000_000L - 1);
+        assertEquals(1_000_000_000L, target.getGeneration());
+        assertEquals(render, target.render());
+        assertTrue(target.isAlive(0, 1));
+    }
+
+    @Test
+    public void testGliderBillion() {
+        // Glider3 travels (1, -1) every four generations.
+        HashLife target = HashLife.create(Point.points(Glider3));
+        final String render = target.render();
+        final long generations = 1_000_000_000L;
+        target.advance(generations);
+        assertEquals(5L, target.getPopulation());
+        assertEquals(render, target.render());
+        final long d = generations / 4;
+        for (Point p : Point.points(Glider3)) assertTrue(target.isAlive(p.getX() + d, p.getY() - d));
+    }
+
+    @Test
+    public void testAgainstBitBoard() {
+        final Random random = new Random(0L);
+        final List<Point> points = new ArrayList<>();
+        for (int x = 0; x < 40; x++)
+            for (int y = 0; y < 40; y++)
+                if (random.nextInt(3) == 0) points.add(new Point(x, y));
+        final HashLife target = HashLife.create(points);
+        final BitBoard board = BitBoard.create(points);
+        for (int generations : new int[]{1, 2, 3, 10, 17, 64, 100}) {
+            for (int i = 0; i < generations; i++) board.step();
+            target.advance(generations);
+            assertEquals(board.getGeneration(), target.getGeneration());
+            assertEquals(board.getCount(), target.getCount());
+            board.forEach((x, y) -> assertTrue(target.isAlive(x, y)));
+        }
+    }
+
+    @Test
+    public void testEviction() {
+        // A small table forces the nodes to be collected between steps, which must not change the outcome.
+        final Random random = new Random(1L);
+        final List<Point> points = new ArrayList<>();
+        for (int x = 0; x < 30; x++)
+            for (int y = 0; y < 30; y++)
+                if (random.nextBoolean()) points.add(new Point(x, y));
+        final HashLife unbounded = HashLife.create(points);
+        final HashLife bounded = new HashLife(1000);
+        for (Point p : points) bounded.set(p.getX(), p.getY());
+        for (int i = 0; i < 50; i++) {
+            unbounded.step(3);
+            bounded.step(3);
+        }
+        assertEquals(unbounded.getPopulation(), bounded.getPopulation());
+        assertEquals(unbounded.render(), bounded.render());
+        assertTrue(bounded.getNodeCount() < unbounded.getNodeCount());
+    }
+
+    @Test(expected = LifeException.class)
+    public void testStepRange() {
+        new HashLife().step(-1);
+    }
+}
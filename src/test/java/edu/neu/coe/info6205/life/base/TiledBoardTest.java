@@ -0,0 +1,87 @@
+package edu.neu.coe.info6205.life.base;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TiledBoardTest {
+
+    @Test
+    public void testSetIsAlive() {
+        try (TiledBoard target = new TiledBoard(300, 100, 1)) {
+            assertEquals(512, target.getWidth());
+            assertEquals(256, target.getHeight());
+            assertEquals(2, target.getTiles());
+            target.set(0, 0);
+            target.set(511, 255);
+            target.set(256, 64);
+            assertTrue(target.isAlive(0, 0));
+            assertTrue(target.isAlive(511, 255));
+            assertTrue(target.isAlive(256, 64));
+            assertFalse(target.isAlive(255, 64));
+            assertFalse(target.isAlive(-1, 0));
+            assertEquals(3, target.getCount());
+        }
+    }
+
+    @Test(expected = LifeException.class)
+    public void testSetOutside() {
+        try (TiledBoard target = new TiledBoard(10, 10, 1)) {
+            target.set(256, 0);
+        }
+    }
+
+    @Test
+    public void testAgainstBitBoard() {
+        // Every tile boundary (and corner) is crossed by the soup, which spreads over a 3 x 3 arrangement of tiles.
+        final Random random = new Random(0L);
+        try (TiledBoard target = new TiledBoard(768, 768, 4)) {
+            BitBoard board = new BitBoard(0, 0, 768, 768);
+            for (int x = 200; x < 570; x++)
+                for (int y = 200; y < 570; y++)
+                    if (random.nextInt(3) == 0) {
+                        target.set(x, y);
+                        board.set(x, y);
+                    }
+            for (int g = 0; g < 40; g++) {
+                target.step();
+                board = board.next();
+            }
+            assertEquals(40L, target.getGeneration());
+            assertEquals(board.getCount(), target.getCount());
+            final BitBoard expected = board;
+            target.forEach((x, y) -> assertTrue(expected.isAlive(x, y)));
+        }
+    }
+
+    @Test
+    public void testStable() {
+        // A block is stable, so after one generation no tile needs to be computed.
+        try (TiledBoard target = new TiledBoard(1024, 1024, 2)) {
+            assertEquals(16, target.getActiveTiles());
+            for (Point p : Point.points("255 255, 255 256, 256 255, 256 256")) target.set(p.getX(), p.getY());
+            target.step();
+            assertEquals(0, target.getActiveTiles());
+            target.step();
+            assertEquals(4, target.getCount());
+            target.set(600, 600);
+            assertEquals(9, target.getActiveTiles());
+            target.step();
+            assertEquals(4, target.getCount());
+        }
+    }
+
+    @Test
+    public void testGlider() {
+        // The glider travels (1, -1) every four generations, across the corner of four tiles.
+        try (TiledBoard target = new TiledBoard(512, 512, 1)) {
+            for (Point p : Point.points("250 270, 251 270, 252 270, 252 271, 251 272")) target.set(p.getX(), p.getY());
+            for (int i = 0; i < 80; i++) target.step();
+            assertEquals(5, target.getCount());
+            for (Point p : Point.points("270 250, 271 250, 272 250, 272 251, 271 252")) assertTrue(target.isAlive(p.getX(), p.getY()));
+            assertTrue(target.getActiveTiles() <= 4);
+        }
+    }
+}
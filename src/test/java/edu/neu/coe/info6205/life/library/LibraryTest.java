@@ -1,8 +1,18 @@
 package edu.neu.coe.info6205.life.library;
 
+import edu.neu.coe.info6205.life.base.Cells;
+import edu.neu.coe.info6205.life.base.Group;
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.Point;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
 
 public class LibraryTest {
 
@@ -11,4 +21,65 @@ public class LibraryTest {
         final String blinker = Library.get("blinker");
         assertEquals("0 -1, 0 0, 0 1", blinker);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetCellsString() {
+        final Cells target = Library.getCells("blinker");
+        assertEquals(Point.points(Library.Blinker), target.toList());
+        assertNull(Library.getCells("no such pattern"));
+    }
+
+    @Test
+    public void testGetCellsResource() {
+        final Cells gun = Library.getCells("GosperGliderGun");
+        assertEquals(36, gun.size());
+        final Cells lwss = Library.getCells("lwss");
+        assertEquals(9, lwss.size());
+        // A spaceship moves: after four generations, it is the same shape, displaced by two cells.
+        final Set<Point> expected = new HashSet<>();
+        for (Point p : lwss.toList()) expected.add(p.move(-2, 0));
+        Group group = Group.create(0L, lwss);
+        for (int i = 0; i < 4; i++) group = group.generation((l, v) -> {
+        });
+        assertEquals(9, group.getCount());
+        assertEquals(expected, new HashSet<>(group.pointsAbsolute()));
+    }
+
+    @Test
+    public void testCopies() {
+        // Each caller gets its own copy of the cached cells.
+        final Cells first = Library.getCells("Glider1");
+        first.shift(100, 100);
+        first.add(0, 0);
+        assertEquals(Point.points(Library.Glider1), Library.getCells("Glider1").toList());
+    }
+
+    @Test
+    public void testRegisterFile() throws IOException {
+        final File file = File.createTempFile("pattern", ".rle");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "x = 2, y = 2\n2o$2o!".getBytes());
+        assertNull(Library.register("TestBlock", file.getPath()));
+        try {
+            assertEquals(4, Library.getCells("testblock").size());
+            // Re-registering the name discards the cached pattern.
+            Files.write(file.toPath(), "3o!".getBytes());
+            assertEquals(4, Library.getCells("testblock").size());
+            Library.register("TestBlock", file.getPath());
+            assertEquals(3, Library.getCells("testblock").size());
+        } finally {
+            Library.unregister("TestBlock");
+        }
+        assertNull(Library.getCells("testblock"));
+    }
+
+    @Test(expected = LifeException.class)
+    public void testMissingResource() {
+        Library.register("Missing", "/life/missing.rle");
+        try {
+            Library.getCells("Missing");
+        } finally {
+            Library.unregister("Missing");
+        }
+    }
+}
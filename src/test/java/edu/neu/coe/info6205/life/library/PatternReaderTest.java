@@ -0,0 +1,67 @@
+package edu.neu.coe.info6205.life.library;
+
+import edu.neu.coe.info6205.life.base.BitBoard;
+import edu.neu.coe.info6205.life.base.Cells;
+import edu.neu.coe.info6205.life.base.LifeException;
+import edu.neu.coe.info6205.life.base.Point;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class PatternReaderTest {
+
+    @Test
+    public void testRLE() {
+        final Cells target = PatternReader.parse("#N Glider\n#C A comment\nx = 3, y = 3, rule = B3/S23\nbob$2bo$3o!");
+        assertEquals(Point.points("1 0, 2 -1, 0 -2, 1 -2, 2 -2"), target.toList());
+    }
+
+    @Test
+    public void testRLEWithoutHeader() {
+        // A row may be split across lines, and a run of $ skips empty rows.
+        final Cells target = PatternReader.parse("2o\n3b2o2$\n10o!ignored");
+        assertEquals(14, target.size());
+        assertEquals(new Point(5, 0), target.get(2));
+        assertEquals(new Point(0, -2), target.get(4));
+        assertEquals(new Point(9, -2), target.get(13));
+    }
+
+    @Test
+    public void testPlaintext() {
+        final Cells target = PatternReader.read(new ByteArrayInputStream("!Name: Glider\n!\n.O.\r\n..O\r\nOOO\r\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Point.points("1 0, 2 -1, 0 -2, 1 -2, 2 -2"), target.toList());
+    }
+
+    @Test
+    public void testSameGeneration() {
+        // The same (glider) pattern in either format, and as a String pattern, evolves identically.
+        final BitBoard rle = BitBoard.create(PatternReader.parse("x = 3, y = 3\nbo$2bo$3o!"));
+        final BitBoard plaintext = BitBoard.create(PatternReader.parse(".O.\n..O\nOOO"));
+        final BitBoard next1 = rle.next(), next2 = plaintext.next();
+        assertEquals(5, next1.getCount());
+        next1.forEach((x, y) -> assertTrue(next2.isAlive(x, y)));
+    }
+
+    @Test
+    public void testLarge() {
+        // A 1000 x 1000 block of live cells, one RLE row per line.
+        final StringBuilder sb = new StringBuilder("x = 1000, y = 1000\n");
+        for (int i = 0; i < 1000; i++) sb.append("1000o$\n");
+        final Cells target = PatternReader.parse(sb.append('!').toString());
+        assertEquals(1_000_000, target.size());
+        assertEquals(new Point(999, -999), target.get(999_999));
+    }
+
+    @Test(expected = LifeException.class)
+    public void testMalformedRLE() {
+        PatternReader.parse("x = 3, y = 3\n2o%!");
+    }
+
+    @Test(expected = LifeException.class)
+    public void testMalformedPlaintext() {
+        PatternReader.parse(".O.\n.X.");
+    }
+}
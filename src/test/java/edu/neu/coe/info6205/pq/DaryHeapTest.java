@@ -0,0 +1,54 @@
+package edu.neu.coe.info6205.pq;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DaryHeapTest {
+
+    @Test
+    public void testGiveTake() throws PQException {
+        for (int d : new int[]{2, 3, 4, 8}) {
+            Random random = new Random(d);
+            DaryHeap<Integer> pq = new DaryHeap<Integer>(d, false, Comparator.naturalOrder(), 1);
+            Integer[] xs = new Integer[1000];
+            for (int i = 0; i < xs.length; i++) pq.give(xs[i] = random.nextInt(100));
+            assertEquals(xs.length, pq.size());
+            Arrays.sort(xs);
+            assertEquals(xs[0], pq.peek());
+            for (Integer x : xs) assertEquals(x, pq.take());
+            assertTrue(pq.isEmpty());
+        }
+    }
+
+    @Test
+    public void testBulk() throws PQException {
+        for (int d : new int[]{2, 4, 8}) {
+            Random random = new Random(d);
+            for (int n : new int[]{0, 1, 2, 9, 100, 1001}) {
+                Integer[] xs = new Integer[n];
+                for (int i = 0; i < n; i++) xs[i] = random.nextInt();
+                DaryHeap<Integer> pq = new DaryHeap<>(d, true, Comparator.naturalOrder(), xs);
+                pq.give(Integer.MIN_VALUE);
+                Arrays.sort(xs, Comparator.reverseOrder());
+                for (Integer x : xs) assertEquals(x, pq.take());
+                assertEquals(Integer.valueOf(Integer.MIN_VALUE), pq.take());
+                assertTrue(pq.isEmpty());
+            }
+        }
+    }
+
+    @Test(expected = PQException.class)
+    public void testTakeEmpty() throws PQException {
+        new DaryHeap<String>(4, false, Comparator.naturalOrder(), 4).take();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testArity() {
+        new DaryHeap<String>(1, false, Comparator.naturalOrder(), 4);
+    }
+}
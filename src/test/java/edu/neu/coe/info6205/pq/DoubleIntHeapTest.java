@@ -0,0 +1,45 @@
+package edu.neu.coe.info6205.pq;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DoubleIntHeapTest {
+
+    @Test
+    public void testGiveTake() throws PQException {
+        Random random = new Random(0L);
+        DoubleIntHeap pq = new DoubleIntHeap(4, 1);
+        double[] priorities = new double[1000];
+        for (int i = 0; i < priorities.length; i++) pq.give(priorities[i] = random.nextDouble(), i);
+        double last = Double.NEGATIVE_INFINITY;
+        boolean[] seen = new boolean[priorities.length];
+        while (!pq.isEmpty()) {
+            double priority = pq.peekPriority();
+            int value = pq.take();
+            assertEquals(priorities[value], priority, 0);
+            assertTrue(priority >= last);
+            assertFalse(seen[value]);
+            seen[value] = true;
+            last = priority;
+        }
+    }
+
+    @Test
+    public void testBulk() throws PQException {
+        double[] priorities = {5, 3, 8, 1, 9, 2, 7};
+        int[] values = {50, 30, 80, 10, 90, 20, 70};
+        DoubleIntHeap pq = new DoubleIntHeap(2, priorities, values);
+        pq.give(4, 40);
+        int[] expected = {10, 20, 30, 40, 50, 70, 80, 90};
+        for (int x : expected) assertEquals(x, pq.take());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test(expected = PQException.class)
+    public void testTakeEmpty() throws PQException {
+        new DoubleIntHeap().take();
+    }
+}
@@ -0,0 +1,72 @@
+package edu.neu.coe.info6205.pq;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+public class MultiQueueTest {
+
+    @Test
+    public void testExact() throws PQException {
+        // With a single queue, order is exact.
+        MultiQueue<Integer> pq = new MultiQueue<Integer>(1, true, Comparator.naturalOrder());
+        for (int i = 0; i < 100; i++) pq.give((i * 37) % 100);
+        assertEquals(100, pq.size());
+        for (int i = 99; i >= 0; i--) assertEquals(Integer.valueOf(i), pq.take());
+        assertTrue(pq.isEmpty());
+        assertNull(pq.poll());
+    }
+
+    @Test
+    public void testRelaxed() {
+        int n = 10000, queues = 8;
+        MultiQueue<Integer> pq = new MultiQueue<Integer>(queues, false, Comparator.naturalOrder());
+        for (int i = 0; i < n; i++) pq.give((int) ((i * 7919L) % n));
+        // Every element comes out exactly once, and (on average) not far from its proper rank.
+        boolean[] seen = new boolean[n];
+        long displacement = 0;
+        for (int i = 0; i < n; i++) {
+            Integer x = pq.poll();
+            assertNotNull(x);
+            assertFalse(seen[x]);
+            seen[x] = true;
+            displacement += Math.abs(x - i);
+        }
+        assertNull(pq.poll());
+        assertTrue(displacement / n < 10 * queues);
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        int threads = 4, perThread = 20000;
+        MultiQueue<Integer> pq = new MultiQueue<Integer>(2, threads, false, Comparator.naturalOrder());
+        AtomicIntegerArray taken = new AtomicIntegerArray(threads * perThread);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    pq.give(base + i);
+                    if (i % 2 == 1) {
+                        Integer x = pq.poll();
+                        if (x != null) taken.incrementAndGet(x);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+        Integer x;
+        while ((x = pq.poll()) != null) taken.incrementAndGet(x);
+        for (int i = 0; i < taken.length(); i++) assertEquals(1, taken.get(i));
+        assertEquals(0, pq.size());
+    }
+
+    @Test(expected = PQException.class)
+    public void testTakeEmpty() throws PQException {
+        new MultiQueue<String>(4, false, Comparator.naturalOrder()).take();
+    }
+}
@@ -0,0 +1,61 @@
+package edu.neu.coe.info6205.pq;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PairingHeapTest {
+
+    @Test
+    public void testGiveTake() throws PQException {
+        Random random = new Random(0L);
+        PairingHeap<Integer> pq = new PairingHeap<Integer>(false, Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int x = random.nextInt(500);
+            pq.give(x);
+            expected.add(x);
+            // Interleave some takes.
+            if (i % 3 == 0) {
+                Collections.sort(expected);
+                assertEquals(expected.remove(0), pq.take());
+            }
+        }
+        assertEquals(expected.size(), pq.size());
+        int count = 0;
+        for (Integer ignored : pq) count++;
+        assertEquals(expected.size(), count);
+        Collections.sort(expected);
+        for (Integer x : expected) assertEquals(x, pq.take());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void testMerge() throws PQException {
+        PairingHeap<String> a = new PairingHeap<String>(true, Comparator.naturalOrder());
+        PairingHeap<String> b = new PairingHeap<String>(true, Comparator.naturalOrder());
+        a.give("A");
+        a.give("C");
+        b.give("B");
+        b.give("D");
+        a.merge(b);
+        assertTrue(b.isEmpty());
+        assertEquals(4, a.size());
+        assertEquals("D", a.peek());
+        assertEquals("D", a.take());
+        assertEquals("C", a.take());
+        assertEquals("B", a.take());
+        assertEquals("A", a.take());
+    }
+
+    @Test(expected = PQException.class)
+    public void testTakeEmpty() throws PQException {
+        new PairingHeap<String>(false, Comparator.naturalOrder()).take();
+    }
+}
@@ -0,0 +1,117 @@
+package edu.neu.coe.info6205.randomwalk;
+
+import edu.neu.coe.info6205.util.RunningStatistics;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class RandomWalkSimulatorTest {
+
+    @Test
+    public void testWalk2D() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        assertEquals(0.0, RandomWalkSimulator.walk2D(0, random), 0.0);
+        assertEquals(1.0, RandomWalkSimulator.walk2D(1, random), 0.0);
+        // x + y has the same parity as m, and so does x^2 + y^2.
+        for (int m = 1; m < 200; m++) {
+            final double squared = RandomWalkSimulator.walk2D(m, random);
+            assertEquals(m % 2, (long) squared % 2);
+            assertTrue(squared <= (double) m * m);
+        }
+    }
+
+    @Test
+    public void testWalk3D() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        assertEquals(0.0, RandomWalkSimulator.walk3D(0, random), 0.0);
+        assertEquals(1.0, RandomWalkSimulator.walk3D(1, random), 0.0);
+        for (int m = 1; m < 200; m++) {
+            final double squared = RandomWalkSimulator.walk3D(m, random);
+            assertEquals(m % 2, (long) squared % 2);
+            assertTrue(squared <= (double) m * m);
+        }
+    }
+
+    @Test
+    public void testDisplacement() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        assertEquals(0, RandomWalkSimulator.displacement(0, random));
+        for (int n = 1; n < 200; n++) {
+            final long displacement = RandomWalkSimulator.displacement(n, random);
+            assertTrue(Math.abs(displacement) <= n);
+            assertEquals(n % 2, Math.abs(displacement) % 2);
+        }
+    }
+
+    @Test
+    public void testTwoSteps2D() {
+        // After two steps, the squared distance is 0 (back), 2 (turn) or 4 (straight) with probabilities 1/4, 1/2, 1/4.
+        final SplittableRandom random = new SplittableRandom(1L);
+        final int[] counts = new int[5];
+        final int n = 100000;
+        for (int i = 0; i < n; i++) counts[(int) RandomWalkSimulator.walk2D(2, random)]++;
+        assertEquals(0.25, (double) counts[0] / n, 0.01);
+        assertEquals(0.5, (double) counts[2] / n, 0.01);
+        assertEquals(0.25, (double) counts[4] / n, 0.01);
+    }
+
+    @Test
+    public void testTwoSteps3D() {
+        // After two steps, the squared distance is 0 (back), 2 (turn) or 4 (straight) with probabilities 1/6, 2/3, 1/6.
+        final SplittableRandom random = new SplittableRandom(1L);
+        final int[] counts = new int[5];
+        final int n = 100000;
+        for (int i = 0; i < n; i++) counts[(int) RandomWalkSimulator.walk3D(2, random)]++;
+        assertEquals(1.0 / 6, (double) counts[0] / n, 0.01);
+        assertEquals(2.0 / 3, (double) counts[2] / n, 0.01);
+        assertEquals(1.0 / 6, (double) counts[4] / n, 0.01);
+    }
+
+    @Test
+    public void testSimulate2D() {
+        final int m = 1000;
+        final RandomWalkSimulator.Result result = new RandomWalkSimulator(2).simulate(m, 20000, 0L);
+        final RunningStatistics squared = result.getSquaredDistance();
+        assertEquals(20000, squared.getCount());
+        assertEquals(m, squared.mean(), 4 * squared.standardError());
+        // The mean distance tends to sqrt(pi m) / 2.
+        final RunningStatistics distance = result.getDistance();
+        assertEquals(Math.sqrt(Math.PI * m) / 2, distance.mean(), 4 * distance.standardError());
+    }
+
+    @Test
+    public void testSimulate3D() {
+        final int m = 1000;
+        final RandomWalkSimulator.Result result = new RandomWalkSimulator(3).simulate(m, 20000, 0L);
+        final RunningStatistics squared = result.getSquaredDistance();
+        assertEquals(m, squared.mean(), 4 * squared.standardError());
+        // The mean distance tends to sqrt(8 m / (3 pi)).
+        final RunningStatistics distance = result.getDistance();
+        assertEquals(Math.sqrt(8.0 * m / 3 / Math.PI), distance.mean(), 4 * distance.standardError());
+    }
+
+    @Test
+    public void testSimulateLongWalks() {
+        final int m = 10000000;
+        final RunningStatistics squared = new RandomWalkSimulator(3).simulate(m, 1000, 2L).getSquaredDistance();
+        assertEquals(m, squared.mean(), 4 * squared.standardError());
+    }
+
+    @Test
+    public void testReproducible() {
+        // The result depends only on the seed, not on the number of threads.
+        final RandomWalkSimulator.Result result1 = new RandomWalkSimulator(2, 1).simulate(100000, 100, 42L);
+        final RandomWalkSimulator.Result result4 = new RandomWalkSimulator(2, 4).simulate(100000, 100, 42L);
+        assertEquals(result1.getDistance().mean(), result4.getDistance().mean(), 0.0);
+        assertEquals(result1.getSquaredDistance().variance(), result4.getSquaredDistance().variance(), 0.0);
+        final RandomWalkSimulator.Result other = new RandomWalkSimulator(2, 1).simulate(100000, 100, 43L);
+        assertNotEquals(result1.getDistance().mean(), other.getDistance().mean(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDimensions() {
+        new RandomWalkSimulator(4);
+    }
+}
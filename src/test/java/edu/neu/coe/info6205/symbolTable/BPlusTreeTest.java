@@ -0,0 +1,255 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class BPlusTreeTest {
+
+    @Test
+    public void testPutGet() {
+        BPlusTree<String, Integer> tree = new BPlusTree<>(4);
+        assertEquals(0, tree.size());
+        assertNull(tree.put("X", 42));
+        assertNull(tree.put("Y", 99));
+        assertEquals(Integer.valueOf(42), tree.put("X", 43));
+        assertEquals(2, tree.size());
+        assertEquals(Integer.valueOf(43), tree.get("X"));
+        assertNull(tree.get("Z"));
+        assertTrue(tree.contains("Y"));
+        assertEquals("{X=43, Y=99}", tree.toString());
+    }
+
+    @Test
+    public void testSplits() {
+        // With a fanout of 3, a thousand keys need many levels of splits.
+        BPlusTree<Integer, Integer> tree = new BPlusTree<>(3);
+        for (int i = 999; i >= 0; i--) tree.put(i, -i);
+        assertEquals(1000, tree.size());
+        assertTrue(tree.height() > 5);
+        for (int i = 0; i < 1000; i++) assertEquals(Integer.valueOf(-i), tree.get(i));
+        List<Integer> keys = new ArrayList<>(tree.keySet());
+        for (int i = 0; i < 1000; i++) assertEquals(Integer.valueOf(i), keys.get(i));
+    }
+
+    @Test
+    public void testBulkLoad() {
+        int n = 100000;
+        Integer[] keys = new Integer[n];
+        String[] values = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = 2 * i;
+            values[i] = "v" + i;
+        }
+        BPlusTree<Integer, String> tree = BPlusTree.bulkLoad(16, keys, values);
+        assertEquals(n, tree.size());
+        assertEquals(5, tree.height());
+        for (int i = 0; i < n; i++) {
+            assertEquals("v" + i, tree.get(2 * i));
+            assertNull(tree.get(2 * i + 1));
+        }
+        // Put into a bulk-loaded tree (whose leaves are full).
+        tree.put(3, "three");
+        assertEquals("three", tree.get(3));
+        assertEquals(n + 1, tree.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBulkLoadUnsorted() {
+        BPlusTree.bulkLoad(16, new Integer[]{1, 3, 2}, new String[]{"a", "b", "c"});
+    }
+
+    @Test
+    public void testPutAll() {
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < 100; i++) map.put("k" + i, i);
+        BPlusTree<String, Integer> tree = new BPlusTree<>(8);
+        tree.putAll(map);
+        assertEquals(100, tree.size());
+        for (int i = 0; i < 100; i++) assertEquals(Integer.valueOf(i), tree.get("k" + i));
+        tree.putAll(map);
+        assertEquals(100, tree.size());
+    }
+
+    @Test
+    public void testRange() {
+        BPlusTree<Integer, Integer> tree = new BPlusTree<>(4);
+        for (int i = 0; i < 100; i += 5) tree.put(i, i);
+        List<Integer> range = new ArrayList<>();
+        for (Integer key : tree.keys(12, 41)) range.add(key);
+        assertEquals(Arrays.asList(15, 20, 25, 30, 35, 40), range);
+        range.clear();
+        for (Integer key : tree.keys(90, null)) range.add(key);
+        assertEquals(Arrays.asList(90, 95), range);
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0L);
+        BPlusTree<Integer, Integer> tree = new BPlusTree<>(5);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                tree.delete(key);
+                expected.remove(key);
+            } else assertEquals(expected.put(key, i), tree.put(key, i));
+            assertEquals(expected.size(), tree.size());
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(tree.keySet()));
+        List<Integer> range = new ArrayList<>();
+        for (Integer key : tree.keys(1000, 2000)) range.add(key);
+        assertEquals(new ArrayList<>(expected.subMap(1000, true, 2000, true).keySet()), range);
+        while (tree.size() > 0) {
+            assertEquals(expected.firstKey(), tree.keySet().iterator().next());
+            tree.deleteMin();
+            expected.pollFirstEntry();
+        }
+        assertFalse(tree.keySet().iterator().hasNext());
+    }
+
+    @Test(timeout = 10000)
+    public void testDrainWithDeleteMin() {
+        // With lazy deletion alone, each deleteMin would walk every emptied leaf (O(n^2 / b) in all).
+        int n = 500000;
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) keys[i] = i;
+        BPlusTree<Integer, Integer> tree = BPlusTree.bulkLoad(3, keys, keys);
+        int height = tree.height();
+        for (int i = 0; i < n; i++) {
+            if (i % 100000 == 0) assertEquals(Integer.valueOf(i), tree.keySet().iterator().next());
+            tree.deleteMin();
+        }
+        assertEquals(0, tree.size());
+        assertFalse(tree.keySet().iterator().hasNext());
+        assertTrue(tree.height() < height);
+        assertNull(tree.put(42, 42));
+        assertEquals(Integer.valueOf(42), tree.get(42));
+    }
+
+    @Test
+    public void testDeleteUnlinksLeaves() {
+        Random random = new Random(1L);
+        BPlusTree<Integer, Integer> tree = new BPlusTree<>(3);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(500);
+            switch (random.nextInt(4)) {
+                case 0:
+                    tree.delete(key);
+                    expected.remove(key);
+                    break;
+                case 1:
+                    tree.deleteMin();
+                    expected.pollFirstEntry();
+                    break;
+                default:
+                    assertEquals(expected.put(key, i), tree.put(key, i));
+            }
+            assertEquals(expected.size(), tree.size());
+            assertEquals(expected.get(key), tree.get(key));
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(tree.keySet()));
+        List<Integer> range = new ArrayList<>();
+        for (Integer key : tree.keys(100, 300)) range.add(key);
+        assertEquals(new ArrayList<>(expected.subMap(100, true, 300, true).keySet()), range);
+        for (Integer key : new ArrayList<>(expected.keySet())) tree.delete(key);
+        assertEquals(0, tree.size());
+        assertEquals(1, tree.height());
+    }
+
+    @Test
+    public void testLong() {
+        int n = 10000;
+        long[] keys = new long[n];
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = (long) i << 32;
+            values[i] = i;
+        }
+        LongBPlusTree<Integer> tree = LongBPlusTree.bulkLoad(8, keys, values);
+        assertEquals(n, tree.size());
+        assertEquals(Integer.valueOf(1234), tree.get(1234L << 32));
+        assertNull(tree.get(1234L));
+        assertNull(tree.put(1L, -1));
+        assertEquals(Integer.valueOf(-1), tree.put(1L, -2));
+        assertTrue(tree.containsKey(1L));
+        tree.delete(1L);
+        assertFalse(tree.containsKey(1L));
+        List<Long> range = new ArrayList<>();
+        tree.forEach(5L << 32, 8L << 32, (k, v) -> range.add(k));
+        assertEquals(Arrays.asList(5L << 32, 6L << 32, 7L << 32, 8L << 32), range);
+
+        Random random = new Random(0L);
+        LongBPlusTree<Integer> tree2 = new LongBPlusTree<>(4);
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextLong() % 1000;
+            assertEquals(expected.put(key, i), tree2.put(key, i));
+        }
+        List<Long> all = new ArrayList<>();
+        tree2.forEach(Long.MIN_VALUE, Long.MAX_VALUE, (k, v) -> all.add(k));
+        assertEquals(new ArrayList<>(expected.keySet()), all);
+    }
+
+    @Test(timeout = 10000)
+    public void testLongDrainWithDeleteMin() {
+        int n = 500000;
+        long[] keys = new long[n];
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+            values[i] = i;
+        }
+        LongBPlusTree<Integer> tree = LongBPlusTree.bulkLoad(3, keys, values);
+        int height = tree.height();
+        for (int i = 0; i < n; i++) {
+            if (i % 100000 == 0) {
+                List<Long> first = new ArrayList<>();
+                tree.forEach(Long.MIN_VALUE, i, (k, v) -> first.add(k));
+                assertEquals(Collections.singletonList((long) i), first);
+            }
+            tree.deleteMin();
+        }
+        assertEquals(0, tree.size());
+        assertTrue(tree.height() < height);
+        assertNull(tree.put(42L, 42));
+        assertEquals(Integer.valueOf(42), tree.get(42L));
+    }
+
+    @Test
+    public void testLongDeleteUnlinksLeaves() {
+        Random random = new Random(1L);
+        LongBPlusTree<Integer> tree = new LongBPlusTree<>(3);
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(500);
+            switch (random.nextInt(4)) {
+                case 0:
+                    tree.delete(key);
+                    expected.remove(key);
+                    break;
+                case 1:
+                    tree.deleteMin();
+                    expected.pollFirstEntry();
+                    break;
+                default:
+                    assertEquals(expected.put(key, i), tree.put(key, i));
+            }
+            assertEquals(expected.size(), tree.size());
+            assertEquals(expected.get(key), tree.get(key));
+        }
+        List<Long> all = new ArrayList<>();
+        tree.forEach(Long.MIN_VALUE, Long.MAX_VALUE, (k, v) -> all.add(k));
+        assertEquals(new ArrayList<>(expected.keySet()), all);
+    }
+}
@@ -0,0 +1,109 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class BSTAVLTest {
+
+    @Test
+    public void testPutGet() {
+        BSTAVL<String, Integer> bst = new BSTAVL<>();
+        assertEquals(0, bst.size());
+        assertNull(bst.put("X", 42));
+        assertNull(bst.put("Y", 99));
+        assertEquals(Integer.valueOf(42), bst.put("X", 43));
+        assertEquals(2, bst.size());
+        assertEquals(Integer.valueOf(43), bst.get("X"));
+        assertEquals(Integer.valueOf(99), bst.get("Y"));
+        assertNull(bst.get("Z"));
+        assertTrue(bst.contains("Y"));
+        assertFalse(bst.contains("Z"));
+        assertEquals("{X=43, Y=99}", bst.toString());
+    }
+
+    @Test
+    public void testSorted() {
+        // Sorted insertion must not degrade the tree (nor overflow the stack).
+        BSTAVL<Integer, Integer> bst = new BSTAVL<>();
+        int n = 1000000;
+        for (int i = 0; i < n; i++) bst.put(i, -i);
+        assertEquals(n, bst.size());
+        assertTrue(bst.height() <= 1.44 * Math.log(n + 2) / Math.log(2));
+        assertEquals(Integer.valueOf(-12345), bst.get(12345));
+        assertEquals(Integer.valueOf(0), bst.min());
+        assertEquals(Integer.valueOf(n - 1), bst.max());
+    }
+
+    @Test
+    public void testRankSelect() {
+        BSTAVL<Integer, String> bst = new BSTAVL<>();
+        for (int i = 0; i < 100; i++) bst.put(2 * i, "v" + i);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, bst.rank(2 * i));
+            assertEquals(i + 1, bst.rank(2 * i + 1));
+            assertEquals(Integer.valueOf(2 * i), bst.select(i));
+        }
+        assertEquals(0, bst.rank(-1));
+    }
+
+    @Test
+    public void testKeys() {
+        BSTAVL<Integer, String> bst = new BSTAVL<>();
+        for (int i : new int[]{5, 3, 8, 1, 4, 7, 9, 2, 6}) bst.put(i, "v" + i);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), new ArrayList<>(bst.keySet()));
+        assertEquals(9, bst.keySet().size());
+        assertTrue(bst.keySet().contains(4));
+        List<Integer> range = new ArrayList<>();
+        for (Integer key : bst.keys(3, 6)) range.add(key);
+        assertEquals(Arrays.asList(3, 4, 5, 6), range);
+        range.clear();
+        for (Integer key : bst.keys(null, 2)) range.add(key);
+        assertEquals(Arrays.asList(1, 2), range);
+        range.clear();
+        for (Integer key : bst.keys(10, null)) range.add(key);
+        assertTrue(range.isEmpty());
+    }
+
+    @Test
+    public void testDelete() {
+        BSTAVL<Integer, Integer> bst = new BSTAVL<>();
+        for (int i = 0; i < 10; i++) bst.put(i, i);
+        bst.deleteMin();
+        assertFalse(bst.contains(0));
+        bst.delete(5);
+        bst.delete(42);
+        assertEquals(8, bst.size());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 6, 7, 8, 9), new ArrayList<>(bst.keySet()));
+    }
+
+    @Test
+    public void testRandom() {
+        // Compare with TreeMap over a random sequence of puts and deletes, checking the balance throughout.
+        Random random = new Random(0L);
+        BSTAVL<Integer, Integer> bst = new BSTAVL<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                bst.delete(key);
+                expected.remove(key);
+            } else assertEquals(expected.put(key, i), bst.put(key, i));
+            assertEquals(expected.size(), bst.size());
+        }
+        assertTrue(bst.height() <= 1.44 * Math.log(bst.size() + 2) / Math.log(2));
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(bst.keySet()));
+        for (Integer key : expected.keySet()) assertEquals(expected.get(key), bst.get(key));
+        while (bst.size() > 0) {
+            assertEquals(expected.firstKey(), bst.min());
+            bst.deleteMin();
+            expected.pollFirstEntry();
+        }
+    }
+}
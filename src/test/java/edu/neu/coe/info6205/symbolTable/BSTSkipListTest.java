@@ -0,0 +1,155 @@
+package edu.neu.coe.info6205.symbolTable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BSTSkipListTest {
+
+    @Test
+    public void testPutGet() {
+        BSTSkipList<String, Integer> bst = new BSTSkipList<>();
+        assertEquals(0, bst.size());
+        assertNull(bst.put("X", 42));
+        assertNull(bst.put("Y", 99));
+        assertEquals(Integer.valueOf(42), bst.put("X", 43));
+        assertEquals(2, bst.size());
+        assertEquals(Integer.valueOf(43), bst.get("X"));
+        assertEquals(Integer.valueOf(99), bst.get("Y"));
+        assertNull(bst.get("Z"));
+        assertTrue(bst.contains("Y"));
+        assertFalse(bst.contains("Z"));
+        assertEquals("{X=43, Y=99}", bst.toString());
+    }
+
+    @Test
+    public void testDelete() {
+        BSTSkipList<Integer, String> bst = new BSTSkipList<>();
+        for (int i : new int[]{5, 3, 8, 1, 4, 7, 9, 2, 6}) bst.put(i, "v" + i);
+        bst.delete(5);
+        bst.delete(1);
+        bst.delete(10);
+        assertEquals(7, bst.size());
+        assertNull(bst.get(5));
+        assertEquals("v4", bst.get(4));
+        bst.deleteMin();
+        assertEquals(Integer.valueOf(3), bst.min());
+        assertEquals(Arrays.asList(3, 4, 6, 7, 8, 9), new ArrayList<>(bst.keySet()));
+        assertNull(bst.put(5, "w5"));
+        assertEquals("w5", bst.get(5));
+    }
+
+    @Test
+    public void testDeleteMinEmpty() {
+        BSTSkipList<Integer, String> bst = new BSTSkipList<>();
+        bst.deleteMin();
+        assertEquals(0, bst.size());
+        assertNull(bst.min());
+    }
+
+    @Test
+    public void testKeys() {
+        BSTSkipList<Integer, String> bst = new BSTSkipList<>();
+        for (int i = 0; i < 20; i += 2) bst.put(i, "v" + i);
+        List<Integer> keys = new ArrayList<>();
+        for (Integer key : bst.keys(3, 11)) keys.add(key);
+        assertEquals(Arrays.asList(4, 6, 8, 10), keys);
+        keys.clear();
+        for (Integer key : bst.keys(4, null)) keys.add(key);
+        assertEquals(Arrays.asList(4, 6, 8, 10, 12, 14, 16, 18), keys);
+        keys.clear();
+        for (Integer key : bst.keys(null, 3)) keys.add(key);
+        assertEquals(Arrays.asList(0, 2), keys);
+    }
+
+    @Test
+    public void testInOrderTraverse() {
+        BSTSkipList<Integer, Integer> bst = new BSTSkipList<>();
+        for (int i : new int[]{3, 1, 2}) bst.put(i, i * i);
+        StringBuilder sb = new StringBuilder();
+        bst.inOrderTraverse((k, v) -> {
+            sb.append(k).append(":").append(v).append(" ");
+            return null;
+        });
+        assertEquals("1:1 2:4 3:9 ", sb.toString());
+    }
+
+    @Test
+    public void testAgainstTreeMap() {
+        BSTSkipList<Integer, Integer> bst = new BSTSkipList<>();
+        TreeMap<Integer, Integer> map = new TreeMap<>();
+        Random random = new Random(0L);
+        for (int i = 0; i < 100000; i++) {
+            int key = random.nextInt(1000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    bst.delete(key);
+                    map.remove(key);
+                    break;
+                case 1:
+                    assertEquals(map.get(key), bst.get(key));
+                    break;
+                default:
+                    assertEquals(map.put(key, i), bst.put(key, i));
+            }
+        }
+        assertEquals(map.size(), bst.size());
+        assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(bst.keySet()));
+    }
+
+    @Test
+    public void testConcurrentPutDelete() throws InterruptedException {
+        // Each thread inserts its own keys, then deletes the odd ones, while other threads do the same.
+        BSTSkipList<Integer, Integer> bst = new BSTSkipList<>();
+        int threads = 4, n = 20000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < n; i++) bst.put(i * threads + offset, i);
+                for (int i = 1; i < n; i += 2) bst.delete(i * threads + offset);
+            });
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        assertEquals(threads * n / 2, bst.size());
+        Integer previous = null;
+        int count = 0;
+        for (Integer key : bst.keySet()) {
+            assertTrue(previous == null || previous < key);
+            assertEquals(0, (key / threads) % 2);
+            previous = key;
+            count++;
+        }
+        assertEquals(threads * n / 2, count);
+    }
+
+    @Test
+    public void testConcurrentDeleteMin() throws InterruptedException {
+        // Each key must be removed by exactly one call of deleteMin.
+        BSTSkipList<Integer, Integer> bst = new BSTSkipList<>();
+        int threads = 4, n = 40000;
+        for (int i = 0; i < n; i++) bst.put(i, i);
+        AtomicInteger calls = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++)
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < n / threads; i++) {
+                    bst.deleteMin();
+                    calls.incrementAndGet();
+                }
+            });
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        assertEquals(n, calls.get());
+        assertEquals(0, bst.size());
+        assertNull(bst.min());
+    }
+}
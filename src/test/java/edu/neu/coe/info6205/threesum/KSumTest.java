@@ -0,0 +1,157 @@
+package edu.neu.coe.info6205.threesum;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class KSumTest {
+
+    @Test
+    public void testThreeSum() {
+        final int[] ints = new Source(200, 200, 1L).intsSupplier(10).get();
+        final KSum target = new KSum(ints);
+        assertEquals(new ThreeSumCubic(ints).getTriples().length, target.count(3, 0));
+        assertEquals(new ThreeSumParallel(ints).count(), target.count(3, 0));
+    }
+
+    @Test
+    public void testAgainstBruteForce() {
+        final int[] ints = new Source(40, 40, 2L).intsSupplier(10).get();
+        for (int k = 1; k <= 5; k++)
+            for (long sum = -60; sum <= 60; sum += 15) {
+                final List<int[]> expected = bruteForce(ints, k, sum);
+                // A small maxPairs forces the meet-in-the-middle algorithm (k = 4) to use many chunks.
+                final List<int[]> tuples = new KSum(ints, 50).getTuples(k, sum);
+                assertEquals("k=" + k + ", sum=" + sum, expected.size(), tuples.size());
+                sort(expected);
+                sort(tuples);
+                for (int t = 0; t < tuples.size(); t++) assertArrayEquals(expected.get(t), tuples.get(t));
+            }
+    }
+
+    @Test
+    public void testFourSum() {
+        final int[] ints = new int[]{-5, -3, -2, -1, 0, 1, 2, 4, 7};
+        Arrays.sort(ints);
+        final KSum target = new KSum(ints);
+        final List<int[]> tuples = target.getTuples(4, 0);
+        assertEquals(bruteForce(ints, 4, 0).size(), tuples.size());
+        for (int[] tuple : tuples) {
+            assertEquals(0, tuple[0] + tuple[1] + tuple[2] + tuple[3]);
+            for (int i = 1; i < 4; i++) assertTrue(tuple[i - 1] < tuple[i]);
+        }
+        assertEquals(1L, target.count(4, 13)); // 0 + 2 + 4 + 7
+        assertEquals(1L, target.count(4, 14)); // 1 + 2 + 4 + 7
+        assertEquals(0L, target.count(4, 15));
+    }
+
+    @Test
+    public void testStreaming() {
+        // Matches are reported as they are found, so the search can be observed (or abandoned) part way through.
+        final int[] ints = new Source(100, 100, 3L).intsSupplier(10).get();
+        final List<Integer> firsts = new ArrayList<>();
+        new KSum(ints).forEach(3, 0, tuple -> firsts.add(tuple[0]));
+        assertEquals(new KSum(ints).count(3, 0), firsts.size());
+        // The recursive calipers find tuples in order of their first element.
+        for (int i = 1; i < firsts.size(); i++) assertTrue(firsts.get(i - 1) <= firsts.get(i));
+    }
+
+    @Test
+    public void testLargeValues() {
+        final int[] ints = new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        final KSum target = new KSum(ints);
+        assertEquals(1L, target.count(4, Integer.MAX_VALUE)); // -1 + 0 + 1 + MAX_VALUE
+        assertEquals(0L, target.count(4, (long) Integer.MAX_VALUE * 2));
+        assertEquals(2L, target.count(2, -1)); // MIN_VALUE + MAX_VALUE and -1 + 0
+        assertEquals(1L, target.count(1, Integer.MAX_VALUE));
+        assertEquals(0L, target.count(1, (long) Integer.MAX_VALUE + 1));
+        assertEquals(1L, target.count(5, -1));
+        assertEquals(0L, target.count(6, 0));
+    }
+
+    @Test
+    public void testPairSumTableSize() {
+        // Fewer than 8/3 slots per pair (but enough to keep the load factor below 3/4), so that the default table takes under 46 MB.
+        final KSum.PairSumTable table = new KSum.PairSumTable(KSum.DEFAULT_MAX_PAIRS);
+        assertEquals(2 * KSum.DEFAULT_MAX_PAIRS, table.slots());
+        final KSum.PairSumTable small = new KSum.PairSumTable(1000);
+        assertTrue(small.slots() * 3 >= 1000 * 4 && small.slots() * 3 < 1000 * 8);
+        // Filling the table to capacity with distinct sums does not make it grow.
+        small.clear();
+        for (int i = 0; i < 1000; i++) small.add(i, i, i + 1);
+        assertEquals(0, small.getGrowths());
+        small.clear();
+        for (int i = 0; i < 3000; i++) small.add(i % 700, i, i + 1);
+        assertTrue(small.slots() >= 700 * 4 / 3);
+        int count = 0;
+        for (int e = small.find(5); e >= 0; e = small.next(e)) {
+            assertEquals(5, small.first(e) % 700);
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals(-1, small.find(700));
+    }
+
+    @Test
+    public void testChunksDoNotGrow() {
+        // With many chunks, each chunk's table is big enough for its pairs (whose number varies), and so never grows.
+        final int[] ints = new Source(2000, 1000000000, 5L).intsSupplier(10).get();
+        final int maxPairs = 1 << 16;
+        final long pairs = (long) ints.length * (ints.length - 1) / 2;
+        final int chunks = KSum.chunks(pairs, maxPairs);
+        assertTrue(chunks > 10);
+        assertTrue(KSum.capacity(pairs, chunks) <= maxPairs);
+        final KSum target = new KSum(ints, maxPairs);
+        final long count = target.count(4, 0);
+        assertEquals(0, target.table.getGrowths());
+        assertTrue(target.table.slots() * 3 < maxPairs * 8);
+        assertEquals(new KSum(ints, Integer.MAX_VALUE).count(4, 0), count);
+    }
+
+    @Test
+    public void testClosest() {
+        final int[] ints = new int[]{-40, -20, -10, 0, 5, 10, 30, 40};
+        final KSum target = new KSum(ints);
+        assertArrayEquals(new int[]{-40, 0, 40}, target.closest(0));
+        final int[] closest = target.closest(84);
+        assertEquals(80, closest[0] + closest[1] + closest[2]);
+        assertEquals(-70, Arrays.stream(target.closest(-1000)).sum());
+        assertNull(new KSum(new int[]{1, 2}).closest(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadK() {
+        new KSum(new int[]{1, 2, 3}).count(0, 0);
+    }
+
+    private static List<int[]> bruteForce(int[] a, int k, long sum) {
+        final List<int[]> result = new ArrayList<>();
+        bruteForce(a, k, sum, 0, new int[k], 0, result);
+        return result;
+    }
+
+    private static void bruteForce(int[] a, int k, long sum, int start, int[] tuple, int depth, List<int[]> result) {
+        if (depth == k) {
+            long total = 0;
+            for (int x : tuple) total += x;
+            if (total == sum) result.add(tuple.clone());
+            return;
+        }
+        for (int i = start; i < a.length; i++) {
+            tuple[depth] = a[i];
+            bruteForce(a, k, sum, i + 1, tuple, depth + 1, result);
+        }
+    }
+
+    private static void sort(List<int[]> tuples) {
+        tuples.sort((x, y) -> {
+            for (int i = 0; i < x.length; i++) if (x[i] != y[i]) return Integer.compare(x[i], y[i]);
+            return 0;
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package edu.neu.coe.info6205.threesum;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class ThreeSumParallelTest {
+
+    @Test
+    public void testGetTriples0() {
+        int[] ints = new int[]{30, -40, -20, -10, 40, 0, 10, 5};
+        Arrays.sort(ints);
+        final ThreeSumParallel target = new ThreeSumParallel(ints, 2);
+        final Triple[] triples = target.getTriples();
+        assertEquals(4, triples.length);
+        assertEquals(new Triple(-40, 0, 40), triples[0]);
+        assertEquals(new Triple(-40, 10, 30), triples[1]);
+        assertEquals(new Triple(-20, -10, 30), triples[2]);
+        assertEquals(new Triple(-10, 0, 10), triples[3]);
+        assertEquals(4L, target.count());
+    }
+
+    @Test
+    public void testAgainstCubic() {
+        for (long seed = 0; seed < 4; seed++) {
+            final int[] ints = new Source(400, 400, seed).intsSupplier(10).get();
+            final Triple[] expected = new ThreeSumCubic(ints).getTriples();
+            final ThreeSumParallel target = new ThreeSumParallel(ints, 3);
+            final Triple[] triples = target.getTriples();
+            assertEquals(expected.length, triples.length);
+            assertEquals(expected.length, target.count());
+            // The triples are in order (lexicographically), so they are distinct.
+            for (int t = 1; t < triples.length; t++)
+                assertTrue(triples[t - 1].x < triples[t].x || triples[t - 1].x == triples[t].x && triples[t - 1].y < triples[t].y);
+            assertEquals(new HashSet<>(Arrays.asList(expected)), new HashSet<>(Arrays.asList(triples)));
+        }
+    }
+
+    @Test
+    public void testAgainstCalipers() {
+        Supplier<int[]> intsSupplier = new Source(3000, 3000, 1L).intsSupplier(10);
+        int[] ints = intsSupplier.get();
+        final Triple[] expected = new ThreeSumQuadraticWithCalipers(ints).getTriples();
+        assertArrayEquals(expected, new ThreeSumParallel(ints).getTriples());
+    }
+
+    @Test
+    public void testPacked() {
+        final int[] packed = new ThreeSumParallel(new int[]{-3, -1, 0, 1, 2, 4}).getPackedTriples();
+        assertArrayEquals(new int[]{-3, -1, 4, -3, 1, 2, -1, 0, 1}, packed);
+    }
+
+    @Test
+    public void testOverflow() {
+        // In int arithmetic, 2 + (MAX_VALUE - 1) + MAX_VALUE == 0, but it is not a true triple.
+        final int[] ints = new int[]{Integer.MIN_VALUE, -1, 2, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+        final ThreeSumParallel target = new ThreeSumParallel(ints);
+        assertEquals(1L, target.count());
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 2, Integer.MAX_VALUE - 1}, target.getPackedTriples());
+    }
+
+    @Test
+    public void testSmall() {
+        assertEquals(0, new ThreeSumParallel(new int[0]).getTriples().length);
+        assertEquals(0L, new ThreeSumParallel(new int[]{-1, 1}).count());
+        assertEquals(1L, new ThreeSumParallel(new int[]{-1, 0, 1}).count());
+    }
+}
@@ -0,0 +1,73 @@
+package edu.neu.coe.info6205.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class DoublingExperimentTest {
+
+    @Test
+    public void testExactExponent() {
+        // A fake Benchmark whose "time" is exactly proportional to N^2.
+        final DoublingExperiment<Integer> target = new DoublingExperiment<>(n -> n, 100, 5);
+        final Benchmark<Integer> benchmark = (supplier, m) -> Math.pow(supplier.get(), 2) * 1E-3;
+        final DoublingExperiment.Result result = target.run("quadratic", benchmark, n -> 1);
+        assertEquals(2.0, result.getExponent(), 1E-9);
+        assertEquals(0.0, result.getStandardError(), 1E-9);
+        assertEquals(4.0, result.getRatio(1), 1E-9);
+        assertArrayEquals(new int[]{100, 200, 400, 800, 1600}, result.getNs());
+        assertTrue(result.isConsistentWith(2.0));
+        assertFalse(result.exceeds(2.0));
+        assertTrue(result.exceeds(1.5));
+    }
+
+    @Test
+    public void testNoisyExponent() {
+        // N^3 with 10% multiplicative noise: the confidence interval should include 3 but not 2.
+        final Random random = new Random(0L);
+        final int[] ns = new int[8];
+        final double[] times = new double[8];
+        for (int i = 0; i < ns.length; i++) {
+            ns[i] = 100 << i;
+            times[i] = Math.pow(ns[i], 3) * 1E-6 * (1 + 0.1 * random.nextGaussian());
+        }
+        final DoublingExperiment.Result result = new DoublingExperiment.Result("cubic", ns, times);
+        assertEquals(3.0, result.getExponent(), 0.1);
+        assertTrue(result.isConsistentWith(3.0));
+        assertFalse(result.isConsistentWith(2.0));
+        assertTrue(result.exceeds(2.5));
+        assertTrue(result.getLower() < result.getExponent() && result.getExponent() < result.getUpper());
+        assertTrue(result.toString().startsWith("cubic: exponent="));
+    }
+
+    @Test
+    public void testInputsCached() {
+        final AtomicInteger generated = new AtomicInteger();
+        final DoublingExperiment<int[]> target = new DoublingExperiment<>(n -> {
+            generated.incrementAndGet();
+            return new int[n];
+        }, 10, 3);
+        final Benchmark<int[]> benchmark = new Benchmark_Timer<>("fill", xs -> {
+            for (int i = 0; i < xs.length; i++) xs[i] = i;
+        });
+        target.run("first", benchmark, n -> 3);
+        target.run("second", benchmark, n -> 3);
+        assertEquals(3, generated.get());
+        assertSame(target.getInput(20), target.getInput(20));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewSizes() {
+        new DoublingExperiment<>(n -> n, 100, 2);
+    }
+
+    @Test
+    public void testTQuantile() {
+        assertEquals(12.706, DoublingExperiment.Result.tQuantile(1), 1E-3);
+        assertEquals(2.042, DoublingExperiment.Result.tQuantile(30), 1E-3);
+        assertEquals(1.96, DoublingExperiment.Result.tQuantile(1000), 1E-3);
+    }
+}
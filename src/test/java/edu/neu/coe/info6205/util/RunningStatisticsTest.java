@@ -0,0 +1,59 @@
+package edu.neu.coe.info6205.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RunningStatisticsTest {
+
+    @Test
+    public void testAdd() {
+        final RunningStatistics target = new RunningStatistics();
+        assertEquals(0, target.getCount());
+        assertTrue(Double.isNaN(target.mean()));
+        for (double x : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) target.add(x);
+        assertEquals(8, target.getCount());
+        assertEquals(5.0, target.mean(), 1E-12);
+        assertEquals(32.0 / 7, target.variance(), 1E-12);
+        assertEquals(Math.sqrt(32.0 / 7), target.stdDev(), 1E-12);
+        assertEquals(Math.sqrt(32.0 / 7 / 8), target.standardError(), 1E-12);
+    }
+
+    @Test
+    public void testOne() {
+        final RunningStatistics target = new RunningStatistics();
+        target.add(3);
+        assertEquals(3.0, target.mean(), 0.0);
+        assertTrue(Double.isNaN(target.variance()));
+    }
+
+    @Test
+    public void testMerge() {
+        final Random random = new Random(0L);
+        final RunningStatistics all = new RunningStatistics(), left = new RunningStatistics(), right = new RunningStatistics();
+        for (int i = 0; i < 1000; i++) {
+            final double x = 1E6 + random.nextGaussian();
+            all.add(x);
+            (i < 300 ? left : right).add(x);
+        }
+        assertSame(left, left.merge(right));
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.mean(), left.mean(), 1E-6);
+        assertEquals(all.variance(), left.variance(), 1E-9);
+    }
+
+    @Test
+    public void testMergeEmpty() {
+        final RunningStatistics target = new RunningStatistics(), empty = new RunningStatistics();
+        target.add(1);
+        target.add(3);
+        target.merge(empty);
+        assertEquals(2.0, target.mean(), 0.0);
+        empty.merge(target);
+        assertEquals(2, empty.getCount());
+        assertEquals(2.0, empty.mean(), 0.0);
+        assertEquals(2.0, empty.variance(), 0.0);
+    }
+}